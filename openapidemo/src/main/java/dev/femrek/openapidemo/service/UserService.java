@@ -5,15 +5,16 @@ import dev.femrek.openapidemo.dto.UserResponseDTO;
 import dev.femrek.openapidemo.entity.User;
 import dev.femrek.openapidemo.repository.UserRepository;
 import dev.femrek.reactadmindataprovider.service.IRAService;
+import dev.femrek.reactadmindataprovider.service.jpa.JpaBulkOperations;
+import dev.femrek.reactadmindataprovider.service.jpa.JpaFieldFilters;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
-import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -21,10 +22,17 @@ import java.util.Map;
  * Service implementation for User operations.
  */
 @Service
-@RequiredArgsConstructor
 public class UserService implements IRAService<UserResponseDTO, UserCreateDTO, Long> {
 
     private final UserRepository userRepository;
+    private final JpaBulkOperations<User, Long> bulkOperations;
+    private final JpaFieldFilters<User> fieldFilters;
+
+    public UserService(UserRepository userRepository, EntityManager entityManager) {
+        this.userRepository = userRepository;
+        this.bulkOperations = new JpaBulkOperations<>(User.class, entityManager);
+        this.fieldFilters = new JpaFieldFilters<>(User.class, entityManager);
+    }
 
     @Override
     public Page<UserResponseDTO> findWithFilters(Map<String, String> filters, Pageable pageable) {
@@ -104,18 +112,7 @@ public class UserService implements IRAService<UserResponseDTO, UserCreateDTO, L
     @Override
     @Transactional
     public List<Long> updateMany(List<Long> ids, Map<String, Object> fields) {
-        List<Long> updatedIds = new ArrayList<>();
-
-        for (Long id : ids) {
-            try {
-                update(id, fields);
-                updatedIds.add(id);
-            } catch (EntityNotFoundException e) {
-                // Skip if not found
-            }
-        }
-
-        return updatedIds;
+        return bulkOperations.updateAll(ids, fields);
     }
 
     @Override
@@ -130,16 +127,7 @@ public class UserService implements IRAService<UserResponseDTO, UserCreateDTO, L
     @Override
     @Transactional
     public List<Long> deleteMany(List<Long> ids) {
-        List<Long> deletedIds = new ArrayList<>();
-
-        for (Long id : ids) {
-            if (userRepository.existsById(id)) {
-                userRepository.deleteById(id);
-                deletedIds.add(id);
-            }
-        }
-
-        return deletedIds;
+        return bulkOperations.deleteAll(ids);
     }
 
     /**
@@ -159,40 +147,8 @@ public class UserService implements IRAService<UserResponseDTO, UserCreateDTO, L
      */
     @SuppressWarnings("unused")
     private Specification<User> buildSpecification(Map<String, String> filters) {
-        return (root, query, criteriaBuilder) -> {
-            if (filters == null || filters.isEmpty()) {
-                return criteriaBuilder.conjunction();
-            }
-
-            var predicates = new ArrayList<jakarta.persistence.criteria.Predicate>();
-
-            filters.forEach((key, value) -> {
-                if (value != null && !value.isEmpty()) {
-                    switch (key) {
-                        case "name" -> predicates.add(
-                                criteriaBuilder.like(
-                                        criteriaBuilder.lower(root.get("name")),
-                                        "%" + value.toLowerCase() + "%"
-                                )
-                        );
-                        case "email" -> predicates.add(
-                                criteriaBuilder.like(
-                                        criteriaBuilder.lower(root.get("email")),
-                                        "%" + value.toLowerCase() + "%"
-                                )
-                        );
-                        case "role" -> predicates.add(
-                                criteriaBuilder.equal(root.get("role"), value)
-                        );
-                        case "id" -> predicates.add(
-                                criteriaBuilder.equal(root.get("id"), Long.parseLong(value))
-                        );
-                    }
-                }
-            });
-
-            return criteriaBuilder.and(predicates.toArray(new jakarta.persistence.criteria.Predicate[0]));
-        };
+        Specification<User> spec = fieldFilters.toSpecification(filters);
+        return spec != null ? spec : Specification.unrestricted();
     }
 }
 
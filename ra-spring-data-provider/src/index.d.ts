@@ -5,6 +5,18 @@ import { DataProvider } from "ra-core";
  *
  * @param apiUrl - The base URL of your Spring Boot API (e.g., 'http://localhost:8081/api')
  * @param httpClient - Optional custom HTTP client function (defaults to fetchUtils.fetchJson)
+ * @param options - Optional settings
+ * @param options.validatorCacheSize - Number of GET responses kept for revalidation with ETags
+ *   (defaults to 100, 0 disables conditional requests)
+ * @param options.getManyWindow - Milliseconds during which the getMany calls of a resource are merged
+ *   into one request (defaults to 10)
+ * @param options.maxUrlLength - Maximum length of a merged getMany URL; longer id lists are split
+ *   into several requests (defaults to 2000)
+ * @param options.getManyPostThreshold - Number of ids above which getMany sends them in the body of a
+ *   POST /resource/many request (defaults to 100)
+ * @param options.searchDebounce - Milliseconds a getList call waits before sending its request when a
+ *   search filter of the list changed since its previous call (defaults to 0, which disables it)
+ * @param options.searchFilters - Filters whose changes are debounced (defaults to ['q'])
  * @returns A React Admin DataProvider configured for Spring Boot
  *
  * @example
@@ -24,6 +36,45 @@ declare const raSpringDataProvider: (
     url: string,
     options?: any,
   ) => Promise<{ headers: Headers; json: any }>,
+  options?: {
+    validatorCacheSize?: number;
+    getManyWindow?: number;
+    maxUrlLength?: number;
+    getManyPostThreshold?: number;
+    searchDebounce?: number;
+    searchFilters?: string[];
+  },
 ) => DataProvider;
 
+/**
+ * Creates an HTTP client that sends the GET requests of getList, getManyReference, getMany and getOne
+ * made in the same tick as a single request to the batch endpoint of ra-spring-json-server
+ * (`ra.batch.enabled=true`). Other requests are sent with the wrapped client unchanged.
+ *
+ * @param apiUrl - The base URL of your Spring Boot API, as passed to the data provider
+ * @param httpClient - The HTTP client that sends the requests (defaults to fetchUtils.fetchJson)
+ * @param options - Optional settings
+ * @param options.batchUrl - The URL of the batch endpoint (defaults to `${apiUrl}/batch`)
+ * @param options.maxBatchSize - The maximum number of operations per batch request (defaults to 50)
+ * @returns An HTTP client to pass to the data provider
+ *
+ * @example
+ * const apiUrl = 'http://localhost:8081/api';
+ * const dataProvider = raSpringDataProvider(apiUrl, batchingHttpClient(apiUrl));
+ */
+export declare const batchingHttpClient: (
+  apiUrl: string,
+  httpClient?: (
+    url: string,
+    options?: any,
+  ) => Promise<{ headers: Headers; json: any }>,
+  options?: {
+    batchUrl?: string;
+    maxBatchSize?: number;
+  },
+) => (
+  url: string,
+  options?: any,
+) => Promise<{ status: number; headers: Headers; body: string; json: any }>;
+
 export default raSpringDataProvider;
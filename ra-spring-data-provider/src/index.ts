@@ -1,5 +1,5 @@
 import queryString from "query-string";
-import { fetchUtils, DataProvider } from "ra-core";
+import { fetchUtils, DataProvider, HttpError } from "ra-core";
 
 /**
  * Creates a React Admin data provider for Spring Boot REST APIs following JSON Server conventions.
@@ -9,6 +9,19 @@ import { fetchUtils, DataProvider } from "ra-core";
  *
  * @param apiUrl - The base URL of your Spring Boot API (e.g., 'http://localhost:8081/api')
  * @param httpClient - Optional custom HTTP client function (defaults to fetchUtils.fetchJson)
+ * @param options - Optional settings
+ * @param options.validatorCacheSize - Number of GET responses kept for revalidation with ETags
+ *   (defaults to 100, 0 disables conditional requests)
+ * @param options.getManyWindow - Milliseconds during which the getMany calls of a resource are merged
+ *   into one request (defaults to 10, 0 merges only the calls made in the same tick)
+ * @param options.maxUrlLength - Maximum length of a merged getMany URL; longer id lists are split
+ *   into several requests (defaults to 2000)
+ * @param options.getManyPostThreshold - Number of ids above which getMany sends them in the body of a
+ *   POST /resource/many request (defaults to 100, Infinity always uses GET)
+ * @param options.searchDebounce - Milliseconds a getList call waits before sending its request when a
+ *   search filter of the list changed since its previous call (defaults to 0, which disables it)
+ * @param options.searchFilters - Filters whose changes are debounced, e.g. free-text inputs (defaults
+ *   to ['q'])
  *
  * @returns A React Admin DataProvider instance
  *
@@ -32,11 +45,13 @@ import { fetchUtils, DataProvider } from "ra-core";
  * - List queries use _start, _end, _sort, _order query parameters
  * - Bulk operations (updateMany, deleteMany) use multiple id query parameters
  * - CORS must expose the X-Total-Count header
+ * - X-Total-Count may be an exact number, or `estimate/N`, `capped/N` or `partial/N` when the
+ *   server avoids a full count (see ra-spring-json-server's TotalCountStrategy)
  *
  * **Supported Operations:**
  * - `getList`: GET /resource?_start=0&_end=10&_sort=id&_order=ASC
  * - `getOne`: GET /resource/123
- * - `getMany`: GET /resource/many?id=123&id=456&id=789
+ * - `getMany`: GET /resource/many?id=123&id=456&id=789, or POST /resource/many with a JSON array of ids
  * - `getManyReference`: GET /resource/of/{target}/{id}?_start=0&_end=10
  * - `create`: POST /resource with JSON body
  * - `update`: PUT /resource/123 with JSON body
@@ -49,142 +64,775 @@ import { fetchUtils, DataProvider } from "ra-core";
  * - updateMany sends data fields in request body to update all specified records
  * - This differs from standard ra-data-json-server which sends individual requests for bulk operations
  *
+ * **Keyset Pagination:**
+ * When a getList response contains an X-Next-Cursor header, the cursor is remembered and sent as
+ * `_cursor` when the following page of the same list is requested, so the server can seek instead of
+ * scanning an offset. CORS must expose the X-Next-Cursor header as well.
+ *
+ * **Conditional Requests:**
+ * GET responses with an ETag header are kept in a small validator cache. Repeated GET requests for
+ * the same URL send If-None-Match, and a 304 Not Modified response is answered from the cache
+ * without transferring the body again. CORS must expose the ETag header and allow the
+ * If-None-Match request header.
+ *
+ * **getMany Coalescing:**
+ * getMany calls for the same resource (and the same embed and fields) made within a short window,
+ * typically by the reference fields of a datagrid, are merged into one request for the union of
+ * their ids. Each call receives the records of its own ids. Id lists that would exceed the URL
+ * length limit are split into several requests, and lists longer than `getManyPostThreshold` are
+ * sent as a JSON array in a single `POST /resource/many` request.
+ *
+ * **Search Debouncing and Cancellation:**
+ * The provider supports abort signals, so react-admin cancels the requests of queries it no longer
+ * needs, e.g. the list of a search that was typed over. With `searchDebounce`, a getList call whose
+ * search filters (`searchFilters`) differ from the previous call of the same list waits that many
+ * milliseconds first, and a call aborted while waiting sends no request at all. Other filter changes,
+ * e.g. filter buttons, are sent immediately. Identical getList and getManyReference requests in flight are
+ * sent once and shared; the shared request is aborted only when all of its calls are.
+ *
  * **Embedded Resources:**
  * Use the `meta.embed` parameter to request related records:
  * ```tsx
  * useGetOne('posts', { id: 1, meta: { embed: 'author' } })
  * ```
+ *
+ * **Sparse Fieldsets:**
+ * Use the `meta.fields` parameter in getList and getMany to receive only some fields of each record (the id is
+ * always included):
+ * ```tsx
+ * <List queryOptions={{ meta: { fields: ['title', 'status'] } }}>
+ * ```
  */
 export default (
   apiUrl: string,
   httpClient = fetchUtils.fetchJson,
-): DataProvider => ({
-  getList: async (resource, params) => {
-    const { page, perPage } = params.pagination || {};
-    const { field, order } = params.sort || {};
-    const query = {
-      ...fetchUtils.flattenObject(params.filter),
-      _sort: field,
-      _order: order,
-      _start:
-        page != null && perPage != null ? (page - 1) * perPage : undefined,
-      _end: page != null && perPage != null ? page * perPage : undefined,
-      _embed: params?.meta?.embed,
-    };
-    const url = `${apiUrl}/${resource}?${queryString.stringify(query)}`;
+  options: {
+    validatorCacheSize?: number;
+    getManyWindow?: number;
+    maxUrlLength?: number;
+    getManyPostThreshold?: number;
+    searchDebounce?: number;
+    searchFilters?: string[];
+  } = {},
+): DataProvider => {
+  // Keyset pagination cursors received in X-Next-Cursor headers, keyed by list query and page number
+  const cursors = new Map<string, string>();
+  // Responses with an ETag header, keyed by URL, revalidated with If-None-Match
+  const validators = new Map<string, ValidatedResponse>();
+  const validatorCacheSize =
+    options.validatorCacheSize ?? DEFAULT_VALIDATOR_CACHE_SIZE;
 
-    const { headers, json } = await httpClient(url, {
-      signal: params?.signal,
-    });
-    if (!headers.has("x-total-count")) {
-      throw new Error(
-        "The X-Total-Count header is missing in the HTTP Response. The jsonServer Data Provider expects responses for lists of resources to contain this header with the total number of results to build the pagination. If you are using CORS, did you declare X-Total-Count in the Access-Control-Expose-Headers header?",
-      );
+  /**
+   * Sends a GET request, revalidating a previously received response if it had an ETag.
+   */
+  const getJson = async (
+    url: string,
+    signal?: AbortSignal,
+  ): Promise<{ headers: Headers; json: any }> => {
+    const cached = validators.get(url);
+    const headers = new Headers({ Accept: "application/json" });
+    if (cached) {
+      headers.set("If-None-Match", cached.etag);
     }
-    const totalString = headers.get("x-total-count")!.split("/").pop();
-    if (totalString == null) {
-      throw new Error(
-        "The X-Total-Count header is invalid in the HTTP Response.",
-      );
+    try {
+      const response = await httpClient(url, { signal, headers });
+      const etag = response.headers.get("etag");
+      if (etag && validatorCacheSize > 0) {
+        rememberEntry(
+          validators,
+          url,
+          { etag, headers: response.headers, json: response.json },
+          validatorCacheSize,
+        );
+      } else {
+        validators.delete(url);
+      }
+      return response;
+    } catch (error: any) {
+      if (cached && error?.status === 304) {
+        rememberEntry(validators, url, cached, validatorCacheSize);
+        return { headers: cached.headers, json: cached.json };
+      }
+      throw error;
     }
-    return { data: json, total: parseInt(totalString, 10) };
-  },
+  };
 
-  getOne: async (resource, params) => {
-    let url = `${apiUrl}/${resource}/${params.id}`;
-    if (params?.meta?.embed) {
-      url += `?_embed=${params.meta.embed}`;
-    }
-    const { json } = await httpClient(url, { signal: params?.signal });
-    return { data: json };
-  },
-
-  getMany: async (resource, params) => {
-    const query = {
-      id: params.ids,
-      _embed: params?.meta?.embed,
-    };
-    const url = `${apiUrl}/${resource}/many?${queryString.stringify(query)}`;
-    const { json } = await httpClient(url, { signal: params?.signal });
-    return { data: json };
-  },
-
-  getManyReference: async (resource, params) => {
-    const { page, perPage } = params.pagination;
-    const { field, order } = params.sort;
-    const query = {
-      ...fetchUtils.flattenObject(params.filter),
-      _sort: field,
-      _order: order,
-      _start: (page - 1) * perPage,
-      _end: page * perPage,
-      _embed: params?.meta?.embed,
-    };
-    const url = `${apiUrl}/${resource}/of/${params.target}/${params.id}?${queryString.stringify(query)}`;
+  // List GET requests in flight, keyed by URL, shared by the calls that request the same URL
+  const sharedRequests = new Map<string, SharedRequest>();
 
-    const { headers, json } = await httpClient(url, {
-      signal: params?.signal,
+  /**
+   * Sends a list GET request, or joins the identical request in flight. An aborted call stops waiting,
+   * and the request itself is aborted once all of its calls are.
+   */
+  const getSharedJson = (
+    url: string,
+    signal?: AbortSignal,
+  ): Promise<{ headers: Headers; json: any }> => {
+    if (signal?.aborted) {
+      return Promise.reject(signal.reason);
+    }
+    let shared = sharedRequests.get(url);
+    if (!shared) {
+      const controller = new AbortController();
+      const created: SharedRequest = {
+        controller,
+        callers: 0,
+        response: getJson(url, controller.signal).finally(() => {
+          if (sharedRequests.get(url) === created) {
+            sharedRequests.delete(url);
+          }
+        }),
+      };
+      sharedRequests.set(url, created);
+      shared = created;
+    }
+    const request = shared;
+    request.callers++;
+    return new Promise((resolve, reject) => {
+      const onAbort = () => {
+        reject(signal!.reason);
+        request.callers--;
+        if (request.callers === 0) {
+          if (sharedRequests.get(url) === request) {
+            sharedRequests.delete(url);
+          }
+          request.controller.abort(signal!.reason);
+        }
+      };
+      signal?.addEventListener("abort", onAbort, { once: true });
+      request.response
+        .then(resolve, reject)
+        .finally(() => signal?.removeEventListener("abort", onAbort));
     });
+  };
 
-    if (!headers.has("x-total-count")) {
-      throw new Error(
-        "The X-Total-Count header is missing in the HTTP Response. The jsonServer Data Provider expects responses for lists of resources to contain this header with the total number of results to build the pagination. If you are using CORS, did you declare X-Total-Count in the Access-Control-Expose-Headers header?",
-      );
+  // The search values of the previous getList call of each list, to debounce typing in the search
+  const previousSearches = new Map<string, string>();
+  const searchDebounce = options.searchDebounce ?? DEFAULT_SEARCH_DEBOUNCE;
+  const searchFilters = options.searchFilters ?? DEFAULT_SEARCH_FILTERS;
+
+  // getMany calls waiting to be merged, keyed by resource and query parameters other than the ids
+  const pendingGetMany = new Map<string, PendingGetMany>();
+  const getManyWindow = options.getManyWindow ?? DEFAULT_GET_MANY_WINDOW;
+  const maxUrlLength = options.maxUrlLength ?? DEFAULT_MAX_URL_LENGTH;
+  const getManyPostThreshold =
+    options.getManyPostThreshold ?? DEFAULT_GET_MANY_POST_THRESHOLD;
+
+  /**
+   * Sends the merged ids of a batch of getMany calls, in as many requests as the URL length limit
+   * requires, and hands each call the records of its own ids.
+   */
+  const sendGetMany = async (batch: PendingGetMany) => {
+    const callers = [...batch.callers];
+    if (callers.length === 0) {
+      return;
     }
-    const totalString = headers.get("x-total-count")!.split("/").pop();
-    if (totalString == null) {
-      throw new Error(
-        "The X-Total-Count header is invalid in the HTTP Response.",
+    const ids = [
+      ...new Map(
+        callers.flatMap((caller) => caller.ids).map((id) => [String(id), id]),
+      ).values(),
+    ];
+    const baseUrl = `${apiUrl}/${batch.resource}/many?${queryString.stringify(batch.query)}`;
+    // Large selections are sent in one POST request body instead of several URLs
+    const usePost = ids.length > getManyPostThreshold;
+    const chunks = usePost
+      ? [ids]
+      : chunkIds(ids, baseUrl.length, maxUrlLength);
+
+    const records = new Map<string, any>();
+    const failures = new Map<string, any>();
+    await Promise.all(
+      chunks.map(async (chunk) => {
+        const query = queryString.stringify({ ...batch.query, id: chunk });
+        try {
+          const { json } = usePost
+            ? await httpClient(baseUrl, {
+                method: "POST",
+                body: JSON.stringify(chunk),
+              })
+            : await getJson(`${apiUrl}/${batch.resource}/many?${query}`);
+          json.forEach((record: any) => records.set(String(record.id), record));
+        } catch (error) {
+          chunk.forEach((id) => failures.set(String(id), error));
+        }
+      }),
+    );
+
+    callers.forEach((caller) => {
+      const failed = caller.ids.find((id) => failures.has(String(id)));
+      if (failed !== undefined) {
+        caller.reject(failures.get(String(failed)));
+        return;
+      }
+      caller.resolve(
+        caller.ids
+          .map((id) => records.get(String(id)))
+          .filter((record) => record !== undefined),
       );
+    });
+  };
+
+  return {
+    supportAbortSignal: true,
+
+    getList: async (resource, params) => {
+      const { page, perPage } = params.pagination || {};
+      const { field, order } = params.sort || {};
+      const listQuery = {
+        ...toFilterQuery(params.filter),
+        _sort: field,
+        _order: order,
+        _embed: params?.meta?.embed,
+        _fields: params?.meta?.fields,
+      };
+
+      // Wait for the typing to pause, so that the calls of superseded search values are aborted unsent
+      if (searchDebounce > 0) {
+        const filter = { ...(params.filter ?? {}) };
+        const search = JSON.stringify(
+          searchFilters.map((name) => filter[name] ?? null),
+        );
+        searchFilters.forEach((name) => delete filter[name]);
+        // A list is identified by everything but its search values and page
+        const listIdentity = `${resource}?${queryString.stringify({
+          ...toFilterQuery(filter),
+          _sort: field,
+          _order: order,
+          _embed: params?.meta?.embed,
+          _fields: params?.meta?.fields,
+        })}&perPage=${perPage}`;
+        const previousSearch = previousSearches.get(listIdentity);
+        rememberEntry(
+          previousSearches,
+          listIdentity,
+          search,
+          MAX_REMEMBERED_SEARCHES,
+        );
+        if (previousSearch !== undefined && previousSearch !== search) {
+          await delay(searchDebounce, params?.signal);
+        }
+      }
+
+      const listKey = `${resource}?${queryString.stringify(listQuery)}&perPage=${perPage}`;
+      const query = {
+        ...listQuery,
+        _start:
+          page != null && perPage != null ? (page - 1) * perPage : undefined,
+        _end: page != null && perPage != null ? page * perPage : undefined,
+        _cursor: page != null ? cursors.get(`${listKey}#${page}`) : undefined,
+      };
+      const url = `${apiUrl}/${resource}?${queryString.stringify(query)}`;
+
+      const { headers, json } = await getSharedJson(url, params?.signal);
+      const nextCursor = headers.get("x-next-cursor");
+      if (nextCursor && page != null) {
+        rememberEntry(
+          cursors,
+          `${listKey}#${page + 1}`,
+          nextCursor,
+          MAX_REMEMBERED_CURSORS,
+        );
+      }
+      return {
+        data: json,
+        ...parseTotalCount(headers, query._start, query._end),
+      };
+    },
+
+    getOne: async (resource, params) => {
+      let url = `${apiUrl}/${resource}/${params.id}`;
+      if (params?.meta?.embed) {
+        url += `?_embed=${params.meta.embed}`;
+      }
+      const { json } = await getJson(url, params?.signal);
+      return { data: json };
+    },
+
+    getMany: (resource, params) =>
+      new Promise((resolve, reject) => {
+        const query = {
+          _embed: params?.meta?.embed,
+          _fields: params?.meta?.fields,
+        };
+        const key = `${resource}?${queryString.stringify(query)}`;
+        const signal = params?.signal;
+        if (signal?.aborted) {
+          reject(signal.reason);
+          return;
+        }
+        let batch = pendingGetMany.get(key);
+        if (!batch) {
+          const created: PendingGetMany = { resource, query, callers: [] };
+          pendingGetMany.set(key, created);
+          setTimeout(() => {
+            pendingGetMany.delete(key);
+            sendGetMany(created);
+          }, getManyWindow);
+          batch = created;
+        }
+        // An aborted call stops waiting; the request continues for the other calls of the batch
+        const onAbort = () => {
+          const index = batch!.callers.indexOf(caller);
+          if (index >= 0) {
+            batch!.callers.splice(index, 1);
+          }
+          reject(signal!.reason);
+        };
+        const caller: GetManyCaller = {
+          ids: params.ids,
+          resolve: (data) => {
+            signal?.removeEventListener("abort", onAbort);
+            resolve({ data });
+          },
+          reject: (error) => {
+            signal?.removeEventListener("abort", onAbort);
+            reject(error);
+          },
+        };
+        batch.callers.push(caller);
+        signal?.addEventListener("abort", onAbort, { once: true });
+      }),
+
+    getManyReference: async (resource, params) => {
+      const { page, perPage } = params.pagination;
+      const { field, order } = params.sort;
+      const query = {
+        ...toFilterQuery(params.filter),
+        _sort: field,
+        _order: order,
+        _start: (page - 1) * perPage,
+        _end: page * perPage,
+        _embed: params?.meta?.embed,
+      };
+      const url = `${apiUrl}/${resource}/of/${params.target}/${params.id}?${queryString.stringify(query)}`;
+
+      const { headers, json } = await getSharedJson(url, params?.signal);
+
+      return {
+        data: json,
+        ...parseTotalCount(headers, query._start, query._end),
+      };
+    },
+
+    update: async (resource, params) => {
+      const { json } = await httpClient(`${apiUrl}/${resource}/${params.id}`, {
+        method: "PUT",
+        body: JSON.stringify(params.data),
+      });
+      return { data: json };
+    },
+
+    // Spring Boot bulk update: PUT /resource?id=1&id=2&id=3 with data in body
+    updateMany: async (resource, params) => {
+      const query = {
+        id: params.ids,
+      };
+      const url = `${apiUrl}/${resource}?${queryString.stringify(query)}`;
+      const { json } = await httpClient(url, {
+        method: "PUT",
+        body: JSON.stringify(params.data),
+      });
+      return { data: json };
+    },
+
+    create: async (resource, params) => {
+      const { json } = await httpClient(`${apiUrl}/${resource}`, {
+        method: "POST",
+        body: JSON.stringify(params.data),
+      });
+      return { data: { ...params.data, ...json } as any };
+    },
+
+    delete: async (resource, params) => {
+      const { json } = await httpClient(`${apiUrl}/${resource}/${params.id}`, {
+        method: "DELETE",
+      });
+      return { data: json };
+    },
+
+    // Spring Boot bulk delete: DELETE /resource?id=1&id=2&id=3
+    deleteMany: async (resource, params) => {
+      const query = {
+        id: params.ids,
+      };
+      const url = `${apiUrl}/${resource}?${queryString.stringify(query)}`;
+      const { json } = await httpClient(url, {
+        method: "DELETE",
+      });
+      return { data: json };
+    },
+  };
+};
+
+/**
+ * Reads the X-Total-Count header of a list response.
+ *
+ * Exact totals are plain numbers. Servers that avoid counting send `kind/value` instead:
+ * - `estimate/N`: an approximate total, reported as `total`
+ * - `capped/N`: more than N records match; reported as `pageInfo` for partial pagination
+ * - `partial/N`: at least N records match; reported as `pageInfo` for partial pagination
+ *
+ * The kind and value are also returned as `meta.totalCount`, so custom pagination components can
+ * display e.g. "1000+".
+ */
+const parseTotalCount = (
+  headers: Headers,
+  start: number | undefined,
+  end: number | undefined,
+) => {
+  if (!headers.has("x-total-count")) {
+    throw new Error(
+      "The X-Total-Count header is missing in the HTTP Response. The jsonServer Data Provider expects responses for lists of resources to contain this header with the total number of results to build the pagination. If you are using CORS, did you declare X-Total-Count in the Access-Control-Expose-Headers header?",
+    );
+  }
+  const parts = headers.get("x-total-count")!.split("/");
+  const value = parseInt(parts.pop() ?? "", 10);
+  if (isNaN(value)) {
+    throw new Error(
+      "The X-Total-Count header is invalid in the HTTP Response.",
+    );
+  }
+  const kind = parts.pop();
+  if (kind === "capped" || kind === "partial") {
+    const pageEnd = end ?? 0;
+    return {
+      pageInfo: {
+        hasPreviousPage: (start ?? 0) > 0,
+        hasNextPage: kind === "capped" ? value >= pageEnd : value > pageEnd,
+      },
+      meta: { totalCount: { kind, value } },
+    };
+  }
+  if (kind === "estimate") {
+    return { total: value, meta: { totalCount: { kind, value } } };
+  }
+  return { total: value };
+};
+
+/**
+ * Flattens the filter into query parameters. Array values of `_in` filters are joined with commas
+ * (`{ status_in: ['draft', 'published'] }` becomes `status_in=draft,published`), since the server
+ * reads only the first value of a repeated filter parameter.
+ */
+const toFilterQuery = (filter: any) => {
+  const query = fetchUtils.flattenObject(filter);
+  Object.keys(query).forEach((key) => {
+    if (key.endsWith("_in") && Array.isArray(query[key])) {
+      query[key] = query[key].join(",");
     }
-    return { data: json, total: parseInt(totalString, 10) };
-  },
+  });
+  return query;
+};
 
-  update: async (resource, params) => {
-    const { json } = await httpClient(`${apiUrl}/${resource}/${params.id}`, {
-      method: "PUT",
-      body: JSON.stringify(params.data),
+/**
+ * Creates an HTTP client that sends the GET requests of `getList`, `getManyReference`, `getMany` and
+ * `getOne` made in the same tick as a single POST request to the batch endpoint of ra-spring-json-server
+ * (enabled with `ra.batch.enabled=true`), and hands each caller its own response.
+ *
+ * Other requests, and ticks with a single request, are sent with the wrapped client unchanged. A failed
+ * operation rejects only its own call; a failed batch request rejects all of its calls.
+ *
+ * @param apiUrl - The base URL of your Spring Boot API, as passed to the data provider
+ * @param httpClient - The HTTP client that sends the requests (defaults to fetchUtils.fetchJson)
+ * @param options - Optional settings
+ * @param options.batchUrl - The URL of the batch endpoint (defaults to `${apiUrl}/batch`)
+ * @param options.maxBatchSize - The maximum number of operations per batch request (defaults to 50,
+ *   the server default of `ra.batch.max-operations`)
+ *
+ * @example
+ * ```tsx
+ * const apiUrl = 'http://localhost:8081/api';
+ * const dataProvider = raSpringDataProvider(apiUrl, batchingHttpClient(apiUrl));
+ * ```
+ */
+export const batchingHttpClient = (
+  apiUrl: string,
+  httpClient = fetchUtils.fetchJson,
+  options: { batchUrl?: string; maxBatchSize?: number } = {},
+) => {
+  const batchUrl = options.batchUrl ?? `${apiUrl}/batch`;
+  const maxBatchSize = options.maxBatchSize ?? DEFAULT_MAX_BATCH_SIZE;
+  let queue: QueuedCall[] = [];
+
+  const sendBatch = async (calls: QueuedCall[]) => {
+    if (calls.length === 1) {
+      const [call] = calls;
+      httpClient(call.url, call.options).then(call.resolve, call.reject);
+      return;
+    }
+    try {
+      const { json } = await httpClient(batchUrl, {
+        method: "POST",
+        body: JSON.stringify(calls.map((call) => call.operation)),
+      });
+      calls.forEach((call, index) => settleBatchCall(call, json[index]));
+    } catch (error) {
+      calls.forEach((call) => call.reject(error));
+    }
+  };
+
+  const flush = () => {
+    const calls = queue;
+    queue = [];
+    for (let i = 0; i < calls.length; i += maxBatchSize) {
+      sendBatch(calls.slice(i, i + maxBatchSize));
+    }
+  };
+
+  return (
+    url: string,
+    requestOptions: any = {},
+  ): Promise<{ status: number; headers: Headers; body: string; json: any }> => {
+    const method = (requestOptions.method ?? "GET").toUpperCase();
+    const operation =
+      method === "GET" ? toBatchOperation(apiUrl, url) : undefined;
+    if (!operation) {
+      return httpClient(url, requestOptions);
+    }
+    return new Promise((resolve, reject) => {
+      const signal: AbortSignal | undefined = requestOptions.signal;
+      if (signal?.aborted) {
+        reject(signal.reason);
+        return;
+      }
+      // Calls aborted before the batch is sent are left out of it
+      const onAbort = () => {
+        const index = queue.indexOf(call);
+        if (index >= 0) {
+          queue.splice(index, 1);
+          reject(signal!.reason);
+        }
+      };
+      const call: QueuedCall = {
+        url,
+        options: requestOptions,
+        operation,
+        resolve: (response) => {
+          signal?.removeEventListener("abort", onAbort);
+          resolve(response);
+        },
+        reject: (error) => {
+          signal?.removeEventListener("abort", onAbort);
+          reject(error);
+        },
+      };
+      signal?.addEventListener("abort", onAbort, { once: true });
+      if (queue.length === 0) {
+        setTimeout(flush, 0);
+      }
+      queue.push(call);
     });
-    return { data: json };
-  },
+  };
+};
+
+/**
+ * One operation of a batch request, see ra-spring-json-server's BatchOperation.
+ */
+interface BatchOperation {
+  operation: "getList" | "getManyReference" | "getMany" | "getOne";
+  resource: string;
+  params: Record<string, any>;
+}
+
+/**
+ * A request waiting for the batch of its tick to be sent.
+ */
+interface QueuedCall {
+  url: string;
+  options: any;
+  operation: BatchOperation;
+  resolve: (response: {
+    status: number;
+    headers: Headers;
+    body: string;
+    json: any;
+  }) => void;
+  reject: (error: any) => void;
+}
 
-  // Spring Boot bulk update: PUT /resource?id=1&id=2&id=3 with data in body
-  updateMany: async (resource, params) => {
-    const query = {
-      id: params.ids,
+/**
+ * Converts a GET URL built by the data provider back to the batch operation it stands for, or returns
+ * undefined for requests that cannot be batched (e.g. exports).
+ */
+const toBatchOperation = (
+  apiUrl: string,
+  url: string,
+): BatchOperation | undefined => {
+  if (!url.startsWith(`${apiUrl}/`)) {
+    return undefined;
+  }
+  const parsed = queryString.parseUrl(url.slice(apiUrl.length + 1));
+  const query: Record<string, any> = parsed.query;
+  const [resource, ...rest] = parsed.url.split("/").map(decodeURIComponent);
+  if (!resource) {
+    return undefined;
+  }
+  if (rest.length === 0) {
+    return query._start != null && query._end != null
+      ? { operation: "getList", resource, params: query }
+      : undefined;
+  }
+  if (rest.length === 1 && rest[0] === "many") {
+    return {
+      operation: "getMany",
+      resource,
+      params: { ...query, id: [query.id ?? []].flat() },
     };
-    const url = `${apiUrl}/${resource}?${queryString.stringify(query)}`;
-    const { json } = await httpClient(url, {
-      method: "PUT",
-      body: JSON.stringify(params.data),
-    });
-    return { data: json };
-  },
+  }
+  if (rest.length === 1 && rest[0] !== "export") {
+    return { operation: "getOne", resource, params: { ...query, id: rest[0] } };
+  }
+  if (rest.length === 3 && rest[0] === "of") {
+    return {
+      operation: "getManyReference",
+      resource,
+      params: { ...query, target: rest[1], targetId: rest[2] },
+    };
+  }
+  return undefined;
+};
 
-  create: async (resource, params) => {
-    const { json } = await httpClient(`${apiUrl}/${resource}`, {
-      method: "POST",
-      body: JSON.stringify(params.data),
-    });
-    return { data: { ...params.data, ...json } as any };
-  },
+/**
+ * Resolves or rejects a batched call with its result, like fetchUtils.fetchJson does for a response.
+ */
+const settleBatchCall = (
+  call: QueuedCall,
+  result: { status: number; headers?: Record<string, string>; body: any },
+) => {
+  if (!result) {
+    call.reject(new HttpError("Missing batch result", 500));
+    return;
+  }
+  if (result.status < 200 || result.status >= 300) {
+    call.reject(
+      new HttpError(
+        result.body?.message || `HTTP Error ${result.status}`,
+        result.status,
+        result.body,
+      ),
+    );
+    return;
+  }
+  call.resolve({
+    status: result.status,
+    headers: new Headers(result.headers ?? {}),
+    body: JSON.stringify(result.body),
+    json: result.body,
+  });
+};
 
-  delete: async (resource, params) => {
-    const { json } = await httpClient(`${apiUrl}/${resource}/${params.id}`, {
-      method: "DELETE",
-    });
-    return { data: json };
-  },
+/**
+ * A getMany call waiting for the merged request of its batch.
+ */
+interface GetManyCaller {
+  ids: readonly any[];
+  resolve: (data: any[]) => void;
+  reject: (error: any) => void;
+}
+
+/**
+ * The getMany calls of one resource and query collected during the merge window.
+ */
+interface PendingGetMany {
+  resource: string;
+  query: Record<string, any>;
+  callers: GetManyCaller[];
+}
+
+/**
+ * Splits ids into chunks whose `id=` query parameters, appended to a URL of the given length, keep it
+ * within the maximum length. Every chunk holds at least one id.
+ */
+const chunkIds = (ids: any[], baseLength: number, maxLength: number) => {
+  const chunks: any[][] = [];
+  let chunk: any[] = [];
+  let length = baseLength;
+  ids.forEach((id) => {
+    const parameterLength = `&id=${encodeURIComponent(String(id))}`.length;
+    if (chunk.length > 0 && length + parameterLength > maxLength) {
+      chunks.push(chunk);
+      chunk = [];
+      length = baseLength;
+    }
+    chunk.push(id);
+    length += parameterLength;
+  });
+  if (chunk.length > 0) {
+    chunks.push(chunk);
+  }
+  return chunks;
+};
+
+const DEFAULT_GET_MANY_WINDOW = 10;
+
+const DEFAULT_MAX_URL_LENGTH = 2000;
+
+const DEFAULT_GET_MANY_POST_THRESHOLD = 100;
+
+const DEFAULT_MAX_BATCH_SIZE = 50;
+
+const MAX_REMEMBERED_CURSORS = 200;
+
+const DEFAULT_VALIDATOR_CACHE_SIZE = 100;
+
+const DEFAULT_SEARCH_DEBOUNCE = 0;
+
+const DEFAULT_SEARCH_FILTERS = ["q"];
+
+const MAX_REMEMBERED_SEARCHES = 200;
 
-  // Spring Boot bulk delete: DELETE /resource?id=1&id=2&id=3
-  deleteMany: async (resource, params) => {
-    const query = {
-      id: params.ids,
+/**
+ * A list GET request in flight, shared by the calls that requested its URL.
+ */
+interface SharedRequest {
+  controller: AbortController;
+  callers: number;
+  response: Promise<{ headers: Headers; json: any }>;
+}
+
+/**
+ * Waits for the given number of milliseconds, or rejects with the reason of the signal as soon as it
+ * is aborted.
+ */
+const delay = (ms: number, signal?: AbortSignal) =>
+  new Promise<void>((resolve, reject) => {
+    if (signal?.aborted) {
+      reject(signal.reason);
+      return;
+    }
+    const onAbort = () => {
+      clearTimeout(timer);
+      reject(signal!.reason);
     };
-    const url = `${apiUrl}/${resource}?${queryString.stringify(query)}`;
-    const { json } = await httpClient(url, {
-      method: "DELETE",
-    });
-    return { data: json };
-  },
-});
+    const timer = setTimeout(() => {
+      signal?.removeEventListener("abort", onAbort);
+      resolve();
+    }, ms);
+    signal?.addEventListener("abort", onAbort, { once: true });
+  });
+
+/**
+ * A GET response kept to answer 304 Not Modified responses to its revalidation.
+ */
+interface ValidatedResponse {
+  etag: string;
+  headers: Headers;
+  json: any;
+}
+
+/**
+ * Stores an entry as the most recently used one, evicting the least recently used entries once the
+ * limit is reached.
+ */
+const rememberEntry = <V>(
+  entries: Map<string, V>,
+  key: string,
+  value: V,
+  limit: number,
+) => {
+  entries.delete(key);
+  entries.set(key, value);
+  while (entries.size > limit) {
+    entries.delete(entries.keys().next().value!);
+  }
+};
@@ -439,4 +439,50 @@ test.describe("React Admin getManyReference - User Posts Relationship", () => {
       }
     }
   });
+
+  test("should resolve the authors of a posts page with one getMany request", async ({
+    page,
+    request,
+  }) => {
+    // Create posts of two different authors, so the page references more than one user
+    const apiUrl = "http://localhost:8081/api";
+    const usersResponse = await request.get(
+      `${apiUrl}/users?_start=0&_end=2&_sort=id&_order=ASC`,
+    );
+    expect(usersResponse.ok()).toBeTruthy();
+    const authors = await usersResponse.json();
+    expect(authors.length).toBe(2);
+    const timestamp = Date.now();
+    for (const author of authors) {
+      const response = await request.post(`${apiUrl}/posts`, {
+        data: {
+          title: `Author Post ${author.id} ${timestamp}`,
+          content: "A post of the author",
+          userId: author.id,
+          status: "published",
+        },
+      });
+      expect(response.ok()).toBeTruthy();
+    }
+
+    // Record the getMany requests sent for the ReferenceField of the posts list
+    const getManyRequests = [];
+    page.on("request", (sentRequest) => {
+      if (/\/users\/many\?/.test(sentRequest.url())) {
+        getManyRequests.push(sentRequest.url());
+      }
+    });
+
+    await page.goto("/#/posts?page=1&perPage=25&sort=id&order=DESC");
+    for (const author of authors) {
+      await expect(
+        page.getByText(`Author Post ${author.id} ${timestamp}`),
+      ).toBeVisible();
+    }
+    await expect(page.locator("table tbody tr").first()).toBeVisible();
+    await page.waitForLoadState("networkidle");
+
+    // The authors of all rows are merged into a single request
+    expect(getManyRequests).toHaveLength(1);
+  });
 });
@@ -0,0 +1,122 @@
+import { test, expect } from "@playwright/test";
+import raSpringDataProvider from "../../src/index";
+
+// Unit tests of the getMany coalescing. They only use a stub HTTP client, so no browser or backend is involved.
+
+const apiUrl = "http://localhost:8081/api";
+
+interface RecordedRequest {
+  url: string;
+  method: string;
+  ids: string[];
+}
+
+/**
+ * Creates an HTTP client that records the getMany requests and answers with a record for every
+ * requested id.
+ */
+const stubHttpClient = () => {
+  const requests: RecordedRequest[] = [];
+  const httpClient = async (url: string, options: any = {}) => {
+    const method = options.method ?? "GET";
+    const ids: string[] =
+      method === "POST"
+        ? JSON.parse(options.body).map(String)
+        : new URL(url).searchParams.getAll("id");
+    requests.push({ url, method, ids });
+    return {
+      status: 200,
+      headers: new Headers(),
+      body: "",
+      json: ids.map((id) => ({ id: Number(id), name: `User ${id}` })),
+    };
+  };
+  return { requests, httpClient };
+};
+
+const range = (from: number, to: number) =>
+  Array.from({ length: to - from + 1 }, (_, index) => from + index);
+
+test.describe("getMany coalescing", () => {
+  test("merges the calls of a resource into one request for the union of their ids", async () => {
+    const { requests, httpClient } = stubHttpClient();
+    const dataProvider = raSpringDataProvider(apiUrl, httpClient as any);
+
+    const [first, second, third] = await Promise.all([
+      dataProvider.getMany("users", { ids: [1, 2] }),
+      dataProvider.getMany("users", { ids: [2, 3] }),
+      dataProvider.getMany("users", { ids: [3] }),
+    ]);
+
+    expect(requests).toHaveLength(1);
+    expect(requests[0].method).toBe("GET");
+    expect(requests[0].ids).toEqual(["1", "2", "3"]);
+    // Each call receives the records of its own ids
+    expect(first.data.map((record) => record.id)).toEqual([1, 2]);
+    expect(second.data.map((record) => record.id)).toEqual([2, 3]);
+    expect(third.data.map((record) => record.id)).toEqual([3]);
+  });
+
+  test("does not merge calls for other resources or fields", async () => {
+    const { requests, httpClient } = stubHttpClient();
+    const dataProvider = raSpringDataProvider(apiUrl, httpClient as any);
+
+    await Promise.all([
+      dataProvider.getMany("users", { ids: [1] }),
+      dataProvider.getMany("users", { ids: [2], meta: { fields: ["name"] } }),
+      dataProvider.getMany("posts", { ids: [1] }),
+    ]);
+
+    expect(requests.map((request) => request.url).sort()).toEqual([
+      `${apiUrl}/posts/many?id=1`,
+      `${apiUrl}/users/many?_fields=name&id=2`,
+      `${apiUrl}/users/many?id=1`,
+    ]);
+  });
+
+  test("splits ids into several GET requests that stay within the URL length limit", async () => {
+    const { requests, httpClient } = stubHttpClient();
+    const maxUrlLength = 100;
+    const dataProvider = raSpringDataProvider(apiUrl, httpClient as any, {
+      maxUrlLength,
+    });
+    const ids = range(1000, 1029);
+
+    const { data } = await dataProvider.getMany("users", { ids });
+
+    expect(requests.length).toBeGreaterThan(1);
+    requests.forEach((request) => {
+      expect(request.method).toBe("GET");
+      expect(request.url.length).toBeLessThanOrEqual(maxUrlLength);
+    });
+    expect(requests.flatMap((request) => request.ids)).toEqual(
+      ids.map(String),
+    );
+    expect(data.map((record) => record.id)).toEqual(ids);
+  });
+
+  test("sends the ids in one POST request above the threshold", async () => {
+    const { requests, httpClient } = stubHttpClient();
+    const dataProvider = raSpringDataProvider(apiUrl, httpClient as any, {
+      getManyPostThreshold: 10,
+    });
+
+    const atThreshold = await dataProvider.getMany("users", {
+      ids: range(1, 10),
+    });
+    expect(requests).toHaveLength(1);
+    expect(requests[0].method).toBe("GET");
+    expect(atThreshold.data).toHaveLength(10);
+
+    const aboveThreshold = await dataProvider.getMany("users", {
+      ids: range(1, 11),
+    });
+    expect(requests).toHaveLength(2);
+    expect(requests[1].method).toBe("POST");
+    expect(new URL(requests[1].url).pathname).toBe("/api/users/many");
+    expect(requests[1].ids).toEqual(range(1, 11).map(String));
+    expect(aboveThreshold.data.map((record) => record.id)).toEqual(
+      range(1, 11),
+    );
+  });
+});
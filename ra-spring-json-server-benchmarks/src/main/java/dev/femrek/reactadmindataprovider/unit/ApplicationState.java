@@ -0,0 +1,78 @@
+package dev.femrek.reactadmindataprovider.unit;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The integration test application, started without a web server on an in-memory H2 database, and seeded with
+ * {@value #USER_COUNT} users with {@value #POSTS_PER_USER} posts each.
+ * <p>
+ * The benchmarks share the package of the test application because its controllers, services and entities are
+ * package-private.
+ */
+@State(Scope.Benchmark)
+public class ApplicationState {
+    static final int USER_COUNT = 1000;
+    static final int POSTS_PER_USER = 10;
+    static final String[] ROLES = {"admin", "author", "editor", "viewer"};
+    static final String[] STATUSES = {"draft", "published", "archived"};
+
+    ConfigurableApplicationContext context;
+    UserController userController;
+    PostController postController;
+    UserService userService;
+    PostService postService;
+    PostRepository postRepository;
+    List<Long> userIds;
+    List<Long> postIds;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = new SpringApplicationBuilder(TestApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(Map.of(
+                        "spring.datasource.url", "jdbc:h2:mem:benchmarks;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.hibernate.ddl-auto", "create-drop",
+                        "spring.jpa.show-sql", "false",
+                        "spring.main.banner-mode", "off",
+                        "logging.level.root", "WARN"
+                ))
+                .run();
+        userController = context.getBean(UserController.class);
+        postController = context.getBean(PostController.class);
+        userService = context.getBean(UserService.class);
+        postService = context.getBean(PostService.class);
+        postRepository = context.getBean(PostRepository.class);
+
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        List<User> users = new ArrayList<>(USER_COUNT);
+        for (int i = 0; i < USER_COUNT; i++) {
+            users.add(new User("User " + i, "user" + i + "@example.com", ROLES[i % ROLES.length]));
+        }
+        userIds = userRepository.saveAll(users).stream().map(User::getId).toList();
+
+        List<Post> posts = new ArrayList<>(USER_COUNT * POSTS_PER_USER);
+        for (Long userId : userIds) {
+            for (int i = 0; i < POSTS_PER_USER; i++) {
+                posts.add(new Post("Post " + i + " of user " + userId, "Content of post " + i,
+                        userId, STATUSES[i % STATUSES.length]));
+            }
+        }
+        postIds = postRepository.saveAll(posts).stream().map(Post::getId).toList();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+}
@@ -0,0 +1,81 @@
+package dev.femrek.reactadmindataprovider.unit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <code>updateMany</code> and <code>deleteMany</code> of the test services on H2, through their transactional
+ * proxies: the hand-written <code>UserService</code> and the <code>JpaRAService</code> of <code>PostService</code>, both
+ * on <code>JpaBulkOperations</code>.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BulkOperationsBenchmark {
+    @Param({"10", "100", "1000"})
+    private int batchSize;
+
+    private List<Long> userIds;
+    private List<Long> postIds;
+    private int updates;
+
+    /**
+     * The posts to delete, inserted before each call. Each call lasts milliseconds, so the overhead of an invocation
+     * level setup is negligible.
+     */
+    @State(Scope.Thread)
+    public static class DeletedPosts {
+        private List<Long> ids;
+
+        @Setup(Level.Invocation)
+        public void insert(ApplicationState state, BulkOperationsBenchmark benchmark) {
+            List<Post> posts = new ArrayList<>(benchmark.batchSize);
+            for (int i = 0; i < benchmark.batchSize; i++) {
+                posts.add(new Post("Deleted post " + i, "Content", state.userIds.get(i), "draft"));
+            }
+            ids = state.postRepository.saveAll(posts).stream().map(Post::getId).toList();
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setup(ApplicationState state) {
+        userIds = state.userIds.subList(0, batchSize);
+        postIds = state.postIds.subList(0, batchSize);
+    }
+
+    @Benchmark
+    public List<Long> updateManyUsers(ApplicationState state) {
+        // A different value on each call, so that every row is actually changed
+        String role = ApplicationState.ROLES[updates++ % ApplicationState.ROLES.length];
+        return state.userService.updateMany(userIds, Map.of("role", role));
+    }
+
+    @Benchmark
+    public List<Long> updateManyPosts(ApplicationState state) {
+        String status = ApplicationState.STATUSES[updates++ % ApplicationState.STATUSES.length];
+        return state.postService.updateMany(postIds, Map.of("status", status));
+    }
+
+    @Benchmark
+    public List<Long> deleteManyPosts(ApplicationState state, DeletedPosts deletedPosts) {
+        return state.postService.deleteMany(deletedPosts.ids);
+    }
+}
@@ -0,0 +1,83 @@
+package dev.femrek.reactadmindataprovider.unit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ResponseEntity;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <code>RAController.getList</code> and <code>getManyReference</code>, called directly on the controllers of the test
+ * application: reserved parameter stripping, pagination and sort building, the service query on H2, the total count and
+ * the response headers. The HTTP layer is not included.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GetListBenchmark {
+    /**
+     * A page in the middle of the users, past the first page served by keyset pagination.
+     */
+    @Benchmark
+    public ResponseEntity<List<UserResponseDTO>> usersByOffset(ApplicationState state) {
+        Map<String, String> params = params("_start", "100", "_end", "125", "_sort", "name", "_order", "ASC",
+                "role", "author");
+        return state.userController.getList(100, 125, "name", "ASC", null, null, null, params);
+    }
+
+    /**
+     * The first page of the users, served by keyset pagination with a parallel count.
+     */
+    @Benchmark
+    public ResponseEntity<List<UserResponseDTO>> usersFirstPageByKeyset(ApplicationState state) {
+        Map<String, String> params = params("_start", "0", "_end", "25", "_sort", "id", "_order", "ASC");
+        return state.userController.getList(0, 25, "id", "ASC", null, null, null, params);
+    }
+
+    /**
+     * A full-text search over the posts with a filter, through <code>JpaRAService</code>.
+     */
+    @Benchmark
+    public ResponseEntity<List<PostResponseDTO>> postsBySearch(ApplicationState state) {
+        Map<String, String> params = params("_start", "0", "_end", "25", "_sort", "title", "_order", "DESC",
+                "q", "post 3", "status", "published");
+        return state.postController.getList(0, 25, "title", "DESC", null, null, null, params);
+    }
+
+    /**
+     * A sparse fieldset of the posts, fetched with a projection.
+     */
+    @Benchmark
+    public ResponseEntity<List<PostResponseDTO>> postsWithFields(ApplicationState state) {
+        Map<String, String> params = params("_start", "50", "_end", "100", "_fields", "title,status");
+        return state.postController.getList(50, 100, null, null, null, null, "title,status", params);
+    }
+
+    @Benchmark
+    public ResponseEntity<List<PostResponseDTO>> postsOfUser(ApplicationState state) {
+        Map<String, String> params = params("_start", "0", "_end", "10", "_sort", "id", "_order", "ASC");
+        return state.postController.getManyReference("userId", String.valueOf(state.userIds.get(500)),
+                0, 10, "id", "ASC", null, params);
+    }
+
+    /**
+     * The request parameters as Spring MVC binds them, a new mutable map for each call.
+     */
+    private static Map<String, String> params(String... keysAndValues) {
+        Map<String, String> params = new HashMap<>();
+        for (int i = 0; i < keysAndValues.length; i += 2) {
+            params.put(keysAndValues[i], keysAndValues[i + 1]);
+        }
+        return params;
+    }
+}
@@ -0,0 +1,85 @@
+package dev.femrek.reactadmindataprovider.unit;
+
+import dev.femrek.reactadmindataprovider.config.RAOpenApiConfig;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.tags.Tag;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springdoc.core.customizers.OpenApiCustomizer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The <code>RAOpenApiConfig</code> customizer, which removes the generic tag and names the operations after their
+ * singularized or plural resource tag, on a document with the operations of <code>IRAController</code> for each
+ * resource.
+ * <p>
+ * The customizer modifies the document, so each invocation builds a new one; subtract {@link #build()} from
+ * {@link #customize()} for the time of the customizer alone.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OpenApiCustomizerBenchmark {
+    private static final String GENERIC_TAG = "Objects";
+    private static final String[] PLURALS = {
+            "Posts", "Users", "Categories", "Addresses", "Leaves", "People", "Children", "Boxes", "Status", "Matches"
+    };
+
+    @Param({"10", "100"})
+    private int resources;
+
+    private final OpenApiCustomizer customizer = new RAOpenApiConfig().removeDuplicateGenericTag();
+
+    @Benchmark
+    public OpenAPI build() {
+        OpenAPI openApi = new OpenAPI().addTagsItem(new Tag().name(GENERIC_TAG));
+        for (int i = 0; i < resources; i++) {
+            String tag = "Group" + i + PLURALS[i % PLURALS.length];
+            String path = "/api/group" + i;
+            openApi.path(path, new PathItem()
+                    .get(operation("list", tag))
+                    .post(operation("create", tag)));
+            openApi.path(path + "/{id}", new PathItem()
+                    .get(operation("get", tag))
+                    .put(operation("update", tag))
+                    .delete(operation("delete", tag)));
+            openApi.path(path + "/many", new PathItem()
+                    .get(operation("getMany", tag))
+                    .post(operation("getManyByBody", tag)));
+            openApi.path(path + "/of/{target}/{targetId}", new PathItem()
+                    .get(operation("getManyReferenceBy", tag)));
+            openApi.path(path + "/export", new PathItem()
+                    .get(operation("export", tag)));
+            openApi.addTagsItem(new Tag().name(tag));
+        }
+        return openApi;
+    }
+
+    @Benchmark
+    public OpenAPI customize() {
+        OpenAPI openApi = build();
+        customizer.customise(openApi);
+        return openApi;
+    }
+
+    private static Operation operation(String operationId, String tag) {
+        List<String> tags = new ArrayList<>(List.of(GENERIC_TAG, tag));
+        return new Operation().operationId(operationId).tags(tags);
+    }
+}
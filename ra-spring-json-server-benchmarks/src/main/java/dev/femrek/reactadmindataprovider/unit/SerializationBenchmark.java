@@ -0,0 +1,69 @@
+package dev.femrek.reactadmindataprovider.unit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.aop.framework.AopProxyUtils;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Maps a page of post entities to response DTOs, and serializes a page of DTOs to JSON with the
+ * <code>JsonMapper</code> of the application, as a <code>getList</code> response body is written.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+    @Param({"25", "100", "1000"})
+    private int size;
+
+    private PostService postService;
+    private JsonMapper jsonMapper;
+    private List<Post> posts;
+    private List<PostResponseDTO> responses;
+
+    @Setup(Level.Trial)
+    public void setup(ApplicationState state) {
+        // The target, not its transactional proxy, as the mapping runs inside the transaction of a query
+        postService = (PostService) AopProxyUtils.getSingletonTarget(state.postService);
+        jsonMapper = state.context.getBean(JsonMapper.class);
+        posts = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Post post = new Post("Post " + i, "Content of post " + i + ", long enough to resemble an excerpt.",
+                    (long) (i % 50), ApplicationState.STATUSES[i % ApplicationState.STATUSES.length]);
+            post.setId((long) i);
+            posts.add(post);
+        }
+        responses = mapToResponses();
+    }
+
+    @Benchmark
+    public List<PostResponseDTO> mapToResponses() {
+        List<PostResponseDTO> results = new ArrayList<>(posts.size());
+        for (Post post : posts) {
+            results.add(postService.toResponse(post));
+        }
+        return results;
+    }
+
+    @Benchmark
+    public byte[] serializeResponses() {
+        return jsonMapper.writeValueAsBytes(responses);
+    }
+}
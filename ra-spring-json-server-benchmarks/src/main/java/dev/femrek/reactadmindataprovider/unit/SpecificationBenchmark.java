@@ -0,0 +1,93 @@
+package dev.femrek.reactadmindataprovider.unit;
+
+import dev.femrek.reactadmindataprovider.search.SearchIndex;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds the Specification of a filtered search and its criteria predicate, without running the query: the
+ * hand-written specification of <code>UserService</code>, and the compiled filters of <code>JpaRAService</code> in
+ * <code>PostService</code>.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SpecificationBenchmark {
+    private static final Map<String, String> USER_FILTERS = Map.of("q", "smith", "role", "admin");
+    private static final Map<String, String> POST_FILTERS = Map.of("q", "spring", "status", "published",
+            "userId", "42");
+
+    private CriteriaBuilder criteriaBuilder;
+    private UserService userService;
+    private PostSpecifications postSpecifications;
+
+    /**
+     * Exposes the protected <code>toSpecification</code> of the post service.
+     */
+    static class PostSpecifications extends PostService {
+        PostSpecifications(EntityManager entityManager) {
+            super(entityManager);
+        }
+
+        Specification<Post> specification(Map<String, String> filters) {
+            return toSpecification(filters);
+        }
+
+        /**
+         * Matches the search with <code>LIKE</code>, since the index would run the search while building the
+         * specification.
+         */
+        @Override
+        protected SearchIndex<Long> createSearchIndex() {
+            return null;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setup(ApplicationState state) {
+        EntityManagerFactory entityManagerFactory = state.context.getBean(EntityManagerFactory.class);
+        criteriaBuilder = entityManagerFactory.getCriteriaBuilder();
+        userService = (UserService) AopProxyUtils.getSingletonTarget(state.userService);
+        postSpecifications = new PostSpecifications(
+                SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory));
+    }
+
+    @Benchmark
+    public Predicate userSpecification() {
+        // The specification consumes the search parameter of its map
+        Specification<User> specification = userService.buildSpecification(new HashMap<>(USER_FILTERS));
+        CriteriaQuery<User> query = criteriaBuilder.createQuery(User.class);
+        return specification.toPredicate(query.from(User.class), query, criteriaBuilder);
+    }
+
+    @Benchmark
+    public Predicate postSpecification() {
+        Specification<Post> specification = postSpecifications.specification(POST_FILTERS);
+        CriteriaQuery<Post> query = criteriaBuilder.createQuery(Post.class);
+        return specification.toPredicate(query.from(Post.class), query, criteriaBuilder);
+    }
+}
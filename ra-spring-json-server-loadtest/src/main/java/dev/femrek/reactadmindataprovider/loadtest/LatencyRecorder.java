@@ -0,0 +1,74 @@
+package dev.femrek.reactadmindataprovider.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * The latencies of one operation, in nanoseconds. Every latency is kept, so that the percentiles are exact. Each
+ * client records into its own recorder, and the recorders are merged after the run; a recorder is not thread-safe.
+ */
+public final class LatencyRecorder {
+    private long[] latencies = new long[1024];
+    private int size;
+    private int errors;
+    private boolean sorted;
+
+    public void record(long latencyNanos) {
+        if (size == latencies.length) {
+            latencies = Arrays.copyOf(latencies, size * 2);
+        }
+        latencies[size++] = latencyNanos;
+        sorted = false;
+    }
+
+    public void recordError() {
+        errors++;
+    }
+
+    public void merge(LatencyRecorder other) {
+        if (size + other.size > latencies.length) {
+            latencies = Arrays.copyOf(latencies, Math.max(latencies.length * 2, size + other.size));
+        }
+        System.arraycopy(other.latencies, 0, latencies, size, other.size);
+        size += other.size;
+        errors += other.errors;
+        sorted = false;
+    }
+
+    /**
+     * @return the number of successful requests
+     */
+    public int getCount() {
+        return size;
+    }
+
+    /**
+     * @return the number of failed requests, which are not part of the latencies
+     */
+    public int getErrors() {
+        return errors;
+    }
+
+    /**
+     * @param percentile the percentile, between 0 (exclusive) and 100
+     * @return the latency at the percentile with the nearest-rank method, or 0 without requests
+     */
+    public long percentile(double percentile) {
+        if (size == 0) {
+            return 0;
+        }
+        sort();
+        int rank = (int) Math.ceil(percentile / 100 * size);
+        return latencies[Math.max(0, rank - 1)];
+    }
+
+    public long max() {
+        return percentile(100);
+    }
+
+    private void sort() {
+        if (!sorted) {
+            Arrays.sort(latencies, 0, size);
+            sorted = true;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package dev.femrek.reactadmindataprovider.loadtest;
+
+import java.net.http.HttpRequest;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The operations of the load test, each building the request of one react-admin call.
+ */
+public enum LoadOperation {
+    /**
+     * A page of a list view: the users sorted by name, or the posts of a status newest first, at a random offset of
+     * the first 40 pages.
+     */
+    GET_LIST("getList") {
+        @Override
+        HttpRequest request(LoadTarget target, ThreadLocalRandom random) {
+            int start = random.nextInt(40) * PAGE_SIZE;
+            String range = "_start=" + start + "&_end=" + (start + PAGE_SIZE);
+            String path = random.nextBoolean()
+                    ? "/users?" + range + "&_sort=name&_order=ASC"
+                    : "/posts?" + range + "&_sort=id&_order=DESC&status=published";
+            return HttpRequest.newBuilder(target.uri(path)).GET().build();
+        }
+    },
+
+    /**
+     * The users referenced by a page of posts.
+     */
+    GET_MANY("getMany") {
+        @Override
+        HttpRequest request(LoadTarget target, ThreadLocalRandom random) {
+            StringBuilder path = new StringBuilder("/users/many?");
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                path.append(i == 0 ? "id=" : "&id=").append(target.randomUserId(random));
+            }
+            return HttpRequest.newBuilder(target.uri(path.toString())).GET().build();
+        }
+    },
+
+    /**
+     * An edit form saving one user.
+     */
+    UPDATE("update") {
+        @Override
+        HttpRequest request(LoadTarget target, ThreadLocalRandom random) {
+            String body = "{\"role\":\"" + ROLES[random.nextInt(ROLES.length)] + "\"}";
+            return HttpRequest.newBuilder(target.uri("/users/" + target.randomUserId(random)))
+                    .header("Content-Type", "application/json")
+                    .PUT(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+        }
+    },
+
+    /**
+     * A bulk delete of selected posts.
+     */
+    DELETE_MANY("deleteMany") {
+        @Override
+        HttpRequest request(LoadTarget target, ThreadLocalRandom random) {
+            long[] ids = target.nextDeletedPostIds(BATCH_SIZE);
+            if (ids.length == 0) {
+                return null;
+            }
+            StringBuilder path = new StringBuilder("/posts?");
+            for (int i = 0; i < ids.length; i++) {
+                path.append(i == 0 ? "id=" : "&id=").append(ids[i]);
+            }
+            return HttpRequest.newBuilder(target.uri(path.toString())).DELETE().build();
+        }
+    };
+
+    private static final int PAGE_SIZE = 25;
+    private static final int BATCH_SIZE = 10;
+    private static final String[] ROLES = {"admin", "user", "moderator", "editor"};
+
+    private final String operationName;
+
+    LoadOperation(String operationName) {
+        this.operationName = operationName;
+    }
+
+    /**
+     * @param target the server under load
+     * @param random the random generator of the calling thread
+     * @return the request, or null if the operation has nothing left to do
+     */
+    abstract HttpRequest request(LoadTarget target, ThreadLocalRandom random);
+
+    /**
+     * @return the name of the operation, as in react-admin and the <code>--mix</code> option
+     */
+    public String getOperationName() {
+        return operationName;
+    }
+
+    /**
+     * @param operationName the name of an operation
+     * @return the operation
+     * @throws IllegalArgumentException if no operation has that name
+     */
+    public static LoadOperation of(String operationName) {
+        for (LoadOperation operation : values()) {
+            if (operation.operationName.equals(operationName)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Unknown operation: " + operationName);
+    }
+}
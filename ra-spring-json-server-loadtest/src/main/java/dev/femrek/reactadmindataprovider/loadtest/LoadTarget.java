@@ -0,0 +1,50 @@
+package dev.femrek.reactadmindataprovider.loadtest;
+
+import java.net.URI;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The server under load: its API URL and the ID ranges of its users and posts. Posts are deleted from the highest ID
+ * down, so that each <code>deleteMany</code> deletes posts that still exist.
+ */
+public final class LoadTarget {
+    private final String apiUrl;
+    private final long minUserId;
+    private final long maxUserId;
+    private final long minPostId;
+    private final AtomicLong nextDeletedPostId;
+
+    public LoadTarget(String apiUrl, long minUserId, long maxUserId, long minPostId, long maxPostId) {
+        if (minUserId > maxUserId || minPostId > maxPostId) {
+            throw new IllegalArgumentException("The target must have users and posts");
+        }
+        this.apiUrl = apiUrl.endsWith("/") ? apiUrl.substring(0, apiUrl.length() - 1) : apiUrl;
+        this.minUserId = minUserId;
+        this.maxUserId = maxUserId;
+        this.minPostId = minPostId;
+        this.nextDeletedPostId = new AtomicLong(maxPostId);
+    }
+
+    public URI uri(String path) {
+        return URI.create(apiUrl + path);
+    }
+
+    public long randomUserId(ThreadLocalRandom random) {
+        return random.nextLong(minUserId, maxUserId + 1);
+    }
+
+    /**
+     * @param count the number of IDs
+     * @return the next IDs of posts to delete, fewer when the posts run out
+     */
+    public long[] nextDeletedPostIds(int count) {
+        long last = nextDeletedPostId.getAndAdd(-count);
+        int available = (int) Math.max(0, Math.min(count, last - minPostId + 1));
+        long[] ids = new long[available];
+        for (int i = 0; i < available; i++) {
+            ids[i] = last - i;
+        }
+        return ids;
+    }
+}
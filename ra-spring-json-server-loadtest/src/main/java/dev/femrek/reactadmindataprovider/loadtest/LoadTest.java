@@ -0,0 +1,193 @@
+package dev.femrek.reactadmindataprovider.loadtest;
+
+import dev.femrek.reactadmindataprovider.integration.TestApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Drives mixed react-admin traffic against the users and posts of the integration test application, and reports the
+ * throughput and latency percentiles of each operation. See {@link LoadTestOptions} for the options.
+ * <p>
+ * Without <code>--url</code>, the application is started on a random port with the <code>test</code> profile, and
+ * <code>DataInitializer</code> seeds it with <code>--users</code> users and <code>--posts-per-user</code> posts each.
+ * Each client sends its next request when the previous one completes; requests sent during the warmup are not
+ * recorded.
+ */
+public final class LoadTest {
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+
+        ConfigurableApplicationContext context = null;
+        try {
+            String apiUrl = options.getUrl();
+            if (apiUrl == null) {
+                context = startApplication(options);
+                apiUrl = "http://localhost:" + context.getEnvironment().getRequiredProperty("local.server.port") + "/api";
+            }
+            LoadTarget target = new LoadTarget(apiUrl,
+                    firstId(client, apiUrl, "users", "ASC"), firstId(client, apiUrl, "users", "DESC"),
+                    firstId(client, apiUrl, "posts", "ASC"), firstId(client, apiUrl, "posts", "DESC"));
+
+            System.out.println("Loading " + apiUrl + " with " + options.getConcurrency() + " clients for "
+                    + options.getWarmup().toSeconds() + "s of warmup and " + options.getDuration().toSeconds() + "s");
+            report(run(client, target, options), options.getDuration(), System.out);
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext startApplication(LoadTestOptions options) {
+        String databaseUrl = options.isFileDatabase()
+                ? "jdbc:h2:file:./target/loadtest/db"
+                : "jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1";
+        List<String> args = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.profiles.active=test",
+                "--spring.datasource.url=" + databaseUrl,
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.dev.femrek=WARN",
+                "--seed.users=" + options.getUsers(),
+                "--seed.posts-per-user=" + options.getPostsPerUser()
+        ));
+        // Later arguments override the defaults above
+        args.addAll(options.getApplicationArguments());
+        return new SpringApplicationBuilder(TestApplication.class).run(args.toArray(String[]::new));
+    }
+
+    /**
+     * @return the ID of the first record of the resource sorted by ID in the given order
+     */
+    private static long firstId(HttpClient client, String apiUrl, String resource, String order)
+            throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(
+                        URI.create(apiUrl + "/" + resource + "?_start=0&_end=1&_sort=id&_order=" + order))
+                .GET()
+                .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        JsonNode records = JsonMapper.shared().readTree(response.body());
+        if (response.statusCode() != 200 || records.isEmpty()) {
+            throw new IllegalStateException("The server has no " + resource + " to load: " + response.statusCode());
+        }
+        return records.get(0).get("id").asLong();
+    }
+
+    private static Map<LoadOperation, LatencyRecorder> run(HttpClient client, LoadTarget target, LoadTestOptions options)
+            throws InterruptedException {
+        List<LoadOperation> operations = new ArrayList<>();
+        List<Integer> cumulativeWeights = new ArrayList<>();
+        int totalWeight = 0;
+        for (Map.Entry<LoadOperation, Integer> entry : options.getMix().entrySet()) {
+            if (entry.getValue() > 0) {
+                totalWeight += entry.getValue();
+                operations.add(entry.getKey());
+                cumulativeWeights.add(totalWeight);
+            }
+        }
+        int weightSum = totalWeight;
+
+        long measureFrom = System.nanoTime() + options.getWarmup().toNanos();
+        long end = measureFrom + options.getDuration().toNanos();
+        ExecutorService clients = Executors.newFixedThreadPool(options.getConcurrency());
+        List<Future<Map<LoadOperation, LatencyRecorder>>> futures = new ArrayList<>();
+        for (int i = 0; i < options.getConcurrency(); i++) {
+            futures.add(clients.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                Map<LoadOperation, LatencyRecorder> recorders = new EnumMap<>(LoadOperation.class);
+                while (System.nanoTime() < end) {
+                    int pick = random.nextInt(weightSum);
+                    int index = 0;
+                    while (cumulativeWeights.get(index) <= pick) {
+                        index++;
+                    }
+                    LoadOperation operation = operations.get(index);
+                    HttpRequest request = operation.request(target, random);
+                    if (request == null) {
+                        continue;
+                    }
+
+                    long start = System.nanoTime();
+                    boolean success;
+                    try {
+                        success = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() < 400;
+                    } catch (IOException e) {
+                        success = false;
+                    }
+                    long latency = System.nanoTime() - start;
+                    if (start >= measureFrom) {
+                        LatencyRecorder recorder = recorders.computeIfAbsent(operation, key -> new LatencyRecorder());
+                        if (success) {
+                            recorder.record(latency);
+                        } else {
+                            recorder.recordError();
+                        }
+                    }
+                }
+                return recorders;
+            }));
+        }
+        clients.shutdown();
+
+        Map<LoadOperation, LatencyRecorder> results = new EnumMap<>(LoadOperation.class);
+        for (Future<Map<LoadOperation, LatencyRecorder>> future : futures) {
+            try {
+                future.get().forEach((operation, recorder) ->
+                        results.computeIfAbsent(operation, key -> new LatencyRecorder()).merge(recorder));
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("A client failed", e.getCause());
+            }
+        }
+        return results;
+    }
+
+    private static void report(Map<LoadOperation, LatencyRecorder> results, Duration duration, PrintStream out) {
+        String format = "%-12s %10s %8s %10s %10s %10s %10s %10s%n";
+        out.printf(format, "Operation", "Requests", "Errors", "Req/s", "p50 ms", "p99 ms", "p999 ms", "Max ms");
+        LatencyRecorder total = new LatencyRecorder();
+        results.forEach((operation, recorder) -> {
+            printRow(out, format, operation.getOperationName(), recorder, duration);
+            total.merge(recorder);
+        });
+        printRow(out, format, "total", total, duration);
+    }
+
+    private static void printRow(PrintStream out, String format, String name, LatencyRecorder recorder,
+                                 Duration duration) {
+        out.printf(format, name, recorder.getCount(), recorder.getErrors(),
+                String.format("%.1f", (recorder.getCount() + recorder.getErrors()) / (double) duration.toSeconds()),
+                millis(recorder.percentile(50)), millis(recorder.percentile(99)), millis(recorder.percentile(99.9)),
+                millis(recorder.max()));
+    }
+
+    private static String millis(long nanos) {
+        return String.format("%.2f", nanos / 1_000_000.0);
+    }
+}
@@ -0,0 +1,152 @@
+package dev.femrek.reactadmindataprovider.loadtest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The options of a {@link LoadTest}, parsed from <code>--name=value</code> arguments:
+ * <ul>
+ *   <li><code>--url</code>: the API URL of a running server to load, e.g., <code>http://localhost:8081/api</code>.
+ *       Without it, the integration test application is started and seeded</li>
+ *   <li><code>--users</code>: the number of users to seed (default 100000)</li>
+ *   <li><code>--posts-per-user</code>: the number of posts to seed for each user (default 10)</li>
+ *   <li><code>--db</code>: <code>mem</code> for an in-memory H2 database, or <code>file</code> for a file-backed one
+ *       in <code>target/loadtest</code> that keeps large seeds off the heap (default mem)</li>
+ *   <li><code>--concurrency</code>: the number of concurrent clients (default 32)</li>
+ *   <li><code>--warmup</code>: the seconds of traffic before the measurement (default 10)</li>
+ *   <li><code>--duration</code>: the seconds of measured traffic (default 60)</li>
+ *   <li><code>--mix</code>: the relative weights of the operations (default
+ *       <code>getList:60,getMany:25,update:10,deleteMany:5</code>)</li>
+ * </ul>
+ * Options with a dot in their name, e.g., <code>--spring.datasource.hikari.maximum-pool-size=50</code>, are passed to
+ * the started application.
+ */
+public final class LoadTestOptions {
+    private static final String DEFAULT_MIX = "getList:60,getMany:25,update:10,deleteMany:5";
+    private static final Set<String> NAMES = Set.of(
+            "url", "users", "posts-per-user", "db", "concurrency", "warmup", "duration", "mix"
+    );
+
+    private final String url;
+    private final int users;
+    private final int postsPerUser;
+    private final boolean fileDatabase;
+    private final int concurrency;
+    private final Duration warmup;
+    private final Duration duration;
+    private final Map<LoadOperation, Integer> mix;
+    private final List<String> applicationArguments;
+
+    private LoadTestOptions(Map<String, String> options, List<String> applicationArguments) {
+        this.url = options.get("url");
+        this.users = positive(options, "users", 100_000);
+        this.postsPerUser = positive(options, "posts-per-user", 10);
+        String db = options.getOrDefault("db", "mem");
+        if (!db.equals("mem") && !db.equals("file")) {
+            throw new IllegalArgumentException("--db must be mem or file: " + db);
+        }
+        this.fileDatabase = db.equals("file");
+        this.concurrency = positive(options, "concurrency", 32);
+        int warmupSeconds = Integer.parseInt(options.getOrDefault("warmup", "10"));
+        if (warmupSeconds < 0) {
+            throw new IllegalArgumentException("--warmup must not be negative: " + warmupSeconds);
+        }
+        this.warmup = Duration.ofSeconds(warmupSeconds);
+        this.duration = Duration.ofSeconds(positive(options, "duration", 60));
+        this.mix = parseMix(options.getOrDefault("mix", DEFAULT_MIX));
+        this.applicationArguments = List.copyOf(applicationArguments);
+    }
+
+    /**
+     * @param args the command line arguments
+     * @return the options
+     * @throws IllegalArgumentException if an argument is invalid
+     */
+    public static LoadTestOptions parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        List<String> applicationArguments = new ArrayList<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Arguments must have the form --name=value: " + arg);
+            }
+            String name = arg.substring(2, separator);
+            if (name.contains(".")) {
+                applicationArguments.add(arg);
+            } else if (NAMES.contains(name)) {
+                options.put(name, arg.substring(separator + 1));
+            } else {
+                throw new IllegalArgumentException("Unknown option: " + arg);
+            }
+        }
+        return new LoadTestOptions(options, applicationArguments);
+    }
+
+    private static int positive(Map<String, String> options, String name, int defaultValue) {
+        int value = options.containsKey(name) ? Integer.parseInt(options.get(name)) : defaultValue;
+        if (value <= 0) {
+            throw new IllegalArgumentException("--" + name + " must be positive: " + value);
+        }
+        return value;
+    }
+
+    private static Map<LoadOperation, Integer> parseMix(String mix) {
+        Map<LoadOperation, Integer> weights = new EnumMap<>(LoadOperation.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("--mix entries must have the form operation:weight: " + entry);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("--mix weights must not be negative: " + entry);
+            }
+            weights.put(LoadOperation.of(parts[0].trim()), weight);
+        }
+        if (weights.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("--mix must have a positive weight: " + mix);
+        }
+        return weights;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public int getUsers() {
+        return users;
+    }
+
+    public int getPostsPerUser() {
+        return postsPerUser;
+    }
+
+    public boolean isFileDatabase() {
+        return fileDatabase;
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public Duration getWarmup() {
+        return warmup;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    public Map<LoadOperation, Integer> getMix() {
+        return mix;
+    }
+
+    public List<String> getApplicationArguments() {
+        return applicationArguments;
+    }
+}
@@ -0,0 +1,60 @@
+package dev.femrek.reactadmindataprovider.batch;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * One data provider call of a batch request, e.g.,
+ * <code>{"operation": "getMany", "resource": "users", "params": {"id": [1, 2]}}</code>.
+ * <p>
+ * The parameters are the query parameters of the equivalent single request: <code>_start</code>, <code>_end</code>,
+ * <code>_sort</code>, <code>_order</code>, <code>_embed</code>, <code>_cursor</code>, <code>_fields</code> and filters
+ * for <code>getList</code>; <code>target</code>, <code>targetId</code>, the pagination parameters and filters for
+ * <code>getManyReference</code>; <code>id</code> (a list) and <code>_fields</code> for <code>getMany</code>; and
+ * <code>id</code> for <code>getOne</code>.
+ */
+public class BatchOperation {
+    private String operation;
+    private String resource;
+    private Map<String, Object> params = new LinkedHashMap<>();
+
+    public BatchOperation() {
+    }
+
+    public BatchOperation(String operation, String resource, Map<String, Object> params) {
+        this.operation = operation;
+        this.resource = resource;
+        this.params = params;
+    }
+
+    /**
+     * @return the operation name: getList, getManyReference, getMany or getOne
+     */
+    public String getOperation() {
+        return operation;
+    }
+
+    public void setOperation(String operation) {
+        this.operation = operation;
+    }
+
+    /**
+     * @return the resource path relative to the parent of the batch path (e.g., "users" for "/api/users" when the
+     * batch path is "/api/batch"), or an absolute path starting with "/"
+     */
+    public String getResource() {
+        return resource;
+    }
+
+    public void setResource(String resource) {
+        this.resource = resource;
+    }
+
+    public Map<String, Object> getParams() {
+        return params;
+    }
+
+    public void setParams(Map<String, Object> params) {
+        this.params = params;
+    }
+}
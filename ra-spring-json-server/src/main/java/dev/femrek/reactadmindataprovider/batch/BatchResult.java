@@ -0,0 +1,47 @@
+package dev.femrek.reactadmindataprovider.batch;
+
+import java.util.Map;
+
+/**
+ * The response of one operation of a batch request: the status, the headers (e.g., <code>X-Total-Count</code>) and
+ * the body it would have had as a single request. Failed operations carry an error status and a body with a
+ * <code>message</code>; they do not fail the other operations of the batch.
+ */
+public class BatchResult {
+    private int status;
+    private Map<String, String> headers;
+    private Object body;
+
+    public BatchResult() {
+    }
+
+    public BatchResult(int status, Map<String, String> headers, Object body) {
+        this.status = status;
+        this.headers = headers;
+        this.body = body;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public void setStatus(int status) {
+        this.status = status;
+    }
+
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    public void setHeaders(Map<String, String> headers) {
+        this.headers = headers;
+    }
+
+    public Object getBody() {
+        return body;
+    }
+
+    public void setBody(Object body) {
+        this.body = body;
+    }
+}
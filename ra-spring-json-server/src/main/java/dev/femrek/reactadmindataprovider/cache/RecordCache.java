@@ -0,0 +1,249 @@
+package dev.femrek.reactadmindataprovider.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * A size-bounded cache of records by ID with a time-to-live, for the few records that are read far more often than the
+ * rest, e.g., the current tenant or configuration rows.
+ * <p>
+ * Entries are kept in a segmented LRU: new records enter a probation segment of a fifth of the maximum size, and only
+ * records that are read again while on probation are promoted to the protected segment. A scan over many records that
+ * are each read once, like a large <code>getMany</code>, therefore only cycles the probation segment and does not push
+ * the hot records out. Entries expire after the time-to-live.
+ * <p>
+ * {@link #invalidate(Collection)} drops records after a write. A record that was being loaded while any record was
+ * invalidated is not cached, so a write never leaves a stale record behind.
+ * <p>
+ * Hits, misses, evictions and puts are counted and can be read with {@link #getHitCount()}, {@link #getMissCount()},
+ * {@link #getEvictionCount()} and {@link #getPutCount()}, or published as Micrometer meters with
+ * {@link dev.femrek.reactadmindataprovider.metrics.RecordCacheMetrics}. Use an instance with
+ * {@link dev.femrek.reactadmindataprovider.service.CachingRAService}. This class is thread-safe.
+ *
+ * @param <ID> the type of the record identifiers
+ * @param <T>  the record type
+ */
+public final class RecordCache<ID, T> {
+    private final long ttlMillis;
+    private final int probationSize;
+    private final int protectedSize;
+    private final Clock clock;
+    private final LinkedHashMap<ID, Entry<T>> probation = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<ID, Entry<T>> protectedEntries = new LinkedHashMap<>(16, 0.75f, true);
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong puts = new AtomicLong();
+
+    /**
+     * @param ttl         how long a record is reused, at least one millisecond
+     * @param maximumSize the maximum number of cached records, must be greater than zero
+     */
+    public RecordCache(Duration ttl, int maximumSize) {
+        this(ttl, maximumSize, Clock.systemUTC());
+    }
+
+    /**
+     * @param ttl         how long a record is reused, at least one millisecond
+     * @param maximumSize the maximum number of cached records, must be greater than zero
+     * @param clock       the clock used to expire entries
+     */
+    public RecordCache(Duration ttl, int maximumSize, Clock clock) {
+        if (ttl == null || ttl.toMillis() < 1) {
+            throw new IllegalArgumentException("TTL must be at least one millisecond");
+        }
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("Maximum size must be greater than zero");
+        }
+        this.ttlMillis = ttl.toMillis();
+        this.probationSize = Math.max(1, maximumSize / 5);
+        this.protectedSize = maximumSize - probationSize;
+        this.clock = Objects.requireNonNull(clock, "Clock must not be null");
+    }
+
+    /**
+     * Returns the cached records of the given IDs, and loads and caches the others.
+     *
+     * @param ids    the IDs to look up; null IDs are ignored
+     * @param loader loads the records of the IDs that are not cached, keyed by ID; IDs without a record are left out
+     * @return the records found, keyed by ID in the order of the given IDs
+     */
+    public Map<ID, T> getAll(Collection<? extends ID> ids, Function<List<ID>, Map<ID, T>> loader) {
+        Map<ID, T> found = new LinkedHashMap<>();
+        Set<ID> missing = new LinkedHashSet<>();
+        long generation = this.generation.get();
+        long now = clock.millis();
+        synchronized (this) {
+            for (ID id : ids) {
+                if (id == null || found.containsKey(id) || missing.contains(id)) {
+                    continue;
+                }
+                T record = lookup(id, now);
+                if (record != null) {
+                    found.put(id, record);
+                } else {
+                    missing.add(id);
+                }
+            }
+        }
+        hits.addAndGet(found.size());
+        misses.addAndGet(missing.size());
+        if (missing.isEmpty()) {
+            return found;
+        }
+
+        // Load outside the lock, so a slow query does not block other readers
+        Map<ID, T> loaded = loader.apply(new ArrayList<>(missing));
+        synchronized (this) {
+            if (this.generation.get() == generation) {
+                loaded.forEach((id, record) -> store(id, new Entry<>(record, now)));
+                puts.addAndGet(loaded.size());
+            }
+        }
+
+        Map<ID, T> result = new LinkedHashMap<>();
+        for (ID id : ids) {
+            T record = found.containsKey(id) ? found.get(id) : loaded.get(id);
+            if (record != null) {
+                result.put(id, record);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Drops the records of the given IDs. Call it after every write of these records.
+     *
+     * @param ids the IDs of the written records
+     */
+    public void invalidate(Collection<? extends ID> ids) {
+        generation.incrementAndGet();
+        synchronized (this) {
+            for (ID id : ids) {
+                probation.remove(id);
+                protectedEntries.remove(id);
+            }
+        }
+    }
+
+    /**
+     * Drops all cached records.
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        synchronized (this) {
+            probation.clear();
+            protectedEntries.clear();
+        }
+    }
+
+    /**
+     * @return the number of cached records, including expired ones that were not evicted yet
+     */
+    public synchronized int size() {
+        return probation.size() + protectedEntries.size();
+    }
+
+    /**
+     * @return the number of IDs that were served from the cache
+     */
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    /**
+     * @return the number of IDs that had to be loaded
+     */
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    /**
+     * @return the number of records dropped to stay within the maximum size
+     */
+    public long getEvictionCount() {
+        return evictions.get();
+    }
+
+    /**
+     * @return the number of loaded records that were cached
+     */
+    public long getPutCount() {
+        return puts.get();
+    }
+
+    /**
+     * Finds a live record and promotes it from probation on its second read. Must hold the lock.
+     */
+    private T lookup(ID id, long now) {
+        Entry<T> entry = protectedEntries.get(id);
+        if (entry != null) {
+            if (now - entry.createdAt < ttlMillis) {
+                return entry.record;
+            }
+            protectedEntries.remove(id);
+            return null;
+        }
+        entry = probation.remove(id);
+        if (entry == null || now - entry.createdAt >= ttlMillis) {
+            return null;
+        }
+        if (protectedSize == 0) {
+            probation.put(id, entry);
+            return entry.record;
+        }
+        protectedEntries.put(id, entry);
+        if (protectedEntries.size() > protectedSize) {
+            // Demote the least recently used protected record, giving it another chance on probation
+            Iterator<Map.Entry<ID, Entry<T>>> eldest = protectedEntries.entrySet().iterator();
+            Map.Entry<ID, Entry<T>> demoted = eldest.next();
+            eldest.remove();
+            probation.put(demoted.getKey(), demoted.getValue());
+            trimProbation();
+        }
+        return entry.record;
+    }
+
+    /**
+     * Caches a loaded record on probation, or replaces it where it is. Must hold the lock.
+     */
+    private void store(ID id, Entry<T> entry) {
+        if (protectedEntries.containsKey(id)) {
+            protectedEntries.put(id, entry);
+            return;
+        }
+        probation.put(id, entry);
+        trimProbation();
+    }
+
+    private void trimProbation() {
+        Iterator<ID> eldest = probation.keySet().iterator();
+        while (probation.size() > probationSize) {
+            eldest.next();
+            eldest.remove();
+            evictions.incrementAndGet();
+        }
+    }
+
+    private static final class Entry<T> {
+        private final T record;
+        private final long createdAt;
+
+        private Entry(T record, long createdAt) {
+            this.record = record;
+            this.createdAt = createdAt;
+        }
+    }
+}
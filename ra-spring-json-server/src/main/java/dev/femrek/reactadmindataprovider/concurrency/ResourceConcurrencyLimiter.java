@@ -0,0 +1,77 @@
+package dev.femrek.reactadmindataprovider.concurrency;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounds the number of requests of each resource that run at the same time, with one fair semaphore per resource.
+ * <p>
+ * Virtual threads make request threads cheap, so the number of requests blocked on the database is no longer bounded
+ * by the servlet container's thread pool. Without a bound, a burst of requests queues up on the connection pool and
+ * fails with connection timeouts. Keep the number of permits at or below the size of the connection pool.
+ * <p>
+ * Registered automatically by {@link dev.femrek.reactadmindataprovider.config.RAVirtualThreadConfig}. This class is
+ * thread-safe.
+ */
+public final class ResourceConcurrencyLimiter {
+    private final int permitsPerResource;
+    private final long acquireTimeoutNanos;
+    private final ConcurrentMap<String, Semaphore> semaphores = new ConcurrentHashMap<>();
+
+    /**
+     * @param permitsPerResource the maximum number of concurrent requests of one resource, must be greater than zero
+     * @param acquireTimeout     how long a request waits for a permit, must not be negative
+     */
+    public ResourceConcurrencyLimiter(int permitsPerResource, Duration acquireTimeout) {
+        if (permitsPerResource < 1) {
+            throw new IllegalArgumentException("Permits per resource must be greater than zero");
+        }
+        if (acquireTimeout == null || acquireTimeout.isNegative()) {
+            throw new IllegalArgumentException("Acquire timeout must not be negative");
+        }
+        this.permitsPerResource = permitsPerResource;
+        this.acquireTimeoutNanos = acquireTimeout.toNanos();
+    }
+
+    /**
+     * Waits for a permit of the resource. Every successful call must be followed by one {@link #release(String)}.
+     *
+     * @param resource the resource of the request
+     * @return true if the permit was acquired, false if the timeout elapsed first
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    public boolean tryAcquire(String resource) throws InterruptedException {
+        return semaphore(resource).tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns a permit acquired with {@link #tryAcquire(String)}.
+     *
+     * @param resource the resource of the request
+     */
+    public void release(String resource) {
+        semaphore(resource).release();
+    }
+
+    /**
+     * @param resource the resource
+     * @return the number of permits of the resource that are not in use
+     */
+    public int availablePermits(String resource) {
+        return semaphore(resource).availablePermits();
+    }
+
+    /**
+     * @return the maximum number of concurrent requests of one resource
+     */
+    public int getPermitsPerResource() {
+        return permitsPerResource;
+    }
+
+    private Semaphore semaphore(String resource) {
+        return semaphores.computeIfAbsent(resource, r -> new Semaphore(permitsPerResource, true));
+    }
+}
@@ -0,0 +1,28 @@
+package dev.femrek.reactadmindataprovider.config;
+
+import dev.femrek.reactadmindataprovider.json.JacksonRecordJsonMapper;
+import dev.femrek.reactadmindataprovider.json.RecordJsonMapper;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Configuration class that registers the {@link RecordJsonMapper} of sparse fieldsets and exports, backed by the
+ * application's <code>JsonMapper</code> bean, or by Jackson's shared <code>JsonMapper</code> if the application has
+ * none.
+ */
+@AutoConfiguration(afterName = {
+        "org.springframework.boot.jackson.autoconfigure.JacksonAutoConfiguration",
+        "org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration"
+})
+@ConditionalOnClass(JsonMapper.class)
+public class RAJsonConfig {
+    @Bean
+    @ConditionalOnMissingBean
+    public RecordJsonMapper recordJsonMapper(ObjectProvider<JsonMapper> jsonMapper) {
+        return new JacksonRecordJsonMapper(jsonMapper.getIfUnique(JsonMapper::shared));
+    }
+}
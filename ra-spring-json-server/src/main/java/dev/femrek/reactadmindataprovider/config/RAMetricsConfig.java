@@ -0,0 +1,55 @@
+package dev.femrek.reactadmindataprovider.config;
+
+import dev.femrek.reactadmindataprovider.controller.MetricsInterceptor;
+import dev.femrek.reactadmindataprovider.metrics.MicrometerRAMetrics;
+import dev.femrek.reactadmindataprovider.metrics.RAMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Configuration class that records Micrometer metrics of every
+ * {@link dev.femrek.reactadmindataprovider.controller.RAController} operation, when the application has a
+ * <code>MeterRegistry</code> (e.g., with Spring Boot Actuator). See {@link MicrometerRAMetrics} for the meters.
+ *
+ * <p>Disable it with <code>ra.metrics.enabled=false</code>. Define an {@link RAMetrics} bean to record the
+ * measurements differently.
+ */
+@AutoConfiguration(afterName = {
+        "org.springframework.boot.micrometer.metrics.autoconfigure.CompositeMeterRegistryAutoConfiguration",
+        "org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration"
+})
+@ConditionalOnClass(MeterRegistry.class)
+@ConditionalOnProperty(prefix = "ra.metrics", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class RAMetricsConfig {
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnBean(MeterRegistry.class)
+    public RAMetrics raMetrics(MeterRegistry meterRegistry) {
+        return new MicrometerRAMetrics(meterRegistry);
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    @ConditionalOnClass(WebMvcConfigurer.class)
+    static class WebMvcMetricsConfig {
+        @Bean
+        public WebMvcConfigurer raMetricsConfigurer(ObjectProvider<RAMetrics> metrics) {
+            return new WebMvcConfigurer() {
+                @Override
+                public void addInterceptors(InterceptorRegistry registry) {
+                    metrics.ifAvailable(available -> registry.addInterceptor(new MetricsInterceptor(available)));
+                }
+            };
+        }
+    }
+}
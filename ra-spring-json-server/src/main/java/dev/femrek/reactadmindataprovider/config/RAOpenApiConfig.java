@@ -60,9 +60,11 @@ public class RAOpenApiConfig {
     private static final Set<String> PLURAL_OPERATION_IDS = Set.of(
             "list",
             "getMany",
+            "getManyByBody",
             "getManyReferenceBy",
             "updateMany",
-            "deleteMany"
+            "deleteMany",
+            "export"
     );
 
     /**
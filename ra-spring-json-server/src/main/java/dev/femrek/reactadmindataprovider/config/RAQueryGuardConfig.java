@@ -0,0 +1,62 @@
+package dev.femrek.reactadmindataprovider.config;
+
+import dev.femrek.reactadmindataprovider.guard.QueryTimeouts;
+import dev.femrek.reactadmindataprovider.guard.SlowQueryLog;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Configuration class that guards the queries of {@link dev.femrek.reactadmindataprovider.controller.RAController}
+ * read operations with timeouts, and logs the slow ones, see {@link QueryTimeouts} and {@link SlowQueryLog}:
+ * <ul>
+ *   <li><code>ra.query.timeout</code>: the timeout of all read operations, none by default</li>
+ *   <li><code>ra.query.operation-timeouts.&lt;operation&gt;</code>: the timeout of an operation, e.g.,
+ *       <code>ra.query.operation-timeouts.getList=10s</code></li>
+ *   <li><code>ra.query.resource-timeouts[&lt;resource&gt;]</code>: the timeout of the operations of a resource, e.g.,
+ *       <code>ra.query.resource-timeouts[/api/posts]=5s</code></li>
+ *   <li><code>ra.query.search-timeout</code>: the timeout of <code>getList</code> and <code>getManyReference</code>
+ *       requests with the global search parameter <code>q</code>, which bounds the database time of searches abandoned
+ *       by the client, none by default</li>
+ *   <li><code>ra.query.retry-after</code>: the <code>Retry-After</code> delay of the 503 responses to requests whose
+ *       query timed out, 5 seconds by default</li>
+ *   <li><code>ra.query.slow-threshold</code>: the duration from which queries are logged with the shape of their
+ *       filter, 1 second by default</li>
+ * </ul>
+ * A timeout of zero disables it. Timeouts are applied by the transaction manager, so they are rounded up to whole
+ * seconds.
+ */
+@AutoConfiguration
+public class RAQueryGuardConfig {
+    @Bean
+    @ConditionalOnMissingBean
+    public QueryTimeouts queryTimeouts(
+            Environment environment,
+            @Value("${ra.query.timeout:0s}") Duration timeout,
+            @Value("${ra.query.search-timeout:0s}") Duration searchTimeout,
+            @Value("${ra.query.retry-after:5s}") Duration retryAfter
+    ) {
+        Binder binder = Binder.get(environment);
+        Bindable<Map<String, Duration>> timeouts = Bindable.mapOf(String.class, Duration.class);
+        return new QueryTimeouts(
+                timeout,
+                binder.bind("ra.query.operation-timeouts", timeouts).orElse(Map.of()),
+                binder.bind("ra.query.resource-timeouts", timeouts).orElse(Map.of()),
+                searchTimeout,
+                retryAfter
+        );
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public SlowQueryLog slowQueryLog(@Value("${ra.query.slow-threshold:1s}") Duration threshold) {
+        return new SlowQueryLog(threshold);
+    }
+}
@@ -0,0 +1,56 @@
+package dev.femrek.reactadmindataprovider.config;
+
+import dev.femrek.reactadmindataprovider.concurrency.ResourceConcurrencyLimiter;
+import dev.femrek.reactadmindataprovider.controller.ConcurrencyLimitInterceptor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+
+/**
+ * Configuration class that runs {@link dev.femrek.reactadmindataprovider.controller.RAController} requests on virtual
+ * threads, enabled with the <code>ra.virtual-threads.enabled=true</code> property.
+ *
+ * <p>The property turns on the virtual threads of Spring Boot (<code>spring.threads.virtual.enabled</code>) on Java 21
+ * or later, see {@link RAVirtualThreadEnvironmentPostProcessor}. Request threads then no longer bound how many
+ * requests wait on the database, so this configuration bounds them per resource instead:
+ * <ul>
+ *   <li><code>ra.virtual-threads.max-concurrency-per-resource</code>: the maximum number of requests of one resource
+ *       that run at the same time, 10 by default (the default size of the HikariCP pool)</li>
+ *   <li><code>ra.virtual-threads.acquire-timeout</code>: how long a request waits for its turn before it is answered
+ *       with status 503, 30 seconds by default</li>
+ * </ul>
+ *
+ * @see ResourceConcurrencyLimiter
+ */
+@AutoConfiguration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnClass(WebMvcConfigurer.class)
+@ConditionalOnProperty(prefix = "ra.virtual-threads", name = "enabled", havingValue = "true")
+public class RAVirtualThreadConfig {
+    @Bean
+    @ConditionalOnMissingBean
+    public ResourceConcurrencyLimiter resourceConcurrencyLimiter(
+            @Value("${ra.virtual-threads.max-concurrency-per-resource:10}") int maxConcurrencyPerResource,
+            @Value("${ra.virtual-threads.acquire-timeout:30s}") Duration acquireTimeout
+    ) {
+        return new ResourceConcurrencyLimiter(maxConcurrencyPerResource, acquireTimeout);
+    }
+
+    @Bean
+    public WebMvcConfigurer raConcurrencyLimitConfigurer(ResourceConcurrencyLimiter limiter) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(new ConcurrencyLimitInterceptor(limiter));
+            }
+        };
+    }
+}
@@ -0,0 +1,32 @@
+package dev.femrek.reactadmindataprovider.config;
+
+import org.springframework.boot.EnvironmentPostProcessor;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.system.JavaVersion;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.Map;
+
+/**
+ * Turns on the virtual threads of Spring Boot when the <code>ra.virtual-threads.enabled</code> property is true and
+ * the application runs on Java 21 or later. The servlet container then handles every request, and Spring MVC runs
+ * every asynchronous request, such as an <code>export</code> stream, on a new virtual thread.
+ *
+ * <p>The default is added with the lowest precedence, so an explicit <code>spring.threads.virtual.enabled</code>
+ * property of the application still wins. On older Java versions the property has no effect on threads, and
+ * {@link RAVirtualThreadConfig} only limits the concurrency of each resource.
+ */
+public class RAVirtualThreadEnvironmentPostProcessor implements EnvironmentPostProcessor {
+    private static final String PROPERTY_SOURCE_NAME = "raVirtualThreads";
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        if (!environment.getProperty("ra.virtual-threads.enabled", Boolean.class, false)
+                || !JavaVersion.getJavaVersion().isEqualOrNewerThan(JavaVersion.TWENTY_ONE)) {
+            return;
+        }
+        environment.getPropertySources().addLast(new MapPropertySource(PROPERTY_SOURCE_NAME,
+                Map.of("spring.threads.virtual.enabled", "true")));
+    }
+}
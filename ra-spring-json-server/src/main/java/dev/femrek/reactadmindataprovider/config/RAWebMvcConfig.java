@@ -0,0 +1,52 @@
+package dev.femrek.reactadmindataprovider.config;
+
+import dev.femrek.reactadmindataprovider.controller.RABatchController;
+import dev.femrek.reactadmindataprovider.controller.SparseFieldsetAdvice;
+import dev.femrek.reactadmindataprovider.json.RecordJsonMapper;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Configuration class that registers the Spring MVC components used by
+ * {@link dev.femrek.reactadmindataprovider.controller.RAController} in servlet web applications.
+ *
+ * <p>It registers the {@link SparseFieldsetAdvice}, which writes only the properties selected with the
+ * <code>_fields</code> parameter.
+ *
+ * <p>With <code>ra.batch.enabled=true</code>, it also registers the {@link RABatchController}, which runs several read
+ * operations in one request:
+ * <ul>
+ *   <li><code>ra.batch.path</code>: the path of the batch endpoint, <code>/api/batch</code> by default. Resource names
+ *       in operations are resolved against its parent, e.g., "users" to <code>/api/users</code>.</li>
+ *   <li><code>ra.batch.max-operations</code>: the maximum number of operations in one batch, 50 by default</li>
+ * </ul>
+ */
+@AutoConfiguration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnClass(ResponseBodyAdvice.class)
+public class RAWebMvcConfig {
+    @Bean
+    @ConditionalOnMissingBean
+    public SparseFieldsetAdvice sparseFieldsetAdvice(ObjectProvider<RecordJsonMapper> recordJsonMapper) {
+        return new SparseFieldsetAdvice(recordJsonMapper.getIfAvailable(RecordJsonMapper::shared));
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "ra.batch", name = "enabled", havingValue = "true")
+    public RABatchController raBatchController(
+            ListableBeanFactory beanFactory,
+            @Value("${ra.batch.path:/api/batch}") String path,
+            @Value("${ra.batch.max-operations:50}") int maxOperations
+    ) {
+        return new RABatchController(beanFactory, path, maxOperations);
+    }
+}
@@ -0,0 +1,111 @@
+package dev.femrek.reactadmindataprovider.controller;
+
+import dev.femrek.reactadmindataprovider.concurrency.ResourceConcurrencyLimiter;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Holds a permit of the {@link ResourceConcurrencyLimiter} while a request of a {@link RAController} is handled.
+ * Requests that do not get a permit in time are answered with status 503.
+ * <p>
+ * The permit is returned when the handler completes. Requests processed asynchronously, such as the stream of an
+ * <code>export</code>, keep it until their asynchronous dispatch completes, so streams count against the limit as long
+ * as they read from the database. Requests of other controllers are not limited.
+ * <p>
+ * Registered automatically by {@link dev.femrek.reactadmindataprovider.config.RAVirtualThreadConfig}.
+ */
+public class ConcurrencyLimitInterceptor implements AsyncHandlerInterceptor {
+    private static final String PERMIT_ATTRIBUTE = ConcurrencyLimitInterceptor.class.getName() + ".PERMIT";
+
+    private final ResourceConcurrencyLimiter limiter;
+
+    public ConcurrencyLimitInterceptor(ResourceConcurrencyLimiter limiter) {
+        this.limiter = limiter;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws InterruptedException {
+        if (!(handler instanceof HandlerMethod handlerMethod)
+                || !(handlerMethod.getBean() instanceof RAController<?, ?, ?> controller)) {
+            return true;
+        }
+        // The asynchronous dispatch of a request still holds the permit of its initial dispatch
+        if (request.getDispatcherType() == DispatcherType.ASYNC && request.getAttribute(PERMIT_ATTRIBUTE) != null) {
+            return true;
+        }
+        String resource = controller.getResourceName();
+        if (!limiter.tryAcquire(resource)) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                    "Too many concurrent requests for " + resource + ".");
+        }
+        request.setAttribute(PERMIT_ATTRIBUTE, new Permit(resource));
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request,
+                                               HttpServletResponse response,
+                                               Object handler) {
+        // The permit is returned by afterCompletion of the asynchronous dispatch, or when the container ends the
+        // asynchronous processing without one, e.g., after an I/O error
+        if (request.getAttribute(PERMIT_ATTRIBUTE) instanceof Permit permit && request.isAsyncStarted()) {
+            request.getAsyncContext().addListener(new AsyncListener() {
+                @Override
+                public void onComplete(AsyncEvent event) {
+                    permit.release(limiter);
+                }
+
+                @Override
+                public void onTimeout(AsyncEvent event) {
+                }
+
+                @Override
+                public void onError(AsyncEvent event) {
+                }
+
+                @Override
+                public void onStartAsync(AsyncEvent event) {
+                }
+            });
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request,
+                                HttpServletResponse response,
+                                Object handler,
+                                Exception ex) {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) instanceof Permit permit) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            permit.release(limiter);
+        }
+    }
+
+    /**
+     * The permit of a request, returned at most once.
+     */
+    private static final class Permit {
+        private final String resource;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(String resource) {
+            this.resource = resource;
+        }
+
+        private void release(ResourceConcurrencyLimiter limiter) {
+            if (released.compareAndSet(false, true)) {
+                limiter.release(resource);
+            }
+        }
+    }
+}
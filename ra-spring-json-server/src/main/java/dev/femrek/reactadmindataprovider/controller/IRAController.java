@@ -6,6 +6,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Map;
@@ -29,7 +30,9 @@ public interface IRAController<T, C, ID> {
      *
      * <p>This method returns a subset of entities based on the pagination parameters (_start and _end).
      * The results can be sorted by any field in ascending or descending order. Custom filters can be
-     * applied through additional query parameters passed in allParams.</p>
+     * applied through additional query parameters passed in allParams, with the operator suffixes of
+     * {@link dev.femrek.reactadmindataprovider.filter.FieldFilter} (<code>_ne</code>, <code>_gte</code>,
+     * <code>_lte</code>, <code>_like</code>, <code>_in</code>).</p>
      *
      * <p><b>Example request:</b></p>
      * <pre>GET /api/posts?_start=0&amp;_end=10&amp;_sort=title&amp;_order=ASC&amp;status=published</pre>
@@ -38,17 +41,30 @@ public interface IRAController<T, C, ID> {
      * of entities matching the filter criteria (not just the current page). This header is essential
      * for ra-spring-data-provider to calculate pagination correctly.</p>
      *
+     * <p>Controllers that enable keyset pagination return an <code>X-Next-Cursor</code> header for pages
+     * fetched from the start or from a cursor. Sending its value back as <code>_cursor</code> continues after the
+     * last row of the previous page instead of skipping <code>_start</code> rows, so deep pages stay fast.
+     * <code>_end - _start</code> still defines the page size.</p>
+     *
+     * <p>Sending <code>_fields</code> limits each record to the listed properties (and the ID), so list views that
+     * show a few columns do not transfer large fields they never display.</p>
+     *
      * <p><b>Response headers:</b></p>
      * <ul>
      *   <li><code>X-Total-Count</code>: Total number of entities matching the filter</li>
-     *   <li><code>Access-Control-Expose-Headers</code>: Must include "X-Total-Count"</li>
+     *   <li><code>X-Next-Cursor</code>: Cursor of the next page, only in keyset pagination mode</li>
+     *   <li><code>Access-Control-Expose-Headers</code>: Must include "X-Total-Count" (and "X-Next-Cursor")</li>
      * </ul>
      *
      * @param _start    the starting index for pagination (0-based, inclusive)
      * @param _end      the ending index for pagination (0-based, exclusive)
      * @param _sort     the field name to sort by (default: "id")
      * @param _order    the sort direction, either "ASC" or "DESC" (default: "ASC")
-     * @param _embed    optional parameter to embed related resources (implementation-specific)
+     * @param _embed    optional comma-separated names of related resources to embed in each record, see
+     *                  {@link dev.femrek.reactadmindataprovider.service.IRAService#embed}
+     * @param _cursor   optional cursor from a previous X-Next-Cursor header to continue keyset pagination
+     * @param _fields   optional comma-separated names of the properties to return in each record, the ID is always
+     *                  returned
      * @param allParams map containing all query parameters, including custom filters
      * @return ResponseEntity containing a list of entities for the requested page with X-Total-Count header
      */
@@ -60,12 +76,19 @@ public interface IRAController<T, C, ID> {
                     
                     This method returns a subset of entities based on the pagination parameters (_start and _end).
                     The results can be sorted by any field in ascending or descending order. Custom filters can be
-                    applied through additional query parameters passed in allParams.
+                    applied through additional query parameters passed in allParams. A filter name can end with an
+                    operator: _ne, _gte, _lte, _like (^ and $ anchor the text) or _in (comma-separated values),
+                    e.g., views_gte=10&status_in=draft,published.
                     
                     The response includes an X-Total-Count header containing the total number of entities
                     matching the filter criteria (not just the current page). This header is essential
                     for ra-spring-data-provider to calculate pagination correctly.
                     
+                    If the resource supports keyset pagination, the response also includes an X-Next-Cursor header.
+                    Pass its value as _cursor to fetch the next page without an offset scan.
+                    
+                    Pass _fields to return only some properties of each record. The ID is always returned.
+                    
                     Example: GET /api/posts?_start=0&_end=10&_sort=title&_order=ASC&status=published
                     """,
             operationId = "list"
@@ -80,8 +103,12 @@ public interface IRAController<T, C, ID> {
             @RequestParam(name = "_sort", required = false, defaultValue = "id") String _sort,
             @Parameter(description = "Sort direction (ASC or DESC)", example = "ASC")
             @RequestParam(name = "_order", required = false, defaultValue = "ASC") String _order,
-            @Parameter(description = "Optional parameter to embed related resources (implementation-specific)")
+            @Parameter(description = "Optional comma-separated names of related resources to embed in each record", example = "author")
             @RequestParam(name = "_embed", required = false) String _embed,
+            @Parameter(description = "Optional cursor from the X-Next-Cursor header of the previous page (keyset pagination)")
+            @RequestParam(name = "_cursor", required = false) String _cursor,
+            @Parameter(description = "Optional comma-separated names of the properties to return, the ID is always returned", example = "title,status")
+            @RequestParam(name = "_fields", required = false) String _fields,
             @Parameter(description = "Additional query parameters for filtering by entity fields")
             @RequestParam Map<String, String> allParams
     );
@@ -104,7 +131,9 @@ public interface IRAController<T, C, ID> {
      * <p><b>Note:</b> This endpoint does not return pagination headers since all requested
      * entities are returned in a single response.</p>
      *
-     * @param id list of entity identifiers to retrieve
+     * @param id      list of entity identifiers to retrieve
+     * @param _fields optional comma-separated names of the properties to return in each record, the ID is always
+     *                returned
      * @return ResponseEntity containing a list of entities with the specified IDs
      */
     @Operation(
@@ -120,6 +149,8 @@ public interface IRAController<T, C, ID> {
                     If an ID doesn't exist, it is typically omitted from the response rather than returning an error.
                     The order of returned entities may not match the order of requested IDs.
                     
+                    Pass _fields to return only some properties of each record. The ID is always returned.
+                    
                     Example: GET /api/posts/many?id=1&id=5&id=12
                     """,
             operationId = "getMany"
@@ -127,7 +158,47 @@ public interface IRAController<T, C, ID> {
     @GetMapping(value = "/many", produces = MediaType.APPLICATION_JSON_VALUE)
     ResponseEntity<List<T>> getMany(
             @Parameter(description = "List of entity IDs to retrieve", required = true, example = "[1, 5, 12]")
-            @RequestParam(name = "id") List<ID> id
+            @RequestParam(name = "id") List<ID> id,
+            @Parameter(description = "Optional comma-separated names of the properties to return, the ID is always returned", example = "title,status")
+            @RequestParam(name = "_fields", required = false) String _fields
+    );
+
+    /**
+     * Retrieves multiple specific entities by their unique identifiers, like {@link #getMany(List, String)}, with the
+     * IDs sent as a JSON array in the request body. ra-spring-data-provider uses it for selections with many IDs, which
+     * would exceed URL length limits as query parameters and are parsed faster from JSON.
+     *
+     * <p><b>Example request:</b></p>
+     * <pre>POST /api/posts/many
+     * [1, 5, 12]</pre>
+     *
+     * @param id      list of entity identifiers to retrieve
+     * @param _fields optional comma-separated names of the properties to return in each record, the ID is always
+     *                returned
+     * @return ResponseEntity containing a list of entities with the specified IDs
+     */
+    @Operation(
+            summary = "GetMany: Get multiple entities by IDs in the request body",
+            description = """
+                    Retrieves multiple specific entities by their unique identifiers, sent as a JSON array.
+                    Implements ra-spring-data-provider's getMany operation for large sets of IDs.
+                    
+                    Behaves like GET /many, without the URL length limits of query parameters.
+                    
+                    Example: POST /api/posts/many with body [1, 5, 12]
+                    """,
+            operationId = "getManyByBody"
+    )
+    @PostMapping(
+            value = "/many",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    ResponseEntity<List<T>> getManyByBody(
+            @Parameter(description = "List of entity IDs to retrieve", required = true)
+            @RequestBody List<ID> id,
+            @Parameter(description = "Optional comma-separated names of the properties to return, the ID is always returned", example = "title,status")
+            @RequestParam(name = "_fields", required = false) String _fields
     );
 
     /**
@@ -159,7 +230,8 @@ public interface IRAController<T, C, ID> {
      * @param _end      the ending index for pagination (0-based, exclusive)
      * @param _sort     the field name to sort by (default: "id")
      * @param _order    the sort direction, either "ASC" or "DESC" (default: "ASC")
-     * @param _embed    optional parameter to embed related resources (implementation-specific)
+     * @param _embed    optional comma-separated names of related resources to embed in each record, see
+     *                  {@link dev.femrek.reactadmindataprovider.service.IRAService#embed}
      * @param allParams map containing all query parameters, which may include additional filters
      * @return ResponseEntity containing a paginated list of entities that reference the target entity,
      * with X-Total-Count header
@@ -196,12 +268,53 @@ public interface IRAController<T, C, ID> {
             @RequestParam(name = "_sort", required = false, defaultValue = "id") String _sort,
             @Parameter(description = "Sort direction (ASC or DESC)", example = "DESC")
             @RequestParam(name = "_order", required = false, defaultValue = "ASC") String _order,
-            @Parameter(description = "Optional parameter to embed related resources (implementation-specific)")
+            @Parameter(description = "Optional comma-separated names of related resources to embed in each record", example = "author")
             @RequestParam(name = "_embed", required = false) String _embed,
             @Parameter(description = "Additional query parameters for filtering")
             @RequestParam Map<String, String> allParams
     );
 
+    /**
+     * Exports all entities matching the filters as a file, without pagination.
+     *
+     * <p>Unlike getList, the entities are not collected into a list. Each entity is written to the response as soon as
+     * it is read, so exports of any size need constant memory, and no count query is run.</p>
+     *
+     * <p><b>Example request:</b></p>
+     * <pre>GET /api/posts/export?_format=csv&amp;_sort=id&amp;_order=ASC&amp;status=published</pre>
+     *
+     * <p>The response is sent as an attachment named after the resource, e.g., <code>posts.csv</code>.</p>
+     *
+     * @param _format   the export format, "ndjson" (one JSON object per line) or "csv"
+     * @param _sort     the field name to sort by (optional, unsorted by default)
+     * @param _order    the sort direction, either "ASC" or "DESC" (default: "ASC")
+     * @param allParams map containing all query parameters, including custom filters
+     * @return ResponseEntity streaming the matching entities in the requested format
+     */
+    @Operation(
+            summary = "Export: Stream all entities matching the filters",
+            description = """
+                    Exports all entities matching the filters as newline-delimited JSON or CSV, without pagination.
+                    
+                    Entities are streamed to the response as they are read, so the export needs constant memory
+                    and runs without a count query. Filters are the same as for getList.
+                    
+                    Example: GET /api/posts/export?_format=csv&_sort=id&_order=ASC&status=published
+                    """,
+            operationId = "export"
+    )
+    @GetMapping(value = "/export")
+    ResponseEntity<StreamingResponseBody> export(
+            @Parameter(description = "Export format (ndjson or csv)", example = "csv")
+            @RequestParam(name = "_format", required = false, defaultValue = "ndjson") String _format,
+            @Parameter(description = "Field name to sort by", example = "id")
+            @RequestParam(name = "_sort", required = false) String _sort,
+            @Parameter(description = "Sort direction (ASC or DESC)", example = "ASC")
+            @RequestParam(name = "_order", required = false, defaultValue = "ASC") String _order,
+            @Parameter(description = "Additional query parameters for filtering by entity fields")
+            @RequestParam Map<String, String> allParams
+    );
+
     /**
      * Retrieves a single entity by its identifier.
      * This endpoint implements ra-spring-data-provider's getOne operation.
@@ -214,6 +327,8 @@ public interface IRAController<T, C, ID> {
             description = """
                     Retrieves a single entity by its unique identifier.
                     Implements ra-spring-data-provider's getOne operation.
+                    If the resource generates entity tags, the response has an ETag header and a request with a
+                    matching If-None-Match header returns 304 Not Modified without a body.
                     """,
             operationId = "get"
     )
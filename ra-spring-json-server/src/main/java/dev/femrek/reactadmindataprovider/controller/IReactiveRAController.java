@@ -0,0 +1,337 @@
+package dev.femrek.reactadmindataprovider.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reactive counterpart of {@link IRAController} for Spring WebFlux applications. The endpoints, parameters and
+ * headers are the same, so ra-spring-data-provider works with both.
+ * <p>
+ * Lists are returned as a {@link Flux}, which WebFlux writes to the response as a JSON array while the records are
+ * emitted, with backpressure. The <code>X-Total-Count</code> header is resolved before the first record is written.
+ * See {@link IRAController} for the details of each operation.
+ *
+ * @param <T>  the Response DTO type for this resource
+ * @param <C>  the Create DTO type for this resource
+ * @param <ID> the type of the entity's identifier
+ */
+@Tag(name = "Objects", description = "Generic REST controller for ra-spring-data-provider compatibility" +
+        "Add @Tag annotation to your controller implementation to provide API documentation details specific to your resource.")
+public interface IReactiveRAController<T, C, ID> {
+    /**
+     * Retrieves a paginated list of entities with support for sorting and filtering. See
+     * {@link IRAController#getList}.
+     *
+     * @param _start    the starting index for pagination (0-based, inclusive)
+     * @param _end      the ending index for pagination (0-based, exclusive)
+     * @param _sort     the field name to sort by (default: "id")
+     * @param _order    the sort direction, either "ASC" or "DESC" (default: "ASC")
+     * @param _embed    optional comma-separated names of related resources to embed in each record
+     * @param _cursor   cursor of keyset pagination, which is not supported by reactive controllers
+     * @param _fields   sparse fieldset, which is not supported by reactive controllers
+     * @param allParams map containing all query parameters, including custom filters
+     * @return the entities of the requested page with the X-Total-Count header
+     */
+    @Operation(
+            summary = "GetList: Get paginated list of entities with filtering",
+            description = """
+                    Retrieves a paginated list of entities with support for sorting and filtering.
+                    Implements ra-spring-data-provider's getList operation.
+
+                    The response includes an X-Total-Count header containing the total number of entities
+                    matching the filter criteria (not just the current page).
+
+                    Example: GET /api/posts?_start=0&_end=10&_sort=title&_order=ASC&status=published
+                    """,
+            operationId = "list"
+    )
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    Mono<ResponseEntity<Flux<T>>> getList(
+            @Parameter(description = "Starting index for pagination (0-based, inclusive)", required = true, example = "0")
+            @RequestParam(name = "_start") int _start,
+            @Parameter(description = "Ending index for pagination (0-based, exclusive)", required = true, example = "10")
+            @RequestParam(name = "_end") int _end,
+            @Parameter(description = "Field name to sort by", example = "id")
+            @RequestParam(name = "_sort", required = false, defaultValue = "id") String _sort,
+            @Parameter(description = "Sort direction (ASC or DESC)", example = "ASC")
+            @RequestParam(name = "_order", required = false, defaultValue = "ASC") String _order,
+            @Parameter(description = "Optional comma-separated names of related resources to embed in each record", example = "author")
+            @RequestParam(name = "_embed", required = false) String _embed,
+            @Parameter(description = "Not supported by reactive resources")
+            @RequestParam(name = "_cursor", required = false) String _cursor,
+            @Parameter(description = "Accepted for compatibility, all properties are returned")
+            @RequestParam(name = "_fields", required = false) String _fields,
+            @Parameter(description = "Additional query parameters for filtering by entity fields")
+            @RequestParam Map<String, String> allParams
+    );
+
+    /**
+     * Retrieves multiple specific entities by their unique identifiers. See {@link IRAController#getMany}.
+     *
+     * @param id      list of entity identifiers to retrieve
+     * @param _fields sparse fieldset, which is not supported by reactive controllers
+     * @return the entities with the specified IDs
+     */
+    @Operation(
+            summary = "GetMany: Get multiple entities by IDs",
+            description = """
+                    Retrieves multiple specific entities by their unique identifiers.
+                    Implements ra-spring-data-provider's getMany operation.
+
+                    Example: GET /api/posts/many?id=1&id=5&id=12
+                    """,
+            operationId = "getMany"
+    )
+    @GetMapping(value = "/many", produces = MediaType.APPLICATION_JSON_VALUE)
+    ResponseEntity<Flux<T>> getMany(
+            @Parameter(description = "List of entity IDs to retrieve", required = true, example = "[1, 5, 12]")
+            @RequestParam(name = "id") List<ID> id,
+            @Parameter(description = "Accepted for compatibility, all properties are returned")
+            @RequestParam(name = "_fields", required = false) String _fields
+    );
+
+    /**
+     * Retrieves multiple specific entities by their unique identifiers, sent as a JSON array in the request body. See
+     * {@link IRAController#getManyByBody}.
+     *
+     * @param id      list of entity identifiers to retrieve
+     * @param _fields sparse fieldset, which is not supported by reactive controllers
+     * @return the entities with the specified IDs
+     */
+    @Operation(
+            summary = "GetMany: Get multiple entities by IDs in the request body",
+            description = """
+                    Retrieves multiple specific entities by their unique identifiers, sent as a JSON array.
+                    Implements ra-spring-data-provider's getMany operation for large sets of IDs.
+
+                    Example: POST /api/posts/many with body [1, 5, 12]
+                    """,
+            operationId = "getManyByBody"
+    )
+    @PostMapping(
+            value = "/many",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    ResponseEntity<Flux<T>> getManyByBody(
+            @Parameter(description = "List of entity IDs to retrieve", required = true)
+            @RequestBody List<ID> id,
+            @Parameter(description = "Accepted for compatibility, all properties are returned")
+            @RequestParam(name = "_fields", required = false) String _fields
+    );
+
+    /**
+     * Retrieves a paginated list of entities that reference another specific entity. See
+     * {@link IRAController#getManyReference}.
+     *
+     * @param target    the name of the field that references the target entity (e.g., "postId", "userId")
+     * @param targetId  the ID of the target entity being referenced (e.g., "123")
+     * @param _start    the starting index for pagination (0-based, inclusive)
+     * @param _end      the ending index for pagination (0-based, exclusive)
+     * @param _sort     the field name to sort by (default: "id")
+     * @param _order    the sort direction, either "ASC" or "DESC" (default: "ASC")
+     * @param _embed    optional comma-separated names of related resources to embed in each record
+     * @param allParams map containing all query parameters, which may include additional filters
+     * @return the entities of the requested page with the X-Total-Count header
+     */
+    @Operation(
+            summary = "GetManyReference: Get entities that reference another entity",
+            description = """
+                    Retrieves a paginated list of entities that reference another specific entity.
+                    Implements ra-spring-data-provider's getManyReference operation.
+
+                    The response includes an X-Total-Count header containing the total number of entities
+                    that reference the specified target entity.
+
+                    Example: GET /api/comments/of/postId/123?_start=0&_end=10&_sort=createdAt&_order=DESC
+                    """,
+            operationId = "getManyReferenceBy"
+    )
+    @GetMapping(value = "/of/{target}/{targetId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    Mono<ResponseEntity<Flux<T>>> getManyReference(
+            @Parameter(description = "Name of the field that references the target entity", required = true, example = "userId")
+            @PathVariable(name = "target") String target,
+            @Parameter(description = "ID of the target entity being referenced", required = true, example = "123")
+            @PathVariable(name = "targetId") String targetId,
+            @Parameter(description = "Starting index for pagination (0-based, inclusive)", required = true, example = "0")
+            @RequestParam(name = "_start") int _start,
+            @Parameter(description = "Ending index for pagination (0-based, exclusive)", required = true, example = "10")
+            @RequestParam(name = "_end") int _end,
+            @Parameter(description = "Field name to sort by", example = "id")
+            @RequestParam(name = "_sort", required = false, defaultValue = "id") String _sort,
+            @Parameter(description = "Sort direction (ASC or DESC)", example = "DESC")
+            @RequestParam(name = "_order", required = false, defaultValue = "ASC") String _order,
+            @Parameter(description = "Optional comma-separated names of related resources to embed in each record", example = "author")
+            @RequestParam(name = "_embed", required = false) String _embed,
+            @Parameter(description = "Additional query parameters for filtering")
+            @RequestParam Map<String, String> allParams
+    );
+
+    /**
+     * Exports all entities matching the filters as a file, without pagination. See {@link IRAController#export}.
+     *
+     * @param _format   the export format, "ndjson" (one JSON object per line) or "csv"
+     * @param _sort     the field name to sort by (optional, unsorted by default)
+     * @param _order    the sort direction, either "ASC" or "DESC" (default: "ASC")
+     * @param allParams map containing all query parameters, including custom filters
+     * @return the matching entities in the requested format
+     */
+    @Operation(
+            summary = "Export: Stream all entities matching the filters",
+            description = """
+                    Exports all entities matching the filters as newline-delimited JSON or CSV, without pagination.
+
+                    Example: GET /api/posts/export?_format=csv&_sort=id&_order=ASC&status=published
+                    """,
+            operationId = "export"
+    )
+    @GetMapping(value = "/export")
+    ResponseEntity<Flux<DataBuffer>> export(
+            @Parameter(description = "Export format (ndjson or csv)", example = "csv")
+            @RequestParam(name = "_format", required = false, defaultValue = "ndjson") String _format,
+            @Parameter(description = "Field name to sort by", example = "id")
+            @RequestParam(name = "_sort", required = false) String _sort,
+            @Parameter(description = "Sort direction (ASC or DESC)", example = "ASC")
+            @RequestParam(name = "_order", required = false, defaultValue = "ASC") String _order,
+            @Parameter(description = "Additional query parameters for filtering by entity fields")
+            @RequestParam Map<String, String> allParams
+    );
+
+    /**
+     * Retrieves a single entity by its identifier.
+     *
+     * @param id the unique identifier of the entity to retrieve
+     * @return the requested entity, or status 404 if it does not exist
+     */
+    @Operation(
+            summary = "GetOne: Get single entity by ID",
+            description = """
+                    Retrieves a single entity by its unique identifier.
+                    Implements ra-spring-data-provider's getOne operation.
+                    """,
+            operationId = "get"
+    )
+    @GetMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    Mono<ResponseEntity<T>> getOne(
+            @Parameter(description = "Unique identifier of the entity to retrieve", required = true, example = "1")
+            @PathVariable(name = "id") ID id
+    );
+
+    /**
+     * Creates a new entity.
+     *
+     * @param data the request body for the new entity to create
+     * @return the created entity with HTTP status 201 Created
+     */
+    @Operation(
+            summary = "Create: Create a new entity",
+            description = """
+                    Creates a new entity with the provided data.
+                    Implements ra-spring-data-provider's create operation.
+                    """,
+            operationId = "create"
+    )
+    @PostMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    Mono<ResponseEntity<T>> create(
+            @Parameter(description = "Entity data to create", required = true)
+            @RequestBody C data
+    );
+
+    /**
+     * Updates an existing entity with the provided fields.
+     *
+     * @param id     the unique identifier of the entity to update
+     * @param fields map of field names to new values; only provided fields should be updated
+     * @return the updated entity
+     */
+    @Operation(
+            summary = "Update: Update an existing entity",
+            description = """
+                    Updates an existing entity with the provided field values.
+                    Implements ra-spring-data-provider's update operation with support for partial updates.
+                    """,
+            operationId = "update"
+    )
+    @PutMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    Mono<ResponseEntity<T>> update(
+            @Parameter(description = "Unique identifier of the entity to update", required = true, example = "1")
+            @PathVariable(name = "id") ID id,
+            @Parameter(description = "Map of field names to new values for partial update", required = true)
+            @RequestBody Map<String, Object> fields
+    );
+
+    /**
+     * Deletes a single entity by its identifier.
+     *
+     * @param id the unique identifier of the entity to delete
+     * @return no content (204 No Content)
+     */
+    @Operation(
+            summary = "Delete: Delete a single entity",
+            description = """
+                    Deletes a single entity by its unique identifier.
+                    Implements ra-spring-data-provider's delete operation.
+                    """,
+            operationId = "delete"
+    )
+    @DeleteMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    Mono<ResponseEntity<Void>> delete(
+            @Parameter(description = "Unique identifier of the entity to delete", required = true, example = "1")
+            @PathVariable(name = "id") ID id
+    );
+
+    /**
+     * Updates multiple entities with the same field values in a single operation.
+     *
+     * @param id     list of entity identifiers to update (optional, defaults to empty list)
+     * @param fields map of field names to new values; these fields will be updated for all specified entities
+     * @return the IDs of the updated entities
+     */
+    @Operation(
+            summary = "UpdateMany: Update multiple entities",
+            description = """
+                    Updates multiple entities with the same field values in a single operation.
+                    Implements ra-spring-data-provider's updateMany operation for bulk updates.
+                    Returns a list of updated entity IDs.
+                    """,
+            operationId = "updateMany"
+    )
+    @PutMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    Mono<ResponseEntity<List<ID>>> updateMany(
+            @Parameter(description = "List of entity IDs to update", example = "[1, 2, 3]")
+            @RequestParam(name = "id", required = false) List<ID> id,
+            @Parameter(description = "Map of field names to new values for bulk update", required = true)
+            @RequestBody Map<String, Object> fields
+    );
+
+    /**
+     * Deletes multiple entities in a single operation.
+     *
+     * @param id list of entity identifiers to delete (optional, defaults to empty list)
+     * @return the IDs of the deleted entities
+     */
+    @Operation(
+            summary = "DeleteMany: Delete multiple entities",
+            description = """
+                    Deletes multiple entities in a single operation.
+                    Implements ra-spring-data-provider's deleteMany operation for bulk deletions.
+                    Returns a list of deleted entity IDs.
+                    """,
+            operationId = "deleteMany"
+    )
+    @DeleteMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    Mono<ResponseEntity<List<ID>>> deleteMany(
+            @Parameter(description = "List of entity IDs to delete", example = "[1, 2, 3]")
+            @RequestParam(name = "id", required = false) List<ID> id
+    );
+}
@@ -0,0 +1,78 @@
+package dev.femrek.reactadmindataprovider.controller;
+
+import dev.femrek.reactadmindataprovider.metrics.RAMetrics;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * Records the duration and outcome of every request of a {@link RAController} with {@link RAMetrics#recordRequest}.
+ * The operation is the name of the handler method, except that both variants of <code>getMany</code> are recorded as
+ * <code>getMany</code>. Requests that continue asynchronously, such as the stream of an <code>export</code>, are
+ * recorded when they complete.
+ * <p>
+ * Registered automatically by {@link dev.femrek.reactadmindataprovider.config.RAMetricsConfig}.
+ */
+public class MetricsInterceptor implements AsyncHandlerInterceptor {
+    private static final String START_ATTRIBUTE = MetricsInterceptor.class.getName() + ".START";
+
+    private final RAMetrics metrics;
+
+    public MetricsInterceptor(RAMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // The asynchronous dispatch of a request keeps the start of its first dispatch
+        if (controllerOf(handler) != null && request.getAttribute(START_ATTRIBUTE) == null) {
+            request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request,
+                                HttpServletResponse response,
+                                Object handler,
+                                Exception ex) {
+        RAController<?, ?, ?> controller = controllerOf(handler);
+        if (controller == null || !(request.getAttribute(START_ATTRIBUTE) instanceof Long start)) {
+            return;
+        }
+        request.removeAttribute(START_ATTRIBUTE);
+        String operation = ((HandlerMethod) handler).getMethod().getName();
+        if ("getManyByBody".equals(operation)) {
+            operation = "getMany";
+        }
+        metrics.recordRequest(controller.operation(operation), outcome(response.getStatus(), ex),
+                System.nanoTime() - start);
+    }
+
+    private static RAController<?, ?, ?> controllerOf(Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod
+                && handlerMethod.getBean() instanceof RAController<?, ?, ?> controller) {
+            return controller;
+        }
+        return null;
+    }
+
+    /**
+     * The outcome class of a response status, as in the <code>outcome</code> tag of Spring Boot's HTTP metrics.
+     */
+    private static String outcome(int status, Exception ex) {
+        if (ex != null && status < 400) {
+            return "SERVER_ERROR";
+        } else if (status < 200) {
+            return "INFORMATIONAL";
+        } else if (status < 300) {
+            return "SUCCESS";
+        } else if (status < 400) {
+            return "REDIRECTION";
+        } else if (status < 500) {
+            return "CLIENT_ERROR";
+        }
+        return "SERVER_ERROR";
+    }
+}
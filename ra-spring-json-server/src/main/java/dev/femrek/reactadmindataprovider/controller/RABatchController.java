@@ -0,0 +1,317 @@
+package dev.femrek.reactadmindataprovider.controller;
+
+import dev.femrek.reactadmindataprovider.batch.BatchOperation;
+import dev.femrek.reactadmindataprovider.batch.BatchResult;
+import dev.femrek.reactadmindataprovider.concurrency.ResourceConcurrencyLimiter;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.GenericTypeResolver;
+import org.springframework.core.convert.ConversionException;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.ErrorResponse;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Runs several read operations of the registered {@link RAController} beans in one HTTP round trip, so a screen that
+ * needs a list and the records of its reference fields pays the cost of a request only once.
+ * <p>
+ * The request body is a JSON array of {@link BatchOperation}s, and the response is a JSON array of
+ * {@link BatchResult}s in the same order. Each operation is executed by calling the controller of its resource
+ * directly, so the results, headers and errors are those of the equivalent single request. Errors with an HTTP status
+ * ({@link ErrorResponse}s such as {@link ResponseStatusException}) are reported in the result of their operation; other
+ * exceptions fail the whole batch and are handled by the application's exception handlers.
+ * <p>
+ * The operations bypass the servlet filters and handler interceptors of the resource URLs; only those of the batch
+ * path apply. Secure the batch path at least as strictly as the resources, or use method security on the controllers.
+ * When a {@link ResourceConcurrencyLimiter} is configured, each operation holds a permit of its resource while it runs,
+ * like a single request, and operations that do not get one in time fail with status 503.
+ * <p>
+ * Registered by {@link dev.femrek.reactadmindataprovider.config.RAWebMvcConfig} when <code>ra.batch.enabled</code> is
+ * true.
+ */
+@RestController
+public class RABatchController {
+    /**
+     * The parameters bound to a <code>String</code> argument of the controller, whose list values are joined.
+     */
+    private static final Set<String> JOINED_PARAMS = Set.of("_fields", "_embed");
+
+    private final ListableBeanFactory beanFactory;
+    private final String basePath;
+    private final int maxOperations;
+    private final ConversionService conversionService = DefaultConversionService.getSharedInstance();
+    private volatile Map<String, RAController<?, ?, ?>> controllers;
+    private volatile ResourceConcurrencyLimiter concurrencyLimiter;
+
+    /**
+     * @param beanFactory   the bean factory holding the {@link RAController} beans
+     * @param batchPath     the path of the batch endpoint; relative resource names are resolved against its parent
+     * @param maxOperations the maximum number of operations in one batch
+     */
+    public RABatchController(ListableBeanFactory beanFactory, String batchPath, int maxOperations) {
+        this.beanFactory = beanFactory;
+        this.basePath = trimSlashes(batchPath.substring(0, Math.max(batchPath.lastIndexOf('/'), 0)));
+        this.maxOperations = maxOperations;
+    }
+
+    /**
+     * Sets the limiter of concurrent requests per resource, which the operations of a batch take permits from. Set
+     * automatically to the {@link ResourceConcurrencyLimiter} bean, if there is one.
+     *
+     * @param concurrencyLimiter the limiter, or null to run the operations without limit
+     */
+    @Autowired(required = false)
+    public void setConcurrencyLimiter(ResourceConcurrencyLimiter concurrencyLimiter) {
+        this.concurrencyLimiter = concurrencyLimiter;
+    }
+
+    @PostMapping(
+            value = "${ra.batch.path:/api/batch}",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    public List<BatchResult> batch(@RequestBody List<BatchOperation> operations) {
+        if (operations == null || operations.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "The batch must contain at least one operation.");
+        } else if (operations.size() > maxOperations) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "The batch must not contain more than " + maxOperations + " operations.");
+        }
+
+        List<BatchResult> results = new ArrayList<>(operations.size());
+        for (BatchOperation operation : operations) {
+            results.add(execute(operation));
+        }
+        return results;
+    }
+
+    /**
+     * Executes one operation, applying its <code>_fields</code> selection like {@link SparseFieldsetAdvice} does for
+     * single requests.
+     */
+    private BatchResult execute(BatchOperation operation) {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        try {
+            RAController<?, ?, ?> controller = findController(operation.getResource());
+            ResponseEntity<?> response = invokeWithPermit(controller, operation);
+            Object body = response.getBody();
+            Object fields = requestAttributes != null
+                    ? requestAttributes.getAttribute(RAController.FIELDS_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST)
+                    : null;
+            if (body instanceof List<?> records && fields instanceof Set<?> selected) {
+                body = SparseFieldsetAdvice.project(records, selected, controller.getRecordJsonMapper());
+            }
+
+            Map<String, String> headers = new LinkedHashMap<>(response.getHeaders().toSingleValueMap());
+            headers.remove(HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS);
+            return new BatchResult(response.getStatusCode().value(), headers, body);
+        } catch (RuntimeException e) {
+            if (!(e instanceof ErrorResponse errorResponse)) {
+                throw e;
+            }
+            ProblemDetail problem = errorResponse.getBody();
+            String message = problem.getDetail() != null ? problem.getDetail() : problem.getTitle();
+            return new BatchResult(errorResponse.getStatusCode().value(),
+                    errorResponse.getHeaders().toSingleValueMap(), Map.of("message", String.valueOf(message)));
+        } finally {
+            if (requestAttributes != null) {
+                requestAttributes.removeAttribute(RAController.FIELDS_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+            }
+        }
+    }
+
+    /**
+     * Invokes an operation while holding a permit of its resource, as {@link ConcurrencyLimitInterceptor} does for
+     * single requests.
+     */
+    private ResponseEntity<?> invokeWithPermit(RAController<?, ?, ?> controller, BatchOperation operation) {
+        ResourceConcurrencyLimiter limiter = this.concurrencyLimiter;
+        if (limiter == null) {
+            return invoke(controller, operation);
+        }
+        String resource = controller.getResourceName();
+        try {
+            if (!limiter.tryAcquire(resource)) {
+                throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                        "Too many concurrent requests for " + resource + ".");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                    "Interrupted while waiting for a permit of " + resource + ".", e);
+        }
+        try {
+            return invoke(controller, operation);
+        } finally {
+            limiter.release(resource);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private ResponseEntity<?> invoke(RAController<?, ?, ?> resourceController, BatchOperation operation) {
+        RAController<Object, Object, Object> controller = (RAController<Object, Object, Object>) resourceController;
+        Map<String, Object> rawParams = operation.getParams() != null ? operation.getParams() : Map.of();
+        Map<String, String> params = toQueryParams(rawParams);
+        String name = operation.getOperation() != null ? operation.getOperation() : "";
+        return switch (name) {
+            case "getList" -> controller.getList(
+                    intParam(params, "_start"),
+                    intParam(params, "_end"),
+                    params.getOrDefault("_sort", "id"),
+                    params.getOrDefault("_order", "ASC"),
+                    params.get("_embed"),
+                    params.get("_cursor"),
+                    params.get("_fields"),
+                    params
+            );
+            case "getManyReference" -> {
+                String target = requiredParam(params, "target");
+                String targetId = requiredParam(params, "targetId");
+                params.remove("target");
+                params.remove("targetId");
+                yield controller.getManyReference(
+                        target,
+                        targetId,
+                        intParam(params, "_start"),
+                        intParam(params, "_end"),
+                        params.getOrDefault("_sort", "id"),
+                        params.getOrDefault("_order", "ASC"),
+                        params.get("_embed"),
+                        params
+                );
+            }
+            case "getMany" -> {
+                Object ids = rawParams.get("id");
+                List<Object> converted = new ArrayList<>();
+                if (ids instanceof Collection<?> values) {
+                    for (Object value : values) {
+                        converted.add(convertId(controller, value));
+                    }
+                } else if (ids != null) {
+                    converted.add(convertId(controller, ids));
+                }
+                yield controller.getMany(converted, params.get("_fields"));
+            }
+            case "getOne" -> controller.getOne(convertId(controller, rawParams.get("id")));
+            default -> throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Unknown batch operation '" + name + "'. Supported operations are getList, getManyReference, "
+                            + "getMany and getOne.");
+        };
+    }
+
+    /**
+     * Finds the controller of a resource by the path of its {@link org.springframework.web.bind.annotation.RequestMapping}.
+     */
+    private RAController<?, ?, ?> findController(String resource) {
+        if (resource == null || resource.isBlank()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "resource is required for every batch operation.");
+        }
+        Map<String, RAController<?, ?, ?>> controllers = this.controllers;
+        if (controllers == null) {
+            controllers = new HashMap<>();
+            for (RAController<?, ?, ?> controller : beanFactory.getBeansOfType(RAController.class).values()) {
+                controllers.put(trimSlashes(controller.getResourceName()), controller);
+            }
+            this.controllers = controllers;
+        }
+
+        String path = resource.startsWith("/") || basePath.isEmpty()
+                ? trimSlashes(resource)
+                : basePath + "/" + trimSlashes(resource);
+        RAController<?, ?, ?> controller = controllers.get(path);
+        if (controller == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "No resource found at /" + path + ".");
+        }
+        return controller;
+    }
+
+    /**
+     * Converts an ID from its JSON value to the ID type of the controller.
+     */
+    private Object convertId(RAController<?, ?, ?> controller, Object value) {
+        if (value == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "id parameter is required.");
+        }
+        Class<?>[] typeArguments = GenericTypeResolver.resolveTypeArguments(
+                ClassUtils.getUserClass(controller), RAController.class);
+        if (typeArguments == null || typeArguments[2].isInstance(value)) {
+            return value;
+        }
+        try {
+            return conversionService.convert(value, typeArguments[2]);
+        } catch (ConversionException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid id '" + value + "'.", e);
+        }
+    }
+
+    /**
+     * Converts JSON parameter values to query parameter values. The values of a list are joined with commas for the
+     * parameters bound to a <code>String</code> argument, as Spring joins repeated query parameters, and only the first
+     * one is kept for the others, like a query string bound to a map.
+     */
+    private static Map<String, String> toQueryParams(Map<String, Object> rawParams) {
+        Map<String, String> params = new LinkedHashMap<>();
+        rawParams.forEach((key, value) -> {
+            if (value instanceof Collection<?> values && JOINED_PARAMS.contains(key)) {
+                value = values.isEmpty() ? null : values.stream()
+                        .map(String::valueOf)
+                        .collect(Collectors.joining(","));
+            } else if (value instanceof Collection<?> values) {
+                value = values.isEmpty() ? null : values.iterator().next();
+            }
+            if (value != null) {
+                params.put(key, String.valueOf(value));
+            }
+        });
+        return params;
+    }
+
+    private static String requiredParam(Map<String, String> params, String name) {
+        String value = params.get(name);
+        if (value == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, name + " parameter is required.");
+        }
+        return value;
+    }
+
+    private static int intParam(Map<String, String> params, String name) {
+        try {
+            return Integer.parseInt(requiredParam(params, name));
+        } catch (NumberFormatException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, name + " parameter must be an integer.", e);
+        }
+    }
+
+    private static String trimSlashes(String path) {
+        int start = 0;
+        int end = path.length();
+        while (start < end && path.charAt(start) == '/') {
+            start++;
+        }
+        while (end > start && path.charAt(end - 1) == '/') {
+            end--;
+        }
+        return path.substring(start, end);
+    }
+}
@@ -1,20 +1,70 @@
 package dev.femrek.reactadmindataprovider.controller;
 
+import dev.femrek.reactadmindataprovider.count.CountCache;
+import dev.femrek.reactadmindataprovider.count.TotalCount;
+import dev.femrek.reactadmindataprovider.count.TotalCountContext;
+import dev.femrek.reactadmindataprovider.count.TotalCountStrategies;
+import dev.femrek.reactadmindataprovider.count.TotalCountStrategy;
+import dev.femrek.reactadmindataprovider.etag.ETagGenerator;
+import dev.femrek.reactadmindataprovider.etag.ETagGenerators;
+import dev.femrek.reactadmindataprovider.export.ExportFormat;
+import dev.femrek.reactadmindataprovider.export.ExportWriter;
+import dev.femrek.reactadmindataprovider.export.ExportWriters;
+import dev.femrek.reactadmindataprovider.filter.FieldFilter;
+import dev.femrek.reactadmindataprovider.guard.QueryTimeouts;
+import dev.femrek.reactadmindataprovider.guard.SlowQueryLog;
+import dev.femrek.reactadmindataprovider.json.RecordJsonMapper;
+import dev.femrek.reactadmindataprovider.metrics.RAMetrics;
+import dev.femrek.reactadmindataprovider.metrics.RAOperation;
+import dev.femrek.reactadmindataprovider.pagination.KeysetCursorCodec;
+import dev.femrek.reactadmindataprovider.pagination.OffsetPageable;
 import dev.femrek.reactadmindataprovider.service.IRAService;
-import org.apache.commons.logging.Log;
-import org.apache.commons.logging.LogFactory;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.GenericTypeResolver;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.MergedAnnotation;
+import org.springframework.core.annotation.MergedAnnotations;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.beans.PropertyDescriptor;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.LongPredicate;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
 
 /**
  * Abstract base controller providing standard CRUD operations for resources. This automatically calls related service
@@ -27,12 +77,262 @@ import java.util.Map;
  * @param <ID> the type of the entity's identifier
  */
 public abstract class RAController<T, C, ID> implements IRAController<T, C, ID> {
-    private static final Log log = LogFactory.getLog(RAController.class);
+    private volatile String resourceName;
+    private volatile String resourceTag;
+    private volatile RAMetrics metrics = RAMetrics.NONE;
+    private volatile PlatformTransactionManager transactionManager;
+    private volatile QueryTimeouts queryTimeouts = QueryTimeouts.NONE;
+    private volatile SlowQueryLog slowQueryLog;
+    private volatile RecordJsonMapper recordJsonMapper;
 
     protected abstract IRAService<T, C, ID> getService();
 
+    /**
+     * Whether <code>getList</code> uses keyset (seek) pagination for pages that start at the beginning of the list or
+     * at a <code>_cursor</code>. Pages requested by offset only (e.g., jumping to page 5) still use offset pagination.
+     * <p>
+     * It only takes effect if the service {@link IRAService#supportsKeysetPagination() supports keyset pagination},
+     * i.e., implements {@link IRAService#scrollWithFilters(Map, KeysetScrollPosition, int, Sort)}.
+     *
+     * @return true to enable keyset pagination, false by default
+     */
+    protected boolean isKeysetPaginationEnabled() {
+        return false;
+    }
+
+    /**
+     * The unique property appended to the sort in keyset pagination mode, so that rows with equal sort values are
+     * never skipped or repeated between pages.
+     *
+     * @return the name of a unique, non-null property, "id" by default
+     */
+    protected String getKeysetTieBreaker() {
+        return "id";
+    }
+
+    /**
+     * The strategy that computes the <code>X-Total-Count</code> header of <code>getList</code> responses. Override it
+     * to estimate, cap or skip the count on large tables, see {@link TotalCountStrategies}. Strategies other than
+     * {@link TotalCountStrategies#exact()} fetch the content with
+     * {@link IRAService#findSliceWithFilters(Map, Pageable)}.
+     *
+     * @return the total count strategy, {@link TotalCountStrategies#exact()} by default
+     */
+    protected TotalCountStrategy getTotalCountStrategy() {
+        return TotalCountStrategies.exact();
+    }
+
+    /**
+     * The cache that stores count query results of this resource between requests. Write operations through this
+     * controller invalidate it. Counts are taken from the cache by every {@link TotalCountStrategy} that needs the
+     * exact count, so {@link IRAService#findSliceWithFilters(Map, Pageable)} and
+     * {@link IRAService#countWithFilters(Map)} should be implemented with dedicated queries.
+     * <p>
+     * The cache is disabled by default. Writes that bypass the controller are not seen by the cache, so choose a
+     * time-to-live that tolerates counts being out of date for that long.
+     *
+     * @return the count cache, or null to always count
+     */
+    protected CountCache getCountCache() {
+        return null;
+    }
+
+    /**
+     * The executor that runs the count query of <code>getList</code> at the same time as the page query, when the
+     * {@link TotalCountStrategy} always needs the exact count. The page is then fetched with
+     * {@link IRAService#findSliceWithFilters(Map, Pageable)} and the count with
+     * {@link IRAService#countWithFilters(Map)} (through the count cache, if any), so the latency of a list is the
+     * slower of the two queries instead of their sum. When the page alone determines the total, the result of the count
+     * is discarded.
+     * <p>
+     * Each parallel request uses two database connections at once, so size the connection pool accordingly. The count
+     * runs on a thread of the executor, which does not see the request's thread-bound state such as the security
+     * context or an open transaction. The controller never shuts the executor down; return a Spring-managed executor
+     * or one without a thread pool, such as <code>SimpleAsyncTaskExecutor</code>.
+     *
+     * @return the executor of count queries, or null to run the count after the page by default
+     */
+    protected Executor getParallelCountExecutor() {
+        return null;
+    }
+
+    /**
+     * The time after which the queries of a <code>getList</code> or <code>getManyReference</code> request with the
+     * global search parameter <code>q</code> are cancelled. Search requests are typically superseded by the next
+     * keystroke and abandoned by the client, but a servlet request cannot notice that its client disconnected until
+     * it writes the response, so the timeout bounds the database time an abandoned search can consume.
+     * <p>
+     * The queries run in a read-only transaction with this timeout, which Spring applies to each JPA query as the
+     * <code>jakarta.persistence.query.timeout</code> hint; the JDBC driver then cancels the statement when it expires.
+     * The parallel count runs in a transaction of its own with the same timeout. Timeouts are rounded up to whole
+     * seconds, and require a unique {@link PlatformTransactionManager} bean. When the operation also has a
+     * {@link #getQueryTimeout(String) query timeout}, the shorter one applies.
+     *
+     * @return the timeout of search queries, or null for none; the search timeout of the {@link QueryTimeouts} bean by
+     * default, which is opt-in with <code>ra.query.search-timeout</code>
+     */
+    protected Duration getSearchTimeout() {
+        return queryTimeouts.getSearchTimeout();
+    }
+
+    /**
+     * The time after which the queries of a read operation (<code>getList</code>, <code>getManyReference</code>,
+     * <code>getMany</code> or <code>getOne</code>) are cancelled, so that a badly filtered request cannot hold a
+     * database connection for minutes. The request is then answered with status 503 and a <code>Retry-After</code>
+     * header. Timeouts are applied like the {@link #getSearchTimeout() search timeout}.
+     *
+     * @param operation the operation name
+     * @return the timeout, or null for none; the timeout of the {@link QueryTimeouts} bean for this resource and
+     * operation by default
+     */
+    protected Duration getQueryTimeout(String operation) {
+        return queryTimeouts.getTimeout(getResourceName(), operation);
+    }
+
+    /**
+     * The generator of entity tags for <code>getOne</code>, <code>getMany</code>, <code>getList</code> and
+     * <code>getManyReference</code> responses. When it returns a tag, the response carries an <code>ETag</code> header,
+     * and a GET request whose <code>If-None-Match</code> header matches it is answered with status 304 and no body.
+     * List tags also cover the <code>X-Total-Count</code> and <code>X-Next-Cursor</code> headers.
+     * <p>
+     * Version-based tags ({@link ETagGenerators#version}) are cheaper than content hashes, since the response is never
+     * serialized for a 304. CORS configurations must allow the <code>If-None-Match</code> request header.
+     *
+     * @return the entity tag generator, or null to disable entity tags
+     */
+    protected ETagGenerator<T> getETagGenerator() {
+        return null;
+    }
+
+    /**
+     * The writer of <code>export</code> responses in the given format. Override it to choose the CSV columns, e.g.,
+     * <code>ExportWriters.csv(getRecordJsonMapper(), PostResponseDTO.class, "id", "title")</code>.
+     *
+     * @param format the requested format
+     * @return the writer, or null if the format is not supported; by default, {@link ExportWriters#forFormat} with the
+     * {@link #getRecordJsonMapper() record JSON mapper}, so exports are written like the JSON responses
+     */
+    protected ExportWriter<T> getExportWriter(ExportFormat format) {
+        Class<T> responseType = getResponseType();
+        return responseType != null ? ExportWriters.forFormat(format, responseType, getRecordJsonMapper()) : null;
+    }
+
+    /**
+     * The mapper that reads records like the application's JSON responses, for exports and sparse fieldsets. Set
+     * automatically to the {@link RecordJsonMapper} bean, if there is one, see
+     * {@link dev.femrek.reactadmindataprovider.config.RAJsonConfig}.
+     *
+     * @param recordJsonMapper the mapper, or null to use {@link RecordJsonMapper#shared()}
+     */
+    @Autowired(required = false)
+    public void setRecordJsonMapper(RecordJsonMapper recordJsonMapper) {
+        this.recordJsonMapper = recordJsonMapper;
+    }
+
+    /**
+     * The mapper that reads records like the application's JSON responses.
+     *
+     * @return the mapper that was set, or {@link RecordJsonMapper#shared()}; null if Jackson is not on the classpath
+     */
+    protected RecordJsonMapper getRecordJsonMapper() {
+        RecordJsonMapper recordJsonMapper = this.recordJsonMapper;
+        return recordJsonMapper != null ? recordJsonMapper : RecordJsonMapper.shared();
+    }
+
+    /**
+     * The name of this resource in caches and logs.
+     *
+     * @return the first path of the {@link RequestMapping} of the controller, or the controller class name if it has
+     * none
+     */
+    protected String getResourceName() {
+        String resourceName = this.resourceName;
+        if (resourceName == null) {
+            RequestMapping mapping = AnnotatedElementUtils.findMergedAnnotation(getClass(), RequestMapping.class);
+            resourceName = mapping != null && mapping.path().length > 0 ? mapping.path()[0] : getClass().getName();
+            this.resourceName = resourceName;
+        }
+        return resourceName;
+    }
+
+    /**
+     * The metrics that record the requests and queries of this controller. Set automatically to the
+     * {@link RAMetrics} bean, if there is one, see {@link dev.femrek.reactadmindataprovider.config.RAMetricsConfig}.
+     *
+     * @param metrics the metrics, or null to record nothing
+     */
+    @Autowired(required = false)
+    public void setMetrics(RAMetrics metrics) {
+        this.metrics = metrics != null ? metrics : RAMetrics.NONE;
+    }
+
+    /**
+     * The transaction manager of the transactions that apply the query timeouts of this controller. Set automatically
+     * to the {@link PlatformTransactionManager} bean, if there is exactly one.
+     *
+     * @param transactionManagers the provider of the transaction manager
+     */
+    @Autowired
+    public void setTransactionManager(ObjectProvider<PlatformTransactionManager> transactionManagers) {
+        this.transactionManager = transactionManagers.getIfUnique();
+    }
+
+    /**
+     * The query timeouts of this controller. Set automatically to the {@link QueryTimeouts} bean, if there is one, see
+     * {@link dev.femrek.reactadmindataprovider.config.RAQueryGuardConfig}.
+     *
+     * @param queryTimeouts the query timeouts, or null for none
+     */
+    @Autowired(required = false)
+    public void setQueryTimeouts(QueryTimeouts queryTimeouts) {
+        this.queryTimeouts = queryTimeouts != null ? queryTimeouts : QueryTimeouts.NONE;
+    }
+
+    /**
+     * The log of the slow queries of this controller. Set automatically to the {@link SlowQueryLog} bean, if there is
+     * one, see {@link dev.femrek.reactadmindataprovider.config.RAQueryGuardConfig}.
+     *
+     * @param slowQueryLog the slow query log, or null to log nothing
+     */
+    @Autowired(required = false)
+    public void setSlowQueryLog(SlowQueryLog slowQueryLog) {
+        this.slowQueryLog = slowQueryLog;
+    }
+
+    /**
+     * The metrics that record the requests and queries of this controller.
+     *
+     * @return the metrics, {@link RAMetrics#NONE} if none were set
+     */
+    protected RAMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Identifies an operation of this resource in metrics, tagged with the name of the OpenAPI {@link Tag} of the
+     * controller class, or "none" if it has none.
+     */
+    RAOperation operation(String operation) {
+        String resourceTag = this.resourceTag;
+        if (resourceTag == null) {
+            MergedAnnotation<Tag> tag = MergedAnnotations
+                    .from(getClass(), MergedAnnotations.SearchStrategy.SUPERCLASS)
+                    .get(Tag.class);
+            resourceTag = tag.isPresent() && !tag.getString("name").isEmpty() ? tag.getString("name") : "none";
+            this.resourceTag = resourceTag;
+        }
+        return new RAOperation(getResourceName(), resourceTag, operation);
+    }
+
+    /**
+     * The request attribute holding the properties selected with <code>_fields</code>.
+     */
+    static final String FIELDS_ATTRIBUTE = RAController.class.getName() + ".FIELDS";
+
+    private static final String ID_PROPERTY = "id";
+
     private static final List<String> RESERVED_PARAMS = List.of(
-            "_start", "_end", "_sort", "_order", "_embed"
+            "_start", "_end", "_sort", "_order", "_embed", "_cursor", "_fields", "_format"
     );
 
     @Override
@@ -42,47 +342,98 @@ public abstract class RAController<T, C, ID> implements IRAController<T, C, ID>
             String _sort,
             String _order,
             String _embed,
+            String _cursor,
+            String _fields,
             Map<String, String> allParams
     ) {
-        // Validate Pagination Parameters if "getList"
-        if (_start < 0 || _end < 0) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
-                    "_start and _end parameters are null or smaller than 0. These parameters are required for `getList` operation.");
-        } else if (_end <= _start) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
-                    "_end parameter must be greater than _start parameter.");
-        }
-
-        // Calculate Pagination
-        int pageSize = _end - _start;
-        int pageNumber = _start / pageSize;
-        Sort sort = Sort.by(Sort.Direction.fromString(_order), _sort);
-        Pageable pageable = PageRequest.of(pageNumber, pageSize, sort);
+        return withQueryTimeout(getQueryTimeout("getList", allParams),
+                () -> findList(_start, _end, _sort, _order, _embed, _cursor, _fields, allParams));
+    }
 
-        // Handle _embed Parameter
-        if (_embed != null) {
-            log.warn("_embed parameter is not supported and will be ignored.");
-        }
+    /**
+     * Fetches a <code>getList</code> page.
+     */
+    private ResponseEntity<List<T>> findList(int _start,
+                                             int _end,
+                                             String _sort,
+                                             String _order,
+                                             String _embed,
+                                             String _cursor,
+                                             String _fields,
+                                             Map<String, String> allParams) {
+        // Validate and Calculate Pagination
+        Pageable pageable = createPageable(_start, _end, _sort, _order, "getList");
+        Set<String> fields = selectFields(_fields);
+        RAOperation operation = operation("getList");
+        getMetrics().recordPageSize(operation, pageable.getPageSize());
 
         // Refine params and fetch Data
         RESERVED_PARAMS.forEach(allParams.keySet()::remove);
-        Page<T> pageResult = getService().findWithFilters(allParams, pageable);
+        boolean keysetPagination = isKeysetPaginationEnabled() && getService().supportsKeysetPagination();
+        if (_cursor != null && !keysetPagination) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "_cursor parameter is not supported by this resource.");
+        }
+        if (keysetPagination && (_cursor != null || _start == 0)) {
+            return getListByKeyset(operation, pageable, _cursor, _embed, fields, allParams);
+        }
+        TotalCountStrategy totalCountStrategy = getTotalCountStrategy();
+        CompletableFuture<Long> parallelCount = startParallelCount(operation, totalCountStrategy, allParams);
+        Slice<T> sliceResult;
+        try {
+            // With a count cache or a parallel count, the count is not taken from the page
+            sliceResult = totalCountStrategy.isExact() && getCountCache() == null && parallelCount == null
+                    ? timeQuery(operation, RAMetrics.QUERY_PAGE, allParams,
+                    () -> getService().findWithFilters(new HashMap<>(allParams), pageable, fields))
+                    : timeQuery(operation, RAMetrics.QUERY_CONTENT, allParams,
+                    () -> getService().findSliceWithFilters(new HashMap<>(allParams), pageable, fields));
+        } catch (RuntimeException e) {
+            if (parallelCount != null) {
+                parallelCount.cancel(false);
+            }
+            throw e;
+        }
+        TotalCount totalCount = capTruncatedTotal(totalCountStrategy.resolve(createTotalCountContext(operation,
+                pageable.getOffset(), sliceResult.getNumberOfElements(), sliceResult.hasNext(),
+                sliceResult instanceof Page<T> page ? page : null, allParams, parallelCount)), allParams);
+        List<T> content = embed(sliceResult.getContent(), _embed);
+        getMetrics().recordResultCount(operation, content.size());
 
         // Set Headers
         HttpHeaders headers = new HttpHeaders();
-        headers.add("X-Total-Count", String.valueOf(pageResult.getTotalElements()));
+        headers.add("X-Total-Count", totalCount.toHeaderValue());
         headers.add(HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS, "X-Total-Count");
+        setListETag(headers, content);
 
-        return new ResponseEntity<>(pageResult.getContent(), headers, HttpStatus.OK);
+        return new ResponseEntity<>(content, headers, HttpStatus.OK);
     }
 
     @Override
-    public ResponseEntity<List<T>> getMany(List<ID> id) {
+    public ResponseEntity<List<T>> getMany(List<ID> id, String _fields) {
         if (id == null || id.isEmpty()) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
                     "id parameter is null or empty. This parameter is required for `getMany` operation.");
         }
-        return ResponseEntity.ok(getService().findAllById(id));
+        Set<String> fields = selectFields(_fields);
+        RAOperation operation = operation("getMany");
+        getMetrics().recordBatchSize(operation, id.size());
+        List<T> records = withQueryTimeout(getQueryTimeout(operation.getOperation()),
+                () -> timeQuery(operation, RAMetrics.QUERY_CONTENT, null, () -> getService().findAllById(id, fields)));
+        getMetrics().recordResultCount(operation, records.size());
+        ETagGenerator<T> generator = getETagGenerator();
+        String tag = generator != null ? generator.generateForAll(records) : null;
+        if (tag == null) {
+            return ResponseEntity.ok(records);
+        }
+        return ResponseEntity.ok()
+                .eTag(tag)
+                .header(HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS, HttpHeaders.ETAG)
+                .body(records);
+    }
+
+    @Override
+    public ResponseEntity<List<T>> getManyByBody(List<ID> id, String _fields) {
+        return getMany(id, _fields);
     }
 
     @Override
@@ -96,70 +447,509 @@ public abstract class RAController<T, C, ID> implements IRAController<T, C, ID>
             String _embed,
             Map<String, String> allParams
     ) {
-        // Validate Pagination Parameters if "getManyReference"
-        if (_start < 0 || _end < 0) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
-                    "_start and _end parameters are null or smaller than 0. These parameters are required for `getManyReference` operation.");
-        } else if (_end <= _start) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
-                    "_end parameter must be greater than _start parameter.");
-        }
-
-        // Calculate Pagination
-        int pageSize = _end - _start;
-        int pageNumber = _start / pageSize;
-        Sort sort = Sort.by(Sort.Direction.fromString(_order), _sort);
-        Pageable pageable = PageRequest.of(pageNumber, pageSize, sort);
-
-        // Handle _embed Parameter
-        if (_embed != null) {
-            log.warn("_embed parameter is not supported and will be ignored.");
-        }
+        // Validate and Calculate Pagination
+        Pageable pageable = createPageable(_start, _end, _sort, _order, "getManyReference");
+        RAOperation operation = operation("getManyReference");
+        getMetrics().recordPageSize(operation, pageable.getPageSize());
 
         // Refine params and fetch Data
         RESERVED_PARAMS.forEach(allParams.keySet()::remove);
-        Page<T> pageResult = getService().findWithTargetAndFilters(target, targetId, allParams, pageable);
+        Map<String, String> targetFilters = new HashMap<>(allParams);
+        targetFilters.put(target, targetId);
+        return withQueryTimeout(getQueryTimeout("getManyReference", allParams), () -> {
+            Page<T> pageResult = timeQuery(operation, RAMetrics.QUERY_PAGE, targetFilters,
+                    () -> getService().findWithTargetAndFilters(target, targetId, allParams, pageable));
+            return toManyReferenceResponse(operation, pageResult, _embed, allParams);
+        });
+    }
+
+    /**
+     * Creates the response of a <code>getManyReference</code> page.
+     */
+    private ResponseEntity<List<T>> toManyReferenceResponse(RAOperation operation,
+                                                            Page<T> pageResult,
+                                                            String _embed,
+                                                            Map<String, String> filters) {
+        List<T> content = embed(pageResult.getContent(), _embed);
+        getMetrics().recordResultCount(operation, content.size());
+        TotalCount totalCount = capTruncatedTotal(TotalCount.exact(pageResult.getTotalElements()), filters);
 
         // Set Headers
         HttpHeaders headers = new HttpHeaders();
-        headers.add("X-Total-Count", String.valueOf(pageResult.getTotalElements()));
+        headers.add("X-Total-Count", totalCount.toHeaderValue());
         headers.add(HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS, "X-Total-Count");
+        setListETag(headers, content);
 
-        return new ResponseEntity<>(pageResult.getContent(), headers, HttpStatus.OK);
+        return new ResponseEntity<>(content, headers, HttpStatus.OK);
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> export(String _format, String _sort, String _order,
+                                                        Map<String, String> allParams) {
+        ExportFormat format;
+        try {
+            format = ExportFormat.fromParameterValue(_format);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "_format parameter must be ndjson or csv.", e);
+        }
+        ExportWriter<T> writer = getExportWriter(format);
+        if (writer == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Export format " + format.getParameterValue() + " is not supported by this resource.");
+        }
+        Sort sort = _sort != null ? Sort.by(Sort.Direction.fromString(_order), _sort) : Sort.unsorted();
+
+        // Refine params
+        RESERVED_PARAMS.forEach(allParams.keySet()::remove);
+        Map<String, String> filters = new HashMap<>(allParams);
+
+        StreamingResponseBody body = out -> {
+            writer.writeHeader(out);
+            try {
+                getService().streamWithFilters(filters, sort, record -> {
+                    try {
+                        writer.write(record, out);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+
+        String resourceName = getResourceName();
+        String fileName = resourceName.substring(resourceName.lastIndexOf('/') + 1) + "." + format.getParameterValue();
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(fileName).build().toString())
+                .body(body);
     }
 
     @Override
     public ResponseEntity<T> getOne(ID id) {
-        return ResponseEntity.ok(getService().findById(id));
+        RAOperation operation = operation("getOne");
+        T record = withQueryTimeout(getQueryTimeout(operation.getOperation()),
+                () -> timeQuery(operation, RAMetrics.QUERY_CONTENT, null, () -> getService().findById(id)));
+        getMetrics().recordResultCount(operation, record != null ? 1 : 0);
+        ETagGenerator<T> generator = getETagGenerator();
+        String tag = generator != null && record != null ? generator.generate(record) : null;
+        if (tag == null) {
+            return ResponseEntity.ok(record);
+        }
+        return ResponseEntity.ok()
+                .eTag(tag)
+                .header(HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS, HttpHeaders.ETAG)
+                .body(record);
     }
 
     @Override
     public ResponseEntity<T> create(C data) {
-        return ResponseEntity.status(HttpStatus.CREATED).body(getService().create(data));
+        T created = getService().create(data);
+        invalidateCounts();
+        return ResponseEntity.status(HttpStatus.CREATED).body(created);
     }
 
     @Override
     public ResponseEntity<T> update(ID id, Map<String, Object> fields) {
-        return ResponseEntity.ok(getService().update(id, fields));
+        T updated = getService().update(id, fields);
+        invalidateCounts();
+        return ResponseEntity.ok(updated);
     }
 
     @Override
     public ResponseEntity<List<ID>> updateMany(List<ID> id, Map<String, Object> fields) {
         List<ID> ids = id != null ? id : Collections.emptyList();
+        getMetrics().recordBatchSize(operation("updateMany"), ids.size());
         List<ID> updatedIds = getService().updateMany(ids, fields);
+        invalidateCounts();
         return ResponseEntity.ok(updatedIds);
     }
 
     @Override
     public ResponseEntity<Void> delete(ID id) {
         getService().deleteById(id);
+        invalidateCounts();
         return ResponseEntity.noContent().build();
     }
 
     @Override
     public ResponseEntity<List<ID>> deleteMany(List<ID> id) {
         List<ID> ids = id != null ? id : Collections.emptyList();
+        getMetrics().recordBatchSize(operation("deleteMany"), ids.size());
         List<ID> deletedIds = getService().deleteMany(ids);
+        invalidateCounts();
         return ResponseEntity.ok(deletedIds);
     }
+
+    /**
+     * Resolves the response DTO type from the type arguments of the controller class.
+     */
+    @SuppressWarnings("unchecked")
+    private Class<T> getResponseType() {
+        Class<?>[] typeArguments = GenericTypeResolver.resolveTypeArguments(getClass(), RAController.class);
+        return typeArguments != null ? (Class<T>) typeArguments[0] : null;
+    }
+
+    /**
+     * Embeds the relations listed in the comma-separated <code>_embed</code> parameter in the records of a page.
+     */
+    private List<T> embed(List<T> records, String embed) {
+        Set<String> relations = parseNames(embed);
+        if (relations.isEmpty() || records.isEmpty()) {
+            return records;
+        }
+        return getService().embed(records, Collections.unmodifiableSet(relations));
+    }
+
+    /**
+     * Parses the comma-separated <code>_fields</code> parameter and marks the response, so that
+     * {@link SparseFieldsetAdvice} writes only these properties of each record.
+     *
+     * @return the properties to return, starting with the ID, or null for all properties
+     * @throws ResponseStatusException with status 400 if a field is not a property of the JSON of the response DTO, as
+     *                                 written by the {@link #getRecordJsonMapper() record JSON mapper}
+     */
+    private Set<String> selectFields(String _fields) {
+        Set<String> requested = parseNames(_fields);
+        if (requested.isEmpty()) {
+            return null;
+        }
+        Class<T> responseType = getResponseType();
+        RecordJsonMapper recordJsonMapper = getRecordJsonMapper();
+        if (responseType != null) {
+            Set<String> properties = recordJsonMapper != null ? recordJsonMapper.getPropertyNames(responseType) : null;
+            for (String field : requested) {
+                if (properties != null ? !properties.contains(field) : !isReadableProperty(responseType, field)) {
+                    throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown field '" + field + "' in _fields.");
+                }
+            }
+        }
+        Set<String> fields = new LinkedHashSet<>();
+        fields.add(ID_PROPERTY);
+        fields.addAll(requested);
+        fields = Collections.unmodifiableSet(fields);
+
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes != null) {
+            requestAttributes.setAttribute(FIELDS_ATTRIBUTE, fields, RequestAttributes.SCOPE_REQUEST);
+        }
+        return fields;
+    }
+
+    private static boolean isReadableProperty(Class<?> type, String name) {
+        PropertyDescriptor descriptor = BeanUtils.getPropertyDescriptor(type, name);
+        return descriptor != null && descriptor.getReadMethod() != null;
+    }
+
+    /**
+     * Splits a comma-separated parameter into its non-blank names.
+     */
+    private static Set<String> parseNames(String value) {
+        Set<String> names = new LinkedHashSet<>();
+        if (value != null) {
+            for (String name : value.split(",")) {
+                if (!name.isBlank()) {
+                    names.add(name.trim());
+                }
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Sets the entity tag of a list response, which covers the records and the pagination headers. Spring MVC answers
+     * matching conditional requests with status 304 before the body is written.
+     */
+    private void setListETag(HttpHeaders headers, List<T> records) {
+        ETagGenerator<T> generator = getETagGenerator();
+        String recordsTag = generator != null ? generator.generateForAll(records) : null;
+        if (recordsTag == null) {
+            return;
+        }
+        String tag = recordsTag + "|" + headers.getFirst("X-Total-Count") + "|" + headers.getFirst("X-Next-Cursor");
+        headers.setETag("\"" + DigestUtils.md5DigestAsHex(tag.getBytes(StandardCharsets.UTF_8)) + "\"");
+        headers.set(HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS,
+                headers.getFirst(HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS) + ", " + HttpHeaders.ETAG);
+    }
+
+    /**
+     * Drops the cached counts of this resource after a write.
+     */
+    private void invalidateCounts() {
+        CountCache countCache = getCountCache();
+        if (countCache != null) {
+            countCache.invalidate(getResourceName());
+        }
+    }
+
+    /**
+     * Counts the entities matching the filters, through the count cache if there is one.
+     */
+    private long count(RAOperation operation, Map<String, String> filters) {
+        LongSupplier counter = () -> timeQuery(operation, RAMetrics.QUERY_COUNT, filters,
+                () -> getService().countWithFilters(new HashMap<>(filters)));
+        CountCache countCache = getCountCache();
+        if (countCache != null) {
+            return countCache.get(getResourceName(), filters, counter);
+        }
+        return counter.getAsLong();
+    }
+
+    /**
+     * Runs a service query, records its duration and logs it if it was slow.
+     */
+    private <R> R timeQuery(RAOperation operation, String query, Map<String, String> filters, Supplier<R> call) {
+        long start = System.nanoTime();
+        try {
+            return call.get();
+        } finally {
+            long duration = System.nanoTime() - start;
+            getMetrics().recordQuery(operation, query, duration);
+            SlowQueryLog slowQueryLog = this.slowQueryLog;
+            if (slowQueryLog != null) {
+                slowQueryLog.record(operation, query, filters, duration);
+            }
+        }
+    }
+
+    /**
+     * The timeout of the queries of a list request with the given filters.
+     *
+     * @return the shorter of the query timeout of the operation and, if the filters contain a global search, the
+     * search timeout, or null for none
+     */
+    private Duration getQueryTimeout(String operation, Map<String, String> filters) {
+        Duration timeout = getQueryTimeout(operation);
+        String search = filters.get(FieldFilter.SEARCH_PARAM);
+        Duration searchTimeout = search != null && !search.isBlank() ? getSearchTimeout() : null;
+        if (timeout == null || searchTimeout != null && searchTimeout.compareTo(timeout) < 0) {
+            return searchTimeout;
+        }
+        return timeout;
+    }
+
+    /**
+     * Runs the queries of an action in a read-only transaction whose timeout cancels them, or runs the action as is if
+     * there is no timeout or no transaction manager.
+     *
+     * @throws ResponseStatusException with status 503 and a <code>Retry-After</code> header if a query timed out
+     */
+    private <R> R withQueryTimeout(Duration timeout, Supplier<R> action) {
+        PlatformTransactionManager transactionManager = this.transactionManager;
+        try {
+            if (timeout == null || transactionManager == null) {
+                return action.get();
+            }
+            TransactionTemplate template = new TransactionTemplate(transactionManager);
+            template.setReadOnly(true);
+            // Transaction timeouts are in whole seconds
+            long millis = Math.max(timeout.toMillis(), 1);
+            template.setTimeout((int) Math.min((millis + 999) / 1000, Integer.MAX_VALUE));
+            return template.execute(status -> action.get());
+        } catch (QueryTimeoutStatusException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            if (!isQueryTimeout(e)) {
+                throw e;
+            }
+            throw new QueryTimeoutStatusException(queryTimeouts.getRetryAfter(), e);
+        }
+    }
+
+    /**
+     * Whether the exception, or one of its causes, reports a query cancelled by its timeout.
+     */
+    private static boolean isQueryTimeout(Throwable exception) {
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof jakarta.persistence.QueryTimeoutException
+                    || cause instanceof org.springframework.dao.QueryTimeoutException
+                    || cause instanceof TransactionTimedOutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Starts the count query on the parallel count executor, if the strategy always needs the exact count and an
+     * executor is configured.
+     *
+     * @return the pending count, or null to count after the page
+     */
+    private CompletableFuture<Long> startParallelCount(RAOperation operation,
+                                                       TotalCountStrategy strategy,
+                                                       Map<String, String> filters) {
+        Executor executor = strategy.isExact() ? getParallelCountExecutor() : null;
+        if (executor == null) {
+            return null;
+        }
+        Map<String, String> countFilters = Map.copyOf(filters);
+        Duration timeout = getQueryTimeout(operation.getOperation(), countFilters);
+        return CompletableFuture.supplyAsync(
+                () -> withQueryTimeout(timeout, () -> count(operation, countFilters)), executor);
+    }
+
+    /**
+     * Waits for a parallel count, rethrowing the exception of a failed count query as is.
+     */
+    private static long joinCount(CompletableFuture<Long> count) {
+        try {
+            return count.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Reports a counted or estimated total as capped when the service found only some of the matching entities, see
+     * {@link IRAService#isResultTruncated(Map)}, since more entities may match than were counted.
+     */
+    private TotalCount capTruncatedTotal(TotalCount totalCount, Map<String, String> filters) {
+        boolean counted = totalCount.getKind() == TotalCount.Kind.EXACT
+                || totalCount.getKind() == TotalCount.Kind.ESTIMATE;
+        return counted && getService().isResultTruncated(filters) ? TotalCount.capped(totalCount.getValue()) : totalCount;
+    }
+
+    /**
+     * Creates the context in which the {@link TotalCountStrategy} resolves the total count of a page. The exact count
+     * is taken from the page if it has one, from the parallel count if one was started, and from the count cache or a
+     * lazy count query otherwise.
+     */
+    private TotalCountContext createTotalCountContext(RAOperation operation,
+                                                      long offset,
+                                                      int contentSize,
+                                                      boolean hasNext,
+                                                      Page<T> page,
+                                                      Map<String, String> filters,
+                                                      CompletableFuture<Long> parallelCount) {
+        LongSupplier exactCount;
+        if (page != null) {
+            exactCount = page::getTotalElements;
+        } else if (parallelCount != null) {
+            exactCount = () -> {
+                // Like a Page, do not wait for the count when the page alone determines the total
+                if (!hasNext && (contentSize > 0 || offset == 0)) {
+                    parallelCount.cancel(false);
+                    return offset + contentSize;
+                }
+                return joinCount(parallelCount);
+            };
+        } else {
+            exactCount = () -> count(operation, filters);
+        }
+        LongPredicate rowExists = index -> timeQuery(operation, RAMetrics.QUERY_COUNT, filters, () -> getService()
+                .findSliceWithFilters(new HashMap<>(filters), OffsetPageable.of(index, 1))
+                .hasContent());
+        return new TotalCountContext(offset, contentSize, hasNext, filters, exactCount, rowExists);
+    }
+
+    /**
+     * Fetches a <code>getList</code> page with keyset pagination and exposes the position of its last row as the
+     * <code>X-Next-Cursor</code> header.
+     */
+    private ResponseEntity<List<T>> getListByKeyset(RAOperation operation,
+                                                    Pageable pageable,
+                                                    String cursor,
+                                                    String embed,
+                                                    Set<String> fields,
+                                                    Map<String, String> filters) {
+        Sort sort = pageable.getSort();
+        String tieBreaker = getKeysetTieBreaker();
+        if (sort.getOrderFor(tieBreaker) == null) {
+            sort = sort.and(Sort.by(tieBreaker));
+        }
+
+        KeysetScrollPosition position;
+        if (cursor == null) {
+            position = ScrollPosition.keyset();
+        } else {
+            try {
+                position = KeysetCursorCodec.decode(cursor);
+            } catch (IllegalArgumentException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "_cursor parameter is malformed.", e);
+            }
+            List<String> sortProperties = sort.stream().map(Sort.Order::getProperty).toList();
+            if (!position.getKeys().keySet().equals(Set.copyOf(sortProperties))) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        "_cursor parameter does not match the requested sort.");
+            }
+        }
+
+        TotalCountStrategy totalCountStrategy = getTotalCountStrategy();
+        CompletableFuture<Long> parallelCount = startParallelCount(operation, totalCountStrategy, filters);
+        Sort keysetSort = sort;
+        Window<T> window;
+        try {
+            window = timeQuery(operation, RAMetrics.QUERY_CONTENT, filters, () -> getService().scrollWithFilters(
+                    new HashMap<>(filters), position, pageable.getPageSize(), keysetSort, fields));
+        } catch (RuntimeException e) {
+            if (parallelCount != null) {
+                parallelCount.cancel(false);
+            }
+            throw e;
+        }
+        TotalCount totalCount = capTruncatedTotal(totalCountStrategy.resolve(createTotalCountContext(operation,
+                pageable.getOffset(), window.size(), window.hasNext(), null, filters, parallelCount)), filters);
+        List<T> content = embed(window.getContent(), embed);
+        getMetrics().recordResultCount(operation, content.size());
+
+        // Set Headers
+        HttpHeaders headers = new HttpHeaders();
+        headers.add("X-Total-Count", totalCount.toHeaderValue());
+        if (window.hasNext() && !window.isEmpty()
+                && window.positionAt(window.size() - 1) instanceof KeysetScrollPosition next) {
+            headers.add("X-Next-Cursor", KeysetCursorCodec.encode(next));
+        }
+        headers.add(HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS, "X-Total-Count, X-Next-Cursor");
+        setListETag(headers, content);
+
+        return new ResponseEntity<>(content, headers, HttpStatus.OK);
+    }
+
+    /**
+     * Validates the <code>_start</code>/<code>_end</code> range and converts it to an {@link OffsetPageable}, so the
+     * service receives the exact requested window even when it is not aligned to a page boundary.
+     *
+     * @param _start    the starting index (0-based, inclusive)
+     * @param _end      the ending index (0-based, exclusive)
+     * @param _sort     the field name to sort by
+     * @param _order    the sort direction, either "ASC" or "DESC"
+     * @param operation the operation name used in error messages
+     * @return the pageable for the requested window
+     */
+    private static Pageable createPageable(int _start, int _end, String _sort, String _order, String operation) {
+        if (_start < 0 || _end < 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "_start and _end parameters are null or smaller than 0. These parameters are required for `"
+                            + operation + "` operation.");
+        } else if (_end <= _start) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "_end parameter must be greater than _start parameter.");
+        }
+
+        Sort sort = Sort.by(Sort.Direction.fromString(_order), _sort);
+        return OffsetPageable.ofRange(_start, _end, sort);
+    }
+
+    /**
+     * The status 503 of a request whose query timed out, with a <code>Retry-After</code> header.
+     */
+    private static final class QueryTimeoutStatusException extends ResponseStatusException {
+        private final HttpHeaders headers = new HttpHeaders();
+
+        QueryTimeoutStatusException(Duration retryAfter, Throwable cause) {
+            super(HttpStatus.SERVICE_UNAVAILABLE, "The query timed out. Try again later or narrow the filter.", cause);
+            headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(retryAfter.toSeconds(), 1)));
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
 }
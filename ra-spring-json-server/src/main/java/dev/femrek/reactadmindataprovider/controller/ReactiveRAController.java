@@ -0,0 +1,338 @@
+package dev.femrek.reactadmindataprovider.controller;
+
+import dev.femrek.reactadmindataprovider.export.ExportFormat;
+import dev.femrek.reactadmindataprovider.export.ExportWriter;
+import dev.femrek.reactadmindataprovider.export.ExportWriters;
+import dev.femrek.reactadmindataprovider.json.RecordJsonMapper;
+import dev.femrek.reactadmindataprovider.pagination.OffsetPageable;
+import dev.femrek.reactadmindataprovider.service.IReactiveRAService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.GenericTypeResolver;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Abstract base controller providing standard CRUD operations for resources in Spring WebFlux applications. This
+ * automatically calls related reactive service methods.
+ * <p>
+ * Extend this class and implement the {@link #getService()} method to provide the specific service for your resource.
+ * Keyset pagination, entity tags and sparse fieldsets of {@link RAController} are not supported.
+ *
+ * @param <T>  the Response DTO type for this resource
+ * @param <C>  the Create DTO type for this resource
+ * @param <ID> the type of the entity's identifier
+ */
+public abstract class ReactiveRAController<T, C, ID> implements IReactiveRAController<T, C, ID> {
+    private volatile String resourceName;
+    private volatile RecordJsonMapper recordJsonMapper;
+
+    protected abstract IReactiveRAService<T, C, ID> getService();
+
+    /**
+     * The writer of <code>export</code> responses in the given format. See {@link RAController#getExportWriter}.
+     *
+     * @param format the requested format
+     * @return the writer, or null if the format is not supported; {@link ExportWriters#forFormat} with the
+     * {@link #getRecordJsonMapper() record JSON mapper} by default
+     */
+    protected ExportWriter<T> getExportWriter(ExportFormat format) {
+        Class<T> responseType = getResponseType();
+        return responseType != null ? ExportWriters.forFormat(format, responseType, getRecordJsonMapper()) : null;
+    }
+
+    /**
+     * The mapper that reads records like the application's JSON responses, for exports. Set
+     * automatically to the {@link RecordJsonMapper} bean, if there is one, see
+     * {@link dev.femrek.reactadmindataprovider.config.RAJsonConfig}.
+     *
+     * @param recordJsonMapper the mapper, or null to use {@link RecordJsonMapper#shared()}
+     */
+    @Autowired(required = false)
+    public void setRecordJsonMapper(RecordJsonMapper recordJsonMapper) {
+        this.recordJsonMapper = recordJsonMapper;
+    }
+
+    /**
+     * The mapper that reads records like the application's JSON responses.
+     *
+     * @return the mapper that was set, or {@link RecordJsonMapper#shared()}; null if Jackson is not on the classpath
+     */
+    protected RecordJsonMapper getRecordJsonMapper() {
+        RecordJsonMapper recordJsonMapper = this.recordJsonMapper;
+        return recordJsonMapper != null ? recordJsonMapper : RecordJsonMapper.shared();
+    }
+
+    /**
+     * The name of this resource in export file names.
+     *
+     * @return the first path of the {@link RequestMapping} of the controller, or the controller class name if it has
+     * none
+     */
+    protected String getResourceName() {
+        String resourceName = this.resourceName;
+        if (resourceName == null) {
+            RequestMapping mapping = AnnotatedElementUtils.findMergedAnnotation(getClass(), RequestMapping.class);
+            resourceName = mapping != null && mapping.path().length > 0 ? mapping.path()[0] : getClass().getName();
+            this.resourceName = resourceName;
+        }
+        return resourceName;
+    }
+
+    private static final List<String> RESERVED_PARAMS = List.of(
+            "_start", "_end", "_sort", "_order", "_embed", "_cursor", "_fields", "_format"
+    );
+
+    @Override
+    public Mono<ResponseEntity<Flux<T>>> getList(
+            int _start,
+            int _end,
+            String _sort,
+            String _order,
+            String _embed,
+            String _cursor,
+            String _fields,
+            Map<String, String> allParams
+    ) {
+        // Validate and Calculate Pagination
+        Pageable pageable = createPageable(_start, _end, _sort, _order, "getList");
+        if (_cursor != null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "_cursor parameter is not supported by this resource.");
+        }
+        rejectFields(_fields);
+
+        // Refine params and fetch Data
+        RESERVED_PARAMS.forEach(allParams.keySet()::remove);
+        Map<String, String> filters = new HashMap<>(allParams);
+        return getService().countWithFilters(new HashMap<>(filters))
+                .map(total -> withTotalCount(total,
+                        embed(getService().findWithFilters(filters, pageable), _embed)));
+    }
+
+    @Override
+    public ResponseEntity<Flux<T>> getMany(List<ID> id, String _fields) {
+        if (id == null || id.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "id parameter is null or empty. This parameter is required for `getMany` operation.");
+        }
+        rejectFields(_fields);
+        return ResponseEntity.ok(getService().findAllById(id));
+    }
+
+    /**
+     * Rejects sparse fieldsets, which are only supported by {@link RAController}, rather than silently returning all
+     * properties.
+     */
+    private static void rejectFields(String _fields) {
+        if (_fields != null && !_fields.isBlank()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "_fields parameter is not supported by this resource.");
+        }
+    }
+
+    @Override
+    public ResponseEntity<Flux<T>> getManyByBody(List<ID> id, String _fields) {
+        return getMany(id, _fields);
+    }
+
+    @Override
+    public Mono<ResponseEntity<Flux<T>>> getManyReference(
+            String target,
+            String targetId,
+            int _start,
+            int _end,
+            String _sort,
+            String _order,
+            String _embed,
+            Map<String, String> allParams
+    ) {
+        // Validate and Calculate Pagination
+        Pageable pageable = createPageable(_start, _end, _sort, _order, "getManyReference");
+
+        // Refine params and fetch Data
+        RESERVED_PARAMS.forEach(allParams.keySet()::remove);
+        Map<String, String> filters = new HashMap<>(allParams);
+        return getService().countWithTargetAndFilters(target, targetId, new HashMap<>(filters))
+                .map(total -> withTotalCount(total,
+                        embed(getService().findWithTargetAndFilters(target, targetId, filters, pageable), _embed)));
+    }
+
+    @Override
+    public ResponseEntity<Flux<DataBuffer>> export(String _format, String _sort, String _order,
+                                                  Map<String, String> allParams) {
+        ExportFormat format;
+        try {
+            format = ExportFormat.fromParameterValue(_format);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "_format parameter must be ndjson or csv.", e);
+        }
+        ExportWriter<T> writer = getExportWriter(format);
+        if (writer == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Export format " + format.getParameterValue() + " is not supported by this resource.");
+        }
+        Sort sort = _sort != null ? Sort.by(Sort.Direction.fromString(_order), _sort) : Sort.unsorted();
+
+        // Refine params
+        RESERVED_PARAMS.forEach(allParams.keySet()::remove);
+        Map<String, String> filters = new HashMap<>(allParams);
+
+        // Each record is encoded into its own buffer, so the export is written as the records are emitted
+        Flux<DataBuffer> body = Flux.concat(
+                Mono.fromCallable(() -> encode(writer::writeHeader)),
+                getService().streamWithFilters(filters, sort)
+                        .map(record -> encode(out -> writer.write(record, out)))
+        );
+
+        String resourceName = getResourceName();
+        String fileName = resourceName.substring(resourceName.lastIndexOf('/') + 1) + "." + format.getParameterValue();
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(fileName).build().toString())
+                .body(body);
+    }
+
+    @Override
+    public Mono<ResponseEntity<T>> getOne(ID id) {
+        return getService().findById(id)
+                .map(ResponseEntity::ok)
+                .switchIfEmpty(Mono.error(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
+                        "No record with id " + id + " found.")));
+    }
+
+    @Override
+    public Mono<ResponseEntity<T>> create(C data) {
+        return getService().create(data)
+                .map(created -> ResponseEntity.status(HttpStatus.CREATED).body(created));
+    }
+
+    @Override
+    public Mono<ResponseEntity<T>> update(ID id, Map<String, Object> fields) {
+        return getService().update(id, fields)
+                .map(ResponseEntity::ok);
+    }
+
+    @Override
+    public Mono<ResponseEntity<List<ID>>> updateMany(List<ID> id, Map<String, Object> fields) {
+        List<ID> ids = id != null ? id : Collections.emptyList();
+        return getService().updateMany(ids, fields)
+                .collectList()
+                .map(ResponseEntity::ok);
+    }
+
+    @Override
+    public Mono<ResponseEntity<Void>> delete(ID id) {
+        return getService().deleteById(id)
+                .then(Mono.fromSupplier(() -> ResponseEntity.noContent().<Void>build()));
+    }
+
+    @Override
+    public Mono<ResponseEntity<List<ID>>> deleteMany(List<ID> id) {
+        List<ID> ids = id != null ? id : Collections.emptyList();
+        return getService().deleteMany(ids)
+                .collectList()
+                .map(ResponseEntity::ok);
+    }
+
+    /**
+     * Resolves the response DTO type from the type arguments of the controller class.
+     */
+    @SuppressWarnings("unchecked")
+    private Class<T> getResponseType() {
+        Class<?>[] typeArguments = GenericTypeResolver.resolveTypeArguments(getClass(), ReactiveRAController.class);
+        return typeArguments != null ? (Class<T>) typeArguments[0] : null;
+    }
+
+    /**
+     * Embeds the relations listed in the comma-separated <code>_embed</code> parameter in the records of a page.
+     */
+    private Flux<T> embed(Flux<T> records, String embed) {
+        Set<String> relations = new LinkedHashSet<>();
+        if (embed != null) {
+            for (String name : embed.split(",")) {
+                if (!name.isBlank()) {
+                    relations.add(name.trim());
+                }
+            }
+        }
+        if (relations.isEmpty()) {
+            return records;
+        }
+        return getService().embed(records, Collections.unmodifiableSet(relations));
+    }
+
+    /**
+     * Creates a list response with the <code>X-Total-Count</code> header, whose records are written as they are
+     * emitted.
+     */
+    private static <R> ResponseEntity<Flux<R>> withTotalCount(long total, Flux<R> records) {
+        return ResponseEntity.ok()
+                .header("X-Total-Count", String.valueOf(total))
+                .header(HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS, "X-Total-Count")
+                .body(records);
+    }
+
+    /**
+     * Writes part of an export into a new buffer.
+     */
+    private static DataBuffer encode(ExportChunk chunk) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            chunk.writeTo(out);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to encode export record", e);
+        }
+        return DefaultDataBufferFactory.sharedInstance.wrap(out.toByteArray());
+    }
+
+    @FunctionalInterface
+    private interface ExportChunk {
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    /**
+     * Validates the <code>_start</code>/<code>_end</code> range and converts it to an {@link OffsetPageable}.
+     *
+     * @param _start    the starting index (0-based, inclusive)
+     * @param _end      the ending index (0-based, exclusive)
+     * @param _sort     the field name to sort by
+     * @param _order    the sort direction, either "ASC" or "DESC"
+     * @param operation the operation name used in error messages
+     * @return the pageable for the requested window
+     */
+    private static Pageable createPageable(int _start, int _end, String _sort, String _order, String operation) {
+        if (_start < 0 || _end < 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "_start and _end parameters are null or smaller than 0. These parameters are required for `"
+                            + operation + "` operation.");
+        } else if (_end <= _start) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "_end parameter must be greater than _start parameter.");
+        }
+
+        Sort sort = Sort.by(Sort.Direction.fromString(_order), _sort);
+        return OffsetPageable.ofRange(_start, _end, sort);
+    }
+}
@@ -0,0 +1,106 @@
+package dev.femrek.reactadmindataprovider.controller;
+
+import dev.femrek.reactadmindataprovider.json.RecordJsonMapper;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Writes only the properties selected with the <code>_fields</code> parameter of <code>getList</code> and
+ * <code>getMany</code> responses. Each record is replaced with its JSON reduced to the selected properties just before
+ * it is serialized, using a {@link RecordJsonMapper} backed by the application's <code>JsonMapper</code>, so the values
+ * are written as in full responses and properties hidden from the JSON stay hidden.
+ * <p>
+ * Registered automatically by {@link dev.femrek.reactadmindataprovider.config.RAWebMvcConfig}.
+ */
+@ControllerAdvice(assignableTypes = RAController.class)
+public class SparseFieldsetAdvice implements ResponseBodyAdvice<Object> {
+    private final RecordJsonMapper recordJsonMapper;
+
+    /**
+     * Creates the advice with {@link RecordJsonMapper#shared()}.
+     */
+    public SparseFieldsetAdvice() {
+        this(RecordJsonMapper.shared());
+    }
+
+    /**
+     * @param recordJsonMapper the mapper that reads records like the application's JSON responses, or null to read
+     *                         bean properties if Jackson is not on the classpath
+     */
+    public SparseFieldsetAdvice(RecordJsonMapper recordJsonMapper) {
+        this.recordJsonMapper = recordJsonMapper;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body,
+                                  MethodParameter returnType,
+                                  MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request,
+                                  ServerHttpResponse response) {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (!(body instanceof List<?> records) || requestAttributes == null) {
+            return body;
+        }
+        Object fields = requestAttributes.getAttribute(RAController.FIELDS_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (!(fields instanceof Set<?> selected)) {
+            return body;
+        }
+        return project(records, selected, recordJsonMapper);
+    }
+
+    /**
+     * Replaces each record with its JSON reduced to the selected properties, in the order of the selection. Properties
+     * that a record does not write are left out.
+     *
+     * @param records          the records of the response
+     * @param fields           the JSON names of the selected properties
+     * @param recordJsonMapper the mapper of the records, or null to read bean properties instead
+     * @return the projected records
+     */
+    static List<Object> project(List<?> records, Set<?> fields, RecordJsonMapper recordJsonMapper) {
+        List<Object> projected = new ArrayList<>(records.size());
+        if (recordJsonMapper != null) {
+            List<String> names = new ArrayList<>(fields.size());
+            for (Object field : fields) {
+                names.add((String) field);
+            }
+            for (Object record : records) {
+                projected.add(recordJsonMapper.project(record, names));
+            }
+            return projected;
+        }
+        for (Object record : records) {
+            BeanWrapper wrapper = PropertyAccessorFactory.forBeanPropertyAccess(record);
+            Map<String, Object> values = new LinkedHashMap<>();
+            for (Object field : fields) {
+                String property = (String) field;
+                if (wrapper.isReadableProperty(property)) {
+                    values.put(property, wrapper.getPropertyValue(property));
+                }
+            }
+            projected.add(values);
+        }
+        return projected;
+    }
+}
@@ -0,0 +1,178 @@
+package dev.femrek.reactadmindataprovider.count;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * A size-bounded cache of count query results with a time-to-live, keyed by resource and normalized filters.
+ * <p>
+ * Filters are normalized by ignoring their order and empty values, so <code>?status=published&amp;q=</code> and
+ * <code>?status=published</code> share one entry. Entries are evicted in least-recently-used order once the maximum
+ * size is reached, and expire after the time-to-live.
+ * <p>
+ * {@link #invalidate(String)} drops all counts of a resource. A count that was being computed while the resource was
+ * invalidated is not cached, so a write never leaves a stale count behind.
+ * <p>
+ * Return an instance from {@link dev.femrek.reactadmindataprovider.controller.RAController#getCountCache()} to use
+ * it. One instance can be shared by several controllers. This class is thread-safe.
+ */
+public final class CountCache {
+    private final long ttlMillis;
+    private final int maximumSize;
+    private final Clock clock;
+    private final Map<Key, Entry> entries;
+    private final ConcurrentMap<String, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    /**
+     * @param ttl         how long a count is reused, at least one millisecond
+     * @param maximumSize the maximum number of cached counts, must be greater than zero
+     */
+    public CountCache(Duration ttl, int maximumSize) {
+        this(ttl, maximumSize, Clock.systemUTC());
+    }
+
+    /**
+     * @param ttl         how long a count is reused, at least one millisecond
+     * @param maximumSize the maximum number of cached counts, must be greater than zero
+     * @param clock       the clock used to expire entries
+     */
+    public CountCache(Duration ttl, int maximumSize, Clock clock) {
+        if (ttl == null || ttl.toMillis() < 1) {
+            throw new IllegalArgumentException("TTL must be at least one millisecond");
+        }
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("Maximum size must be greater than zero");
+        }
+        this.ttlMillis = ttl.toMillis();
+        this.maximumSize = maximumSize;
+        this.clock = Objects.requireNonNull(clock, "Clock must not be null");
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > CountCache.this.maximumSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached count of the given filters, or computes and caches it.
+     *
+     * @param resource the resource the filters apply to
+     * @param filters  the filters of the request, without reserved parameters
+     * @param counter  runs the count query on a cache miss
+     * @return the number of matching entities
+     */
+    public long get(String resource, Map<String, String> filters, LongSupplier counter) {
+        Key key = new Key(resource, normalize(filters));
+        long generation = generation(resource).get();
+        long now = clock.millis();
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                if (entry.generation == generation && now - entry.createdAt < ttlMillis) {
+                    return entry.count;
+                }
+                entries.remove(key);
+            }
+        }
+
+        // Count outside the lock, so a slow query does not block other resources
+        long count = counter.getAsLong();
+        synchronized (entries) {
+            if (generation(resource).get() == generation) {
+                entries.put(key, new Entry(count, generation, now));
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Drops all cached counts of a resource. Call it after every write that can change the counts.
+     *
+     * @param resource the resource that was written
+     */
+    public void invalidate(String resource) {
+        generation(resource).incrementAndGet();
+        synchronized (entries) {
+            entries.keySet().removeIf(key -> key.resource.equals(resource));
+        }
+    }
+
+    /**
+     * Drops all cached counts.
+     */
+    public void invalidateAll() {
+        generations.values().forEach(AtomicLong::incrementAndGet);
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * @return the number of cached counts, including expired ones that were not evicted yet
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private AtomicLong generation(String resource) {
+        return generations.computeIfAbsent(resource, r -> new AtomicLong());
+    }
+
+    private static SortedMap<String, String> normalize(Map<String, String> filters) {
+        SortedMap<String, String> normalized = new TreeMap<>();
+        if (filters != null) {
+            filters.forEach((key, value) -> {
+                if (value != null && !value.isEmpty()) {
+                    normalized.put(key, value);
+                }
+            });
+        }
+        return normalized;
+    }
+
+    private static final class Key {
+        private final String resource;
+        private final SortedMap<String, String> filters;
+
+        private Key(String resource, SortedMap<String, String> filters) {
+            this.resource = resource;
+            this.filters = filters;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key other)) return false;
+            return resource.equals(other.resource) && filters.equals(other.filters);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * resource.hashCode() + filters.hashCode();
+        }
+    }
+
+    private static final class Entry {
+        private final long count;
+        private final long generation;
+        private final long createdAt;
+
+        private Entry(long count, long generation, long createdAt) {
+            this.count = count;
+            this.generation = generation;
+            this.createdAt = createdAt;
+        }
+    }
+}
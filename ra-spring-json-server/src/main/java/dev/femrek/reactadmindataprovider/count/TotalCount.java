@@ -0,0 +1,111 @@
+package dev.femrek.reactadmindataprovider.count;
+
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * The value of an <code>X-Total-Count</code> header, together with how it was obtained.
+ * <p>
+ * Exact totals are written as a plain number (e.g., <code>319</code>), which is what every ra-spring-data-provider
+ * version expects. Other kinds are written as <code>kind/value</code> (e.g., <code>estimate/120000</code>). Clients
+ * that only read the part after the last slash still get a usable number.
+ */
+public final class TotalCount {
+    /**
+     * How a {@link TotalCount} was obtained.
+     */
+    public enum Kind {
+        /**
+         * The exact number of matching entities.
+         */
+        EXACT,
+        /**
+         * An approximation, e.g., from database planner statistics.
+         */
+        ESTIMATE,
+        /**
+         * More entities than the value match; counting stopped at the cap.
+         */
+        CAPPED,
+        /**
+         * Not counted. The value is a lower bound that is one higher than the end of the page when more entities
+         * follow it.
+         */
+        PARTIAL
+    }
+
+    private final Kind kind;
+    private final long value;
+
+    private TotalCount(Kind kind, long value) {
+        this.kind = Objects.requireNonNull(kind, "Kind must not be null");
+        this.value = value;
+    }
+
+    /**
+     * @param value the exact number of matching entities
+     * @return an exact total count
+     */
+    public static TotalCount exact(long value) {
+        return new TotalCount(Kind.EXACT, value);
+    }
+
+    /**
+     * @param value the estimated number of matching entities
+     * @return an estimated total count
+     */
+    public static TotalCount estimate(long value) {
+        return new TotalCount(Kind.ESTIMATE, value);
+    }
+
+    /**
+     * @param value the cap that the number of matching entities exceeds
+     * @return a capped total count
+     */
+    public static TotalCount capped(long value) {
+        return new TotalCount(Kind.CAPPED, value);
+    }
+
+    /**
+     * @param lowerBound the known minimum number of matching entities
+     * @return a partial total count
+     */
+    public static TotalCount partial(long lowerBound) {
+        return new TotalCount(Kind.PARTIAL, lowerBound);
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public long getValue() {
+        return value;
+    }
+
+    /**
+     * @return the value for the <code>X-Total-Count</code> header
+     */
+    public String toHeaderValue() {
+        if (kind == Kind.EXACT) {
+            return String.valueOf(value);
+        }
+        return kind.name().toLowerCase(Locale.ROOT) + "/" + value;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof TotalCount that)) return false;
+        return value == that.value && kind == that.kind;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(kind, value);
+    }
+
+    @Override
+    public String toString() {
+        return toHeaderValue();
+    }
+}
@@ -0,0 +1,98 @@
+package dev.femrek.reactadmindataprovider.count;
+
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.function.LongPredicate;
+import java.util.function.LongSupplier;
+
+/**
+ * Information about a fetched <code>getList</code> page that a {@link TotalCountStrategy} uses to resolve the total
+ * count. Queries are only executed when a strategy asks for them.
+ */
+public final class TotalCountContext {
+    private final long offset;
+    private final int contentSize;
+    private final boolean hasNext;
+    private final Map<String, String> filters;
+    private final LongSupplier exactCount;
+    private final LongPredicate rowExists;
+
+    /**
+     * @param offset      the zero-based index of the first entity of the page
+     * @param contentSize the number of entities in the page
+     * @param hasNext     whether more entities follow the page
+     * @param filters     the filters of the request
+     * @param exactCount  runs (or reuses) the exact count query
+     * @param rowExists   checks whether an entity exists at a zero-based index of the filtered list
+     */
+    public TotalCountContext(long offset,
+                             int contentSize,
+                             boolean hasNext,
+                             Map<String, String> filters,
+                             LongSupplier exactCount,
+                             LongPredicate rowExists) {
+        this.offset = offset;
+        this.contentSize = contentSize;
+        this.hasNext = hasNext;
+        this.filters = Map.copyOf(filters);
+        this.exactCount = exactCount;
+        this.rowExists = rowExists;
+    }
+
+    public long getOffset() {
+        return offset;
+    }
+
+    public int getContentSize() {
+        return contentSize;
+    }
+
+    public boolean hasNext() {
+        return hasNext;
+    }
+
+    /**
+     * @return the filters of the request, without reserved parameters
+     */
+    public Map<String, String> getFilters() {
+        return filters;
+    }
+
+    /**
+     * Returns the total that follows from the page itself: when nothing follows a non-empty page (or the first
+     * page), the total is the end of the page and no count query is needed.
+     *
+     * @return the total if the page alone determines it
+     */
+    public OptionalLong knownTotal() {
+        if (!hasNext && (contentSize > 0 || offset == 0)) {
+            return OptionalLong.of(offset + contentSize);
+        }
+        return OptionalLong.empty();
+    }
+
+    /**
+     * @return the minimum number of matching entities that the page proves to exist
+     */
+    public long lowerBound() {
+        return offset + contentSize + (hasNext ? 1 : 0);
+    }
+
+    /**
+     * @return the exact number of matching entities, running a count query if necessary
+     */
+    public long exactCount() {
+        return exactCount.getAsLong();
+    }
+
+    /**
+     * Checks whether an entity exists at the given zero-based index of the filtered list. This runs a single-row
+     * query, which is cheaper than a full count when the index is small.
+     *
+     * @param index the zero-based index to check
+     * @return true if at least index + 1 entities match the filters
+     */
+    public boolean rowExists(long index) {
+        return rowExists.test(index);
+    }
+}
@@ -0,0 +1,30 @@
+package dev.femrek.reactadmindataprovider.count;
+
+import java.util.Map;
+import java.util.OptionalLong;
+
+/**
+ * Estimates the number of entities matching a set of filters without counting them, e.g., from database planner
+ * statistics.
+ * <p>
+ * Example for PostgreSQL that only estimates unfiltered lists:
+ * <pre>{@code
+ * TotalCountEstimator estimator = filters -> {
+ *     if (!filters.isEmpty()) {
+ *         return OptionalLong.empty();
+ *     }
+ *     Number rows = (Number) entityManager
+ *             .createNativeQuery("SELECT reltuples::bigint FROM pg_class WHERE oid = to_regclass('posts')")
+ *             .getSingleResult();
+ *     return rows.longValue() < 0 ? OptionalLong.empty() : OptionalLong.of(rows.longValue());
+ * };
+ * }</pre>
+ */
+@FunctionalInterface
+public interface TotalCountEstimator {
+    /**
+     * @param filters the filters of the request, without reserved parameters
+     * @return the estimated number of matching entities, or empty if no estimate is available
+     */
+    OptionalLong estimate(Map<String, String> filters);
+}
@@ -0,0 +1,105 @@
+package dev.femrek.reactadmindataprovider.count;
+
+import java.util.Objects;
+import java.util.OptionalLong;
+
+/**
+ * Built-in {@link TotalCountStrategy} implementations.
+ * <p>
+ * All strategies except {@link #exact()} first check whether the page itself determines the total (nothing follows
+ * it), and report an exact count without a count query in that case.
+ */
+public final class TotalCountStrategies {
+    private static final TotalCountStrategy EXACT = new TotalCountStrategy() {
+        @Override
+        public TotalCount resolve(TotalCountContext context) {
+            return TotalCount.exact(context.exactCount());
+        }
+
+        @Override
+        public boolean isExact() {
+            return true;
+        }
+    };
+
+    private static final TotalCountStrategy NONE = context -> {
+        OptionalLong known = context.knownTotal();
+        if (known.isPresent()) {
+            return TotalCount.exact(known.getAsLong());
+        }
+        return TotalCount.partial(context.lowerBound());
+    };
+
+    private TotalCountStrategies() {
+    }
+
+    /**
+     * Always counts all matching entities. This is the default strategy.
+     *
+     * @return the exact strategy
+     */
+    public static TotalCountStrategy exact() {
+        return EXACT;
+    }
+
+    /**
+     * Uses an estimate where available and counts exactly otherwise. The estimate is never lower than the number of
+     * entities the page proves to exist.
+     *
+     * @param estimator the estimator to use
+     * @return the estimated strategy
+     */
+    public static TotalCountStrategy estimated(TotalCountEstimator estimator) {
+        Objects.requireNonNull(estimator, "Estimator must not be null");
+        return context -> {
+            OptionalLong known = context.knownTotal();
+            if (known.isPresent()) {
+                return TotalCount.exact(known.getAsLong());
+            }
+            OptionalLong estimate = estimator.estimate(context.getFilters());
+            if (estimate.isPresent()) {
+                return TotalCount.estimate(Math.max(estimate.getAsLong(), context.lowerBound()));
+            }
+            return TotalCount.exact(context.exactCount());
+        };
+    }
+
+    /**
+     * Counts exactly up to the given cap and reports a capped count (e.g., "1000+") beyond it. Whether the cap is
+     * exceeded is checked with a single-row query at the cap index, so at most <code>cap</code> rows are scanned
+     * before the exact count runs.
+     *
+     * @param cap the maximum number of entities to count, must be greater than zero
+     * @return the capped strategy
+     */
+    public static TotalCountStrategy capped(long cap) {
+        if (cap < 1) {
+            throw new IllegalArgumentException("Cap must be greater than zero");
+        }
+        return context -> {
+            OptionalLong known = context.knownTotal();
+            if (known.isPresent()) {
+                return TotalCount.exact(known.getAsLong());
+            }
+            long pageEnd = context.getOffset() + context.getContentSize();
+            if (context.hasNext() && pageEnd >= cap) {
+                // The page already proves that more than the cap exist
+                return TotalCount.capped(pageEnd);
+            }
+            if (context.rowExists(cap)) {
+                return TotalCount.capped(cap);
+            }
+            return TotalCount.exact(context.exactCount());
+        };
+    }
+
+    /**
+     * Never counts. The total is only reported exactly when the page determines it; otherwise it is reported as a
+     * partial lower bound, which lets clients offer a "next page" without knowing the total.
+     *
+     * @return the strategy that skips counting
+     */
+    public static TotalCountStrategy none() {
+        return NONE;
+    }
+}
@@ -0,0 +1,32 @@
+package dev.femrek.reactadmindataprovider.count;
+
+/**
+ * Decides how the <code>X-Total-Count</code> header of a <code>getList</code> response is computed.
+ * <p>
+ * Counting every matching entity can cost more than fetching the page itself. Strategies can avoid that by
+ * estimating, capping or skipping the count. See {@link TotalCountStrategies} for the built-in strategies.
+ * <p>
+ * Return a strategy from {@link dev.femrek.reactadmindataprovider.controller.RAController#getTotalCountStrategy()}
+ * to use it for a resource.
+ */
+@FunctionalInterface
+public interface TotalCountStrategy {
+    /**
+     * Resolves the total count of a fetched page.
+     *
+     * @param context the fetched page and access to count queries
+     * @return the total count to report
+     */
+    TotalCount resolve(TotalCountContext context);
+
+    /**
+     * Whether this strategy always needs the exact count. The controller then fetches the content and the count
+     * together as a {@link org.springframework.data.domain.Page}; otherwise it fetches a
+     * {@link org.springframework.data.domain.Slice} and the count only when the strategy asks for it.
+     *
+     * @return true if the exact count is always needed, false by default
+     */
+    default boolean isExact() {
+        return false;
+    }
+}
@@ -0,0 +1,41 @@
+package dev.femrek.reactadmindataprovider.etag;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Generates the entity tag of a record for conditional GET requests. The tag must change whenever the response for
+ * the record changes, and must identify the record among the other records of a list.
+ * <p>
+ * Return a generator from {@link dev.femrek.reactadmindataprovider.controller.RAController#getETagGenerator()} to
+ * enable <code>ETag</code> and <code>If-None-Match</code> handling for a resource. See {@link ETagGenerators} for the
+ * built-in generators.
+ *
+ * @param <T> the response DTO type
+ */
+@FunctionalInterface
+public interface ETagGenerator<T> {
+    /**
+     * @param record the response DTO
+     * @return the entity tag of the record, without quotes, or null if the record has none
+     */
+    String generate(T record);
+
+    /**
+     * Generates the entity tag of a list of records by hashing the tags of all records in order.
+     *
+     * @param records the response DTOs
+     * @return the entity tag of the list, without quotes, or null if any record has none
+     */
+    default String generateForAll(List<? extends T> records) {
+        StringBuilder tags = new StringBuilder();
+        for (T record : records) {
+            String tag = generate(record);
+            if (tag == null) {
+                return null;
+            }
+            tags.append(tag).append(',');
+        }
+        return ETagGenerators.hash(tags.toString().getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,70 @@
+package dev.femrek.reactadmindataprovider.etag;
+
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Built-in {@link ETagGenerator} implementations.
+ */
+public final class ETagGenerators {
+    private ETagGenerators() {
+    }
+
+    /**
+     * Generates tags from the ID and a version attribute of the record, e.g., a JPA <code>@Version</code> column or a
+     * last-modified timestamp. This is the cheapest generator, since the record is not serialized.
+     *
+     * @param id      extracts the ID of the record
+     * @param version extracts the version of the record
+     * @param <T>     the response DTO type
+     * @return the version-based generator
+     */
+    public static <T> ETagGenerator<T> version(Function<? super T, ?> id, Function<? super T, ?> version) {
+        Objects.requireNonNull(id, "ID extractor must not be null");
+        Objects.requireNonNull(version, "Version extractor must not be null");
+        return record -> {
+            Object versionValue = version.apply(record);
+            if (versionValue == null) {
+                return null;
+            }
+            String tag = id.apply(record) + "-" + versionValue;
+            return isValidTag(tag) ? tag : hash(tag.getBytes(StandardCharsets.UTF_8));
+        };
+    }
+
+    /**
+     * Generates tags from a hash of the serialized record. Use the same serializer as the responses, e.g.,
+     * <code>ETagGenerators.contentHash(objectMapper::writeValueAsBytes)</code>.
+     *
+     * @param serializer serializes the record
+     * @param <T>        the response DTO type
+     * @return the content hash generator
+     */
+    public static <T> ETagGenerator<T> contentHash(Function<? super T, byte[]> serializer) {
+        Objects.requireNonNull(serializer, "Serializer must not be null");
+        return record -> hash(serializer.apply(record));
+    }
+
+    /**
+     * @return the hex MD5 hash of the given bytes, as used for entity tags
+     */
+    static String hash(byte[] bytes) {
+        return DigestUtils.md5DigestAsHex(bytes);
+    }
+
+    /**
+     * @return whether the value can be used as an entity tag without escaping
+     */
+    static boolean isValidTag(String tag) {
+        for (int i = 0; i < tag.length(); i++) {
+            char c = tag.charAt(i);
+            if (c <= ' ' || c == '"' || c >= 0x7f) {
+                return false;
+            }
+        }
+        return !tag.isEmpty();
+    }
+}
@@ -0,0 +1,52 @@
+package dev.femrek.reactadmindataprovider.export;
+
+import org.springframework.http.MediaType;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The formats of the <code>export</code> operation.
+ */
+public enum ExportFormat {
+    /**
+     * Newline-delimited JSON: one JSON object per line.
+     */
+    NDJSON("ndjson", new MediaType("application", "x-ndjson")),
+    /**
+     * Comma-separated values with a header row, as described in RFC 4180.
+     */
+    CSV("csv", new MediaType("text", "csv", StandardCharsets.UTF_8));
+
+    private final String parameterValue;
+    private final MediaType mediaType;
+
+    ExportFormat(String parameterValue, MediaType mediaType) {
+        this.parameterValue = parameterValue;
+        this.mediaType = mediaType;
+    }
+
+    /**
+     * @return the value of the <code>_format</code> parameter, which is also the file extension
+     */
+    public String getParameterValue() {
+        return parameterValue;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * @param value the value of the <code>_format</code> parameter, ignoring case
+     * @return the format
+     * @throws IllegalArgumentException if the value is not a known format
+     */
+    public static ExportFormat fromParameterValue(String value) {
+        for (ExportFormat format : values()) {
+            if (format.parameterValue.equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unknown export format: " + value);
+    }
+}
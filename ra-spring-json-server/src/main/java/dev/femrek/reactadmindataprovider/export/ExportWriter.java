@@ -0,0 +1,31 @@
+package dev.femrek.reactadmindataprovider.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes records of an export to the response one at a time, so an export never holds more than one record in memory.
+ * See {@link ExportWriters} for the built-in writers.
+ *
+ * @param <T> the response DTO type
+ */
+@FunctionalInterface
+public interface ExportWriter<T> {
+    /**
+     * Writes everything that precedes the records, e.g., the CSV header row. Does nothing by default.
+     *
+     * @param out the response body
+     * @throws IOException if writing fails
+     */
+    default void writeHeader(OutputStream out) throws IOException {
+    }
+
+    /**
+     * Writes one record.
+     *
+     * @param record the record
+     * @param out    the response body
+     * @throws IOException if writing fails
+     */
+    void write(T record, OutputStream out) throws IOException;
+}
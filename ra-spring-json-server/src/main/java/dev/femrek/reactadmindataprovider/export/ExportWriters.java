@@ -0,0 +1,213 @@
+package dev.femrek.reactadmindataprovider.export;
+
+import dev.femrek.reactadmindataprovider.json.JacksonRecordJsonMapper;
+import dev.femrek.reactadmindataprovider.json.RecordJsonMapper;
+import org.springframework.beans.BeanUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.beans.PropertyDescriptor;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Built-in {@link ExportWriter} implementations.
+ */
+public final class ExportWriters {
+    private static final byte[] LINE_SEPARATOR = {'\n'};
+    private static final byte[] CSV_LINE_SEPARATOR = {'\r', '\n'};
+
+    private ExportWriters() {
+    }
+
+    /**
+     * Writes each record as one line of JSON.
+     *
+     * @param serializer serializes a record to JSON without line breaks, e.g., <code>jsonMapper::writeValueAsBytes</code>
+     * @param <T>        the response DTO type
+     * @return the NDJSON writer
+     */
+    public static <T> ExportWriter<T> ndjson(Function<? super T, byte[]> serializer) {
+        Objects.requireNonNull(serializer, "Serializer must not be null");
+        return (record, out) -> {
+            out.write(serializer.apply(record));
+            out.write(LINE_SEPARATOR);
+        };
+    }
+
+    /**
+     * Returns the default writer of a format, with Jackson's shared <code>JsonMapper</code> if Jackson is on the
+     * classpath, see {@link #forFormat(ExportFormat, Class, RecordJsonMapper)}.
+     *
+     * @param format the export format
+     * @param type   the response DTO type
+     * @param <T>    the response DTO type
+     * @return the writer, or null if the format needs Jackson and Jackson is not on the classpath
+     */
+    public static <T> ExportWriter<T> forFormat(ExportFormat format, Class<T> type) {
+        return forFormat(format, type, RecordJsonMapper.shared());
+    }
+
+    /**
+     * Returns the default writer of a format: NDJSON serialized with the mapper, and CSV with the scalar JSON
+     * properties of the type, see {@link #csv(RecordJsonMapper, Class, String...)}. Without a mapper, CSV falls back to
+     * {@link #csv(Class, String...)} and NDJSON is not supported.
+     *
+     * @param format     the export format
+     * @param type       the response DTO type
+     * @param jsonMapper the mapper of the application's JSON responses, or null if Jackson is not available
+     * @param <T>        the response DTO type
+     * @return the writer, or null if the format needs a mapper and there is none
+     */
+    public static <T> ExportWriter<T> forFormat(ExportFormat format, Class<T> type, RecordJsonMapper jsonMapper) {
+        return switch (format) {
+            case NDJSON -> jsonMapper != null ? ndjson(jsonMapper::writeValueAsBytes) : null;
+            case CSV -> jsonMapper != null ? csv(jsonMapper, type) : csv(type);
+        };
+    }
+
+    /**
+     * Writes each record as one line of JSON, serialized with Jackson's shared <code>JsonMapper</code>. Requires
+     * <code>tools.jackson.core:jackson-databind</code>. Use {@link #ndjson(Function)} with the application's mapper
+     * to apply its configuration.
+     *
+     * @param <T> the response DTO type
+     * @return the NDJSON writer
+     */
+    public static <T> ExportWriter<T> ndjson() {
+        return ndjson(JacksonRecordJsonMapper.shared()::writeValueAsBytes);
+    }
+
+    /**
+     * Writes JSON properties of each record as CSV, with a header row of property names. Values are written as they
+     * appear in the record's JSON, so ignored properties are never exported and formats apply; nulls are written as
+     * empty fields.
+     *
+     * @param jsonMapper the mapper of the application's JSON responses
+     * @param type       the response DTO type
+     * @param columns    the JSON properties to write, in order; if empty, all properties with scalar values (e.g., no
+     *                   embedded records) in alphabetical order
+     * @param <T>        the response DTO type
+     * @return the CSV writer
+     * @throws IllegalArgumentException if a column is not a JSON property of the type
+     */
+    public static <T> ExportWriter<T> csv(RecordJsonMapper jsonMapper, Class<T> type, String... columns) {
+        List<String> names;
+        if (columns.length == 0) {
+            names = jsonMapper.getScalarPropertyNames(type).stream().sorted().toList();
+        } else {
+            Set<String> properties = jsonMapper.getPropertyNames(type);
+            for (String column : columns) {
+                if (!properties.contains(column)) {
+                    throw new IllegalArgumentException(column + " is not a JSON property of " + type.getName());
+                }
+            }
+            names = List.of(columns);
+        }
+        byte[] header = toCsvLine(names.toArray());
+
+        return new ExportWriter<>() {
+            @Override
+            public void writeHeader(OutputStream out) throws IOException {
+                out.write(header);
+            }
+
+            @Override
+            public void write(T record, OutputStream out) throws IOException {
+                out.write(toCsvLine(jsonMapper.getTextValues(record, names).toArray()));
+            }
+        };
+    }
+
+    /**
+     * Writes readable bean properties of each record as CSV, with a header row of property names. Values are
+     * written with {@link String#valueOf(Object)}, nulls as empty fields. Bean properties ignore the JSON
+     * configuration of the type, so prefer {@link #csv(RecordJsonMapper, Class, String...)} to write values as they
+     * appear in the JSON.
+     *
+     * @param type    the response DTO type
+     * @param columns the properties to write, in order; if empty, the scalar JSON properties of Jackson's shared
+     *                <code>JsonMapper</code> if Jackson is on the classpath, so that properties hidden from the JSON are
+     *                never exported, or else all readable properties of simple value types (e.g., no embedded records),
+     *                in alphabetical order
+     * @param <T>     the response DTO type
+     * @return the CSV writer
+     * @throws IllegalArgumentException if a column is not a readable property of the type
+     */
+    public static <T> ExportWriter<T> csv(Class<T> type, String... columns) {
+        if (columns.length == 0 && RecordJsonMapper.isJacksonPresent()) {
+            return csv(JacksonRecordJsonMapper.shared(), type);
+        }
+        List<String> names = new ArrayList<>();
+        List<Method> getters = new ArrayList<>();
+        if (columns.length == 0) {
+            for (PropertyDescriptor descriptor : BeanUtils.getPropertyDescriptors(type)) {
+                if (descriptor.getReadMethod() != null && !"class".equals(descriptor.getName())
+                        && BeanUtils.isSimpleValueType(descriptor.getPropertyType())) {
+                    names.add(descriptor.getName());
+                    getters.add(descriptor.getReadMethod());
+                }
+            }
+        } else {
+            for (String column : columns) {
+                PropertyDescriptor descriptor = BeanUtils.getPropertyDescriptor(type, column);
+                if (descriptor == null || descriptor.getReadMethod() == null) {
+                    throw new IllegalArgumentException(column + " is not a readable property of " + type.getName());
+                }
+                names.add(column);
+                getters.add(descriptor.getReadMethod());
+            }
+        }
+        getters.forEach(ReflectionUtils::makeAccessible);
+        byte[] header = toCsvLine(names.toArray());
+
+        return new ExportWriter<>() {
+            @Override
+            public void writeHeader(OutputStream out) throws IOException {
+                out.write(header);
+            }
+
+            @Override
+            public void write(T record, OutputStream out) throws IOException {
+                Object[] values = new Object[getters.size()];
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = ReflectionUtils.invokeMethod(getters.get(i), record);
+                }
+                out.write(toCsvLine(values));
+            }
+        };
+    }
+
+    private static byte[] toCsvLine(Object[] values) {
+        StringBuilder line = new StringBuilder();
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                line.append(',');
+            }
+            if (values[i] != null) {
+                appendCsvField(line, String.valueOf(values[i]));
+            }
+        }
+        byte[] bytes = line.toString().getBytes(StandardCharsets.UTF_8);
+        byte[] result = Arrays.copyOf(bytes, bytes.length + CSV_LINE_SEPARATOR.length);
+        System.arraycopy(CSV_LINE_SEPARATOR, 0, result, bytes.length, CSV_LINE_SEPARATOR.length);
+        return result;
+    }
+
+    private static void appendCsvField(StringBuilder line, String value) {
+        boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!quote) {
+            line.append(value);
+            return;
+        }
+        line.append('"').append(value.replace("\"", "\"\"")).append('"');
+    }
+}
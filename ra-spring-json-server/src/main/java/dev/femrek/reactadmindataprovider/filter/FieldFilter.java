@@ -0,0 +1,190 @@
+package dev.femrek.reactadmindataprovider.filter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * One filter of a <code>getList</code>, <code>getManyReference</code> or <code>export</code> request, parsed from a
+ * query parameter with the operator grammar of json-server:
+ * <table>
+ *   <caption>Filter operators</caption>
+ *   <tr><th>Parameter</th><th>Operator</th><th>Matches</th></tr>
+ *   <tr><td><code>status=published</code></td><td>{@link Operator#EQ}</td><td>equal values</td></tr>
+ *   <tr><td><code>status_ne=draft</code></td><td>{@link Operator#NE}</td><td>different values</td></tr>
+ *   <tr><td><code>views_gte=10</code></td><td>{@link Operator#GTE}</td><td>values greater than or equal</td></tr>
+ *   <tr><td><code>publishedAt_lte=2024-12-31</code></td><td>{@link Operator#LTE}</td><td>values less than or equal</td></tr>
+ *   <tr><td><code>title_like=spring</code></td><td>{@link Operator#LIKE}</td><td>values containing the text; a leading
+ *       <code>^</code> matches the start, a trailing <code>$</code> the end</td></tr>
+ *   <tr><td><code>id_in=1,2,3</code></td><td>{@link Operator#IN}</td><td>any of the comma-separated values</td></tr>
+ * </table>
+ * Values are kept as strings; services convert them to the type of the filtered field. The global search parameter
+ * <code>q</code> is not a field filter.
+ */
+public final class FieldFilter {
+    /**
+     * The global search parameter, which {@link #parseAll(Map)} skips.
+     */
+    public static final String SEARCH_PARAM = "q";
+
+    /**
+     * The comparison of a {@link FieldFilter}, selected by the suffix of its parameter name.
+     */
+    public enum Operator {
+        /**
+         * Equal to the value. Parameters without an operator suffix.
+         */
+        EQ(""),
+        /**
+         * Not equal to the value.
+         */
+        NE("_ne"),
+        /**
+         * Greater than or equal to the value.
+         */
+        GTE("_gte"),
+        /**
+         * Less than or equal to the value.
+         */
+        LTE("_lte"),
+        /**
+         * Matches the text pattern of the value.
+         */
+        LIKE("_like"),
+        /**
+         * Equal to one of the comma-separated values.
+         */
+        IN("_in");
+
+        private final String suffix;
+
+        Operator(String suffix) {
+            this.suffix = suffix;
+        }
+
+        /**
+         * @return the suffix of the parameter name, empty for {@link #EQ}
+         */
+        public String getSuffix() {
+            return suffix;
+        }
+
+        /**
+         * @param key a filter parameter name
+         * @return the operator of its suffix, or {@link #EQ} if it has no operator suffix
+         */
+        public static Operator ofKey(String key) {
+            for (Operator operator : values()) {
+                if (operator != EQ && key.length() > operator.suffix.length() && key.endsWith(operator.suffix)) {
+                    return operator;
+                }
+            }
+            return EQ;
+        }
+    }
+
+    private final String key;
+    private final String field;
+    private final Operator operator;
+    private final String value;
+
+    private FieldFilter(String key, String field, Operator operator, String value) {
+        this.key = key;
+        this.field = field;
+        this.operator = operator;
+        this.value = value;
+    }
+
+    /**
+     * @param key   the parameter name, e.g., <code>views_gte</code>
+     * @param value the parameter value
+     * @return the filter of the parameter
+     */
+    public static FieldFilter parse(String key, String value) {
+        Objects.requireNonNull(key, "Key must not be null");
+        Operator operator = Operator.ofKey(key);
+        String field = key.substring(0, key.length() - operator.getSuffix().length());
+        return new FieldFilter(key, field, operator, value);
+    }
+
+    /**
+     * Parses the filter parameters of a request, skipping the global search parameter and empty values.
+     *
+     * @param filters the filter parameters, without the reserved parameters of the controller
+     * @return the filters, in the iteration order of the map
+     */
+    public static List<FieldFilter> parseAll(Map<String, String> filters) {
+        if (filters == null || filters.isEmpty()) {
+            return List.of();
+        }
+        List<FieldFilter> parsed = new ArrayList<>(filters.size());
+        filters.forEach((key, value) -> {
+            if (!SEARCH_PARAM.equals(key) && value != null && !value.isEmpty()) {
+                parsed.add(parse(key, value));
+            }
+        });
+        return Collections.unmodifiableList(parsed);
+    }
+
+    /**
+     * @return the parameter name, including the operator suffix
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * @return the name of the filtered field, without the operator suffix
+     */
+    public String getField() {
+        return field;
+    }
+
+    public Operator getOperator() {
+        return operator;
+    }
+
+    /**
+     * @return the parameter value
+     */
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * @return the comma-separated values of an {@link Operator#IN} filter without empty entries, or the single value
+     * of other filters
+     */
+    public List<String> getValues() {
+        if (operator != Operator.IN) {
+            return List.of(value);
+        }
+        List<String> values = new ArrayList<>();
+        for (String part : value.split(",")) {
+            String trimmed = part.trim();
+            if (!trimmed.isEmpty()) {
+                values.add(trimmed);
+            }
+        }
+        return Collections.unmodifiableList(values);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof FieldFilter that)) return false;
+        return key.equals(that.key) && Objects.equals(value, that.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(key, value);
+    }
+
+    @Override
+    public String toString() {
+        return key + "=" + value;
+    }
+}
@@ -0,0 +1,121 @@
+package dev.femrek.reactadmindataprovider.guard;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * The query timeouts of the read operations of {@link dev.femrek.reactadmindataprovider.controller.RAController}s
+ * (<code>getList</code>, <code>getManyReference</code>, <code>getMany</code> and <code>getOne</code>). The timeout of
+ * an operation is the first one set of:
+ * <ol>
+ *   <li>the timeout of its resource, by resource name (the first path of the controller's request mapping)</li>
+ *   <li>the timeout of its operation, by operation name</li>
+ *   <li>the default timeout</li>
+ * </ol>
+ * A timeout of zero disables the timeout, e.g., to exempt a resource from the default timeout. Queries that reach their
+ * timeout are cancelled, and the request is answered with status 503 and a <code>Retry-After</code> header.
+ * <p>
+ * The queries of <code>getList</code> and <code>getManyReference</code> requests with the global search parameter
+ * <code>q</code> may also have a shorter search timeout, which bounds the database time of searches abandoned by the
+ * client.
+ * <p>
+ * This class is immutable.
+ *
+ * @see dev.femrek.reactadmindataprovider.config.RAQueryGuardConfig
+ */
+public final class QueryTimeouts {
+    /**
+     * The default {@link #getRetryAfter()} delay.
+     */
+    public static final Duration DEFAULT_RETRY_AFTER = Duration.ofSeconds(5);
+
+    /**
+     * No timeouts.
+     */
+    public static final QueryTimeouts NONE = new QueryTimeouts(null, Map.of(), Map.of(), DEFAULT_RETRY_AFTER);
+
+    private final Duration defaultTimeout;
+    private final Map<String, Duration> operationTimeouts;
+    private final Map<String, Duration> resourceTimeouts;
+    private final Duration searchTimeout;
+    private final Duration retryAfter;
+
+    /**
+     * Creates timeouts without a search timeout.
+     *
+     * @param defaultTimeout    the timeout of operations without a resource or operation timeout, or null for none
+     * @param operationTimeouts the timeouts by operation name, e.g., <code>getList</code>
+     * @param resourceTimeouts  the timeouts by resource name, e.g., <code>/api/posts</code>
+     * @param retryAfter        the delay after which clients may retry a request whose query timed out
+     */
+    public QueryTimeouts(Duration defaultTimeout,
+                         Map<String, Duration> operationTimeouts,
+                         Map<String, Duration> resourceTimeouts,
+                         Duration retryAfter) {
+        this(defaultTimeout, operationTimeouts, resourceTimeouts, null, retryAfter);
+    }
+
+    /**
+     * @param defaultTimeout    the timeout of operations without a resource or operation timeout, or null for none
+     * @param operationTimeouts the timeouts by operation name, e.g., <code>getList</code>
+     * @param resourceTimeouts  the timeouts by resource name, e.g., <code>/api/posts</code>
+     * @param searchTimeout     the timeout of search queries, or null for none
+     * @param retryAfter        the delay after which clients may retry a request whose query timed out
+     */
+    public QueryTimeouts(Duration defaultTimeout,
+                         Map<String, Duration> operationTimeouts,
+                         Map<String, Duration> resourceTimeouts,
+                         Duration searchTimeout,
+                         Duration retryAfter) {
+        if (defaultTimeout != null && defaultTimeout.isNegative()) {
+            throw new IllegalArgumentException("Default timeout must not be negative");
+        }
+        if (searchTimeout != null && searchTimeout.isNegative()) {
+            throw new IllegalArgumentException("Search timeout must not be negative");
+        }
+        if (operationTimeouts.values().stream().anyMatch(timeout -> timeout == null || timeout.isNegative())) {
+            throw new IllegalArgumentException("Operation timeouts must not be null or negative");
+        }
+        if (resourceTimeouts.values().stream().anyMatch(timeout -> timeout == null || timeout.isNegative())) {
+            throw new IllegalArgumentException("Resource timeouts must not be null or negative");
+        }
+        if (retryAfter == null || retryAfter.isNegative()) {
+            throw new IllegalArgumentException("Retry-After delay must not be null or negative");
+        }
+        this.defaultTimeout = defaultTimeout;
+        this.operationTimeouts = Map.copyOf(operationTimeouts);
+        this.resourceTimeouts = Map.copyOf(resourceTimeouts);
+        this.searchTimeout = searchTimeout;
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * @param resource  the resource name
+     * @param operation the operation name
+     * @return the timeout of the operation, or null for none
+     */
+    public Duration getTimeout(String resource, String operation) {
+        Duration timeout = resourceTimeouts.get(resource);
+        if (timeout == null) {
+            timeout = operationTimeouts.get(operation);
+        }
+        if (timeout == null) {
+            timeout = defaultTimeout;
+        }
+        return timeout != null && !timeout.isZero() ? timeout : null;
+    }
+
+    /**
+     * @return the timeout of the queries of requests with the global search parameter <code>q</code>, or null for none
+     */
+    public Duration getSearchTimeout() {
+        return searchTimeout != null && !searchTimeout.isZero() ? searchTimeout : null;
+    }
+
+    /**
+     * @return the delay sent in the <code>Retry-After</code> header of responses to requests whose query timed out
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
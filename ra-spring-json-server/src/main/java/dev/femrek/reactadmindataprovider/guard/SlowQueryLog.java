@@ -0,0 +1,82 @@
+package dev.femrek.reactadmindataprovider.guard;
+
+import dev.femrek.reactadmindataprovider.filter.FieldFilter;
+import dev.femrek.reactadmindataprovider.metrics.RAOperation;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+
+/**
+ * Logs the {@link dev.femrek.reactadmindataprovider.controller.RAController} queries that take at least a threshold,
+ * with the shape of their filter: the filtered fields and operators without the values, e.g.,
+ * <code>status = ?, title LIKE ?, views &gt;= ?</code>. Queries with the same shape use the same index, so the shapes
+ * that keep showing up tell which indexes to add. Values are left out so that the log holds no user data.
+ * <p>
+ * Slow queries are logged at level WARN to the logger named after this class.
+ */
+public final class SlowQueryLog {
+    private static final Log logger = LogFactory.getLog(SlowQueryLog.class);
+
+    private final long thresholdNanos;
+
+    /**
+     * @param threshold the duration from which queries are logged
+     */
+    public SlowQueryLog(Duration threshold) {
+        if (threshold == null || threshold.isNegative()) {
+            throw new IllegalArgumentException("Threshold must not be null or negative");
+        }
+        this.thresholdNanos = threshold.toNanos();
+    }
+
+    /**
+     * Logs the query if it took at least the threshold.
+     *
+     * @param operation     the operation that ran the query
+     * @param query         the kind of query, see {@link dev.femrek.reactadmindataprovider.metrics.RAMetrics}
+     * @param filters       the filter parameters of the query, or null if it has none
+     * @param durationNanos the duration of the query, in nanoseconds
+     */
+    public void record(RAOperation operation, String query, Map<String, String> filters, long durationNanos) {
+        if (durationNanos < thresholdNanos || !logger.isWarnEnabled()) {
+            return;
+        }
+        logger.warn("Slow " + query + " query of " + operation.getOperation() + " " + operation.getResource()
+                + " took " + Duration.ofNanos(durationNanos).toMillis() + " ms, filter: " + filterShape(filters));
+    }
+
+    /**
+     * Describes the fields and operators of a filter without its values, in field order.
+     *
+     * @param filters the filter parameters
+     * @return the shape of the filter, e.g., <code>q (search), status = ?, id IN (?)</code>, or <code>none</code>
+     */
+    public static String filterShape(Map<String, String> filters) {
+        StringJoiner shape = new StringJoiner(", ");
+        if (filters != null) {
+            new TreeMap<>(filters).forEach((key, value) -> {
+                if (value == null || value.isEmpty()) {
+                    return;
+                }
+                if (FieldFilter.SEARCH_PARAM.equals(key)) {
+                    shape.add(key + " (search)");
+                    return;
+                }
+                FieldFilter filter = FieldFilter.parse(key, value);
+                shape.add(filter.getField() + switch (filter.getOperator()) {
+                    case EQ -> " = ?";
+                    case NE -> " <> ?";
+                    case GTE -> " >= ?";
+                    case LTE -> " <= ?";
+                    case LIKE -> " LIKE ?";
+                    case IN -> " IN (?)";
+                });
+            });
+        }
+        return shape.length() > 0 ? shape.toString() : "none";
+    }
+}
@@ -0,0 +1,129 @@
+package dev.femrek.reactadmindataprovider.json;
+
+import org.springframework.beans.BeanUtils;
+import tools.jackson.databind.BeanProperty;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.jsonFormatVisitors.JsonFormatVisitorWrapper;
+import tools.jackson.databind.jsonFormatVisitors.JsonObjectFormatVisitor;
+import tools.jackson.databind.node.ObjectNode;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link RecordJsonMapper} backed by a Jackson <code>JsonMapper</code>. Requires
+ * <code>tools.jackson.core:jackson-databind</code> on the classpath.
+ * <p>
+ * The properties of a type are the ones its Jackson serializer writes, with their JSON names. Records are projected
+ * by serializing them to a tree and keeping the selected properties, so their values are written exactly as in full
+ * responses.
+ */
+public final class JacksonRecordJsonMapper implements RecordJsonMapper {
+    private static final JacksonRecordJsonMapper SHARED = new JacksonRecordJsonMapper(JsonMapper.shared());
+
+    private final JsonMapper jsonMapper;
+    private final Map<Class<?>, Map<String, JavaType>> properties = new ConcurrentHashMap<>();
+
+    /**
+     * @param jsonMapper the mapper of the application's JSON responses
+     */
+    public JacksonRecordJsonMapper(JsonMapper jsonMapper) {
+        this.jsonMapper = Objects.requireNonNull(jsonMapper, "JSON mapper must not be null");
+    }
+
+    /**
+     * @return the mapper with Jackson's shared <code>JsonMapper</code>
+     */
+    public static JacksonRecordJsonMapper shared() {
+        return SHARED;
+    }
+
+    @Override
+    public Set<String> getPropertyNames(Class<?> type) {
+        return getProperties(type).keySet();
+    }
+
+    @Override
+    public Set<String> getScalarPropertyNames(Class<?> type) {
+        Set<String> names = new LinkedHashSet<>();
+        getProperties(type).forEach((name, propertyType) -> {
+            if (BeanUtils.isSimpleValueType(propertyType.getRawClass())) {
+                names.add(name);
+            }
+        });
+        return Collections.unmodifiableSet(names);
+    }
+
+    @Override
+    public Object project(Object record, Collection<String> names) {
+        JsonNode tree = jsonMapper.valueToTree(record);
+        if (!(tree instanceof ObjectNode object)) {
+            return tree;
+        }
+        ObjectNode projected = jsonMapper.createObjectNode();
+        for (String name : names) {
+            JsonNode value = object.get(name);
+            if (value != null) {
+                projected.set(name, value);
+            }
+        }
+        return projected;
+    }
+
+    @Override
+    public List<String> getTextValues(Object record, List<String> names) {
+        JsonNode tree = jsonMapper.valueToTree(record);
+        List<String> values = new ArrayList<>(names.size());
+        for (String name : names) {
+            JsonNode value = tree.get(name);
+            if (value == null || value.isNull()) {
+                values.add(null);
+            } else {
+                values.add(value.isValueNode() ? value.asString() : value.toString());
+            }
+        }
+        return values;
+    }
+
+    @Override
+    public byte[] writeValueAsBytes(Object record) {
+        return jsonMapper.writeValueAsBytes(record);
+    }
+
+    /**
+     * Collects the properties the serializer of the type writes, with their declared types.
+     */
+    private Map<String, JavaType> getProperties(Class<?> type) {
+        return properties.computeIfAbsent(type, key -> {
+            Map<String, JavaType> collected = new LinkedHashMap<>();
+            JsonObjectFormatVisitor propertyVisitor = new JsonObjectFormatVisitor.Base() {
+                @Override
+                public void property(BeanProperty property) {
+                    collected.put(property.getName(), property.getType());
+                }
+
+                @Override
+                public void optionalProperty(BeanProperty property) {
+                    collected.put(property.getName(), property.getType());
+                }
+            };
+            jsonMapper.acceptJsonFormatVisitor(key, new JsonFormatVisitorWrapper.Base() {
+                @Override
+                public JsonObjectFormatVisitor expectObjectFormat(JavaType objectType) {
+                    return propertyVisitor;
+                }
+            });
+            return Collections.unmodifiableMap(collected);
+        });
+    }
+}
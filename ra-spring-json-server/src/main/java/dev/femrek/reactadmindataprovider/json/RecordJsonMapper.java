@@ -0,0 +1,73 @@
+package dev.femrek.reactadmindataprovider.json;
+
+import org.springframework.util.ClassUtils;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Reads records the way the application's JSON message converter writes them, so that the properties selected with
+ * <code>_fields</code> and the columns of CSV exports are the properties of the JSON responses: ignored properties
+ * stay hidden, and renamed properties, formats and custom serializers apply.
+ * <p>
+ * {@link JacksonRecordJsonMapper} is the implementation, set up with the application's <code>JsonMapper</code> by
+ * {@link dev.femrek.reactadmindataprovider.config.RAJsonConfig}. Implementations must be thread-safe.
+ */
+public interface RecordJsonMapper {
+    /**
+     * @param type the record type
+     * @return the names of the properties in the JSON of records of the type, in the order they are written
+     */
+    Set<String> getPropertyNames(Class<?> type);
+
+    /**
+     * @param type the record type
+     * @return the names of the properties whose values are written as JSON scalars (e.g., no embedded records), in the
+     * order they are written
+     */
+    Set<String> getScalarPropertyNames(Class<?> type);
+
+    /**
+     * Serializes a record with only some of its properties.
+     *
+     * @param record the record
+     * @param names  the names of the properties to keep, in the order to write them
+     * @return the JSON of the record reduced to these properties, which message converters write as is; properties
+     * the record does not write (e.g., null values that are not included) are left out
+     */
+    Object project(Object record, Collection<String> names);
+
+    /**
+     * Reads property values of a record as text, e.g., for CSV columns.
+     *
+     * @param record the record
+     * @param names  the names of the properties
+     * @return for each property, the text of its JSON scalar value, the JSON of other values, or null if the record
+     * does not write it or writes null
+     */
+    List<String> getTextValues(Object record, List<String> names);
+
+    /**
+     * @param record the record
+     * @return the JSON of the record
+     */
+    byte[] writeValueAsBytes(Object record);
+
+    /**
+     * @return whether Jackson is on the classpath
+     */
+    static boolean isJacksonPresent() {
+        return ClassUtils.isPresent("tools.jackson.databind.json.JsonMapper", RecordJsonMapper.class.getClassLoader());
+    }
+
+    /**
+     * The mapper of records used when the application has no {@link RecordJsonMapper} bean.
+     *
+     * @return a {@link JacksonRecordJsonMapper} with Jackson's shared <code>JsonMapper</code>, or null if Jackson is not
+     * on the classpath
+     */
+    static RecordJsonMapper shared() {
+        return isJacksonPresent() ? JacksonRecordJsonMapper.shared() : null;
+    }
+}
@@ -0,0 +1,84 @@
+package dev.femrek.reactadmindataprovider.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records {@link RAMetrics} as Micrometer meters, tagged with <code>resource</code>, <code>tag</code> and
+ * <code>operation</code>:
+ * <ul>
+ *   <li><code>ra.requests</code>: timer of handled requests, also tagged with <code>outcome</code></li>
+ *   <li><code>ra.queries</code>: timer of service queries, also tagged with <code>query</code> (page, content or
+ *       count), which separates the time of count queries from the time of content queries</li>
+ *   <li><code>ra.page.size</code>: distribution of requested page sizes</li>
+ *   <li><code>ra.results</code>: distribution of the number of returned records</li>
+ *   <li><code>ra.batch.size</code>: distribution of the number of IDs of getMany, updateMany and deleteMany</li>
+ * </ul>
+ * The count of each timer and distribution is the number of recorded requests.
+ */
+public class MicrometerRAMetrics implements RAMetrics {
+    public static final String REQUESTS = "ra.requests";
+    public static final String QUERIES = "ra.queries";
+    public static final String PAGE_SIZE = "ra.page.size";
+    public static final String RESULTS = "ra.results";
+    public static final String BATCH_SIZE = "ra.batch.size";
+
+    private final MeterRegistry registry;
+
+    public MicrometerRAMetrics(MeterRegistry registry) {
+        this.registry = Objects.requireNonNull(registry, "Registry must not be null");
+    }
+
+    @Override
+    public void recordRequest(RAOperation operation, String outcome, long durationNanos) {
+        Timer.builder(REQUESTS)
+                .description("Requests handled by RAController operations")
+                .tags(tags(operation).and("outcome", outcome))
+                .register(registry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordQuery(RAOperation operation, String query, long durationNanos) {
+        Timer.builder(QUERIES)
+                .description("Service queries run by RAController operations")
+                .tags(tags(operation).and("query", query))
+                .register(registry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordPageSize(RAOperation operation, int pageSize) {
+        summary(PAGE_SIZE, "Requested page sizes", operation).record(pageSize);
+    }
+
+    @Override
+    public void recordResultCount(RAOperation operation, int resultCount) {
+        summary(RESULTS, "Records returned by read operations", operation).record(resultCount);
+    }
+
+    @Override
+    public void recordBatchSize(RAOperation operation, int batchSize) {
+        summary(BATCH_SIZE, "IDs per getMany, updateMany and deleteMany request", operation).record(batchSize);
+    }
+
+    private DistributionSummary summary(String name, String description, RAOperation operation) {
+        return DistributionSummary.builder(name)
+                .description(description)
+                .tags(tags(operation))
+                .register(registry);
+    }
+
+    private static Tags tags(RAOperation operation) {
+        return Tags.of(
+                "resource", operation.getResource(),
+                "tag", operation.getTag(),
+                "operation", operation.getOperation()
+        );
+    }
+}
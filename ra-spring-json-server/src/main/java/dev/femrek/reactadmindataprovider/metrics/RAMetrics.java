@@ -0,0 +1,81 @@
+package dev.femrek.reactadmindataprovider.metrics;
+
+/**
+ * Receives the measurements of {@link dev.femrek.reactadmindataprovider.controller.RAController} operations: the
+ * duration and outcome of each request, the duration of each service query, and the sizes of pages, results and bulk
+ * operations.
+ * <p>
+ * {@link MicrometerRAMetrics} records them as Micrometer meters, and is registered automatically by
+ * {@link dev.femrek.reactadmindataprovider.config.RAMetricsConfig} when the application has a <code>MeterRegistry</code>.
+ * All methods do nothing by default. Implementations must be thread-safe.
+ */
+public interface RAMetrics {
+    /**
+     * Metrics that record nothing, used when no {@link RAMetrics} bean exists.
+     */
+    RAMetrics NONE = new RAMetrics() {
+    };
+
+    /**
+     * A query that returns a page together with its total count, e.g., {@code IRAService.findWithFilters}.
+     */
+    String QUERY_PAGE = "page";
+
+    /**
+     * A query that only returns records.
+     */
+    String QUERY_CONTENT = "content";
+
+    /**
+     * A query that only counts records.
+     */
+    String QUERY_COUNT = "count";
+
+    /**
+     * Records a handled request.
+     *
+     * @param operation     the operation
+     * @param outcome       the outcome class of the response status, e.g., "SUCCESS" or "CLIENT_ERROR"
+     * @param durationNanos how long the request took
+     */
+    default void recordRequest(RAOperation operation, String outcome, long durationNanos) {
+    }
+
+    /**
+     * Records a service query run by an operation.
+     *
+     * @param operation     the operation
+     * @param query         the kind of query: {@link #QUERY_PAGE}, {@link #QUERY_CONTENT} or {@link #QUERY_COUNT}
+     * @param durationNanos how long the query took
+     */
+    default void recordQuery(RAOperation operation, String query, long durationNanos) {
+    }
+
+    /**
+     * Records the requested page size of a <code>getList</code> or <code>getManyReference</code> request.
+     *
+     * @param operation the operation
+     * @param pageSize  the number of requested records
+     */
+    default void recordPageSize(RAOperation operation, int pageSize) {
+    }
+
+    /**
+     * Records the number of records returned by a read operation.
+     *
+     * @param operation   the operation
+     * @param resultCount the number of returned records
+     */
+    default void recordResultCount(RAOperation operation, int resultCount) {
+    }
+
+    /**
+     * Records the number of IDs of a <code>getMany</code>, <code>updateMany</code> or <code>deleteMany</code>
+     * request.
+     *
+     * @param operation the operation
+     * @param batchSize the number of requested IDs
+     */
+    default void recordBatchSize(RAOperation operation, int batchSize) {
+    }
+}
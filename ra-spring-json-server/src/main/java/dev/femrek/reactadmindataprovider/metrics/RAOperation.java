@@ -0,0 +1,53 @@
+package dev.femrek.reactadmindataprovider.metrics;
+
+import java.util.Objects;
+
+/**
+ * Identifies an operation of a resource in {@link RAMetrics}. All values have a low cardinality: they are taken from
+ * the controller's mapping and OpenAPI tag and from the operation, never from request parameters.
+ */
+public final class RAOperation {
+    private final String resource;
+    private final String tag;
+    private final String operation;
+
+    /**
+     * @param resource  the first path of the controller's <code>RequestMapping</code>, e.g., "/api/posts"
+     * @param tag       the name of the controller's OpenAPI <code>Tag</code>, or "none"
+     * @param operation the data provider operation, e.g., "getList"
+     */
+    public RAOperation(String resource, String tag, String operation) {
+        this.resource = Objects.requireNonNull(resource, "Resource must not be null");
+        this.tag = Objects.requireNonNull(tag, "Tag must not be null");
+        this.operation = Objects.requireNonNull(operation, "Operation must not be null");
+    }
+
+    public String getResource() {
+        return resource;
+    }
+
+    public String getTag() {
+        return tag;
+    }
+
+    public String getOperation() {
+        return operation;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof RAOperation other)) return false;
+        return resource.equals(other.resource) && tag.equals(other.tag) && operation.equals(other.operation);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(resource, tag, operation);
+    }
+
+    @Override
+    public String toString() {
+        return operation + " " + resource;
+    }
+}
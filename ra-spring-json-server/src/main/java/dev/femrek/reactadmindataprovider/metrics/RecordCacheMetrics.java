@@ -0,0 +1,89 @@
+package dev.femrek.reactadmindataprovider.metrics;
+
+import dev.femrek.reactadmindataprovider.cache.RecordCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CacheMeterBinder;
+
+/**
+ * Publishes the statistics of a {@link RecordCache} as the standard Micrometer cache meters, tagged with
+ * <code>cache</code>:
+ * <ul>
+ *   <li><code>cache.gets</code>: IDs served from the cache (<code>result=hit</code>) or loaded
+ *       (<code>result=miss</code>)</li>
+ *   <li><code>cache.puts</code>: loaded records that were cached</li>
+ *   <li><code>cache.evictions</code>: records dropped to stay within the maximum size</li>
+ *   <li><code>cache.size</code>: the number of cached records</li>
+ * </ul>
+ * Register an instance as a <code>MeterBinder</code> bean, which Spring Boot Actuator binds to the
+ * <code>MeterRegistry</code>, or bind it with {@link #monitor(MeterRegistry, RecordCache, String, String...)}:
+ * <pre>{@code
+ * @Bean
+ * public MeterBinder configCacheMetrics() {
+ *     return new RecordCacheMetrics(configCache, "configs", Tags.empty());
+ * }
+ * }</pre>
+ * The cache is only weakly referenced, so binding it does not keep it alive.
+ */
+public class RecordCacheMetrics extends CacheMeterBinder<RecordCache<?, ?>> {
+    /**
+     * @param cache     the cache to measure
+     * @param cacheName the value of the <code>cache</code> tag
+     * @param tags      additional tags of all meters
+     */
+    public RecordCacheMetrics(RecordCache<?, ?> cache, String cacheName, Iterable<Tag> tags) {
+        super(cache, cacheName, tags);
+    }
+
+    /**
+     * Binds the meters of a cache to a registry.
+     *
+     * @param registry  the registry
+     * @param cache     the cache to measure
+     * @param cacheName the value of the <code>cache</code> tag
+     * @param tags      additional tags of all meters, as key-value pairs
+     * @return the cache
+     */
+    public static <C extends RecordCache<?, ?>> C monitor(MeterRegistry registry,
+                                                          C cache,
+                                                          String cacheName,
+                                                          String... tags) {
+        new RecordCacheMetrics(cache, cacheName, Tags.of(tags)).bindTo(registry);
+        return cache;
+    }
+
+    @Override
+    protected Long size() {
+        RecordCache<?, ?> cache = getCache();
+        return cache != null ? (long) cache.size() : null;
+    }
+
+    @Override
+    protected long hitCount() {
+        RecordCache<?, ?> cache = getCache();
+        return cache != null ? cache.getHitCount() : 0;
+    }
+
+    @Override
+    protected Long missCount() {
+        RecordCache<?, ?> cache = getCache();
+        return cache != null ? cache.getMissCount() : null;
+    }
+
+    @Override
+    protected Long evictionCount() {
+        RecordCache<?, ?> cache = getCache();
+        return cache != null ? cache.getEvictionCount() : null;
+    }
+
+    @Override
+    protected long putCount() {
+        RecordCache<?, ?> cache = getCache();
+        return cache != null ? cache.getPutCount() : 0;
+    }
+
+    @Override
+    protected void bindImplementationSpecificMetrics(MeterRegistry registry) {
+    }
+}
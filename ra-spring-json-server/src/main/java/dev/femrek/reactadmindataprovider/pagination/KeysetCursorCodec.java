@@ -0,0 +1,169 @@
+package dev.femrek.reactadmindataprovider.pagination;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Encodes {@link KeysetScrollPosition}s to opaque, URL-safe cursor strings and decodes them back.
+ * <p>
+ * A cursor carries the sort key values of the last row of a page, so the next page can be fetched with a
+ * <code>WHERE (sort keys) &gt; (cursor values)</code> predicate instead of an <code>OFFSET</code>. Each value is stored
+ * together with a short type tag, so it is restored with the same Java type that the persistence provider expects.
+ * <p>
+ * Supported value types are {@link String}, {@link Integer}, {@link Long}, {@link Short}, {@link Double},
+ * {@link Float}, {@link BigDecimal}, {@link BigInteger}, {@link Boolean}, {@link UUID}, {@link Instant},
+ * {@link LocalDate}, {@link LocalDateTime}, {@link LocalTime}, {@link OffsetDateTime} and {@link ZonedDateTime}.
+ * Only forward scrolling positions are supported.
+ */
+public final class KeysetCursorCodec {
+    private static final Map<Class<?>, String> TYPE_TAGS = Map.ofEntries(
+            Map.entry(String.class, "s"),
+            Map.entry(Integer.class, "i"),
+            Map.entry(Long.class, "l"),
+            Map.entry(Short.class, "sh"),
+            Map.entry(Double.class, "d"),
+            Map.entry(Float.class, "f"),
+            Map.entry(BigDecimal.class, "bd"),
+            Map.entry(BigInteger.class, "bi"),
+            Map.entry(Boolean.class, "b"),
+            Map.entry(UUID.class, "u"),
+            Map.entry(Instant.class, "ts"),
+            Map.entry(LocalDate.class, "ld"),
+            Map.entry(LocalDateTime.class, "ldt"),
+            Map.entry(LocalTime.class, "lt"),
+            Map.entry(OffsetDateTime.class, "odt"),
+            Map.entry(ZonedDateTime.class, "zdt")
+    );
+
+    private static final Map<String, Function<String, Object>> PARSERS = Map.ofEntries(
+            Map.entry("s", value -> value),
+            Map.entry("i", Integer::valueOf),
+            Map.entry("l", Long::valueOf),
+            Map.entry("sh", Short::valueOf),
+            Map.entry("d", Double::valueOf),
+            Map.entry("f", Float::valueOf),
+            Map.entry("bd", BigDecimal::new),
+            Map.entry("bi", BigInteger::new),
+            Map.entry("b", Boolean::valueOf),
+            Map.entry("u", UUID::fromString),
+            Map.entry("ts", Instant::parse),
+            Map.entry("ld", LocalDate::parse),
+            Map.entry("ldt", LocalDateTime::parse),
+            Map.entry("lt", LocalTime::parse),
+            Map.entry("odt", OffsetDateTime::parse),
+            Map.entry("zdt", ZonedDateTime::parse)
+    );
+
+    private static final String NULL_TAG = "n";
+
+    private KeysetCursorCodec() {
+    }
+
+    /**
+     * Encodes the keys of a forward {@link KeysetScrollPosition} to a cursor string.
+     *
+     * @param position the position to encode
+     * @return an opaque, URL-safe cursor
+     * @throws IllegalArgumentException if the position scrolls backward or contains an unsupported value type
+     */
+    public static String encode(KeysetScrollPosition position) {
+        if (position.scrollsBackward()) {
+            throw new IllegalArgumentException("Only forward keyset positions can be encoded as a cursor");
+        }
+
+        StringBuilder builder = new StringBuilder();
+        for (Map.Entry<String, Object> entry : position.getKeys().entrySet()) {
+            Object value = entry.getValue();
+            String tag;
+            String text;
+            if (value == null) {
+                tag = NULL_TAG;
+                text = "";
+            } else {
+                tag = TYPE_TAGS.get(value.getClass());
+                if (tag == null) {
+                    throw new IllegalArgumentException("Unsupported keyset value type for '" + entry.getKey()
+                            + "': " + value.getClass().getName());
+                }
+                text = value.toString();
+            }
+
+            if (!builder.isEmpty()) {
+                builder.append('&');
+            }
+            builder.append(URLEncoder.encode(entry.getKey(), StandardCharsets.UTF_8))
+                    .append('=')
+                    .append(tag)
+                    .append(':')
+                    .append(URLEncoder.encode(text, StandardCharsets.UTF_8));
+        }
+
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(builder.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor string created by {@link #encode(KeysetScrollPosition)}.
+     *
+     * @param cursor the cursor to decode
+     * @return a forward {@link KeysetScrollPosition} with the keys of the cursor
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public static KeysetScrollPosition decode(String cursor) {
+        String text;
+        try {
+            text = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Malformed cursor", e);
+        }
+        if (text.isEmpty()) {
+            throw new IllegalArgumentException("Malformed cursor: no keys");
+        }
+
+        Map<String, Object> keys = new LinkedHashMap<>();
+        for (String pair : text.split("&")) {
+            int equals = pair.indexOf('=');
+            int colon = pair.indexOf(':', equals + 1);
+            if (equals <= 0 || colon < 0) {
+                throw new IllegalArgumentException("Malformed cursor entry: " + pair);
+            }
+
+            String name = URLDecoder.decode(pair.substring(0, equals), StandardCharsets.UTF_8);
+            String tag = pair.substring(equals + 1, colon);
+            String value = URLDecoder.decode(pair.substring(colon + 1), StandardCharsets.UTF_8);
+
+            if (NULL_TAG.equals(tag)) {
+                keys.put(name, null);
+                continue;
+            }
+            Function<String, Object> parser = PARSERS.get(tag);
+            if (parser == null) {
+                throw new IllegalArgumentException("Unknown cursor value type: " + tag);
+            }
+            try {
+                keys.put(name, parser.apply(value));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Malformed cursor value for '" + name + "'", e);
+            }
+        }
+
+        return ScrollPosition.forward(keys);
+    }
+}
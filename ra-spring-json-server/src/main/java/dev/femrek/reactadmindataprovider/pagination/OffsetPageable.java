@@ -0,0 +1,136 @@
+package dev.femrek.reactadmindataprovider.pagination;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.Objects;
+
+/**
+ * {@link Pageable} implementation that addresses rows by an exact offset and limit instead of a page number.
+ * <p>
+ * ra-spring-data-provider requests ranges as <code>_start</code>/<code>_end</code>, which are not necessarily aligned
+ * to a page boundary (e.g., <code>_start=5&amp;_end=15</code>). {@link org.springframework.data.domain.PageRequest}
+ * can only express aligned windows, so converting such a range to a page number returns the wrong rows. This class
+ * keeps the requested offset, so Spring Data repositories issue exactly <code>OFFSET _start LIMIT (_end - _start)</code>.
+ * <p>
+ * {@link #getPageNumber()} is derived from the offset and is only an approximation for unaligned windows. Use
+ * {@link #getOffset()} whenever the exact position is needed.
+ */
+public final class OffsetPageable implements Pageable {
+    private final long offset;
+    private final int limit;
+    private final Sort sort;
+
+    private OffsetPageable(long offset, int limit, Sort sort) {
+        if (offset < 0) {
+            throw new IllegalArgumentException("Offset must not be less than zero");
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must not be less than one");
+        }
+        Objects.requireNonNull(sort, "Sort must not be null");
+        this.offset = offset;
+        this.limit = limit;
+        this.sort = sort;
+    }
+
+    /**
+     * Creates an unsorted {@link OffsetPageable}.
+     *
+     * @param offset zero-based index of the first row to return
+     * @param limit  maximum number of rows to return, must be greater than zero
+     * @return a new {@link OffsetPageable}
+     */
+    public static OffsetPageable of(long offset, int limit) {
+        return new OffsetPageable(offset, limit, Sort.unsorted());
+    }
+
+    /**
+     * Creates a sorted {@link OffsetPageable}.
+     *
+     * @param offset zero-based index of the first row to return
+     * @param limit  maximum number of rows to return, must be greater than zero
+     * @param sort   the sort to apply, must not be null
+     * @return a new {@link OffsetPageable}
+     */
+    public static OffsetPageable of(long offset, int limit, Sort sort) {
+        return new OffsetPageable(offset, limit, sort);
+    }
+
+    /**
+     * Creates a sorted {@link OffsetPageable} from a half-open range as sent by ra-spring-data-provider.
+     *
+     * @param start zero-based index of the first row to return (inclusive)
+     * @param end   zero-based index of the last row to return (exclusive), must be greater than start
+     * @param sort  the sort to apply, must not be null
+     * @return a new {@link OffsetPageable}
+     */
+    public static OffsetPageable ofRange(long start, long end, Sort sort) {
+        if (end - start > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Range must not be larger than " + Integer.MAX_VALUE);
+        }
+        return new OffsetPageable(start, (int) (end - start), sort);
+    }
+
+    @Override
+    public int getPageNumber() {
+        return (int) (offset / limit);
+    }
+
+    @Override
+    public int getPageSize() {
+        return limit;
+    }
+
+    @Override
+    public long getOffset() {
+        return offset;
+    }
+
+    @Override
+    public Sort getSort() {
+        return sort;
+    }
+
+    @Override
+    public Pageable next() {
+        return new OffsetPageable(offset + limit, limit, sort);
+    }
+
+    @Override
+    public Pageable previousOrFirst() {
+        return hasPrevious() ? new OffsetPageable(Math.max(0, offset - limit), limit, sort) : first();
+    }
+
+    @Override
+    public Pageable first() {
+        return new OffsetPageable(0, limit, sort);
+    }
+
+    @Override
+    public Pageable withPage(int pageNumber) {
+        return new OffsetPageable((long) pageNumber * limit, limit, sort);
+    }
+
+    @Override
+    public boolean hasPrevious() {
+        return offset > 0;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof OffsetPageable that)) return false;
+        return offset == that.offset && limit == that.limit && sort.equals(that.sort);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(offset, limit, sort);
+    }
+
+    @Override
+    public String toString() {
+        return "OffsetPageable{offset=" + offset + ", limit=" + limit + ", sort=" + sort + "}";
+    }
+}
@@ -0,0 +1,190 @@
+package dev.femrek.reactadmindataprovider.search;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * An embedded Lucene {@link SearchIndex}. Requires <code>org.apache.lucene:lucene-core</code> on the classpath.
+ * <p>
+ * Field values are split into lower-cased words by the {@link StandardAnalyzer}. A query matches the records that
+ * contain, for each word of the query, a word starting with it in any field: <code>q=spring boo</code> matches
+ * "Spring Boot Basics", but unlike <code>LIKE '%q%'</code>, <code>q=ring</code> does not.
+ * <p>
+ * The index is created empty, replacing any index in the directory, and changes are visible to searches as soon as
+ * {@link #index(Map)} or {@link #delete(Collection)} return. It is not committed to the directory, so it does not
+ * survive a restart; a directory on disk such as <code>MMapDirectory</code> only keeps a large index off the heap.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @param <ID> the type of the record identifiers
+ */
+public final class LuceneSearchIndex<ID> implements SearchIndex<ID>, Closeable {
+    private static final String ID_FIELD = "_id";
+
+    private final Directory directory;
+    private final Analyzer analyzer;
+    private final Function<String, ID> idParser;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    private final Set<String> fields = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Creates an index in memory.
+     *
+     * @param idParser parses the string form of a record ID, e.g., <code>Long::valueOf</code>
+     */
+    public LuceneSearchIndex(Function<String, ID> idParser) {
+        this(new ByteBuffersDirectory(), new StandardAnalyzer(), idParser);
+    }
+
+    /**
+     * @param directory the directory of the index, which {@link #close()} closes
+     * @param analyzer  the analyzer of field values and queries
+     * @param idParser  parses the string form of a record ID, e.g., <code>Long::valueOf</code>
+     */
+    public LuceneSearchIndex(Directory directory, Analyzer analyzer, Function<String, ID> idParser) {
+        this.directory = directory;
+        this.analyzer = analyzer;
+        this.idParser = idParser;
+        try {
+            this.writer = new IndexWriter(directory,
+                    new IndexWriterConfig(analyzer).setOpenMode(IndexWriterConfig.OpenMode.CREATE));
+            this.searcherManager = new SearcherManager(writer, null);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public List<ID> search(String query, int limit) {
+        List<String> words = analyze(query);
+        if (words.isEmpty() || fields.isEmpty()) {
+            return List.of();
+        }
+        BooleanQuery.Builder allWords = new BooleanQuery.Builder();
+        for (String word : words) {
+            BooleanQuery.Builder anyField = new BooleanQuery.Builder();
+            for (String field : fields) {
+                anyField.add(new PrefixQuery(new Term(field, word)), BooleanClause.Occur.SHOULD);
+            }
+            allWords.add(anyField.build(), BooleanClause.Occur.MUST);
+        }
+
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopDocs topDocs = searcher.search(allWords.build(), limit);
+                StoredFields storedFields = searcher.storedFields();
+                List<ID> ids = new ArrayList<>(topDocs.scoreDocs.length);
+                for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                    ids.add(idParser.apply(storedFields.document(scoreDoc.doc, Set.of(ID_FIELD)).get(ID_FIELD)));
+                }
+                return ids;
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void index(Map<ID, Map<String, String>> documents) {
+        if (documents.isEmpty()) {
+            return;
+        }
+        try {
+            for (Map.Entry<ID, Map<String, String>> entry : documents.entrySet()) {
+                String id = String.valueOf(entry.getKey());
+                Document document = new Document();
+                document.add(new StringField(ID_FIELD, id, Field.Store.YES));
+                entry.getValue().forEach((name, value) -> {
+                    fields.add(name);
+                    document.add(new TextField(name, value, Field.Store.NO));
+                });
+                writer.updateDocument(new Term(ID_FIELD, id), document);
+            }
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void delete(Collection<ID> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        try {
+            writer.deleteDocuments(ids.stream().map(id -> new Term(ID_FIELD, String.valueOf(id))).toArray(Term[]::new));
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void clear() {
+        try {
+            writer.deleteAll();
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Closes the index and its directory.
+     */
+    @Override
+    public void close() throws IOException {
+        try (directory; writer; searcherManager) {
+            analyzer.close();
+        }
+    }
+
+    private List<String> analyze(String text) {
+        List<String> words = new ArrayList<>();
+        try (TokenStream tokens = analyzer.tokenStream("", text)) {
+            CharTermAttribute term = tokens.addAttribute(CharTermAttribute.class);
+            tokens.reset();
+            while (tokens.incrementToken()) {
+                words.add(term.toString());
+            }
+            tokens.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return words;
+    }
+}
@@ -0,0 +1,45 @@
+package dev.femrek.reactadmindataprovider.search;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A full-text index of the records of one resource, which answers the global search parameter <code>q</code> with the
+ * IDs of the matching records. The database then applies the other filters, the sort and the pagination to these IDs
+ * with an indexed <code>id IN (...)</code> lookup, instead of scanning the table with <code>LIKE '%q%'</code>.
+ * <p>
+ * {@link dev.femrek.reactadmindataprovider.service.jpa.JpaRAService} keeps its index up to date after each committed
+ * write, see {@link dev.femrek.reactadmindataprovider.service.jpa.JpaRAService#createSearchIndex()}. Services
+ * implementing {@link dev.femrek.reactadmindataprovider.service.IRAService} by hand can call the methods of this
+ * interface themselves. {@link LuceneSearchIndex} is the embedded default. Implementations must be thread-safe.
+ *
+ * @param <ID> the type of the record identifiers
+ */
+public interface SearchIndex<ID> {
+    /**
+     * @param query the value of the <code>q</code> parameter
+     * @param limit the maximum number of IDs to return
+     * @return the IDs of the matching records, at most <code>limit</code> of them, best matches first
+     */
+    List<ID> search(String query, int limit);
+
+    /**
+     * Adds the records to the index, replacing the previous versions of records with the same IDs.
+     *
+     * @param documents the searchable field values by field name, by record ID
+     */
+    void index(Map<ID, Map<String, String>> documents);
+
+    /**
+     * Removes the records from the index. IDs that are not indexed are ignored.
+     *
+     * @param ids the IDs of the records
+     */
+    void delete(Collection<ID> ids);
+
+    /**
+     * Removes all records from the index.
+     */
+    void clear();
+}
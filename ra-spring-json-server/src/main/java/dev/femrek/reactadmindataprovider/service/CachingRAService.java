@@ -0,0 +1,208 @@
+package dev.femrek.reactadmindataprovider.service;
+
+import dev.femrek.reactadmindataprovider.cache.RecordCache;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * An {@link IRAService} that serves <code>getOne</code> and <code>getMany</code> of frequently read records from a
+ * {@link RecordCache}, and delegates everything else to another service.
+ * <p>
+ * {@link #findById(Object)} and {@link #findAllById(List)} read through the cache: cached records are returned without
+ * a query, and only the IDs that are not cached are loaded from the delegate. {@link #update(Object, Map)},
+ * {@link #updateMany(List, Map)}, {@link #deleteById(Object)} and {@link #deleteMany(List)} drop the records they
+ * write. Lists, counts and exports are not cached.
+ * <p>
+ * Records are cached with all their properties, so <code>getMany</code> requests with a <code>_fields</code> parameter
+ * are served from the cache as well, and the missing records are loaded with all properties. Writes that bypass this
+ * service are not seen by the cache; they are visible once the cached records expire.
+ * <p>
+ * Return an instance from {@link dev.femrek.reactadmindataprovider.controller.RAController#getService()}:
+ * <pre>{@code
+ * private final IRAService<ConfigDTO, ConfigCreateDTO, Long> service =
+ *         new CachingRAService<>(configService, new RecordCache<>(Duration.ofMinutes(5), 1000), ConfigDTO::getId);
+ * }</pre>
+ *
+ * @param <T>  the Response DTO type for this resource
+ * @param <C>  the Create DTO type for this resource
+ * @param <ID> the type of the entity's identifier
+ */
+public class CachingRAService<T, C, ID> implements IRAService<T, C, ID> {
+    private final IRAService<T, C, ID> delegate;
+    private final RecordCache<ID, T> cache;
+    private final Function<? super T, ? extends ID> idExtractor;
+
+    /**
+     * @param delegate    the service that reads and writes the records
+     * @param cache       the cache of the records; not to be shared with other resources
+     * @param idExtractor returns the ID of a record
+     */
+    public CachingRAService(IRAService<T, C, ID> delegate,
+                            RecordCache<ID, T> cache,
+                            Function<? super T, ? extends ID> idExtractor) {
+        this.delegate = Objects.requireNonNull(delegate, "Delegate must not be null");
+        this.cache = Objects.requireNonNull(cache, "Cache must not be null");
+        this.idExtractor = Objects.requireNonNull(idExtractor, "ID extractor must not be null");
+    }
+
+    /**
+     * @return the cache of the records, e.g., to read its hit and miss counts
+     */
+    public RecordCache<ID, T> getCache() {
+        return cache;
+    }
+
+    @Override
+    public T findById(ID id) {
+        return cache.getAll(Collections.singletonList(id), missing -> {
+            T record = delegate.findById(id);
+            return record != null ? Collections.singletonMap(id, record) : Collections.emptyMap();
+        }).get(id);
+    }
+
+    @Override
+    public List<T> findAllById(List<ID> ids) {
+        return new ArrayList<>(cache.getAll(ids, this::load).values());
+    }
+
+    @Override
+    public List<T> findAllById(List<ID> ids, Set<String> fields) {
+        return findAllById(ids);
+    }
+
+    @Override
+    public T update(ID id, Map<String, Object> fields) {
+        try {
+            return delegate.update(id, fields);
+        } finally {
+            cache.invalidate(Collections.singletonList(id));
+        }
+    }
+
+    @Override
+    public List<ID> updateMany(List<ID> ids, Map<String, Object> fields) {
+        try {
+            return delegate.updateMany(ids, fields);
+        } finally {
+            cache.invalidate(ids);
+        }
+    }
+
+    @Override
+    public void deleteById(ID id) {
+        try {
+            delegate.deleteById(id);
+        } finally {
+            cache.invalidate(Collections.singletonList(id));
+        }
+    }
+
+    @Override
+    public List<ID> deleteMany(List<ID> ids) {
+        try {
+            return delegate.deleteMany(ids);
+        } finally {
+            cache.invalidate(ids);
+        }
+    }
+
+    @Override
+    public T create(C data) {
+        return delegate.create(data);
+    }
+
+    @Override
+    public Page<T> findWithFilters(Map<String, String> filters, Pageable pageable) {
+        return delegate.findWithFilters(filters, pageable);
+    }
+
+    @Override
+    public Page<T> findWithFilters(Map<String, String> filters, Pageable pageable, Set<String> fields) {
+        return delegate.findWithFilters(filters, pageable, fields);
+    }
+
+    @Override
+    public Slice<T> findSliceWithFilters(Map<String, String> filters, Pageable pageable) {
+        return delegate.findSliceWithFilters(filters, pageable);
+    }
+
+    @Override
+    public Slice<T> findSliceWithFilters(Map<String, String> filters, Pageable pageable, Set<String> fields) {
+        return delegate.findSliceWithFilters(filters, pageable, fields);
+    }
+
+    @Override
+    public boolean supportsKeysetPagination() {
+        return delegate.supportsKeysetPagination();
+    }
+
+    @Override
+    public Window<T> scrollWithFilters(Map<String, String> filters,
+                                       KeysetScrollPosition position,
+                                       int limit,
+                                       Sort sort) {
+        return delegate.scrollWithFilters(filters, position, limit, sort);
+    }
+
+    @Override
+    public Window<T> scrollWithFilters(Map<String, String> filters,
+                                       KeysetScrollPosition position,
+                                       int limit,
+                                       Sort sort,
+                                       Set<String> fields) {
+        return delegate.scrollWithFilters(filters, position, limit, sort, fields);
+    }
+
+    @Override
+    public long countWithFilters(Map<String, String> filters) {
+        return delegate.countWithFilters(filters);
+    }
+
+    @Override
+    public boolean isResultTruncated(Map<String, String> filters) {
+        return delegate.isResultTruncated(filters);
+    }
+
+    @Override
+    public void streamWithFilters(Map<String, String> filters, Sort sort, Consumer<? super T> action) {
+        delegate.streamWithFilters(filters, sort, action);
+    }
+
+    @Override
+    public List<T> embed(List<T> records, Set<String> relations) {
+        return delegate.embed(records, relations);
+    }
+
+    @Override
+    public Page<T> findWithTargetAndFilters(String target,
+                                            String targetId,
+                                            Map<String, String> filters,
+                                            Pageable pageable) {
+        return delegate.findWithTargetAndFilters(target, targetId, filters, pageable);
+    }
+
+    /**
+     * Loads the records of IDs that are not cached, keyed by ID.
+     */
+    private Map<ID, T> load(List<ID> ids) {
+        Map<ID, T> records = new LinkedHashMap<>();
+        for (T record : delegate.findAllById(ids)) {
+            records.put(idExtractor.apply(record), record);
+        }
+        return records;
+    }
+}
@@ -1,10 +1,20 @@
 package dev.femrek.reactadmindataprovider.service;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 
+import dev.femrek.reactadmindataprovider.filter.FieldFilter;
+import dev.femrek.reactadmindataprovider.pagination.OffsetPageable;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 
 /**
  * Generic interface for CRUD operations on entities with support for filtering, pagination, and bulk operations.
@@ -17,7 +27,20 @@ import org.springframework.data.domain.Pageable;
 @SuppressWarnings("UnusedReturnValue")
 public interface IRAService<T, C, ID> {
     /**
-     * Finds entities matching the given filters and global search query.
+     * The number of entities read per query by the default {@link #streamWithFilters(Map, Sort, Consumer)}.
+     */
+    int STREAM_SLICE_SIZE = 1000;
+
+    /**
+     * The unique property appended to the sort by the default {@link #streamWithFilters(Map, Sort, Consumer)}.
+     */
+    String STREAM_TIE_BREAKER = "id";
+
+    /**
+     * Finds entities matching the given filters and global search query. Filter keys may carry an operator suffix,
+     * e.g., "views_gte" -&gt; "10"; see {@link FieldFilter} for the grammar. JPA implementations can build the
+     * filter predicates with {@link dev.femrek.reactadmindataprovider.service.jpa.JpaFieldFilters}, which also
+     * rejects unknown filter keys with status 400.
      *
      * @param filters  A map of field names to values (e.g., "status" -> "active").
      * @param pageable Pagination and sorting information.
@@ -25,6 +48,202 @@ public interface IRAService<T, C, ID> {
      */
     Page<T> findWithFilters(Map<String, String> filters, Pageable pageable);
 
+    /**
+     * Finds entities matching the given filters and global search query, as
+     * {@link #findWithFilters(Map, Pageable)}, for a response that only contains the given properties. Called for
+     * <code>getList</code> requests with a <code>_fields</code> parameter; properties that are not listed are not
+     * serialized, so implementations may skip fetching the data behind them.
+     * <p>
+     * The default implementation ignores the fields and delegates to {@link #findWithFilters(Map, Pageable)}.
+     *
+     * @param filters  A map of field names to values (e.g., "status" -&gt; "active").
+     * @param pageable Pagination and sorting information.
+     * @param fields   The response DTO properties to return, always including the ID, or null for all properties.
+     * @return A page of entities.
+     */
+    default Page<T> findWithFilters(Map<String, String> filters, Pageable pageable, Set<String> fields) {
+        return findWithFilters(filters, pageable);
+    }
+
+    /**
+     * Finds entities matching the given filters and global search query without counting all of them. The slice only
+     * knows whether more entities follow it, which is enough for controllers that do not report an exact
+     * <code>X-Total-Count</code>.
+     * <p>
+     * The default implementation delegates to {@link #findWithFilters(Map, Pageable)}, which still runs the count
+     * query. Implementations with Spring Data JPA can override it with
+     * <code>repository.findBy(spec, q -&gt; q.slice(pageable))</code>.
+     *
+     * @param filters  A map of field names to values (e.g., "status" -&gt; "active").
+     * @param pageable Pagination and sorting information.
+     * @return A slice of entities.
+     */
+    default Slice<T> findSliceWithFilters(Map<String, String> filters, Pageable pageable) {
+        return findWithFilters(filters, pageable);
+    }
+
+    /**
+     * Finds entities as {@link #findSliceWithFilters(Map, Pageable)}, for a response that only contains the given
+     * properties. See {@link #findWithFilters(Map, Pageable, Set)}.
+     * <p>
+     * The default implementation ignores the fields and delegates to {@link #findSliceWithFilters(Map, Pageable)}.
+     *
+     * @param filters  A map of field names to values (e.g., "status" -&gt; "active").
+     * @param pageable Pagination and sorting information.
+     * @param fields   The response DTO properties to return, always including the ID, or null for all properties.
+     * @return A slice of entities.
+     */
+    default Slice<T> findSliceWithFilters(Map<String, String> filters, Pageable pageable, Set<String> fields) {
+        return findSliceWithFilters(filters, pageable);
+    }
+
+    /**
+     * Whether the service implements {@link #scrollWithFilters(Map, KeysetScrollPosition, int, Sort)}. Controllers only
+     * use keyset pagination, and the default {@link #streamWithFilters(Map, Sort, Consumer)} only reads keyset windows,
+     * if it does.
+     * <p>
+     * The default implementation returns false. Override it to return true together with
+     * {@link #scrollWithFilters(Map, KeysetScrollPosition, int, Sort)}.
+     *
+     * @return true if the service supports keyset pagination
+     */
+    default boolean supportsKeysetPagination() {
+        return false;
+    }
+
+    /**
+     * Finds entities matching the given filters using keyset (seek) pagination. Instead of skipping rows with an
+     * offset, the query continues after the sort key values stored in the given position, so the cost of a page does
+     * not grow with its depth.
+     * <p>
+     * Implementations with Spring Data JPA can delegate to
+     * <code>repository.findBy(spec, q -&gt; q.sortBy(sort).limit(limit).scroll(position))</code>. The returned window
+     * must provide {@link KeysetScrollPosition}s, so the controller can hand out a cursor for the next page.
+     * <p>
+     * This method is only called if {@link #supportsKeysetPagination()} returns true. The default implementation throws
+     * {@link UnsupportedOperationException}.
+     *
+     * @param filters  A map of field names to values (e.g., "status" -&gt; "active").
+     * @param position The position to continue after, or an initial position for the first page.
+     * @param limit    The maximum number of entities to return.
+     * @param sort     The sort order. It always ends with a unique property, so the order is deterministic.
+     * @return A window of entities following the given position.
+     */
+    default Window<T> scrollWithFilters(Map<String, String> filters,
+                                        KeysetScrollPosition position,
+                                        int limit,
+                                        Sort sort) {
+        throw new UnsupportedOperationException("Keyset pagination is not supported by " + getClass().getName());
+    }
+
+    /**
+     * Finds entities as {@link #scrollWithFilters(Map, KeysetScrollPosition, int, Sort)}, for a response that only
+     * contains the given properties. See {@link #findWithFilters(Map, Pageable, Set)}.
+     * <p>
+     * The default implementation ignores the fields and delegates to
+     * {@link #scrollWithFilters(Map, KeysetScrollPosition, int, Sort)}.
+     *
+     * @param filters  A map of field names to values (e.g., "status" -&gt; "active").
+     * @param position The position to continue after, or an initial position for the first page.
+     * @param limit    The maximum number of entities to return.
+     * @param sort     The sort order. It always ends with a unique property, so the order is deterministic.
+     * @param fields   The response DTO properties to return, always including the ID, or null for all properties.
+     * @return A window of entities following the given position.
+     */
+    default Window<T> scrollWithFilters(Map<String, String> filters,
+                                        KeysetScrollPosition position,
+                                        int limit,
+                                        Sort sort,
+                                        Set<String> fields) {
+        return scrollWithFilters(filters, position, limit, sort);
+    }
+
+    /**
+     * Counts entities matching the given filters and global search query.
+     * <p>
+     * The default implementation reads the total from a single-row page of {@link #findWithFilters(Map, Pageable)}.
+     * Override it with a dedicated count query where possible.
+     *
+     * @param filters A map of field names to values (e.g., "status" -&gt; "active").
+     * @return The number of entities matching the filters.
+     */
+    default long countWithFilters(Map<String, String> filters) {
+        return findWithFilters(filters, OffsetPageable.of(0, 1)).getTotalElements();
+    }
+
+    /**
+     * Whether the entities found for the given filters may be only some of the matching ones, e.g., because the global
+     * search is answered by a full-text index that returns a limited number of IDs. Controllers then report the
+     * total count as capped, since more entities may match than were counted.
+     * <p>
+     * The default implementation returns false.
+     *
+     * @param filters A map of field names to values (e.g., "status" -&gt; "active").
+     * @return true if the result of the filters may be truncated
+     */
+    default boolean isResultTruncated(Map<String, String> filters) {
+        return false;
+    }
+
+    /**
+     * Streams all entities matching the given filters and global search query to the given action, one at a time. Used
+     * by the <code>export</code> operation, which writes each entity to the response as soon as it is read, so exports
+     * of any size run in constant memory.
+     * <p>
+     * The default implementation reads consecutive windows of {@value #STREAM_SLICE_SIZE} entities, sorted by the given
+     * order and then by {@value #STREAM_TIE_BREAKER}. If the service {@link #supportsKeysetPagination() supports keyset
+     * pagination}, it reads them with {@link #scrollWithFilters(Map, KeysetScrollPosition, int, Sort)}: each window
+     * continues after the sort key values of the previous one, so the cost of a query does not grow with the size of
+     * the export, and rows are neither skipped nor repeated when others are inserted or deleted meanwhile. Otherwise, it
+     * reads offset slices with {@link #findSliceWithFilters(Map, Pageable)}, one query per slice. Override it to stream
+     * the result of a single query, e.g., with <code>TypedQuery.getResultStream()</code> in a read-only transaction.
+     *
+     * @param filters A map of field names to values (e.g., "status" -&gt; "active").
+     * @param sort    The sort order.
+     * @param action  Receives each entity in order.
+     */
+    default void streamWithFilters(Map<String, String> filters, Sort sort, Consumer<? super T> action) {
+        Sort streamSort = sort.getOrderFor(STREAM_TIE_BREAKER) != null
+                ? sort
+                : sort.and(Sort.by(STREAM_TIE_BREAKER));
+        if (!supportsKeysetPagination()) {
+            long offset = 0;
+            Slice<T> slice;
+            do {
+                slice = findSliceWithFilters(new HashMap<>(filters),
+                        OffsetPageable.of(offset, STREAM_SLICE_SIZE, streamSort));
+                slice.forEach(action);
+                offset += slice.getNumberOfElements();
+            } while (slice.hasNext() && slice.hasContent());
+            return;
+        }
+        KeysetScrollPosition position = ScrollPosition.keyset();
+        Window<T> window;
+        do {
+            window = scrollWithFilters(new HashMap<>(filters), position, STREAM_SLICE_SIZE, streamSort);
+            window.forEach(action);
+            if (window.isEmpty() || !(window.positionAt(window.size() - 1) instanceof KeysetScrollPosition next)) {
+                break;
+            }
+            position = next;
+        } while (window.hasNext());
+    }
+
+    /**
+     * Embeds related resources in the records of a <code>getList</code> or <code>getManyReference</code> page, as
+     * requested by the <code>_embed</code> parameter. Load each relation for the whole page at once, e.g., with one
+     * <code>IN</code> query per relation, instead of one query per record.
+     * <p>
+     * The default implementation returns the records unchanged, ignoring the relations.
+     *
+     * @param records   The records of the page.
+     * @param relations The names of the relations to embed (e.g., "author"), in request order.
+     * @return The records with the relations embedded, in the same order.
+     */
+    default List<T> embed(List<T> records, Set<String> relations) {
+        return records;
+    }
+
     /**
      * Finds entities that reference another entity, based on a target field and ID, along with additional filters.
      *
@@ -47,6 +266,21 @@ public interface IRAService<T, C, ID> {
      */
     List<T> findAllById(List<ID> ids);
 
+    /**
+     * Retrieves all entities by their IDs, as {@link #findAllById(List)}, for a response that only contains the given
+     * properties. Called for <code>getMany</code> requests with a <code>_fields</code> parameter. See
+     * {@link #findWithFilters(Map, Pageable, Set)}.
+     * <p>
+     * The default implementation ignores the fields and delegates to {@link #findAllById(List)}.
+     *
+     * @param ids    The collection of entity IDs to retrieve.
+     * @param fields The response DTO properties to return, always including the ID, or null for all properties.
+     * @return A list of entities matching the given IDs.
+     */
+    default List<T> findAllById(List<ID> ids, Set<String> fields) {
+        return findAllById(ids);
+    }
+
     /**
      * Retrieves a single entity by its ID.
      *
@@ -0,0 +1,155 @@
+package dev.femrek.reactadmindataprovider.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive counterpart of {@link IRAService} for WebFlux applications, e.g., on top of R2DBC repositories.
+ * <p>
+ * Lists are returned as a {@link Flux} of the page content and a separate {@link Mono} of the total count, so the
+ * records are written to the response as the database emits them, with backpressure, instead of being collected into a
+ * page first.
+ * <p>
+ * Use an implementation of this interface in your
+ * {@link dev.femrek.reactadmindataprovider.controller.ReactiveRAController} implementations.
+ *
+ * @param <T>  The response DTO type.
+ * @param <C>  The create DTO type.
+ * @param <ID> The type of the entity's identifier.
+ */
+public interface IReactiveRAService<T, C, ID> {
+    /**
+     * Finds the entities of a page matching the given filters and global search query.
+     *
+     * @param filters  A map of field names to values (e.g., "status" -> "active").
+     * @param pageable Pagination and sorting information.
+     * @return The entities of the page.
+     */
+    Flux<T> findWithFilters(Map<String, String> filters, Pageable pageable);
+
+    /**
+     * Counts the entities matching the given filters and global search query.
+     *
+     * @param filters A map of field names to values (e.g., "status" -> "active").
+     * @return The number of matching entities.
+     */
+    Mono<Long> countWithFilters(Map<String, String> filters);
+
+    /**
+     * Finds all entities matching the given filters in the given order, without pagination. Called for
+     * <code>export</code> requests, the entities are written to the response as they are emitted.
+     * <p>
+     * The default implementation delegates to {@link #findWithFilters(Map, Pageable)} with an unpaged request.
+     *
+     * @param filters A map of field names to values (e.g., "status" -> "active").
+     * @param sort    The order of the entities.
+     * @return All matching entities.
+     */
+    default Flux<T> streamWithFilters(Map<String, String> filters, Sort sort) {
+        return findWithFilters(filters, Pageable.unpaged(sort));
+    }
+
+    /**
+     * Embeds related resources in the records of a <code>getList</code> or <code>getManyReference</code> page, as
+     * requested by the <code>_embed</code> parameter. See {@link IRAService#embed(List, Set)}; batches of records can
+     * be loaded together with {@link Flux#buffer(int)}.
+     * <p>
+     * The default implementation returns the records unchanged, ignoring the relations.
+     *
+     * @param records   The records of the page.
+     * @param relations The names of the relations to embed (e.g., "author"), in request order.
+     * @return The records with the relations embedded, in the same order.
+     */
+    default Flux<T> embed(Flux<T> records, Set<String> relations) {
+        return records;
+    }
+
+    /**
+     * Finds the entities of a page that reference another entity, based on a target field and ID, along with
+     * additional filters.
+     *
+     * @param target   The name of the field that references the target entity (e.g., "userId").
+     * @param targetId The ID of the target entity to match (e.g., 123).
+     * @param filters  Additional filters to apply (e.g., "status" -> "active").
+     * @param pageable Pagination and sorting information.
+     * @return The entities of the page.
+     */
+    Flux<T> findWithTargetAndFilters(String target,
+                                     String targetId,
+                                     Map<String, String> filters,
+                                     Pageable pageable);
+
+    /**
+     * Counts the entities that reference another entity and match the additional filters.
+     *
+     * @param target   The name of the field that references the target entity (e.g., "userId").
+     * @param targetId The ID of the target entity to match (e.g., 123).
+     * @param filters  Additional filters to apply (e.g., "status" -> "active").
+     * @return The number of matching entities.
+     */
+    Mono<Long> countWithTargetAndFilters(String target, String targetId, Map<String, String> filters);
+
+    /**
+     * Retrieves all entities by their IDs.
+     *
+     * @param ids The collection of entity IDs to retrieve.
+     * @return The entities matching the given IDs.
+     */
+    Flux<T> findAllById(List<ID> ids);
+
+    /**
+     * Retrieves a single entity by its ID.
+     *
+     * @param id The ID of the entity to retrieve.
+     * @return The entity with the given ID, or an empty Mono if not found.
+     */
+    Mono<T> findById(ID id);
+
+    /**
+     * Creates a new entity.
+     *
+     * @param data The entity data to save.
+     * @return The saved entity.
+     */
+    Mono<T> create(C data);
+
+    /**
+     * Updates specific fields of an existing entity.
+     *
+     * @param id     The ID of the entity to update.
+     * @param fields A map of field names to their new values.
+     * @return The updated entity.
+     */
+    Mono<T> update(ID id, Map<String, Object> fields);
+
+    /**
+     * Updates multiple entities with the same field values.
+     *
+     * @param ids    The collection of entity IDs to update.
+     * @param fields A map of field names to their new values to apply to all entities.
+     * @return The IDs of the updated entities.
+     */
+    Flux<ID> updateMany(List<ID> ids, Map<String, Object> fields);
+
+    /**
+     * Deletes an entity by its ID.
+     *
+     * @param id The ID of the entity to delete.
+     * @return Completes when the entity is deleted.
+     */
+    Mono<Void> deleteById(ID id);
+
+    /**
+     * Deletes multiple entities by their IDs.
+     *
+     * @param ids The collection of entity IDs to delete.
+     * @return The IDs of the deleted entities.
+     */
+    Flux<ID> deleteMany(List<ID> ids);
+}
@@ -0,0 +1,168 @@
+package dev.femrek.reactadmindataprovider.service.jpa;
+
+import dev.femrek.reactadmindataprovider.filter.FieldFilter;
+import dev.femrek.reactadmindataprovider.filter.FieldFilter.Operator;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The predicate builder for one set of filter keys. The attributes and operators of the keys are looked up once when
+ * the filter is compiled; each request then only parses its values and builds the predicates from them.
+ * <p>
+ * Every predicate compares the attribute column itself with values of the attribute type, without functions or casts
+ * on the column, so the database can use an index on it. <code>_like</code> filters are only index-friendly when they
+ * match the start of the value (<code>title_like=^Spring</code>).
+ *
+ * @param <E> the entity type
+ */
+final class CompiledFilter<E> {
+    private final List<Term<E>> terms;
+
+    /**
+     * One key of the filter: the attribute it compares and how.
+     */
+    static final class Term<E> {
+        private final String key;
+        private final EntityAttribute<E> attribute;
+        private final Operator operator;
+
+        private Term(String key, EntityAttribute<E> attribute, Operator operator) {
+            this.key = key;
+            this.attribute = attribute;
+            this.operator = operator;
+        }
+    }
+
+    CompiledFilter(List<Term<E>> terms) {
+        this.terms = List.copyOf(terms);
+    }
+
+    /**
+     * Resolves the attribute and operator of a filter key. A key naming an attribute is an equality filter even if it
+     * ends with an operator suffix.
+     *
+     * @param key        the filter key, e.g., <code>views_gte</code>
+     * @param attributes the filterable attributes by name
+     * @return the term
+     * @throws ResponseStatusException with status 400 if the key does not name an attribute, or the operator does not
+     *                                 apply to the attribute type
+     */
+    static <E> Term<E> compile(String key, Map<String, EntityAttribute<E>> attributes) {
+        EntityAttribute<E> attribute = attributes.get(key);
+        if (attribute != null) {
+            return new Term<>(key, attribute, Operator.EQ);
+        }
+        FieldFilter filter = FieldFilter.parse(key, null);
+        attribute = attributes.get(filter.getField());
+        if (attribute == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown filter '" + key + "'.");
+        }
+        Class<?> valueType = ClassUtils.resolvePrimitiveIfNecessary(attribute.getValueType());
+        boolean supported = switch (filter.getOperator()) {
+            case GTE, LTE -> Comparable.class.isAssignableFrom(valueType);
+            case LIKE -> valueType == String.class && !attribute.isAssociation();
+            default -> true;
+        };
+        if (!supported) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Filter '" + key + "' is not supported by the type of '" + attribute.getName() + "'.");
+        }
+        return new Term<>(key, attribute, filter.getOperator());
+    }
+
+    /**
+     * Parses the filter values and returns the specification matching all of them. Empty values are ignored.
+     *
+     * @param filters the filters with exactly the keys this filter was compiled for
+     * @return the specification, or null if all values are empty
+     * @throws ResponseStatusException with status 400 if a value is not valid for its attribute
+     */
+    Specification<E> toSpecification(Map<String, String> filters) {
+        List<Term<E>> matched = new ArrayList<>(terms.size());
+        List<Object> values = new ArrayList<>(terms.size());
+        for (Term<E> term : terms) {
+            String value = filters.get(term.key);
+            if (value == null || value.isEmpty()) {
+                continue;
+            }
+            try {
+                values.add(parse(term, value));
+            } catch (RuntimeException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        "Invalid value for filter '" + term.key + "'.", e);
+            }
+            matched.add(term);
+        }
+        if (matched.isEmpty()) {
+            return null;
+        }
+
+        return (root, query, criteriaBuilder) -> {
+            Predicate[] predicates = new Predicate[matched.size()];
+            for (int i = 0; i < predicates.length; i++) {
+                predicates[i] = toPredicate(matched.get(i), values.get(i), root, criteriaBuilder);
+            }
+            return criteriaBuilder.and(predicates);
+        };
+    }
+
+    /**
+     * @return the value of the attribute type, the list of values for <code>_in</code>, or the <code>LIKE</code>
+     * pattern for <code>_like</code>
+     */
+    private static Object parse(Term<?> term, String value) {
+        return switch (term.operator) {
+            case IN -> {
+                List<String> parts = FieldFilter.parse(term.key, value).getValues();
+                if (parts.isEmpty()) {
+                    throw new IllegalArgumentException("No values in " + value);
+                }
+                List<Object> parsed = new ArrayList<>(parts.size());
+                for (String part : parts) {
+                    parsed.add(term.attribute.parse(part));
+                }
+                yield parsed;
+            }
+            case LIKE -> toLikePattern(value);
+            default -> term.attribute.parse(value);
+        };
+    }
+
+    /**
+     * Translates the anchors of a json-server <code>_like</code> value to a <code>LIKE</code> pattern: the text is
+     * matched anywhere, at the start after <code>^</code>, or at the end before <code>$</code>.
+     */
+    static String toLikePattern(String value) {
+        boolean start = value.startsWith("^");
+        boolean end = value.length() > (start ? 1 : 0) && value.endsWith("$");
+        String text = value.substring(start ? 1 : 0, end ? value.length() - 1 : value.length());
+        return (start ? "" : "%") + JpaRAService.escapeLike(text) + (end ? "" : "%");
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <E> Predicate toPredicate(Term<E> term,
+                                             Object value,
+                                             From<?, E> root,
+                                             CriteriaBuilder criteriaBuilder) {
+        Path<?> path = term.attribute.path(root);
+        return switch (term.operator) {
+            case EQ -> criteriaBuilder.equal(path, value);
+            case NE -> criteriaBuilder.notEqual(path, value);
+            case GTE -> criteriaBuilder.greaterThanOrEqualTo((Expression<Comparable>) path, (Comparable) value);
+            case LTE -> criteriaBuilder.lessThanOrEqualTo((Expression<Comparable>) path, (Comparable) value);
+            case LIKE -> criteriaBuilder.like((Expression<String>) path, (String) value, JpaRAService.LIKE_ESCAPE);
+            case IN -> path.in((List<?>) value);
+        };
+    }
+}
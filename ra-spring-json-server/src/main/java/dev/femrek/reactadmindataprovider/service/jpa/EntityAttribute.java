@@ -0,0 +1,179 @@
+package dev.femrek.reactadmindataprovider.service.jpa;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.SingularAttribute;
+import org.springframework.beans.BeanUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * A singular entity attribute resolved from the JPA metamodel, together with everything needed to filter by it and
+ * write it: the value parser, the JSON value converter, and the setter.
+ * <p>
+ * Basic attributes are filtered and written by value. To-one associations are filtered and written by the ID of the
+ * referenced entity, so <code>?author=5</code> matches <code>author.id = 5</code>.
+ *
+ * @param <E> the entity type
+ */
+final class EntityAttribute<E> {
+    private final String name;
+    private final SingularAttribute<? super E, ?> attribute;
+    private final Class<?> valueType;
+    private final String targetIdName;
+    private final Class<?> targetType;
+    private final boolean writable;
+    private final Function<String, Object> parser;
+    private final Function<Object, Object> converter;
+    private final BiConsumer<E, Object> writer;
+
+    private EntityAttribute(Class<E> entityClass,
+                            SingularAttribute<? super E, ?> attribute,
+                            Class<?> valueType,
+                            String targetIdName,
+                            Class<?> targetType) {
+        this.name = attribute.getName();
+        this.attribute = attribute;
+        this.valueType = valueType;
+        this.targetIdName = targetIdName;
+        this.targetType = targetType;
+        this.writable = !attribute.isId() && !attribute.isVersion();
+        this.parser = ValueParsers.forType(valueType);
+        this.converter = ValueParsers.forJsonValue(valueType);
+        this.writer = resolveWriter(entityClass, name);
+        if (writable && writer == null) {
+            throw new IllegalStateException("No setter or field found for attribute " + name + " of " + entityClass.getName());
+        }
+    }
+
+    /**
+     * Resolves the attribute, or returns null for attributes that cannot be filtered by a single value (embedded
+     * attributes, to-one associations without a single ID attribute).
+     */
+    static <E> EntityAttribute<E> of(Class<E> entityClass, SingularAttribute<? super E, ?> attribute) {
+        Attribute.PersistentAttributeType type = attribute.getPersistentAttributeType();
+        if (type == Attribute.PersistentAttributeType.BASIC) {
+            return new EntityAttribute<>(entityClass, attribute, attribute.getJavaType(), null, null);
+        }
+        if ((type == Attribute.PersistentAttributeType.MANY_TO_ONE
+                || type == Attribute.PersistentAttributeType.ONE_TO_ONE)
+                && attribute.getType() instanceof EntityType<?> target
+                && target.hasSingleIdAttribute()) {
+            SingularAttribute<?, ?> targetId = target.getId(target.getIdType().getJavaType());
+            return new EntityAttribute<>(entityClass, attribute, targetId.getJavaType(), targetId.getName(),
+                    target.getJavaType());
+        }
+        return null;
+    }
+
+    /**
+     * Resolves all singular attributes of an entity that {@link #of} supports, in metamodel order.
+     */
+    static <E> Map<String, EntityAttribute<E>> ofEntity(Class<E> entityClass, EntityType<E> entityType) {
+        Map<String, EntityAttribute<E>> resolved = new LinkedHashMap<>();
+        for (SingularAttribute<? super E, ?> attribute : entityType.getSingularAttributes()) {
+            EntityAttribute<E> entityAttribute = of(entityClass, attribute);
+            if (entityAttribute != null) {
+                resolved.put(entityAttribute.getName(), entityAttribute);
+            }
+        }
+        return Collections.unmodifiableMap(resolved);
+    }
+
+    String getName() {
+        return name;
+    }
+
+    /**
+     * @return the Java type of filter values, which is the ID type for associations
+     */
+    Class<?> getValueType() {
+        return valueType;
+    }
+
+    /**
+     * @return whether the attribute is a to-one association
+     */
+    boolean isAssociation() {
+        return targetType != null;
+    }
+
+    boolean isWritable() {
+        return writable;
+    }
+
+    /**
+     * @return whether the value can be set on a new instance, which includes the ID and version attributes
+     */
+    boolean hasWriter() {
+        return writer != null;
+    }
+
+    /**
+     * @return the path compared with filter values, which is the referenced ID for associations
+     */
+    Path<?> path(From<?, E> root) {
+        Path<?> path = root.get(attribute);
+        return targetIdName == null ? path : path.get(targetIdName);
+    }
+
+    /**
+     * @return the path of the attribute itself, which is the association for associations
+     */
+    Path<?> attributePath(From<?, E> root) {
+        return root.get(attribute);
+    }
+
+    /**
+     * Parses a query parameter value.
+     *
+     * @throws IllegalArgumentException if the value is not valid for the attribute type
+     */
+    Object parse(String value) {
+        return parser.apply(value);
+    }
+
+    /**
+     * Converts a JSON value to the value stored in the entity. Associations are converted to a reference of the
+     * entity with the given ID.
+     *
+     * @throws IllegalArgumentException if the value is not valid for the attribute type
+     */
+    Object convert(Object value, EntityManager entityManager) {
+        Object converted = converter.apply(value);
+        if (targetType != null && converted != null) {
+            return entityManager.getReference(targetType, converted);
+        }
+        return converted;
+    }
+
+    void write(E entity, Object value) {
+        writer.accept(entity, value);
+    }
+
+    private static <E> BiConsumer<E, Object> resolveWriter(Class<E> entityClass, String name) {
+        PropertyDescriptor descriptor = BeanUtils.getPropertyDescriptor(entityClass, name);
+        Method setter = descriptor != null ? descriptor.getWriteMethod() : null;
+        if (setter != null) {
+            ReflectionUtils.makeAccessible(setter);
+            return (entity, value) -> ReflectionUtils.invokeMethod(setter, entity, value);
+        }
+        Field field = ReflectionUtils.findField(entityClass, name);
+        if (field == null) {
+            return null;
+        }
+        ReflectionUtils.makeAccessible(field);
+        return (entity, value) -> ReflectionUtils.setField(field, entity, value);
+    }
+}
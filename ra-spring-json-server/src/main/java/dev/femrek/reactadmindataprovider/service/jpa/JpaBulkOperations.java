@@ -0,0 +1,271 @@
+package dev.femrek.reactadmindataprovider.service.jpa;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaDelete;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.SingularAttribute;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Bulk updates and deletes of JPA entities by ID, with one statement per chunk of IDs instead of loading and saving
+ * every entity. Use it to implement {@link dev.femrek.reactadmindataprovider.service.IRAService#updateMany(List, Map)}
+ * and {@link dev.femrek.reactadmindataprovider.service.IRAService#deleteMany(List)}:
+ * <pre>{@code
+ * private final JpaBulkOperations<User, Long> bulkOperations;
+ *
+ * public UserService(EntityManager entityManager) {
+ *     this.bulkOperations = new JpaBulkOperations<>(User.class, entityManager);
+ * }
+ *
+ * @Override
+ * @Transactional
+ * public List<Long> updateMany(List<Long> ids, Map<String, Object> fields) {
+ *     return bulkOperations.updateAll(ids, fields);
+ * }
+ *
+ * @Override
+ * @Transactional
+ * public List<Long> deleteMany(List<Long> ids) {
+ *     return bulkOperations.deleteAll(ids);
+ * }
+ * }</pre>
+ * <p>
+ * The entity attributes are resolved from the JPA metamodel once, when the instance is created. Statements bypass the
+ * persistence context: pending changes are flushed before them, and the persistence context is cleared after them, so
+ * it never holds stale entities. Entity listeners and callbacks such as <code>@PreUpdate</code> and
+ * <code>@PreRemove</code> are not called. A numeric version attribute is incremented by every update.
+ * <p>
+ * Methods must be called in a transaction. This class is thread-safe.
+ *
+ * @param <E>  The entity type.
+ * @param <ID> The type of the entity's identifier.
+ */
+public class JpaBulkOperations<E, ID> {
+    /**
+     * The default maximum number of IDs per statement, which keeps <code>IN</code> lists within the limits of common
+     * databases.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 1000;
+
+    private final Class<E> entityClass;
+    private final EntityManager entityManager;
+    private final SingularAttribute<? super E, ?> idAttribute;
+    private final SingularAttribute<? super E, ?> versionAttribute;
+    private final Map<String, EntityAttribute<E>> attributes;
+    private final boolean bulkDeletable;
+    private final int chunkSize;
+
+    /**
+     * @param entityClass   The entity class.
+     * @param entityManager The shared entity manager.
+     */
+    public JpaBulkOperations(Class<E> entityClass, EntityManager entityManager) {
+        this(entityClass, entityManager, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * @param entityClass   The entity class.
+     * @param entityManager The shared entity manager.
+     * @param chunkSize     The maximum number of IDs per statement, must be greater than zero.
+     */
+    public JpaBulkOperations(Class<E> entityClass, EntityManager entityManager, int chunkSize) {
+        this(entityClass, entityManager, entityManager.getMetamodel().entity(entityClass), null, chunkSize);
+    }
+
+    JpaBulkOperations(Class<E> entityClass,
+                      EntityManager entityManager,
+                      EntityType<E> entityType,
+                      Map<String, EntityAttribute<E>> attributes,
+                      int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be greater than zero");
+        }
+        if (!entityType.hasSingleIdAttribute()) {
+            throw new IllegalArgumentException(entityClass.getName() + " must have a single ID attribute");
+        }
+        this.entityClass = entityClass;
+        this.entityManager = entityManager;
+        this.idAttribute = entityType.getId(entityType.getIdType().getJavaType());
+        this.versionAttribute = entityType.getSingularAttributes().stream()
+                .filter(SingularAttribute::isVersion)
+                .filter(attribute -> Number.class.isAssignableFrom(
+                        ClassUtils.resolvePrimitiveIfNecessary(attribute.getJavaType())))
+                .findFirst()
+                .orElse(null);
+        this.attributes = attributes != null ? attributes : EntityAttribute.ofEntity(entityClass, entityType);
+        // Removing an entity may cascade to its collections and one-to-one associations, which a bulk DELETE skips
+        this.bulkDeletable = entityType.getPluralAttributes().isEmpty() && entityType.getSingularAttributes().stream()
+                .noneMatch(attribute -> attribute.getPersistentAttributeType()
+                        == Attribute.PersistentAttributeType.ONE_TO_ONE);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Sets the given fields on all entities with the given IDs, with one <code>UPDATE ... WHERE id IN (...)</code>
+     * statement per chunk of IDs. Each value is converted to its attribute type once, and to-one associations are set
+     * by the ID of the referenced entity. Fields that are not writable attributes (e.g., the ID, or computed DTO
+     * properties) are ignored, since react-admin sends whole records.
+     *
+     * @param ids    The IDs of the entities to update.
+     * @param fields A map of field names to their new values.
+     * @return The IDs of the entities that existed and were updated, in request order, without duplicates.
+     * @throws ResponseStatusException with status 400 if a value is not valid for its field
+     */
+    public List<ID> updateAll(Collection<ID> ids, Map<String, Object> fields) {
+        List<ID> distinctIds = List.copyOf(new LinkedHashSet<>(ids));
+        if (distinctIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        // Resolve and convert the values once for all entities
+        List<EntityAttribute<E>> updated = new ArrayList<>();
+        List<Object> values = new ArrayList<>();
+        fields.forEach((field, value) -> {
+            EntityAttribute<E> attribute = attributes.get(field);
+            if (attribute == null || !attribute.isWritable()) {
+                return;
+            }
+            try {
+                values.add(attribute.convert(value, entityManager));
+            } catch (RuntimeException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        "Invalid value for field '" + field + "'.", e);
+            }
+            updated.add(attribute);
+        });
+        if (updated.isEmpty()) {
+            return findExistingIds(distinctIds);
+        }
+
+        entityManager.flush();
+        List<ID> updatedIds = new ArrayList<>(distinctIds.size());
+        for (List<ID> chunk : chunks(distinctIds)) {
+            int count = entityManager.createQuery(createUpdate(chunk, updated, values)).executeUpdate();
+            updatedIds.addAll(count == chunk.size() ? chunk : findExistingIds(chunk));
+        }
+        entityManager.clear();
+        return updatedIds;
+    }
+
+    @SuppressWarnings("unchecked")
+    private CriteriaUpdate<E> createUpdate(List<ID> ids, List<EntityAttribute<E>> updated, List<Object> values) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<E> update = criteriaBuilder.createCriteriaUpdate(entityClass);
+        Root<E> root = update.from(entityClass);
+        for (int i = 0; i < updated.size(); i++) {
+            update.set(updated.get(i).getName(), values.get(i));
+        }
+        if (versionAttribute != null) {
+            Path<Number> version = (Path<Number>) root.get(versionAttribute);
+            update.set(version, criteriaBuilder.sum(version, 1));
+        }
+        return update.where(root.get(idAttribute).in(ids));
+    }
+
+    /**
+     * Deletes all entities with the given IDs. Each chunk of IDs takes two statements: a select of the IDs that exist,
+     * and one <code>DELETE ... WHERE id IN (...)</code> of those IDs. A bulk delete does not cascade, so entities with
+     * collections or one-to-one associations are loaded and removed through the entity manager instead, one query per
+     * chunk.
+     * <p>
+     * <code>DELETE ... RETURNING</code> would save the select, but it is not supported by JPA nor by every database.
+     * An ID deleted by a concurrent transaction between the select and the delete is still reported as deleted.
+     *
+     * @param ids The IDs of the entities to delete.
+     * @return The IDs of the entities that existed and were deleted, in request order, without duplicates.
+     */
+    public List<ID> deleteAll(Collection<ID> ids) {
+        List<ID> distinctIds = List.copyOf(new LinkedHashSet<>(ids));
+        if (distinctIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        entityManager.flush();
+        List<ID> deletedIds = new ArrayList<>(distinctIds.size());
+        for (List<ID> chunk : chunks(distinctIds)) {
+            deletedIds.addAll(bulkDeletable ? deleteChunk(chunk) : removeChunk(chunk));
+        }
+        if (bulkDeletable) {
+            entityManager.clear();
+        }
+        return deletedIds;
+    }
+
+    private List<ID> deleteChunk(List<ID> ids) {
+        Set<Object> existing = selectIds(ids);
+        List<ID> deletedIds = ids.stream().filter(existing::contains).toList();
+        if (!deletedIds.isEmpty()) {
+            CriteriaDelete<E> delete = entityManager.getCriteriaBuilder().createCriteriaDelete(entityClass);
+            Root<E> root = delete.from(entityClass);
+            entityManager.createQuery(delete.where(root.get(idAttribute).in(deletedIds))).executeUpdate();
+        }
+        return deletedIds;
+    }
+
+    private List<ID> removeChunk(List<ID> ids) {
+        CriteriaQuery<E> query = entityManager.getCriteriaBuilder().createQuery(entityClass);
+        Root<E> root = query.from(entityClass);
+        query.select(root).where(root.get(idAttribute).in(ids));
+
+        Map<Object, E> entities = new HashMap<>();
+        for (E entity : entityManager.createQuery(query).getResultList()) {
+            entities.put(entityManager.getEntityManagerFactory().getPersistenceUnitUtil().getIdentifier(entity),
+                    entity);
+        }
+        List<ID> removedIds = new ArrayList<>(entities.size());
+        for (ID id : ids) {
+            E entity = entities.get(id);
+            if (entity != null) {
+                entityManager.remove(entity);
+                removedIds.add(id);
+            }
+        }
+        return removedIds;
+    }
+
+    /**
+     * Selects which of the given IDs exist, with one query per chunk.
+     *
+     * @return the existing IDs, in the given order
+     */
+    List<ID> findExistingIds(List<ID> ids) {
+        Set<Object> existing = new HashSet<>();
+        for (List<ID> chunk : chunks(ids)) {
+            existing.addAll(selectIds(chunk));
+        }
+        return ids.stream().filter(existing::contains).toList();
+    }
+
+    private Set<Object> selectIds(List<ID> ids) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Object> query = criteriaBuilder.createQuery(Object.class);
+        Root<E> root = query.from(entityClass);
+        query.select(root.get(idAttribute)).where(root.get(idAttribute).in(ids));
+        return new HashSet<>(entityManager.createQuery(query).getResultList());
+    }
+
+    private List<List<ID>> chunks(List<ID> ids) {
+        List<List<ID>> chunks = new ArrayList<>((ids.size() + chunkSize - 1) / chunkSize);
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            chunks.add(ids.subList(from, Math.min(from + chunkSize, ids.size())));
+        }
+        return chunks;
+    }
+}
@@ -0,0 +1,81 @@
+package dev.femrek.reactadmindataprovider.service.jpa;
+
+import dev.femrek.reactadmindataprovider.filter.FieldFilter;
+import jakarta.persistence.EntityManager;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The field filters of JPA entities, with the operator grammar of {@link FieldFilter} (e.g.,
+ * <code>views_gte=10</code>, <code>title_like=spring</code>), as {@link JpaRAService} applies them. Use it to
+ * implement <code>findWithFilters</code> of a service with a Spring Data JPA repository:
+ * <pre>{@code
+ * private final JpaFieldFilters<User> fieldFilters;
+ *
+ * public UserService(UserRepository userRepository, EntityManager entityManager) {
+ *     this.userRepository = userRepository;
+ *     this.fieldFilters = new JpaFieldFilters<>(User.class, entityManager);
+ * }
+ *
+ * @Override
+ * public Page<UserResponseDTO> findWithFilters(Map<String, String> filters, Pageable pageable) {
+ *     Specification<User> spec = fieldFilters.toSpecification(filters);
+ *     return userRepository.findAll(spec != null ? spec : Specification.unrestricted(), pageable).map(this::toDTO);
+ * }
+ * }</pre>
+ * <p>
+ * The entity attributes are resolved from the JPA metamodel once, when the instance is created. Values are converted
+ * to the attribute type, and the predicates compare the attribute columns without functions or casts, so the database
+ * can use their indexes. The global search parameter <code>q</code> is left to the service.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @param <E> The entity type.
+ */
+public class JpaFieldFilters<E> {
+    private final Map<String, EntityAttribute<E>> attributes;
+    private final ConcurrentMap<Set<String>, CompiledFilter<E>> compiledFilters = new ConcurrentHashMap<>();
+
+    /**
+     * @param entityClass   The entity class.
+     * @param entityManager The shared entity manager.
+     */
+    public JpaFieldFilters(Class<E> entityClass, EntityManager entityManager) {
+        this.attributes = EntityAttribute.ofEntity(entityClass, entityManager.getMetamodel().entity(entityClass));
+    }
+
+    /**
+     * Builds the specification matching all field filters of a request. The global search parameter and filters with
+     * empty values are skipped.
+     *
+     * @param filters the filter parameters, may be null
+     * @return the specification, or null if there are no field filters
+     * @throws ResponseStatusException with status 400 if a filter key does not name an attribute, its operator does
+     *                                 not apply to the attribute type, or a value is not valid for it
+     */
+    public Specification<E> toSpecification(Map<String, String> filters) {
+        List<FieldFilter> fieldFilters = FieldFilter.parseAll(filters);
+        if (fieldFilters.isEmpty()) {
+            return null;
+        }
+        Map<String, String> values = new HashMap<>();
+        fieldFilters.forEach(filter -> values.put(filter.getKey(), filter.getValue()));
+        return compiledFilters.computeIfAbsent(Set.copyOf(values.keySet()), this::compile).toSpecification(values);
+    }
+
+    private CompiledFilter<E> compile(Set<String> keys) {
+        List<CompiledFilter.Term<E>> terms = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            terms.add(CompiledFilter.compile(key, attributes));
+        }
+        return new CompiledFilter<>(terms);
+    }
+}
@@ -0,0 +1,1096 @@
+package dev.femrek.reactadmindataprovider.service.jpa;
+
+import dev.femrek.reactadmindataprovider.filter.FieldFilter;
+import dev.femrek.reactadmindataprovider.search.SearchIndex;
+import dev.femrek.reactadmindataprovider.service.IRAService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.SingularAttribute;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * A generic {@link IRAService} for JPA entities. Subclasses only map between the entity and the DTOs:
+ * <pre>{@code
+ * @Service
+ * public class PostService extends JpaRAService<Post, PostResponseDTO, PostCreateDTO, Long> {
+ *     public PostService(EntityManager entityManager) {
+ *         super(Post.class, entityManager);
+ *     }
+ *
+ *     @Override
+ *     protected PostResponseDTO toResponse(Post post) {
+ *         return new PostResponseDTO(post.getId(), post.getTitle(), post.getUserId());
+ *     }
+ *
+ *     @Override
+ *     protected Post toEntity(PostCreateDTO data) {
+ *         return new Post(data.getTitle(), data.getUserId());
+ *     }
+ * }
+ * }</pre>
+ * <p>
+ * The entity attributes are resolved from the JPA metamodel once, when the service is created. Every singular basic
+ * attribute can be filtered, and every to-one association can be filtered by the ID of the referenced entity. Besides
+ * equality, filter keys can use the operators of {@link FieldFilter}: <code>_ne</code> and <code>_in</code> on every
+ * attribute, <code>_gte</code> and <code>_lte</code> on comparable attributes, and <code>_like</code> on string
+ * attributes. The predicates compare the column itself, so they can use its index. Filter values are converted to the
+ * attribute type once per request, and the predicate builder of each set of filter keys is compiled once and cached.
+ * Unknown filter keys, unsupported operators, invalid filter values and unknown sort properties are rejected with
+ * status 400.
+ * <p>
+ * The global search parameter <code>q</code> matches entities whose search attributes contain the value, ignoring
+ * case. See {@link #getSearchAttributes()}. Large tables should look it up in a full-text index instead, see
+ * {@link #createSearchIndex()}.
+ * <p>
+ * Every association can be embedded with the <code>_embed</code> parameter. See {@link #embed(List, Set)}. Requests
+ * with a <code>_fields</code> parameter can select only the requested columns, see {@link #isProjectionEnabled()}.
+ * <p>
+ * Methods run in a transaction, so the service must be a Spring bean.
+ *
+ * @param <E>  The entity type.
+ * @param <T>  The response DTO type.
+ * @param <C>  The create DTO type.
+ * @param <ID> The type of the entity's identifier.
+ */
+@Transactional(readOnly = true)
+public abstract class JpaRAService<E, T, C, ID> implements IRAService<T, C, ID>, SmartInitializingSingleton {
+    private static final Log logger = LogFactory.getLog(JpaRAService.class);
+    private static final String SEARCH_PARAM = FieldFilter.SEARCH_PARAM;
+    static final char LIKE_ESCAPE = '\\';
+    private static final String HINT_FETCH_SIZE = "org.hibernate.fetchSize";
+    private static final String HINT_READ_ONLY = "org.hibernate.readOnly";
+    private static final int STREAM_FETCH_SIZE = 500;
+    private static final Duration SEARCH_INDEX_RETRY_DELAY = Duration.ofMinutes(1);
+    private static final Duration MAX_SEARCH_INDEX_RETRY_DELAY = Duration.ofHours(1);
+
+    private final Class<E> entityClass;
+    private final EntityManager entityManager;
+    private final SimpleJpaRepository<E, ID> repository;
+    private final SingularAttribute<? super E, ?> idAttribute;
+    private final Map<String, EntityAttribute<E>> attributes;
+    private final JpaBulkOperations<E, ID> bulkOperations;
+    private final Set<String> sortableAttributes;
+    private final Set<String> relations;
+    private final ConcurrentMap<Set<String>, CompiledFilter<E>> compiledFilters = new ConcurrentHashMap<>();
+    private volatile List<EntityAttribute<E>> searchAttributes;
+    private final Object searchIndexLock = new Object();
+    private final Object searchIndexBuildLock = new Object();
+    private final AtomicBoolean searchIndexBuildScheduled = new AtomicBoolean();
+    private final List<Runnable> pendingSearchIndexUpdates = new ArrayList<>();
+    private volatile SearchIndex<ID> searchIndex;
+    private volatile boolean searchIndexCreated;
+    private volatile SearchIndexState searchIndexState = SearchIndexState.EMPTY;
+    private final AtomicLong searchIndexGeneration = new AtomicLong();
+    private final ThreadLocal<SearchResult<ID>> lastSearchResult = new ThreadLocal<>();
+    private int failedSearchIndexBuilds;
+    private volatile long nextSearchIndexBuildNanos;
+    private volatile PlatformTransactionManager transactionManager;
+
+    /**
+     * @param entityClass   The entity class.
+     * @param entityManager The shared entity manager.
+     */
+    protected JpaRAService(Class<E> entityClass, EntityManager entityManager) {
+        this.entityClass = entityClass;
+        this.entityManager = entityManager;
+        this.repository = new SimpleJpaRepository<>(entityClass, entityManager);
+
+        EntityType<E> entityType = entityManager.getMetamodel().entity(entityClass);
+        if (!entityType.hasSingleIdAttribute()) {
+            throw new IllegalArgumentException(entityClass.getName() + " must have a single ID attribute");
+        }
+        this.idAttribute = entityType.getId(entityType.getIdType().getJavaType());
+
+        this.attributes = EntityAttribute.ofEntity(entityClass, entityType);
+        this.bulkOperations = new JpaBulkOperations<>(entityClass, entityManager, entityType, attributes,
+                JpaBulkOperations.DEFAULT_CHUNK_SIZE);
+
+        Set<String> sortable = new HashSet<>();
+        entityType.getAttributes().forEach(attribute -> sortable.add(attribute.getName()));
+        this.sortableAttributes = Set.copyOf(sortable);
+
+        Set<String> associations = new HashSet<>();
+        entityType.getAttributes().stream()
+                .filter(Attribute::isAssociation)
+                .forEach(attribute -> associations.add(attribute.getName()));
+        this.relations = Set.copyOf(associations);
+    }
+
+    /**
+     * Converts an entity to the response DTO. Called inside the transaction, so lazy associations can be read.
+     *
+     * @param entity The entity.
+     * @return The response DTO.
+     */
+    protected abstract T toResponse(E entity);
+
+    /**
+     * Converts an entity to the response DTO with the given relations embedded. Called by {@link #embed(List, Set)}
+     * after the relations were fetched, so reading them does not run further queries.
+     * <p>
+     * The default implementation ignores the relations and calls {@link #toResponse(Object)}.
+     *
+     * @param entity    The entity.
+     * @param relations The names of the associations to embed.
+     * @return The response DTO.
+     */
+    protected T toResponse(E entity, Set<String> relations) {
+        return toResponse(entity);
+    }
+
+    /**
+     * Reads the ID of a response DTO, which {@link #embed(List, Set)} uses to find the entity of the DTO.
+     *
+     * @param record The response DTO.
+     * @return the ID, read from the DTO property named like the ID attribute of the entity by default
+     */
+    @SuppressWarnings("unchecked")
+    protected ID getResponseId(T record) {
+        BeanWrapper wrapper = PropertyAccessorFactory.forBeanPropertyAccess(record);
+        if (!wrapper.isReadableProperty(idAttribute.getName())) {
+            throw new IllegalStateException(record.getClass().getName() + " has no readable property "
+                    + idAttribute.getName() + ", override getResponseId to embed relations");
+        }
+        return (ID) wrapper.getPropertyValue(idAttribute.getName());
+    }
+
+    /**
+     * Creates a new, unsaved entity from the create DTO.
+     *
+     * @param data The create DTO.
+     * @return The entity to persist.
+     */
+    protected abstract E toEntity(C data);
+
+    /**
+     * Returns the names of the attributes matched by the global search parameter <code>q</code>. Override it to
+     * restrict the search to the attributes that are worth searching.
+     *
+     * @return the search attribute names, all basic <code>String</code> attributes by default
+     */
+    protected Collection<String> getSearchAttributes() {
+        return attributes.values().stream()
+                .filter(attribute -> !attribute.isAssociation() && attribute.getValueType() == String.class)
+                .map(EntityAttribute::getName)
+                .toList();
+    }
+
+    /**
+     * Creates the full-text index that answers the global search parameter <code>q</code>. The index returns the IDs
+     * of the matching entities, and the query only looks them up by ID, instead of matching every row with
+     * <code>LIKE '%q%'</code>. Example with the embedded Lucene index:
+     * <pre>{@code
+     * @Override
+     * protected SearchIndex<Long> createSearchIndex() {
+     *     return new LuceneSearchIndex<>(Long::valueOf);
+     * }
+     * }</pre>
+     * The index holds the {@link #getSearchAttributes() search attributes} of all entities. It is built from the
+     * database in the background at startup, and searches match the search attributes with <code>LIKE</code> until
+     * it is built. The writes of this service update it after they commit, including the writes committed while it is
+     * built. Writes that bypass the service are only picked up by {@link #rebuildSearchIndex()}.
+     *
+     * @return the index, or null to match the search attributes with <code>LIKE</code>, which is the default
+     */
+    protected SearchIndex<ID> createSearchIndex() {
+        return null;
+    }
+
+    /**
+     * The maximum number of IDs a search of the {@link #createSearchIndex() index} returns. Entities matching beyond
+     * them are not found, and the totals of such searches are reported as capped, see
+     * {@link #isResultTruncated(Map)}. The IDs are bound as parameters of the query, in <code>IN</code> lists of
+     * {@value JpaBulkOperations#DEFAULT_CHUNK_SIZE}, so keep the limit within the bind parameter limit of the database
+     * (e.g., 2100 parameters per statement on SQL Server).
+     *
+     * @return the maximum number of IDs, {@value JpaBulkOperations#DEFAULT_CHUNK_SIZE} by default
+     */
+    protected int getSearchLimit() {
+        return JpaBulkOperations.DEFAULT_CHUNK_SIZE;
+    }
+
+    /**
+     * The executor that builds the {@link #createSearchIndex() search index} in the background. When a build fails,
+     * searches match with <code>LIKE</code> and the next build is attempted after a delay, which doubles after each
+     * failure from 1 minute up to 1 hour.
+     *
+     * @return the executor, by default a single daemon thread shared by all services, so that indexes are built one
+     * at a time
+     */
+    protected Executor getSearchIndexExecutor() {
+        return SearchIndexExecutor.INSTANCE;
+    }
+
+    /**
+     * The transaction manager of the transaction in which the {@link #createSearchIndex() search index} is built in
+     * the background. Set automatically to the {@link PlatformTransactionManager} bean, if there is exactly one.
+     *
+     * @param transactionManagers the provider of the transaction manager
+     */
+    @Autowired
+    public void setTransactionManager(ObjectProvider<PlatformTransactionManager> transactionManagers) {
+        this.transactionManager = transactionManagers.getIfUnique();
+    }
+
+    /**
+     * Starts building the {@link #createSearchIndex() search index} in the background once the application context
+     * is initialized, if there is one.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        scheduleSearchIndexBuild();
+    }
+
+    /**
+     * @return the entity class
+     */
+    protected Class<E> getEntityClass() {
+        return entityClass;
+    }
+
+    /**
+     * @return the shared entity manager
+     */
+    protected EntityManager getEntityManager() {
+        return entityManager;
+    }
+
+    /**
+     * Whether list and <code>getMany</code> requests with a <code>_fields</code> parameter select only the columns of
+     * the requested attributes instead of whole entities. The selected values are set on new, unmanaged entity
+     * instances that are passed to {@link #toResponse(Object)}, so the attributes that were not selected are null and
+     * associations cannot be loaded. Enable it if {@link #toResponse(Object)} tolerates that.
+     * <p>
+     * Columns are only selected if every requested field is a basic attribute of the entity with the same name as the
+     * response DTO property. Otherwise, and in keyset pagination mode, whole entities are loaded.
+     *
+     * @return true to select only the requested columns, false by default
+     */
+    protected boolean isProjectionEnabled() {
+        return false;
+    }
+
+    @Override
+    public Page<T> findWithFilters(Map<String, String> filters, Pageable pageable) {
+        return findPage(filters, pageable, null);
+    }
+
+    @Override
+    public Page<T> findWithFilters(Map<String, String> filters, Pageable pageable, Set<String> fields) {
+        return findPage(filters, pageable, getProjection(fields));
+    }
+
+    @Override
+    public Slice<T> findSliceWithFilters(Map<String, String> filters, Pageable pageable) {
+        return findSlice(filters, pageable, null);
+    }
+
+    @Override
+    public Slice<T> findSliceWithFilters(Map<String, String> filters, Pageable pageable, Set<String> fields) {
+        return findSlice(filters, pageable, getProjection(fields));
+    }
+
+    @Override
+    public boolean supportsKeysetPagination() {
+        return true;
+    }
+
+    @Override
+    public Window<T> scrollWithFilters(Map<String, String> filters,
+                                       KeysetScrollPosition position,
+                                       int limit,
+                                       Sort sort) {
+        Specification<E> specification = toSpecification(filters);
+        validateSort(sort);
+        Window<E> window = repository.findBy(
+                specification != null ? specification : Specification.unrestricted(),
+                query -> query.sortBy(sort).limit(limit).scroll(position));
+        return window.map(this::toResponse);
+    }
+
+    @Override
+    public long countWithFilters(Map<String, String> filters) {
+        return count(toSpecification(filters));
+    }
+
+    /**
+     * Streams the result of a single query. Rows are fetched from the database in batches of
+     * {@value #STREAM_FETCH_SIZE}, read without dirty-checking snapshots, and detached after the action, so the
+     * persistence context does not grow with the export.
+     */
+    @Override
+    public void streamWithFilters(Map<String, String> filters, Sort sort, Consumer<? super T> action) {
+        Specification<E> specification = toSpecification(filters);
+        TypedQuery<E> query = createQuery(specification, sort)
+                .setHint(HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .setHint(HINT_READ_ONLY, true);
+        try (Stream<E> entities = query.getResultStream()) {
+            entities.forEach(entity -> {
+                action.accept(toResponse(entity));
+                entityManager.detach(entity);
+            });
+        }
+    }
+
+    /**
+     * Fetches each relation of the entities of the records with a single query, which joins the relation for all
+     * entities at once, and converts the entities again with {@link #toResponse(Object, Set)}. A page with two embedded
+     * relations thus needs two additional queries, regardless of its size.
+     *
+     * @throws ResponseStatusException with status 400 if a relation is not an association of the entity
+     */
+    @Override
+    public List<T> embed(List<T> records, Set<String> relations) {
+        if (records.isEmpty() || relations.isEmpty()) {
+            return records;
+        }
+        for (String relation : relations) {
+            if (!this.relations.contains(relation)) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown relation '" + relation + "' in _embed.");
+            }
+        }
+
+        List<ID> ids = records.stream().map(this::getResponseId).toList();
+        Map<ID, E> entities = new HashMap<>();
+        // Every query returns the same managed entities, so each one ends up with all relations initialized
+        for (String relation : relations) {
+            fetchWithRelation(ids, relation).forEach(entity -> entities.put(getId(entity), entity));
+        }
+        return records.stream()
+                .map(record -> {
+                    E entity = entities.get(getResponseId(record));
+                    return entity != null ? toResponse(entity, relations) : record;
+                })
+                .toList();
+    }
+
+    @Override
+    public Page<T> findWithTargetAndFilters(String target,
+                                            String targetId,
+                                            Map<String, String> filters,
+                                            Pageable pageable) {
+        Map<String, String> targetFilters = filters != null ? new HashMap<>(filters) : new HashMap<>();
+        targetFilters.put(target, targetId);
+        return findWithFilters(targetFilters, pageable);
+    }
+
+    /**
+     * Loads the entities with one query per {@value JpaBulkOperations#DEFAULT_CHUNK_SIZE} distinct IDs, so large
+     * selections stay within the bind parameter limits of the database.
+     */
+    @Override
+    public List<T> findAllById(List<ID> ids) {
+        return findEntitiesById(ids).stream().map(this::toResponse).toList();
+    }
+
+    @Override
+    public List<T> findAllById(List<ID> ids, Set<String> fields) {
+        return findEntitiesById(ids, getProjection(fields)).stream().map(this::toResponse).toList();
+    }
+
+    @Override
+    public T findById(ID id) {
+        return toResponse(getEntity(id));
+    }
+
+    @Override
+    @Transactional
+    public T create(C data) {
+        E entity = toEntity(data);
+        entityManager.persist(entity);
+        updateSearchIndex(List.of(getId(entity)), List.of());
+        return toResponse(entity);
+    }
+
+    @Override
+    @Transactional
+    public T update(ID id, Map<String, Object> fields) {
+        E entity = getEntity(id);
+        applyFields(entity, fields);
+        entityManager.flush();
+        updateSearchIndex(List.of(id), List.of());
+        return toResponse(entity);
+    }
+
+    /**
+     * Updates the entities with one <code>UPDATE</code> statement per {@value JpaBulkOperations#DEFAULT_CHUNK_SIZE}
+     * IDs instead of loading them, see {@link JpaBulkOperations#updateAll(Collection, Map)}. Entity listeners are not
+     * called. Override it to load and update each entity if they are needed.
+     */
+    @Override
+    @Transactional
+    public List<ID> updateMany(List<ID> ids, Map<String, Object> fields) {
+        List<ID> updated = bulkOperations.updateAll(ids, fields);
+        updateSearchIndex(updated, List.of());
+        return updated;
+    }
+
+    @Override
+    @Transactional
+    public void deleteById(ID id) {
+        entityManager.remove(getEntity(id));
+        updateSearchIndex(List.of(), List.of(id));
+    }
+
+    /**
+     * Deletes the entities with one select of the existing IDs and one <code>DELETE</code> statement per
+     * {@value JpaBulkOperations#DEFAULT_CHUNK_SIZE} IDs, see {@link JpaBulkOperations#deleteAll(Collection)}. Entities
+     * with collections or one-to-one associations are loaded and removed, so that removals cascade. Entity listeners
+     * are not called by bulk deletes. Override it to load and remove each entity if they are needed.
+     */
+    @Override
+    @Transactional
+    public List<ID> deleteMany(List<ID> ids) {
+        List<ID> deleted = bulkOperations.deleteAll(ids);
+        updateSearchIndex(List.of(), deleted);
+        return deleted;
+    }
+
+    /**
+     * Clears the {@link #createSearchIndex() search index} and indexes all entities again, reading the search
+     * attributes in batches of {@value #STREAM_FETCH_SIZE} rows. Call it after writes that bypass the service. Searches
+     * match with <code>LIKE</code> while the index is built, and the writes committed meanwhile are applied when it is
+     * complete, so neither waits for the build. Does nothing without a search index.
+     */
+    public void rebuildSearchIndex() {
+        SearchIndex<ID> index = getSearchIndex();
+        if (index == null) {
+            return;
+        }
+        synchronized (searchIndexBuildLock) {
+            synchronized (searchIndexLock) {
+                searchIndexState = SearchIndexState.BUILDING;
+                searchIndexGeneration.incrementAndGet();
+                pendingSearchIndexUpdates.clear();
+                index.clear();
+            }
+            boolean built = false;
+            try {
+                TypedQuery<Tuple> query = createSearchDocumentQuery(null)
+                        .setHint(HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                        .setHint(HINT_READ_ONLY, true);
+                Map<ID, Map<String, String>> batch = new HashMap<>();
+                try (Stream<Tuple> tuples = query.getResultStream()) {
+                    tuples.forEach(tuple -> {
+                        putSearchDocument(batch, tuple);
+                        if (batch.size() == STREAM_FETCH_SIZE) {
+                            index.index(batch);
+                            batch.clear();
+                        }
+                    });
+                }
+                index.index(batch);
+                built = true;
+            } finally {
+                // Writes committed during the build are applied after the rows it read, in commit order
+                synchronized (searchIndexLock) {
+                    if (built) {
+                        pendingSearchIndexUpdates.forEach(Runnable::run);
+                        failedSearchIndexBuilds = 0;
+                        searchIndexState = SearchIndexState.BUILT;
+                    } else {
+                        markSearchIndexFailed();
+                    }
+                    pendingSearchIndexUpdates.clear();
+                    searchIndexGeneration.incrementAndGet();
+                }
+            }
+        }
+    }
+
+    /**
+     * Whether the search of the filters was answered with only the first {@link #getSearchLimit()} IDs of the
+     * {@link #createSearchIndex() search index}, so that the entities found may be only some of the matching ones.
+     * Called after the query on the same thread, it reuses the IDs the query searched for.
+     */
+    @Override
+    public boolean isResultTruncated(Map<String, String> filters) {
+        String search = filters != null ? filters.get(SEARCH_PARAM) : null;
+        if (search == null || search.isEmpty() || searchIndexState != SearchIndexState.BUILT) {
+            return false;
+        }
+        SearchIndex<ID> index = getSearchIndex();
+        return index != null && search(index, search).truncated;
+    }
+
+    /**
+     * Builds the specification matching the given filters and the global search parameter.
+     *
+     * @param filters the filters, may be null
+     * @return the specification, or null if the filters match all entities
+     * @throws ResponseStatusException with status 400 if a filter key or value is invalid
+     */
+    protected Specification<E> toSpecification(Map<String, String> filters) {
+        if (filters == null || filters.isEmpty()) {
+            return null;
+        }
+
+        Specification<E> specification = null;
+        Set<String> keys = filters.keySet();
+        if (filters.containsKey(SEARCH_PARAM)) {
+            specification = toSearchSpecification(filters.get(SEARCH_PARAM));
+            keys = new HashSet<>(keys);
+            keys.remove(SEARCH_PARAM);
+        }
+        if (!keys.isEmpty()) {
+            Specification<E> fieldSpecification = compiledFilters
+                    .computeIfAbsent(Set.copyOf(keys), this::compileFilter)
+                    .toSpecification(filters);
+            if (fieldSpecification != null) {
+                specification = specification == null ? fieldSpecification : specification.and(fieldSpecification);
+            }
+        }
+        return specification;
+    }
+
+    @SuppressWarnings("unchecked")
+    private ID getId(E entity) {
+        return (ID) entityManager.getEntityManagerFactory().getPersistenceUnitUtil().getIdentifier(entity);
+    }
+
+    private E getEntity(ID id) {
+        E entity = entityManager.find(entityClass, id);
+        if (entity == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND,
+                    entityClass.getSimpleName() + " not found with id: " + id);
+        }
+        return entity;
+    }
+
+    private List<E> findEntitiesById(Collection<ID> ids) {
+        return findEntitiesById(ids, null);
+    }
+
+    private List<E> findEntitiesById(Collection<ID> ids, List<EntityAttribute<E>> projection) {
+        List<ID> distinctIds = new ArrayList<>(new LinkedHashSet<>(ids));
+        List<E> entities = new ArrayList<>(distinctIds.size());
+        // One query per chunk keeps the IN list within the bind parameter limits of common databases
+        for (int from = 0; from < distinctIds.size(); from += JpaBulkOperations.DEFAULT_CHUNK_SIZE) {
+            List<ID> chunk = distinctIds.subList(from,
+                    Math.min(from + JpaBulkOperations.DEFAULT_CHUNK_SIZE, distinctIds.size()));
+            entities.addAll(query((root, query, criteriaBuilder) -> root.get(idAttribute).in(chunk), Sort.unsorted(),
+                    0, -1, projection));
+        }
+        return entities;
+    }
+
+    private Page<T> findPage(Map<String, String> filters, Pageable pageable, List<EntityAttribute<E>> projection) {
+        Specification<E> specification = toSpecification(filters);
+        List<E> content = findContent(specification, pageable, projection);
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(specification)).map(this::toResponse);
+    }
+
+    private Slice<T> findSlice(Map<String, String> filters, Pageable pageable, List<EntityAttribute<E>> projection) {
+        Specification<E> specification = toSpecification(filters);
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(findContent(specification, pageable, projection), pageable, false)
+                    .map(this::toResponse);
+        }
+
+        // Fetch one more entity than requested to know whether another slice follows
+        List<E> content = query(specification, pageable.getSort(), pageable.getOffset(), pageable.getPageSize() + 1,
+                projection);
+        boolean hasNext = content.size() > pageable.getPageSize();
+        if (hasNext) {
+            content = content.subList(0, pageable.getPageSize());
+        }
+        return new SliceImpl<>(content, pageable, hasNext).map(this::toResponse);
+    }
+
+    /**
+     * Resolves the attributes selected for the given response fields, starting with the ID.
+     *
+     * @return the attributes, or null to load whole entities
+     */
+    private List<EntityAttribute<E>> getProjection(Set<String> fields) {
+        if (fields == null || !isProjectionEnabled()) {
+            return null;
+        }
+        List<EntityAttribute<E>> projection = new ArrayList<>(fields.size() + 1);
+        projection.add(attributes.get(idAttribute.getName()));
+        for (String field : fields) {
+            EntityAttribute<E> attribute = attributes.get(field);
+            // Response properties that are not basic attributes may be computed from anything, so load the entity
+            if (attribute == null || attribute.isAssociation() || !attribute.hasWriter()) {
+                return null;
+            }
+            if (!projection.contains(attribute)) {
+                projection.add(attribute);
+            }
+        }
+        return projection;
+    }
+
+    private List<E> fetchWithRelation(Collection<ID> ids, String relation) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<E> query = criteriaBuilder.createQuery(entityClass);
+        Root<E> root = query.from(entityClass);
+        root.fetch(relation, JoinType.LEFT);
+        query.select(root).distinct(true).where(root.get(idAttribute).in(ids));
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    private void applyFields(E entity, Map<String, Object> fields) {
+        fields.forEach((field, value) -> {
+            EntityAttribute<E> attribute = attributes.get(field);
+            // Fields that are not writable attributes (e.g., the id or computed DTO fields) are ignored, since
+            // react-admin sends the whole record on update
+            if (attribute == null || !attribute.isWritable()) {
+                return;
+            }
+            Object converted;
+            try {
+                converted = attribute.convert(value, entityManager);
+            } catch (RuntimeException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        "Invalid value for field '" + field + "'.", e);
+            }
+            attribute.write(entity, converted);
+        });
+    }
+
+    private CompiledFilter<E> compileFilter(Set<String> keys) {
+        List<CompiledFilter.Term<E>> terms = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            terms.add(CompiledFilter.compile(key, attributes));
+        }
+        return new CompiledFilter<>(terms);
+    }
+
+    private Specification<E> toSearchSpecification(String search) {
+        if (search == null || search.isEmpty()) {
+            return null;
+        }
+        List<EntityAttribute<E>> searchAttributes = getResolvedSearchAttributes();
+        if (searchAttributes.isEmpty()) {
+            return null;
+        }
+        SearchIndex<ID> index = getSearchIndex();
+        if (index != null && searchIndexState == SearchIndexState.BUILT) {
+            List<ID> ids = search(index, search).ids;
+            return (root, query, criteriaBuilder) -> idIn(root, criteriaBuilder, ids);
+        }
+        if (index != null) {
+            // Until the index is built, search with LIKE
+            scheduleSearchIndexBuild();
+        }
+
+        String pattern = "%" + escapeLike(search.toLowerCase(Locale.ROOT)) + "%";
+        return (root, query, criteriaBuilder) -> {
+            Predicate[] predicates = new Predicate[searchAttributes.size()];
+            for (int i = 0; i < predicates.length; i++) {
+                Expression<String> path = searchAttributes.get(i).path(root).as(String.class);
+                predicates[i] = criteriaBuilder.like(criteriaBuilder.lower(path), pattern, LIKE_ESCAPE);
+            }
+            return criteriaBuilder.or(predicates);
+        };
+    }
+
+    /**
+     * Searches the index for one more ID than the {@link #getSearchLimit() limit}, to tell whether the result is
+     * truncated. The result is kept for the thread until the next search or change of the index or limit, so the
+     * queries of a request and {@link #isResultTruncated(Map)} search the index only once.
+     */
+    private SearchResult<ID> search(SearchIndex<ID> index, String search) {
+        long generation = searchIndexGeneration.get();
+        int limit = getSearchLimit();
+        SearchResult<ID> result = lastSearchResult.get();
+        if (result == null || result.generation != generation || result.limit != limit
+                || !result.search.equals(search)) {
+            List<ID> ids = index.search(search, limit + 1);
+            boolean truncated = ids.size() > limit;
+            result = new SearchResult<>(search, generation, limit,
+                    truncated ? List.copyOf(ids.subList(0, limit)) : ids, truncated);
+            lastSearchResult.set(result);
+        }
+        return result;
+    }
+
+    /**
+     * Matches the entities with the given IDs, with one <code>IN</code> list per
+     * {@value JpaBulkOperations#DEFAULT_CHUNK_SIZE} IDs to stay within the limits of common databases (e.g., 1000 on
+     * Oracle).
+     */
+    private Predicate idIn(Root<E> root, CriteriaBuilder criteriaBuilder, List<ID> ids) {
+        if (ids.isEmpty()) {
+            return criteriaBuilder.disjunction();
+        }
+        List<Predicate> chunks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += JpaBulkOperations.DEFAULT_CHUNK_SIZE) {
+            chunks.add(root.get(idAttribute).in(ids.subList(from,
+                    Math.min(from + JpaBulkOperations.DEFAULT_CHUNK_SIZE, ids.size()))));
+        }
+        return chunks.size() == 1 ? chunks.get(0) : criteriaBuilder.or(chunks.toArray(Predicate[]::new));
+    }
+
+    private List<EntityAttribute<E>> getResolvedSearchAttributes() {
+        List<EntityAttribute<E>> resolved = searchAttributes;
+        if (resolved == null) {
+            resolved = getSearchAttributes().stream()
+                    .map(name -> {
+                        EntityAttribute<E> attribute = attributes.get(name);
+                        if (attribute == null) {
+                            throw new IllegalStateException("Unknown search attribute " + name + " of " + entityClass.getName());
+                        }
+                        return attribute;
+                    })
+                    .toList();
+            searchAttributes = resolved;
+        }
+        return resolved;
+    }
+
+    private SearchIndex<ID> getSearchIndex() {
+        if (!searchIndexCreated) {
+            synchronized (searchIndexLock) {
+                if (!searchIndexCreated) {
+                    searchIndex = getResolvedSearchAttributes().isEmpty() ? null : createSearchIndex();
+                    searchIndexCreated = true;
+                }
+            }
+        }
+        return searchIndex;
+    }
+
+    /**
+     * Builds the search index on the {@link #getSearchIndexExecutor() executor}, in a read-only transaction if there
+     * is a transaction manager, unless it is built, a build is scheduled already, or the last build failed less than
+     * the retry delay ago.
+     */
+    private void scheduleSearchIndexBuild() {
+        SearchIndexState state = searchIndexState;
+        if (state == SearchIndexState.BUILDING || state == SearchIndexState.BUILT
+                || state == SearchIndexState.FAILED && System.nanoTime() - nextSearchIndexBuildNanos < 0
+                || getSearchIndex() == null
+                || !searchIndexBuildScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        PlatformTransactionManager transactionManager = this.transactionManager;
+        try {
+            getSearchIndexExecutor().execute(() -> {
+                try {
+                    if (transactionManager != null) {
+                        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+                        transactionTemplate.setReadOnly(true);
+                        transactionTemplate.executeWithoutResult(status -> rebuildSearchIndex());
+                    } else {
+                        rebuildSearchIndex();
+                    }
+                } catch (RuntimeException e) {
+                    synchronized (searchIndexLock) {
+                        // The build may have failed before it started, e.g., without a database connection
+                        if (searchIndexState != SearchIndexState.FAILED) {
+                            markSearchIndexFailed();
+                        }
+                    }
+                    logger.warn("Failed to build the search index of " + entityClass.getName()
+                            + ", searches match with LIKE until the build is retried", e);
+                } finally {
+                    searchIndexBuildScheduled.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            searchIndexBuildScheduled.set(false);
+            logger.warn("Failed to schedule the search index build of " + entityClass.getName(), e);
+        }
+    }
+
+    /**
+     * Marks the search index as failed, and delays the next background build by a delay that doubles after each
+     * consecutive failure. Called with the search index lock held.
+     */
+    private void markSearchIndexFailed() {
+        long delay = SEARCH_INDEX_RETRY_DELAY.toNanos() << Math.min(failedSearchIndexBuilds, 6);
+        failedSearchIndexBuilds++;
+        nextSearchIndexBuildNanos = System.nanoTime() + Math.min(delay, MAX_SEARCH_INDEX_RETRY_DELAY.toNanos());
+        searchIndexState = SearchIndexState.FAILED;
+    }
+
+    /**
+     * Updates the search index after the transaction commits, with the search attributes of the saved entities as
+     * they are now. Changes committed while the index is built are applied when it is complete, and changes before the
+     * index is built are left to the build.
+     */
+    private void updateSearchIndex(Collection<ID> saved, Collection<ID> deleted) {
+        SearchIndex<ID> index = getSearchIndex();
+        if (index == null || (saved.isEmpty() && deleted.isEmpty())) {
+            return;
+        }
+        Map<ID, Map<String, String>> documents = new HashMap<>();
+        List<ID> savedIds = new ArrayList<>(saved);
+        for (int from = 0; from < savedIds.size(); from += JpaBulkOperations.DEFAULT_CHUNK_SIZE) {
+            List<ID> chunk = savedIds.subList(from,
+                    Math.min(from + JpaBulkOperations.DEFAULT_CHUNK_SIZE, savedIds.size()));
+            createSearchDocumentQuery(chunk).getResultList().forEach(tuple -> putSearchDocument(documents, tuple));
+        }
+        List<ID> deletedIds = List.copyOf(deleted);
+
+        Runnable apply = () -> {
+            index.index(documents);
+            index.delete(deletedIds);
+            searchIndexGeneration.incrementAndGet();
+        };
+        Runnable update = () -> {
+            synchronized (searchIndexLock) {
+                switch (searchIndexState) {
+                    case BUILT -> apply.run();
+                    case BUILDING -> pendingSearchIndexUpdates.add(apply);
+                    case EMPTY, FAILED -> {
+                        // The next build reads the entities as they are
+                    }
+                }
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    update.run();
+                }
+            });
+        } else {
+            update.run();
+        }
+    }
+
+    /**
+     * Selects the ID and the search attributes of the entities with the given IDs, or of all entities.
+     */
+    private TypedQuery<Tuple> createSearchDocumentQuery(Collection<ID> ids) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+        Root<E> root = query.from(entityClass);
+        List<Selection<?>> selections = new ArrayList<>();
+        selections.add(root.get(idAttribute));
+        getResolvedSearchAttributes().forEach(attribute -> selections.add(attribute.path(root)));
+        query.select(criteriaBuilder.tuple(selections));
+        if (ids != null) {
+            query.where(idIn(root, criteriaBuilder, List.copyOf(ids)));
+        }
+        return entityManager.createQuery(query);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void putSearchDocument(Map<ID, Map<String, String>> documents, Tuple tuple) {
+        List<EntityAttribute<E>> searchAttributes = getResolvedSearchAttributes();
+        Map<String, String> fields = new HashMap<>();
+        for (int i = 0; i < searchAttributes.size(); i++) {
+            Object value = tuple.get(i + 1);
+            if (value != null) {
+                fields.put(searchAttributes.get(i).getName(), value.toString());
+            }
+        }
+        documents.put((ID) tuple.get(0), fields);
+    }
+
+    static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private void validateSort(Sort sort) {
+        for (Sort.Order order : sort) {
+            String property = order.getProperty();
+            int dot = property.indexOf('.');
+            String attribute = dot < 0 ? property : property.substring(0, dot);
+            if (!sortableAttributes.contains(attribute)) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown sort field '" + property + "'.");
+            }
+        }
+    }
+
+    private List<E> findContent(Specification<E> specification,
+                                Pageable pageable,
+                                List<EntityAttribute<E>> projection) {
+        if (pageable.isUnpaged()) {
+            return query(specification, pageable.getSort(), 0, -1, projection);
+        }
+        return query(specification, pageable.getSort(), pageable.getOffset(), pageable.getPageSize(), projection);
+    }
+
+    /**
+     * Runs a query for entities. A negative limit fetches all matching entities. With a projection, only the columns
+     * of its attributes are selected, and the entities are new instances holding only these values.
+     */
+    private List<E> query(Specification<E> specification,
+                          Sort sort,
+                          long offset,
+                          int limit,
+                          List<EntityAttribute<E>> projection) {
+        if (projection == null) {
+            return getResultList(createQuery(specification, sort), offset, limit);
+        }
+
+        validateSort(sort);
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+        Root<E> root = query.from(entityClass);
+        applySpecification(specification, root, query, criteriaBuilder);
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, criteriaBuilder));
+        }
+        query.select(criteriaBuilder.tuple(
+                projection.stream().<Selection<?>>map(attribute -> attribute.path(root)).toList()));
+
+        List<Tuple> tuples = getResultList(entityManager.createQuery(query), offset, limit);
+        List<E> entities = new ArrayList<>(tuples.size());
+        for (Tuple tuple : tuples) {
+            E entity = BeanUtils.instantiateClass(entityClass);
+            for (int i = 0; i < projection.size(); i++) {
+                projection.get(i).write(entity, tuple.get(i));
+            }
+            entities.add(entity);
+        }
+        return entities;
+    }
+
+    private static <R> List<R> getResultList(TypedQuery<R> typedQuery, long offset, int limit) {
+        if (offset > 0) {
+            typedQuery.setFirstResult(Math.toIntExact(offset));
+        }
+        if (limit >= 0) {
+            typedQuery.setMaxResults(limit);
+        }
+        return typedQuery.getResultList();
+    }
+
+    private TypedQuery<E> createQuery(Specification<E> specification, Sort sort) {
+        validateSort(sort);
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<E> query = criteriaBuilder.createQuery(entityClass);
+        Root<E> root = query.from(entityClass);
+        applySpecification(specification, root, query, criteriaBuilder);
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, criteriaBuilder));
+        }
+        return entityManager.createQuery(query);
+    }
+
+    private long count(Specification<E> specification) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = criteriaBuilder.createQuery(Long.class);
+        Root<E> root = query.from(entityClass);
+        applySpecification(specification, root, query, criteriaBuilder);
+        query.select(query.isDistinct() ? criteriaBuilder.countDistinct(root) : criteriaBuilder.count(root));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private static <E> void applySpecification(Specification<E> specification,
+                                               Root<E> root,
+                                               CriteriaQuery<?> query,
+                                               CriteriaBuilder criteriaBuilder) {
+        if (specification == null) {
+            return;
+        }
+        Predicate predicate = specification.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+    }
+
+    /**
+     * The IDs found by a search of the index, and whether more entities match.
+     */
+    private static final class SearchResult<ID> {
+        private final String search;
+        private final long generation;
+        private final int limit;
+        private final List<ID> ids;
+        private final boolean truncated;
+
+        SearchResult(String search, long generation, int limit, List<ID> ids, boolean truncated) {
+            this.search = search;
+            this.generation = generation;
+            this.limit = limit;
+            this.ids = ids;
+            this.truncated = truncated;
+        }
+    }
+
+    /**
+     * The default {@link #getSearchIndexExecutor() search index executor}, created on first use.
+     */
+    private static final class SearchIndexExecutor {
+        private static final Executor INSTANCE = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "search-index");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * The state of the search index.
+     */
+    private enum SearchIndexState {
+        /**
+         * Not built yet.
+         */
+        EMPTY,
+        /**
+         * Being built; writes are applied when the build completes.
+         */
+        BUILDING,
+        /**
+         * Built and kept up to date.
+         */
+        BUILT,
+        /**
+         * The last build failed; the next one is attempted after a delay.
+         */
+        FAILED
+    }
+}
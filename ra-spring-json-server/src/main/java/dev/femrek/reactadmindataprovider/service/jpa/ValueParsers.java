@@ -0,0 +1,100 @@
+package dev.femrek.reactadmindataprovider.service.jpa;
+
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.util.ClassUtils;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Resolves, once per attribute type, the function that converts request values (query parameter strings and JSON
+ * values) to the Java type of an entity attribute.
+ */
+final class ValueParsers {
+    private static final Map<Class<?>, Function<String, Object>> PARSERS = Map.ofEntries(
+            Map.entry(String.class, value -> value),
+            Map.entry(Long.class, Long::valueOf),
+            Map.entry(Integer.class, Integer::valueOf),
+            Map.entry(Short.class, Short::valueOf),
+            Map.entry(Byte.class, Byte::valueOf),
+            Map.entry(Double.class, Double::valueOf),
+            Map.entry(Float.class, Float::valueOf),
+            Map.entry(BigDecimal.class, BigDecimal::new),
+            Map.entry(BigInteger.class, BigInteger::new),
+            Map.entry(Boolean.class, ValueParsers::parseBoolean),
+            Map.entry(UUID.class, UUID::fromString),
+            Map.entry(Instant.class, Instant::parse),
+            Map.entry(LocalDate.class, LocalDate::parse),
+            Map.entry(LocalDateTime.class, LocalDateTime::parse),
+            Map.entry(LocalTime.class, LocalTime::parse),
+            Map.entry(OffsetDateTime.class, OffsetDateTime::parse),
+            Map.entry(ZonedDateTime.class, ZonedDateTime::parse)
+    );
+
+    private ValueParsers() {
+    }
+
+    /**
+     * Returns the function that parses strings to the given type. Types without a dedicated parser are converted with
+     * Spring's shared {@link DefaultConversionService}.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static Function<String, Object> forType(Class<?> type) {
+        Class<?> boxed = ClassUtils.resolvePrimitiveIfNecessary(type);
+        Function<String, Object> parser = PARSERS.get(boxed);
+        if (parser != null) {
+            return parser;
+        }
+        if (boxed.isEnum()) {
+            Class<? extends Enum> enumType = (Class<? extends Enum>) boxed;
+            return value -> Enum.valueOf(enumType, value);
+        }
+        DefaultConversionService conversionService = (DefaultConversionService) DefaultConversionService.getSharedInstance();
+        return value -> conversionService.convert(value, boxed);
+    }
+
+    /**
+     * Returns the function that converts JSON values (strings, numbers, booleans) to the given type.
+     */
+    static Function<Object, Object> forJsonValue(Class<?> type) {
+        Class<?> boxed = ClassUtils.resolvePrimitiveIfNecessary(type);
+        Function<String, Object> parser = forType(boxed);
+        Function<Number, Object> numberConverter = numberConverter(boxed);
+        return value -> {
+            if (value == null || boxed.isInstance(value)) {
+                return value;
+            }
+            if (value instanceof Number number && numberConverter != null) {
+                return numberConverter.apply(number);
+            }
+            return parser.apply(value.toString());
+        };
+    }
+
+    private static Function<Number, Object> numberConverter(Class<?> type) {
+        if (type == Long.class) return Number::longValue;
+        if (type == Integer.class) return Number::intValue;
+        if (type == Short.class) return Number::shortValue;
+        if (type == Byte.class) return Number::byteValue;
+        if (type == Double.class) return Number::doubleValue;
+        if (type == Float.class) return Number::floatValue;
+        if (type == BigDecimal.class) return number -> new BigDecimal(number.toString());
+        if (type == BigInteger.class) return number -> new BigDecimal(number.toString()).toBigIntegerExact();
+        return null;
+    }
+
+    private static Boolean parseBoolean(String value) {
+        if ("true".equalsIgnoreCase(value)) return Boolean.TRUE;
+        if ("false".equalsIgnoreCase(value)) return Boolean.FALSE;
+        throw new IllegalArgumentException("Not a boolean: " + value);
+    }
+}
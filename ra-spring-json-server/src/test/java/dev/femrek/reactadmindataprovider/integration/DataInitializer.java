@@ -1,21 +1,41 @@
 package dev.femrek.reactadmindataprovider.integration;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Initializes the database with sample users for integration testing.
  * This component only runs when the 'test' or 'dev' profile is active to prevent data loss in production.
+ * <p>
+ * With <code>seed.users</code> and <code>seed.posts-per-user</code>, it also inserts that many generated users and
+ * posts with batched JDBC inserts, e.g., millions of rows for the load test.
  */
 @Component
 @Profile({"test", "dev"})
 class DataInitializer implements CommandLineRunner {
+    private static final int SEED_BATCH_SIZE = 10_000;
+    private static final String[] SEED_ROLES = {"admin", "user", "moderator", "editor"};
+    private static final String[] SEED_STATUSES = {"draft", "published", "archived"};
 
     private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final int seedUsers;
+    private final int seedPostsPerUser;
 
-    public DataInitializer(UserRepository userRepository) {
+    public DataInitializer(UserRepository userRepository,
+                           JdbcTemplate jdbcTemplate,
+                           @Value("${seed.users:0}") int seedUsers,
+                           @Value("${seed.posts-per-user:0}") int seedPostsPerUser) {
         this.userRepository = userRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.seedUsers = seedUsers;
+        this.seedPostsPerUser = seedPostsPerUser;
     }
 
     @Override
@@ -53,6 +73,36 @@ class DataInitializer implements CommandLineRunner {
         userRepository.saveAll(java.util.List.of(user1, user2, user3, user4, user5));
 
         System.out.println("✅ Initialized database with " + userRepository.count() + " sample users");
+
+        if (seedUsers > 0) {
+            seed();
+        }
+    }
+
+    private void seed() {
+        long firstUserId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM users", Long.class) + 1;
+        List<Object[]> batch = new ArrayList<>(SEED_BATCH_SIZE);
+        for (int i = 0; i < seedUsers; i++) {
+            batch.add(new Object[]{"Seed User " + i, "seed.user" + i + "@example.com", SEED_ROLES[i % SEED_ROLES.length]});
+            if (batch.size() == SEED_BATCH_SIZE || i == seedUsers - 1) {
+                jdbcTemplate.batchUpdate("INSERT INTO users (name, email, role) VALUES (?, ?, ?)", batch);
+                batch.clear();
+            }
+        }
+
+        // The generated users follow the sample users with consecutive IDs
+        long posts = (long) seedUsers * seedPostsPerUser;
+        for (long i = 0; i < posts; i++) {
+            long userId = firstUserId + i / seedPostsPerUser;
+            batch.add(new Object[]{"Seed Post " + i, "Content of seed post " + i, userId,
+                    SEED_STATUSES[(int) (i % SEED_STATUSES.length)]});
+            if (batch.size() == SEED_BATCH_SIZE || i == posts - 1) {
+                jdbcTemplate.batchUpdate("INSERT INTO posts (title, content, user_id, status) VALUES (?, ?, ?, ?)", batch);
+                batch.clear();
+            }
+        }
+
+        System.out.println("✅ Seeded database with " + seedUsers + " users and " + posts + " posts");
     }
 }
 
@@ -1,12 +1,15 @@
 package dev.femrek.reactadmindataprovider.integration;
 
+import dev.femrek.reactadmindataprovider.filter.FieldFilter;
 import dev.femrek.reactadmindataprovider.service.IRAService;
-import jakarta.persistence.criteria.Predicate;
+import dev.femrek.reactadmindataprovider.service.jpa.JpaBulkOperations;
+import dev.femrek.reactadmindataprovider.service.jpa.JpaFieldFilters;
+import jakarta.persistence.EntityManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
-import org.springframework.web.server.ResponseStatusException;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -20,49 +23,39 @@ import java.util.Map;
 @Service
 class PostService implements IRAService<PostResponseDTO, PostCreateDTO, Long> {
     private final PostRepository postRepository;
+    private final JpaBulkOperations<Post, Long> bulkOperations;
+    private final JpaFieldFilters<Post> fieldFilters;
 
-    public PostService(PostRepository postRepository) {
+    public PostService(PostRepository postRepository, EntityManager entityManager) {
         this.postRepository = postRepository;
+        this.bulkOperations = new JpaBulkOperations<>(Post.class, entityManager);
+        this.fieldFilters = new JpaFieldFilters<>(Post.class, entityManager);
     }
 
     @Override
     public Page<PostResponseDTO> findWithFilters(Map<String, String> filters, Pageable pageable) {
-        Specification<Post> spec = (root, query, criteriaBuilder) -> {
-            List<Predicate> predicates = new ArrayList<>();
-
-            if (filters != null) {
-                // Apply global search query (q parameter)
-                String q = filters.remove("q");
-                if (q != null && !q.isEmpty()) {
-                    String searchPattern = "%" + q.toLowerCase() + "%";
-                    Predicate titlePredicate = criteriaBuilder.like(criteriaBuilder.lower(root.get("title")), searchPattern);
-                    Predicate contentPredicate = criteriaBuilder.like(criteriaBuilder.lower(root.get("content")), searchPattern);
-                    predicates.add(criteriaBuilder.or(titlePredicate, contentPredicate));
-                }
-
-                // Apply field filters (including userId for getManyReference)
-                filters.forEach((field, value) -> {
-                    if (value != null && !value.isEmpty()) {
-                        if (field.equals("userId")) {
-                            try {
-                                predicates.add(criteriaBuilder.equal(root.get(field), Long.parseLong(value)));
-                            } catch (NumberFormatException e) {
-                                throw new ResponseStatusException(org.springframework.http.HttpStatus.BAD_REQUEST, "Invalid userId format: " + value);
-                            }
-                        } else {
-                            predicates.add(criteriaBuilder.equal(root.get(field), value));
-                        }
-                    }
-                });
-            }
-
-            return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
-        };
+        Specification<Post> spec = buildSpecification(filters);
 
         Page<Post> page = postRepository.findAll(spec, pageable);
         return page.map(this::toResponseDTO);
     }
 
+    private Specification<Post> buildSpecification(Map<String, String> filters) {
+        // Apply field filters (including userId for getManyReference)
+        Specification<Post> fieldSpecification = fieldFilters.toSpecification(filters);
+        String q = filters != null ? filters.get(FieldFilter.SEARCH_PARAM) : null;
+        if (q == null || q.isEmpty()) {
+            return fieldSpecification != null ? fieldSpecification : Specification.unrestricted();
+        }
+
+        // Apply global search query (q parameter)
+        String searchPattern = "%" + q.toLowerCase() + "%";
+        Specification<Post> searchSpecification = (root, query, criteriaBuilder) -> criteriaBuilder.or(
+                criteriaBuilder.like(criteriaBuilder.lower(root.get("title")), searchPattern),
+                criteriaBuilder.like(criteriaBuilder.lower(root.get("content")), searchPattern));
+        return fieldSpecification != null ? searchSpecification.and(fieldSpecification) : searchSpecification;
+    }
+
     @Override
     public Page<PostResponseDTO> findWithTargetAndFilters(String target, String targetId, Map<String, String> filters, Pageable pageable) {
         if (filters == null) {
@@ -149,14 +142,9 @@ class PostService implements IRAService<PostResponseDTO, PostCreateDTO, Long> {
     }
 
     @Override
+    @Transactional
     public List<Long> deleteMany(List<Long> ids) {
-        if (ids.isEmpty()) {
-            return new ArrayList<>();
-        }
-
-        List<Post> posts = postRepository.findAllById(ids);
-        postRepository.deleteAll(posts);
-        return posts.stream().map(Post::getId).toList();
+        return bulkOperations.deleteAll(ids);
     }
 
     private PostResponseDTO toResponseDTO(Post post) {
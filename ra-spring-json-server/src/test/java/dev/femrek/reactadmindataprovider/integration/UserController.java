@@ -8,6 +8,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Map;
@@ -29,15 +30,15 @@ class UserController extends RAController<UserResponseDTO, UserCreateDTO, Long>
     }
 
     @Override
-    public ResponseEntity<List<UserResponseDTO>> getList(int _start, int _end, String _sort, String _order, String _embed, Map<String, String> allParams) {
+    public ResponseEntity<List<UserResponseDTO>> getList(int _start, int _end, String _sort, String _order, String _embed, String _cursor, String _fields, Map<String, String> allParams) {
         log.info("Received getList request with params: " + allParams);
-        return super.getList(_start, _end, _sort, _order, _embed, allParams);
+        return super.getList(_start, _end, _sort, _order, _embed, _cursor, _fields, allParams);
     }
 
     @Override
-    public ResponseEntity<List<UserResponseDTO>> getMany(List<Long> id) {
+    public ResponseEntity<List<UserResponseDTO>> getMany(List<Long> id, String _fields) {
         log.info("Received getMany request with ids: " + id);
-        return super.getMany(id);
+        return super.getMany(id, _fields);
     }
 
     @Override
@@ -46,6 +47,12 @@ class UserController extends RAController<UserResponseDTO, UserCreateDTO, Long>
         return super.getManyReference(target, targetId, _start, _end, _sort, _order, _embed, allParams);
     }
 
+    @Override
+    public ResponseEntity<StreamingResponseBody> export(String _format, String _sort, String _order, Map<String, String> allParams) {
+        log.info("Received export request with format: " + _format + ", params: " + allParams);
+        return super.export(_format, _sort, _order, allParams);
+    }
+
     @Override
     public ResponseEntity<UserResponseDTO> getOne(Long id) {
         log.info("Received getOne request with id: " + id);
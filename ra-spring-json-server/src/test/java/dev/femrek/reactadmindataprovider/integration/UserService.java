@@ -1,7 +1,9 @@
 package dev.femrek.reactadmindataprovider.integration;
 
+import dev.femrek.reactadmindataprovider.filter.FieldFilter;
 import dev.femrek.reactadmindataprovider.service.IRAService;
-import jakarta.persistence.criteria.Predicate;
+import dev.femrek.reactadmindataprovider.service.jpa.JpaFieldFilters;
+import jakarta.persistence.EntityManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
@@ -20,39 +22,16 @@ import java.util.stream.StreamSupport;
 @Service
 class UserService implements IRAService<UserResponseDTO, UserCreateDTO, Long> {
     private final UserRepository userRepository;
+    private final JpaFieldFilters<User> fieldFilters;
 
-    public UserService(UserRepository userRepository) {
+    public UserService(UserRepository userRepository, EntityManager entityManager) {
         this.userRepository = userRepository;
+        this.fieldFilters = new JpaFieldFilters<>(User.class, entityManager);
     }
 
     @Override
     public Page<UserResponseDTO> findWithFilters(Map<String, String> filters, Pageable pageable) {
-        Specification<User> spec = (root, query, criteriaBuilder) -> {
-            List<Predicate> predicates = new ArrayList<>();
-
-            // Apply field-specific filters
-            if (filters != null) {
-                // Apply global search query (q parameter)
-                String q = filters.remove("q");
-                if (q != null && !q.isEmpty()) {
-                    String searchPattern = "%" + q.toLowerCase() + "%";
-                    Predicate namePredicate = criteriaBuilder.like(criteriaBuilder.lower(root.get("name")), searchPattern);
-                    Predicate emailPredicate = criteriaBuilder.like(criteriaBuilder.lower(root.get("email")), searchPattern);
-                    Predicate rolePredicate = criteriaBuilder.like(criteriaBuilder.lower(root.get("role")), searchPattern);
-
-                    predicates.add(criteriaBuilder.or(namePredicate, emailPredicate, rolePredicate));
-                }
-
-                // Apply field filters
-                filters.forEach((field, value) -> {
-                    if (value != null && !value.isEmpty()) {
-                        predicates.add(criteriaBuilder.equal(root.get(field), value));
-                    }
-                });
-            }
-
-            return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
-        };
+        Specification<User> spec = buildSpecification(filters);
 
         Page<User> entities = userRepository.findAll(spec, pageable);
         return entities.map(entity -> {
@@ -65,6 +44,23 @@ class UserService implements IRAService<UserResponseDTO, UserCreateDTO, Long> {
         });
     }
 
+    private Specification<User> buildSpecification(Map<String, String> filters) {
+        // Apply field filters
+        Specification<User> fieldSpecification = fieldFilters.toSpecification(filters);
+        String q = filters != null ? filters.get(FieldFilter.SEARCH_PARAM) : null;
+        if (q == null || q.isEmpty()) {
+            return fieldSpecification != null ? fieldSpecification : Specification.unrestricted();
+        }
+
+        // Apply global search query (q parameter)
+        String searchPattern = "%" + q.toLowerCase() + "%";
+        Specification<User> searchSpecification = (root, query, criteriaBuilder) -> criteriaBuilder.or(
+                criteriaBuilder.like(criteriaBuilder.lower(root.get("name")), searchPattern),
+                criteriaBuilder.like(criteriaBuilder.lower(root.get("email")), searchPattern),
+                criteriaBuilder.like(criteriaBuilder.lower(root.get("role")), searchPattern));
+        return fieldSpecification != null ? searchSpecification.and(fieldSpecification) : searchSpecification;
+    }
+
     @Override
     public Page<UserResponseDTO> findWithTargetAndFilters(
             String target,
@@ -0,0 +1,7 @@
+package dev.femrek.reactadmindataprovider.load;
+
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+@SpringBootApplication
+class LoadTestApplication {
+}
@@ -0,0 +1,7 @@
+package dev.femrek.reactadmindataprovider.load;
+
+/**
+ * Response and create DTO of the slow resource.
+ */
+public record SlowRecord(Long id) {
+}
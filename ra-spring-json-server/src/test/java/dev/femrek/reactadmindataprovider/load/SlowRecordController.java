@@ -0,0 +1,24 @@
+package dev.femrek.reactadmindataprovider.load;
+
+import dev.femrek.reactadmindataprovider.controller.RAController;
+import dev.femrek.reactadmindataprovider.service.IRAService;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller of a resource whose queries block, see {@link SlowRecordService}.
+ */
+@RestController
+@RequestMapping("/api/slow-records")
+class SlowRecordController extends RAController<SlowRecord, SlowRecord, Long> {
+    private final SlowRecordService slowRecordService;
+
+    public SlowRecordController(SlowRecordService slowRecordService) {
+        this.slowRecordService = slowRecordService;
+    }
+
+    @Override
+    protected IRAService<SlowRecord, SlowRecord, Long> getService() {
+        return slowRecordService;
+    }
+}
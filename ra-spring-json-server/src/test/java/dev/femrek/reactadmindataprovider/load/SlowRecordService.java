@@ -0,0 +1,90 @@
+package dev.femrek.reactadmindataprovider.load;
+
+import dev.femrek.reactadmindataprovider.service.IRAService;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Service that answers every query after {@value #QUERY_MILLIS} ms, standing in for a blocking JDBC call, and records
+ * how many queries ran at the same time.
+ */
+@Service
+class SlowRecordService implements IRAService<SlowRecord, SlowRecord, Long> {
+    static final int QUERY_MILLIS = 50;
+
+    private final AtomicInteger concurrentQueries = new AtomicInteger();
+    private final AtomicInteger maxConcurrentQueries = new AtomicInteger();
+
+    /**
+     * @return the maximum number of queries that ran at the same time since the last reset
+     */
+    int resetMaxConcurrentQueries() {
+        return maxConcurrentQueries.getAndSet(0);
+    }
+
+    private <R> R query(R result) {
+        maxConcurrentQueries.accumulateAndGet(concurrentQueries.incrementAndGet(), Math::max);
+        try {
+            Thread.sleep(QUERY_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            concurrentQueries.decrementAndGet();
+        }
+        return result;
+    }
+
+    @Override
+    public Page<SlowRecord> findWithFilters(Map<String, String> filters, Pageable pageable) {
+        return query(new PageImpl<>(List.of(), pageable, 0));
+    }
+
+    @Override
+    public Page<SlowRecord> findWithTargetAndFilters(String target,
+                                                     String targetId,
+                                                     Map<String, String> filters,
+                                                     Pageable pageable) {
+        return query(new PageImpl<>(List.of(), pageable, 0));
+    }
+
+    @Override
+    public List<SlowRecord> findAllById(List<Long> ids) {
+        return query(ids.stream().map(SlowRecord::new).toList());
+    }
+
+    @Override
+    public SlowRecord findById(Long id) {
+        return query(new SlowRecord(id));
+    }
+
+    @Override
+    public SlowRecord create(SlowRecord data) {
+        return query(data);
+    }
+
+    @Override
+    public SlowRecord update(Long id, Map<String, Object> fields) {
+        return query(new SlowRecord(id));
+    }
+
+    @Override
+    public List<Long> updateMany(List<Long> ids, Map<String, Object> fields) {
+        return query(ids);
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        query(id);
+    }
+
+    @Override
+    public List<Long> deleteMany(List<Long> ids) {
+        return query(ids);
+    }
+}
@@ -0,0 +1,134 @@
+package dev.femrek.reactadmindataprovider.load;
+
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests of a resource whose queries block, on a small pool of platform request threads and on virtual threads with the
+ * per-resource concurrency limit.
+ * <p>
+ * Each run starts its own server. The blocking queries of {@link SlowRecordService} stand in for JDBC calls, so the
+ * tests measure the request threads and not the database. The throughput comparison depends on the machine, so it is
+ * tagged <code>load</code> and only runs with the <code>load-test</code> Maven profile.
+ */
+@EnabledForJreRange(min = JRE.JAVA_21)
+class TestVirtualThreadLoad {
+    private static final Log log = LogFactory.getLog(TestVirtualThreadLoad.class);
+
+    private static final int REQUESTS = 256;
+    private static final int CLIENTS = 64;
+    private static final int PLATFORM_THREADS = 8;
+    private static final int PERMITS = 32;
+
+    private final OkHttpClient client = new OkHttpClient();
+
+    @Test
+    @DisplayName("Virtual threads never run more queries of a resource at the same time than its permits")
+    void testConcurrencyLimit() throws Exception {
+        LoadResult virtual = runVirtual("jdbc:h2:mem:limit-virtual");
+
+        assertTrue(virtual.getMaxConcurrentQueries() <= PERMITS);
+    }
+
+    @Test
+    @Tag("load")
+    @DisplayName("Virtual threads serve blocking requests faster than a small platform thread pool")
+    void testThroughput() throws Exception {
+        LoadResult platform = run(
+                "--server.tomcat.threads.max=" + PLATFORM_THREADS,
+                "--spring.datasource.url=jdbc:h2:mem:load-platform");
+        LoadResult virtual = runVirtual("jdbc:h2:mem:load-virtual");
+
+        log.info(String.format("Platform threads: %.0f requests/s, virtual threads: %.0f requests/s",
+                platform.getThroughput(), virtual.getThroughput()));
+        assertTrue(platform.getMaxConcurrentQueries() <= PLATFORM_THREADS);
+        assertTrue(virtual.getMaxConcurrentQueries() <= PERMITS);
+        assertTrue(virtual.getMaxConcurrentQueries() > PLATFORM_THREADS,
+                "Virtual threads should run more queries at the same time than the platform thread pool");
+        assertTrue(virtual.getThroughput() >= 2 * platform.getThroughput(),
+                "Virtual threads should at least double the throughput of blocking requests");
+    }
+
+    private LoadResult runVirtual(String datasourceUrl) throws Exception {
+        return run(
+                "--ra.virtual-threads.enabled=true",
+                "--ra.virtual-threads.max-concurrency-per-resource=" + PERMITS,
+                "--spring.datasource.url=" + datasourceUrl);
+    }
+
+    private LoadResult run(String... args) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(LoadTestApplication.class)
+                .properties("server.port=0")
+                .run(args)) {
+            SlowRecordService service = context.getBean(SlowRecordService.class);
+            String url = "http://localhost:" + context.getEnvironment().getProperty("local.server.port")
+                    + "/api/slow-records/";
+
+            // Warm up the server and the client connections
+            fire(url, CLIENTS);
+            service.resetMaxConcurrentQueries();
+
+            long start = System.nanoTime();
+            fire(url, REQUESTS);
+            double seconds = (System.nanoTime() - start) / 1e9;
+            return new LoadResult(REQUESTS / seconds, service.resetMaxConcurrentQueries());
+        }
+    }
+
+    private void fire(String url, int requests) throws Exception {
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+        try {
+            List<Future<Integer>> responses = new ArrayList<>();
+            for (int i = 0; i < requests; i++) {
+                long id = i + 1;
+                responses.add(clients.submit(() -> {
+                    Request request = new Request.Builder().url(url + id).get().build();
+                    try (Response response = client.newCall(request).execute()) {
+                        return response.code();
+                    }
+                }));
+            }
+            for (Future<Integer> response : responses) {
+                assertEquals(200, response.get());
+            }
+        } finally {
+            clients.shutdown();
+        }
+    }
+
+    private static final class LoadResult {
+        private final double throughput;
+        private final int maxConcurrentQueries;
+
+        private LoadResult(double throughput, int maxConcurrentQueries) {
+            this.throughput = throughput;
+            this.maxConcurrentQueries = maxConcurrentQueries;
+        }
+
+        double getThroughput() {
+            return throughput;
+        }
+
+        int getMaxConcurrentQueries() {
+            return maxConcurrentQueries;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package dev.femrek.reactadmindataprovider.reactive;
+
+import dev.femrek.reactadmindataprovider.controller.ReactiveRAController;
+import dev.femrek.reactadmindataprovider.service.IReactiveRAService;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Reactive REST controller for the book resource.
+ */
+@RestController
+@RequestMapping("/api/books")
+class BookController extends ReactiveRAController<Book, Book, Long> {
+    private final BookService bookService;
+
+    public BookController(BookService bookService) {
+        this.bookService = bookService;
+    }
+
+    @Override
+    protected IReactiveRAService<Book, Book, Long> getService() {
+        return bookService;
+    }
+}
@@ -0,0 +1,111 @@
+package dev.femrek.reactadmindataprovider.reactive;
+
+import dev.femrek.reactadmindataprovider.service.IReactiveRAService;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * In-memory reactive service for the book resource. Supports filtering by genre and sorting by id or title.
+ */
+class BookService implements IReactiveRAService<Book, Book, Long> {
+    private final Map<Long, Book> books = new ConcurrentSkipListMap<>();
+    private final AtomicLong ids = new AtomicLong();
+
+    private static Predicate<Book> matches(Map<String, String> filters) {
+        String genre = filters.get("genre");
+        return book -> genre == null || genre.equals(book.getGenre());
+    }
+
+    private static Comparator<Book> comparator(Sort sort) {
+        Sort.Order order = sort.stream().findFirst().orElse(Sort.Order.asc("id"));
+        Comparator<Book> comparator = "title".equals(order.getProperty())
+                ? Comparator.comparing(Book::getTitle)
+                : Comparator.comparing(Book::getId);
+        return order.isDescending() ? comparator.reversed() : comparator;
+    }
+
+    private Flux<Book> find(Predicate<Book> predicate, Pageable pageable) {
+        Flux<Book> matching = Flux.fromIterable(books.values())
+                .filter(predicate)
+                .sort(comparator(pageable.getSort()));
+        if (pageable.isUnpaged()) {
+            return matching;
+        }
+        return matching.skip(pageable.getOffset()).take(pageable.getPageSize());
+    }
+
+    @Override
+    public Flux<Book> findWithFilters(Map<String, String> filters, Pageable pageable) {
+        return find(matches(filters), pageable);
+    }
+
+    @Override
+    public Mono<Long> countWithFilters(Map<String, String> filters) {
+        return Flux.fromIterable(books.values()).filter(matches(filters)).count();
+    }
+
+    @Override
+    public Flux<Book> findWithTargetAndFilters(String target,
+                                               String targetId,
+                                               Map<String, String> filters,
+                                               Pageable pageable) {
+        return find(matches(Map.of(target, targetId)).and(matches(filters)), pageable);
+    }
+
+    @Override
+    public Mono<Long> countWithTargetAndFilters(String target, String targetId, Map<String, String> filters) {
+        return Flux.fromIterable(books.values())
+                .filter(matches(Map.of(target, targetId)).and(matches(filters)))
+                .count();
+    }
+
+    @Override
+    public Flux<Book> findAllById(List<Long> ids) {
+        return Flux.fromIterable(ids).mapNotNull(books::get);
+    }
+
+    @Override
+    public Mono<Book> findById(Long id) {
+        return Mono.justOrEmpty(books.get(id));
+    }
+
+    @Override
+    public Mono<Book> create(Book data) {
+        return Mono.fromSupplier(() -> {
+            Book book = new Book(ids.incrementAndGet(), data.getTitle(), data.getGenre());
+            books.put(book.getId(), book);
+            return book;
+        });
+    }
+
+    @Override
+    public Mono<Book> update(Long id, Map<String, Object> fields) {
+        return Mono.justOrEmpty(books.computeIfPresent(id, (key, book) -> new Book(id,
+                (String) fields.getOrDefault("title", book.getTitle()),
+                (String) fields.getOrDefault("genre", book.getGenre()))));
+    }
+
+    @Override
+    public Flux<Long> updateMany(List<Long> ids, Map<String, Object> fields) {
+        return Flux.fromIterable(ids).flatMap(id -> update(id, fields)).map(Book::getId);
+    }
+
+    @Override
+    public Mono<Void> deleteById(Long id) {
+        return Mono.fromRunnable(() -> books.remove(id));
+    }
+
+    @Override
+    public Flux<Long> deleteMany(List<Long> ids) {
+        return Flux.fromIterable(ids).filter(id -> books.remove(id) != null);
+    }
+}
@@ -0,0 +1,140 @@
+package dev.femrek.reactadmindataprovider.reactive;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests of ReactiveRAController through WebFlux, using the same URLs and headers as ra-spring-data-provider.
+ */
+class TestReactiveRAController {
+    private WebTestClient client;
+
+    @BeforeEach
+    void setUp() {
+        BookService bookService = new BookService();
+        client = WebTestClient.bindToController(new BookController(bookService)).build();
+
+        create("Dune", "scifi");
+        create("Emma", "classic");
+        create("Neuromancer", "scifi");
+        create("Solaris", "scifi");
+    }
+
+    private void create(String title, String genre) {
+        client.post().uri("/api/books")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("title", title, "genre", genre))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(Book.class).value(book -> assertEquals(title, book.getTitle()));
+    }
+
+    @Test
+    @DisplayName("GET /api/books - Pages, sorts and filters with X-Total-Count")
+    void testGetList() {
+        List<Book> books = client.get()
+                .uri("/api/books?_start=1&_end=3&_sort=title&_order=DESC&genre=scifi")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("X-Total-Count", "3")
+                .expectHeader().valueEquals("Access-Control-Expose-Headers", "X-Total-Count")
+                .expectBodyList(Book.class).returnResult().getResponseBody();
+
+        assertNotNull(books);
+        assertEquals(List.of("Neuromancer", "Dune"), books.stream().map(Book::getTitle).toList());
+    }
+
+    @Test
+    @DisplayName("GET /api/books - Rejects an invalid range, a keyset cursor and a sparse fieldset")
+    void testGetListErrors() {
+        client.get().uri("/api/books?_start=5&_end=5")
+                .exchange()
+                .expectStatus().isBadRequest();
+        client.get().uri("/api/books?_start=0&_end=5&_cursor=abc")
+                .exchange()
+                .expectStatus().isBadRequest();
+        client.get().uri("/api/books?_start=0&_end=5&_fields=title")
+                .exchange()
+                .expectStatus().isBadRequest();
+        client.get().uri("/api/books/many?id=1&_fields=title")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    @DisplayName("GET /api/books/of/genre/classic - Returns the referencing page with X-Total-Count")
+    void testGetManyReference() {
+        client.get().uri("/api/books/of/genre/classic?_start=0&_end=10")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("X-Total-Count", "1")
+                .expectBodyList(Book.class).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("GET /api/books/many and /api/books/{id} - Return the requested records")
+    void testGetManyAndGetOne() {
+        client.get().uri("/api/books/many?id=1&id=3&id=99")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(Book.class).hasSize(2);
+        client.get().uri("/api/books/2")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(Book.class).value(book -> assertEquals("Emma", book.getTitle()));
+        client.get().uri("/api/books/99")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    @DisplayName("PUT and DELETE - Update and delete single and multiple records")
+    void testWrites() {
+        client.put().uri("/api/books/1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("title", "Dune Messiah"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(Book.class).value(book -> assertEquals("Dune Messiah", book.getTitle()));
+        client.put().uri("/api/books?id=2&id=3")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("genre", "favorite"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(Long.class).isEqualTo(List.of(2L, 3L));
+        client.delete().uri("/api/books/4")
+                .exchange()
+                .expectStatus().isNoContent();
+        client.delete().uri("/api/books?id=1&id=4")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(Long.class).isEqualTo(List.of(1L));
+        client.get().uri("/api/books?_start=0&_end=10")
+                .exchange()
+                .expectHeader().valueEquals("X-Total-Count", "2");
+    }
+
+    @Test
+    @DisplayName("GET /api/books/export - Streams CSV as an attachment")
+    void testExport() {
+        String csv = client.get().uri("/api/books/export?_format=csv&_sort=id&genre=scifi")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith("text/csv")
+                .expectHeader().value("Content-Disposition", value -> assertTrue(value.contains("books.csv")))
+                .expectBody(String.class).returnResult().getResponseBody();
+
+        assertNotNull(csv);
+        String[] lines = csv.strip().split("\r?\n");
+        assertEquals(4, lines.length);
+        assertEquals("genre,id,title", lines[0]);
+    }
+}
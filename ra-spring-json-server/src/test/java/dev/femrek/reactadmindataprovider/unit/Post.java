@@ -25,6 +25,11 @@ class Post {
 
     private String status;
 
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "userId", insertable = false, updatable = false,
+            foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
+    private User user;
+
     public Post() {
     }
 
@@ -74,5 +79,9 @@ class Post {
     public void setStatus(String status) {
         this.status = status;
     }
+
+    public User getUser() {
+        return user;
+    }
 }
 
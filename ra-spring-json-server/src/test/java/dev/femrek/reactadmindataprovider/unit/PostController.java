@@ -1,6 +1,11 @@
 package dev.femrek.reactadmindataprovider.unit;
 
 import dev.femrek.reactadmindataprovider.controller.RAController;
+import dev.femrek.reactadmindataprovider.count.CountCache;
+import dev.femrek.reactadmindataprovider.count.TotalCountStrategies;
+import dev.femrek.reactadmindataprovider.count.TotalCountStrategy;
+import dev.femrek.reactadmindataprovider.etag.ETagGenerator;
+import dev.femrek.reactadmindataprovider.etag.ETagGenerators;
 import dev.femrek.reactadmindataprovider.service.IRAService;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -8,7 +13,10 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.ObjectMapper;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 
@@ -22,6 +30,8 @@ import java.util.Map;
 class PostController extends RAController<PostResponseDTO, PostCreateDTO, Long> {
     private static final Log log = LogFactory.getLog(PostController.class);
     private final PostService postService;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final CountCache countCache = new CountCache(Duration.ofMinutes(1), 100);
 
     public PostController(PostService postService) {
         this.postService = postService;
@@ -33,15 +43,30 @@ class PostController extends RAController<PostResponseDTO, PostCreateDTO, Long>
     }
 
     @Override
-    public ResponseEntity<List<PostResponseDTO>> getList(int _start, int _end, String _sort, String _order, String _embed, Map<String, String> allParams) {
+    protected TotalCountStrategy getTotalCountStrategy() {
+        return TotalCountStrategies.capped(1000);
+    }
+
+    @Override
+    protected CountCache getCountCache() {
+        return countCache;
+    }
+
+    @Override
+    protected ETagGenerator<PostResponseDTO> getETagGenerator() {
+        return ETagGenerators.contentHash(objectMapper::writeValueAsBytes);
+    }
+
+    @Override
+    public ResponseEntity<List<PostResponseDTO>> getList(int _start, int _end, String _sort, String _order, String _embed, String _cursor, String _fields, Map<String, String> allParams) {
         log.info("Received getList request with params: " + allParams);
-        return super.getList(_start, _end, _sort, _order, _embed, allParams);
+        return super.getList(_start, _end, _sort, _order, _embed, _cursor, _fields, allParams);
     }
 
     @Override
-    public ResponseEntity<List<PostResponseDTO>> getMany(List<Long> id) {
+    public ResponseEntity<List<PostResponseDTO>> getMany(List<Long> id, String _fields) {
         log.info("Received getMany request with ids: " + id);
-        return super.getMany(id);
+        return super.getMany(id, _fields);
     }
 
     @Override
@@ -50,6 +75,12 @@ class PostController extends RAController<PostResponseDTO, PostCreateDTO, Long>
         return super.getManyReference(target, targetId, _start, _end, _sort, _order, _embed, allParams);
     }
 
+    @Override
+    public ResponseEntity<StreamingResponseBody> export(String _format, String _sort, String _order, Map<String, String> allParams) {
+        log.info("Received export request with format: " + _format + ", params: " + allParams);
+        return super.export(_format, _sort, _order, allParams);
+    }
+
     @Override
     public ResponseEntity<PostResponseDTO> getOne(Long id) {
         log.info("Received getOne request with id: " + id);
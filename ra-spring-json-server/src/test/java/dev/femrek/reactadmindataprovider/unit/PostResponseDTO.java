@@ -1,5 +1,8 @@
 package dev.femrek.reactadmindataprovider.unit;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 /**
  * Response DTO for Post entity.
  */
@@ -10,6 +13,8 @@ class PostResponseDTO {
     private String content;
     private Long userId;
     private String status;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private UserResponseDTO user;
 
     public PostResponseDTO() {
     }
@@ -61,5 +66,20 @@ class PostResponseDTO {
     public void setStatus(String status) {
         this.status = status;
     }
-}
 
+    public UserResponseDTO getUser() {
+        return user;
+    }
+
+    public void setUser(UserResponseDTO user) {
+        this.user = user;
+    }
+
+    /**
+     * A readable property that is hidden from the JSON, and so from sparse fieldsets and exports.
+     */
+    @JsonIgnore
+    public String getEditToken() {
+        return "edit-token-" + id;
+    }
+}
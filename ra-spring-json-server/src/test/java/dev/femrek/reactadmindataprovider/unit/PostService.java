@@ -1,159 +1,54 @@
 package dev.femrek.reactadmindataprovider.unit;
 
-import dev.femrek.reactadmindataprovider.service.IRAService;
-import jakarta.persistence.criteria.Predicate;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.domain.Specification;
+import dev.femrek.reactadmindataprovider.search.LuceneSearchIndex;
+import dev.femrek.reactadmindataprovider.search.SearchIndex;
+import dev.femrek.reactadmindataprovider.service.jpa.JpaRAService;
+import jakarta.persistence.EntityManager;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collection;
 import java.util.List;
-import java.util.Map;
+import java.util.Set;
 
 /**
- * Service implementation for Post entity.
- * Supports all CRUD operations including filtering by userId for getManyReference.
+ * Service implementation for Post entity based on {@link JpaRAService}.
+ * Supports all CRUD operations including filtering by userId for getManyReference, and embedding the user. The global
+ * search is answered by an in-memory Lucene index.
  */
 @Service
-class PostService implements IRAService<PostResponseDTO, PostCreateDTO, Long> {
-    private final PostRepository postRepository;
+class PostService extends JpaRAService<Post, PostResponseDTO, PostCreateDTO, Long> {
+    private volatile int searchLimit = super.getSearchLimit();
 
-    public PostService(PostRepository postRepository) {
-        this.postRepository = postRepository;
+    public PostService(EntityManager entityManager) {
+        super(Post.class, entityManager);
     }
 
     @Override
-    public Page<PostResponseDTO> findWithFilters(Map<String, String> filters, Pageable pageable) {
-        Specification<Post> spec = (root, query, criteriaBuilder) -> {
-            List<Predicate> predicates = new ArrayList<>();
-
-            if (filters != null) {
-                // Apply global search query (q parameter)
-                String q = filters.remove("q");
-                if (q != null && !q.isEmpty()) {
-                    String searchPattern = "%" + q.toLowerCase() + "%";
-                    Predicate titlePredicate = criteriaBuilder.like(criteriaBuilder.lower(root.get("title")), searchPattern);
-                    Predicate contentPredicate = criteriaBuilder.like(criteriaBuilder.lower(root.get("content")), searchPattern);
-                    predicates.add(criteriaBuilder.or(titlePredicate, contentPredicate));
-                }
-
-                // Apply field filters (including userId for getManyReference)
-                filters.forEach((field, value) -> {
-                    if (value != null && !value.isEmpty()) {
-                        if (field.equals("userId")) {
-                            predicates.add(criteriaBuilder.equal(root.get(field), Long.parseLong(value)));
-                        } else {
-                            predicates.add(criteriaBuilder.equal(root.get(field), value));
-                        }
-                    }
-                });
-            }
-
-            return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
-        };
-
-        Page<Post> page = postRepository.findAll(spec, pageable);
-        return page.map(this::toResponseDTO);
+    protected boolean isProjectionEnabled() {
+        return true;
     }
 
     @Override
-    public Page<PostResponseDTO> findWithTargetAndFilters(String target, String targetId, Map<String, String> filters, Pageable pageable) {
-        // Add the target filter to the filters map
-        if (filters == null) {
-            filters = new HashMap<>();
-        }
-        filters.put(target, targetId);
-        return findWithFilters(filters, pageable);
+    protected Collection<String> getSearchAttributes() {
+        return List.of("title", "content");
     }
 
     @Override
-    public List<PostResponseDTO> findAllById(List<Long> ids) {
-        return postRepository.findAllById(ids).stream()
-                .map(this::toResponseDTO)
-                .toList();
+    protected SearchIndex<Long> createSearchIndex() {
+        return new LuceneSearchIndex<>(Long::valueOf);
     }
 
     @Override
-    public PostResponseDTO findById(Long id) {
-        Post post = postRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Post not found with id: " + id));
-        return toResponseDTO(post);
-    }
-
-    @Override
-    public PostResponseDTO create(PostCreateDTO createDTO) {
-        Post post = new Post();
-        post.setTitle(createDTO.getTitle());
-        post.setContent(createDTO.getContent());
-        post.setUserId(createDTO.getUserId());
-        post.setStatus(createDTO.getStatus());
-
-        Post saved = postRepository.save(post);
-        return toResponseDTO(saved);
+    protected int getSearchLimit() {
+        return searchLimit;
     }
 
-    @Override
-    public PostResponseDTO update(Long id, Map<String, Object> fields) {
-        Post post = postRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Post not found with id: " + id));
-
-        fields.forEach((field, value) -> {
-            switch (field) {
-                case "title" -> post.setTitle((String) value);
-                case "content" -> post.setContent((String) value);
-                case "userId" -> post.setUserId(value instanceof Number ? ((Number) value).longValue() : Long.parseLong(value.toString()));
-                case "status" -> post.setStatus((String) value);
-            }
-        });
-
-        Post updated = postRepository.save(post);
-        return toResponseDTO(updated);
+    void setSearchLimit(int searchLimit) {
+        this.searchLimit = searchLimit;
     }
 
     @Override
-    public List<Long> updateMany(List<Long> ids, Map<String, Object> fields) {
-        if (ids.isEmpty()) {
-            return new ArrayList<>();
-        }
-
-        List<Post> posts = postRepository.findAllById(ids);
-        posts.forEach(post ->
-            fields.forEach((field, value) -> {
-                switch (field) {
-                    case "title" -> post.setTitle((String) value);
-                    case "content" -> post.setContent((String) value);
-                    case "userId" -> post.setUserId(value instanceof Number ? ((Number) value).longValue() : Long.parseLong(value.toString()));
-                    case "status" -> post.setStatus((String) value);
-                }
-            })
-        );
-
-        postRepository.saveAll(posts);
-        return ids;
-    }
-
-    @Override
-    public void deleteById(Long id) {
-        if (!postRepository.existsById(id)) {
-            throw new RuntimeException("Post not found with id: " + id);
-        }
-        postRepository.deleteById(id);
-    }
-
-    @Override
-    public List<Long> deleteMany(List<Long> ids) {
-        if (ids.isEmpty()) {
-            return new ArrayList<>();
-        }
-
-        List<Post> posts = postRepository.findAllById(ids);
-        postRepository.deleteAll(posts);
-        return posts.stream().map(Post::getId).toList();
-    }
-
-    private PostResponseDTO toResponseDTO(Post post) {
+    protected PostResponseDTO toResponse(Post post) {
         return new PostResponseDTO(
                 post.getId(),
                 post.getTitle(),
@@ -162,7 +57,24 @@ class PostService implements IRAService<PostResponseDTO, PostCreateDTO, Long> {
                 post.getStatus()
         );
     }
-}
-
 
+    @Override
+    protected PostResponseDTO toResponse(Post post, Set<String> relations) {
+        PostResponseDTO response = toResponse(post);
+        if (relations.contains("user") && post.getUser() != null) {
+            User user = post.getUser();
+            UserResponseDTO userResponse = new UserResponseDTO();
+            userResponse.setId(user.getId());
+            userResponse.setName(user.getName());
+            userResponse.setEmail(user.getEmail());
+            userResponse.setRole(user.getRole());
+            response.setUser(userResponse);
+        }
+        return response;
+    }
 
+    @Override
+    protected Post toEntity(PostCreateDTO createDTO) {
+        return new Post(createDTO.getTitle(), createDTO.getContent(), createDTO.getUserId(), createDTO.getStatus());
+    }
+}
@@ -0,0 +1,44 @@
+package dev.femrek.reactadmindataprovider.unit;
+
+import dev.femrek.reactadmindataprovider.controller.RAController;
+import dev.femrek.reactadmindataprovider.service.IRAService;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+
+/**
+ * REST controller for Post entity backed by {@link SlowPostService}, whose read queries time out after 2 seconds.
+ * Counts run in parallel with the page.
+ */
+@RestController
+@RequestMapping("/api/slow-posts")
+@CrossOrigin(origins = "*")
+class SlowPostController extends RAController<PostResponseDTO, PostCreateDTO, Long> {
+    static final Duration QUERY_TIMEOUT = Duration.ofSeconds(2);
+
+    private final SlowPostService slowPostService;
+    private final Executor countExecutor = new SimpleAsyncTaskExecutor("slow-post-count-");
+
+    public SlowPostController(SlowPostService slowPostService) {
+        this.slowPostService = slowPostService;
+    }
+
+    @Override
+    protected IRAService<PostResponseDTO, PostCreateDTO, Long> getService() {
+        return slowPostService;
+    }
+
+    @Override
+    protected Executor getParallelCountExecutor() {
+        return countExecutor;
+    }
+
+    @Override
+    protected Duration getQueryTimeout(String operation) {
+        return QUERY_TIMEOUT;
+    }
+}
@@ -0,0 +1,53 @@
+package dev.femrek.reactadmindataprovider.unit;
+
+import dev.femrek.reactadmindataprovider.service.jpa.JpaRAService;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+
+/**
+ * Service implementation for Post entity based on {@link JpaRAService}, whose <code>findById</code> and
+ * <code>countWithFilters</code> first run a query that H2 does not finish on its own: it scans a range of 10^12 rows,
+ * so only its timeout ends it.
+ */
+@Service
+class SlowPostService extends JpaRAService<Post, PostResponseDTO, PostCreateDTO, Long> {
+    private static final String SLOW_QUERY = "SELECT COUNT(*) FROM SYSTEM_RANGE(1, 1000000000000) WHERE MOD(X, 2) = 0";
+
+    public SlowPostService(EntityManager entityManager) {
+        super(Post.class, entityManager);
+    }
+
+    @Override
+    public PostResponseDTO findById(Long id) {
+        runSlowQuery();
+        return super.findById(id);
+    }
+
+    @Override
+    public long countWithFilters(Map<String, String> filters) {
+        runSlowQuery();
+        return super.countWithFilters(filters);
+    }
+
+    private void runSlowQuery() {
+        getEntityManager().createNativeQuery(SLOW_QUERY).getSingleResult();
+    }
+
+    @Override
+    protected PostResponseDTO toResponse(Post post) {
+        return new PostResponseDTO(
+                post.getId(),
+                post.getTitle(),
+                post.getContent(),
+                post.getUserId(),
+                post.getStatus()
+        );
+    }
+
+    @Override
+    protected Post toEntity(PostCreateDTO createDTO) {
+        return new Post(createDTO.getTitle(), createDTO.getContent(), createDTO.getUserId(), createDTO.getStatus());
+    }
+}
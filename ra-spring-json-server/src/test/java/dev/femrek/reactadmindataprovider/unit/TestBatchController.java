@@ -0,0 +1,143 @@
+package dev.femrek.reactadmindataprovider.unit;
+
+import okhttp3.*;
+import okhttp3.MediaType;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.TestPropertySource;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the batch endpoint, which runs several data provider calls in one request.
+ */
+@SpringBootTest(classes = TestApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(locations = "classpath:application-test.properties")
+class TestBatchController {
+    @LocalServerPort
+    private int port;
+
+    private final OkHttpClient client = new OkHttpClient();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private static final MediaType JSON = MediaType.get("application/json; charset=utf-8");
+
+    private static Long userId1;
+    private static Long userId2;
+    private static Long postId1;
+
+    @BeforeAll
+    static void setupTestData(@Autowired UserRepository userRepository, @Autowired PostRepository postRepository) {
+        postRepository.deleteAll();
+        userRepository.deleteAll();
+
+        userId1 = userRepository.save(new User("Alice Johnson", "alice.johnson@example.com", "author")).getId();
+        userId2 = userRepository.save(new User("Bob Smith", "bob.smith@example.com", "admin")).getId();
+        postId1 = postRepository.save(new Post("First post", "Content", userId1, "published")).getId();
+        postRepository.save(new Post("Second post", "Content", userId2, "draft"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Map<String, Object>> batch(List<Map<String, Object>> operations) throws IOException {
+        RequestBody body = RequestBody.create(objectMapper.writeValueAsString(operations), JSON);
+        Request request = new Request.Builder()
+                .url("http://localhost:" + port + "/api/batch")
+                .post(body)
+                .build();
+        try (Response response = client.newCall(request).execute()) {
+            assertEquals(200, response.code());
+            assertNotNull(response.body());
+            return objectMapper.readValue(response.body().string(), List.class);
+        }
+    }
+
+    @Test
+    @DisplayName("POST /api/batch - Runs getList, getMany and getOne across resources in order")
+    @SuppressWarnings("unchecked")
+    void testBatch() throws IOException {
+        List<Map<String, Object>> results = batch(List.of(
+                Map.of("operation", "getList", "resource", "posts",
+                        "params", Map.of("_start", 0, "_end", 10, "_sort", "title", "_order", "DESC")),
+                Map.of("operation", "getMany", "resource", "users",
+                        "params", Map.of("id", List.of(userId1, userId2), "_fields", "name")),
+                Map.of("operation", "getOne", "resource", "users", "params", Map.of("id", userId2))
+        ));
+        assertEquals(3, results.size());
+
+        Map<String, Object> list = results.get(0);
+        assertEquals(200, list.get("status"));
+        assertEquals("2", ((Map<String, Object>) list.get("headers")).get("X-Total-Count"));
+        List<Map<String, Object>> posts = (List<Map<String, Object>>) list.get("body");
+        assertEquals(List.of("Second post", "First post"), posts.stream().map(post -> post.get("title")).toList());
+
+        Map<String, Object> many = results.get(1);
+        assertEquals(200, many.get("status"));
+        List<Map<String, Object>> users = (List<Map<String, Object>>) many.get("body");
+        assertEquals(2, users.size());
+        assertEquals(Map.of("id", userId1.intValue(), "name", "Alice Johnson"), users.stream()
+                .filter(user -> userId1.intValue() == (Integer) user.get("id"))
+                .findFirst().orElseThrow());
+
+        Map<String, Object> one = results.get(2);
+        assertEquals(200, one.get("status"));
+        assertEquals("Bob Smith", ((Map<String, Object>) one.get("body")).get("name"));
+    }
+
+    @Test
+    @DisplayName("POST /api/batch - Joins a _fields array like repeated query parameters")
+    @SuppressWarnings("unchecked")
+    void testFieldsArray() throws IOException {
+        List<Map<String, Object>> results = batch(List.of(
+                Map.of("operation", "getList", "resource", "posts", "params", Map.of(
+                        "_start", 0, "_end", 10, "_sort", "id", "_order", "ASC",
+                        "_fields", List.of("title", "status"))),
+                Map.of("operation", "getMany", "resource", "users",
+                        "params", Map.of("id", List.of(userId1), "_fields", List.of("name", "role")))
+        ));
+
+        assertEquals(200, results.get(0).get("status"));
+        List<Map<String, Object>> posts = (List<Map<String, Object>>) results.get(0).get("body");
+        assertEquals(Map.of("id", postId1.intValue(), "title", "First post", "status", "published"), posts.get(0));
+
+        assertEquals(200, results.get(1).get("status"));
+        assertEquals(List.of(Map.of("id", userId1.intValue(), "name", "Alice Johnson", "role", "author")),
+                results.get(1).get("body"));
+    }
+
+    @Test
+    @DisplayName("POST /api/batch - Reports errors per operation without failing the others")
+    @SuppressWarnings("unchecked")
+    void testErrors() throws IOException {
+        List<Map<String, Object>> results = batch(List.of(
+                Map.of("operation", "getList", "resource", "posts", "params", Map.of("_start", 5, "_end", 0)),
+                Map.of("operation", "getOne", "resource", "comments", "params", Map.of("id", 1)),
+                Map.of("operation", "delete", "resource", "posts", "params", Map.of("id", postId1)),
+                Map.of("operation", "getOne", "resource", "/api/posts", "params", Map.of("id", postId1))
+        ));
+
+        assertEquals(400, results.get(0).get("status"));
+        assertNotNull(((Map<String, Object>) results.get(0).get("body")).get("message"));
+        assertEquals(404, results.get(1).get("status"));
+        assertEquals(400, results.get(2).get("status"));
+        assertEquals(200, results.get(3).get("status"));
+        assertEquals("First post", ((Map<String, Object>) results.get(3).get("body")).get("title"));
+    }
+
+    @Test
+    @DisplayName("POST /api/batch - Rejects an empty batch")
+    void testEmptyBatch() throws IOException {
+        Request request = new Request.Builder()
+                .url("http://localhost:" + port + "/api/batch")
+                .post(RequestBody.create("[]", JSON))
+                .build();
+        try (Response response = client.newCall(request).execute()) {
+            assertEquals(400, response.code());
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package dev.femrek.reactadmindataprovider.unit;
+
+import dev.femrek.reactadmindataprovider.count.CountCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the count cache. Every count query is counted.
+ */
+class TestCountCache {
+    private final AtomicInteger countQueries = new AtomicInteger();
+    private final MutableClock clock = new MutableClock();
+
+    private long count() {
+        countQueries.incrementAndGet();
+        return 42;
+    }
+
+    @Test
+    @DisplayName("Filters are normalized, so equivalent filter maps share one count")
+    void testNormalizedFilters() {
+        CountCache cache = new CountCache(Duration.ofSeconds(30), 10, clock);
+
+        Map<String, String> filters = new HashMap<>();
+        filters.put("status", "published");
+        filters.put("userId", "1");
+        filters.put("q", "");
+        assertEquals(42, cache.get("/api/posts", filters, this::count));
+        assertEquals(42, cache.get("/api/posts", Map.of("userId", "1", "status", "published"), this::count));
+        assertEquals(1, countQueries.get());
+
+        assertEquals(42, cache.get("/api/posts", Map.of("userId", "2", "status", "published"), this::count));
+        assertEquals(42, cache.get("/api/users", Map.of("userId", "1", "status", "published"), this::count));
+        assertEquals(3, countQueries.get());
+    }
+
+    @Test
+    @DisplayName("Counts expire after the TTL")
+    void testTtl() {
+        CountCache cache = new CountCache(Duration.ofSeconds(30), 10, clock);
+
+        cache.get("/api/posts", Map.of(), this::count);
+        clock.advance(Duration.ofSeconds(29));
+        cache.get("/api/posts", Map.of(), this::count);
+        assertEquals(1, countQueries.get());
+
+        clock.advance(Duration.ofSeconds(1));
+        cache.get("/api/posts", Map.of(), this::count);
+        assertEquals(2, countQueries.get());
+    }
+
+    @Test
+    @DisplayName("The least recently used count is evicted beyond the maximum size")
+    void testEviction() {
+        CountCache cache = new CountCache(Duration.ofSeconds(30), 2, clock);
+
+        cache.get("/api/posts", Map.of("status", "a"), this::count);
+        cache.get("/api/posts", Map.of("status", "b"), this::count);
+        cache.get("/api/posts", Map.of("status", "a"), this::count);
+        cache.get("/api/posts", Map.of("status", "c"), this::count);
+        assertEquals(2, cache.size());
+        assertEquals(3, countQueries.get());
+
+        // "b" was the least recently used
+        cache.get("/api/posts", Map.of("status", "a"), this::count);
+        assertEquals(3, countQueries.get());
+        cache.get("/api/posts", Map.of("status", "b"), this::count);
+        assertEquals(4, countQueries.get());
+    }
+
+    @Test
+    @DisplayName("Invalidation drops the counts of a resource, including counts computed concurrently")
+    void testInvalidate() {
+        CountCache cache = new CountCache(Duration.ofSeconds(30), 10, clock);
+
+        cache.get("/api/posts", Map.of(), this::count);
+        cache.get("/api/users", Map.of(), this::count);
+        cache.invalidate("/api/posts");
+        assertEquals(1, cache.size());
+
+        // A count that was running while the resource was written is not cached
+        cache.get("/api/posts", Map.of(), () -> {
+            cache.invalidate("/api/posts");
+            return count();
+        });
+        assertEquals(1, cache.size());
+
+        cache.invalidateAll();
+        assertEquals(0, cache.size());
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant = Instant.parse("2026-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package dev.femrek.reactadmindataprovider.unit;
+
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.TestPropertySource;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the filter operators (_ne, _gte, _lte, _like, _in) of getList, on the posts resource backed by
+ * {@link dev.femrek.reactadmindataprovider.service.jpa.JpaRAService} and the users resource backed by a hand-written
+ * service with {@link dev.femrek.reactadmindataprovider.service.jpa.JpaFieldFilters}.
+ */
+@SpringBootTest(classes = TestApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(locations = "classpath:application-test.properties")
+class TestFilterOperators {
+    @LocalServerPort
+    private int port;
+
+    private final OkHttpClient client = new OkHttpClient();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static Long userId;
+    private static Long otherUserId;
+    private static Long[] postIds;
+
+    @BeforeAll
+    static void setupTestData(@Autowired UserRepository userRepository, @Autowired PostRepository postRepository) {
+        postRepository.deleteAll();
+        userRepository.deleteAll();
+
+        userId = userRepository.save(new User("Alice Johnson", "alice.johnson@example.com", "author")).getId();
+        otherUserId = userRepository.save(new User("Bob Smith", "bob.smith@example.com", "author")).getId();
+
+        postIds = new Long[]{
+                postRepository.save(new Post("Spring Boot Basics", "Getting started", userId, "published")).getId(),
+                postRepository.save(new Post("Advanced Spring", "Beyond the basics", userId, "draft")).getId(),
+                postRepository.save(new Post("Java 100% Guide", "Everything about Java", userId, "archived")).getId(),
+                postRepository.save(new Post("Kotlin for Spring", "Kotlin and Spring", otherUserId, "published")).getId(),
+                postRepository.save(new Post("Testing_Tips", "Write more tests", otherUserId, "draft")).getId()
+        };
+    }
+
+    private List<Map<String, Object>> getPosts(Map<String, String> filters) throws IOException {
+        return getList("/api/posts", filters);
+    }
+
+    private List<Map<String, Object>> getList(String path, Map<String, String> filters) throws IOException {
+        HttpUrl.Builder url = HttpUrl.get("http://localhost:" + port + path).newBuilder()
+                .addQueryParameter("_start", "0")
+                .addQueryParameter("_end", "10")
+                .addQueryParameter("_sort", "id")
+                .addQueryParameter("_order", "ASC");
+        filters.forEach(url::addQueryParameter);
+
+        try (Response response = client.newCall(new Request.Builder().url(url.build()).get().build()).execute()) {
+            assertEquals(200, response.code());
+            assertNotNull(response.body());
+            return objectMapper.readValue(
+                    response.body().string(),
+                    objectMapper.getTypeFactory().constructCollectionType(List.class, Map.class)
+            );
+        }
+    }
+
+    private int getStatus(Map<String, String> filters) throws IOException {
+        return getStatus("/api/posts", filters);
+    }
+
+    private int getStatus(String path, Map<String, String> filters) throws IOException {
+        HttpUrl.Builder url = HttpUrl.get("http://localhost:" + port + path).newBuilder()
+                .addQueryParameter("_start", "0")
+                .addQueryParameter("_end", "10");
+        filters.forEach(url::addQueryParameter);
+
+        try (Response response = client.newCall(new Request.Builder().url(url.build()).get().build()).execute()) {
+            return response.code();
+        }
+    }
+
+    private static List<Object> titles(List<Map<String, Object>> posts) {
+        return posts.stream().map(post -> post.get("title")).toList();
+    }
+
+    @Test
+    @DisplayName("GET /api/posts?status_ne=draft - Returns the posts with a different status")
+    void testNotEqual() throws IOException {
+        List<Map<String, Object>> posts = getPosts(Map.of("status_ne", "draft"));
+
+        assertEquals(List.of("Spring Boot Basics", "Java 100% Guide", "Kotlin for Spring"), titles(posts));
+    }
+
+    @Test
+    @DisplayName("GET /api/posts?id_gte=...&id_lte=... - Returns the posts in the ID range")
+    void testRange() throws IOException {
+        List<Map<String, Object>> posts = getPosts(Map.of(
+                "id_gte", postIds[1].toString(),
+                "id_lte", postIds[3].toString()));
+
+        assertEquals(List.of("Advanced Spring", "Java 100% Guide", "Kotlin for Spring"), titles(posts));
+    }
+
+    @Test
+    @DisplayName("GET /api/posts?title_gte=K - String attributes are compared in order")
+    void testStringRange() throws IOException {
+        List<Map<String, Object>> posts = getPosts(Map.of("title_gte", "K"));
+
+        assertEquals(List.of("Spring Boot Basics", "Kotlin for Spring", "Testing_Tips"), titles(posts));
+    }
+
+    @Test
+    @DisplayName("GET /api/posts?title_like=... - Matches the text anywhere, at the start with ^ or at the end with $")
+    void testLike() throws IOException {
+        assertEquals(List.of("Spring Boot Basics", "Advanced Spring", "Kotlin for Spring"),
+                titles(getPosts(Map.of("title_like", "Spring"))));
+        assertEquals(List.of("Spring Boot Basics"), titles(getPosts(Map.of("title_like", "^Spring"))));
+        assertEquals(List.of("Advanced Spring", "Kotlin for Spring"), titles(getPosts(Map.of("title_like", "Spring$"))));
+    }
+
+    @Test
+    @DisplayName("GET /api/posts?title_like=100% - LIKE wildcards in the value are matched literally")
+    void testLikeEscapesWildcards() throws IOException {
+        assertEquals(List.of("Java 100% Guide"), titles(getPosts(Map.of("title_like", "100%"))));
+        assertEquals(List.of("Testing_Tips"), titles(getPosts(Map.of("title_like", "_"))));
+    }
+
+    @Test
+    @DisplayName("GET /api/posts?status_in=draft,archived - Returns the posts with any of the values")
+    void testIn() throws IOException {
+        List<Map<String, Object>> posts = getPosts(Map.of("status_in", "draft, archived"));
+
+        assertEquals(List.of("Advanced Spring", "Java 100% Guide", "Testing_Tips"), titles(posts));
+    }
+
+    @Test
+    @DisplayName("GET /api/posts?userId_in=...&status=published - Operators are combined with equality filters")
+    void testInWithEquality() throws IOException {
+        List<Map<String, Object>> posts = getPosts(Map.of(
+                "userId_in", userId + "," + otherUserId,
+                "status", "published"));
+
+        assertEquals(List.of("Spring Boot Basics", "Kotlin for Spring"), titles(posts));
+    }
+
+    @Test
+    @DisplayName("GET /api/posts - Unknown fields, unsupported operators and invalid values return 400")
+    void testInvalidOperators() throws IOException {
+        assertEquals(400, getStatus(Map.of("author_gte", "A")));
+        assertEquals(400, getStatus(Map.of("userId_like", "1")));
+        assertEquals(400, getStatus(Map.of("id_gte", "not-a-number")));
+        assertEquals(400, getStatus(Map.of("id_in", "1,not-a-number")));
+        assertEquals(400, getStatus(Map.of("id_in", ",")));
+    }
+
+    @Test
+    @DisplayName("GET /api/users?name_like=...&role_ne=... - Hand-written services apply the operators")
+    void testUserOperators() throws IOException {
+        List<Map<String, Object>> users = getList("/api/users", Map.of("name_like", "Smith", "role_ne", "admin"));
+
+        assertEquals(List.of("Bob Smith"), users.stream().map(user -> user.get("name")).toList());
+    }
+
+    @Test
+    @DisplayName("GET /api/users?q=alice&role=author - Hand-written services combine the search with the filters")
+    void testUserSearchWithFilter() throws IOException {
+        List<Map<String, Object>> users = getList("/api/users", Map.of("q", "alice", "role", "author"));
+
+        assertEquals(List.of("Alice Johnson"), users.stream().map(user -> user.get("name")).toList());
+    }
+
+    @Test
+    @DisplayName("GET /api/users - Unknown fields and invalid values of hand-written services return 400")
+    void testUserInvalidFilters() throws IOException {
+        assertEquals(400, getStatus("/api/users", Map.of("nickname", "Al")));
+        assertEquals(400, getStatus("/api/users", Map.of("nickname_like", "Al")));
+        assertEquals(400, getStatus("/api/users", Map.of("id_gte", "not-a-number")));
+    }
+}
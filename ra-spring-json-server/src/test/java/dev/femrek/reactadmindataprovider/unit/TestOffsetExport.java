@@ -0,0 +1,133 @@
+package dev.femrek.reactadmindataprovider.unit;
+
+import dev.femrek.reactadmindataprovider.controller.RAController;
+import dev.femrek.reactadmindataprovider.service.IRAService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the export of a controller whose service supports neither streaming nor keyset pagination, which is
+ * read in offset slices by the default {@link IRAService#streamWithFilters}.
+ */
+class TestOffsetExport {
+    private static final int RECORD_COUNT = 2 * IRAService.STREAM_SLICE_SIZE + 500;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("GET /api/offset-users/export?_format=ndjson - Exports all records in offset slices sorted by id")
+    void testExportWithoutKeyset() throws IOException {
+        OffsetUserController controller = new OffsetUserController();
+
+        ResponseEntity<StreamingResponseBody> response = controller.export("ndjson", null, null, new HashMap<>());
+        assertEquals(200, response.getStatusCode().value());
+        assertNotNull(response.getBody());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+
+        List<Object> ids = new ArrayList<>();
+        for (String line : out.toString(StandardCharsets.UTF_8).lines().toList()) {
+            ids.add(((Number) objectMapper.readValue(line, Map.class).get("id")).longValue());
+        }
+        assertEquals(LongStream.rangeClosed(1, RECORD_COUNT).boxed().toList(), ids);
+        assertEquals(List.of(Sort.by("id")), controller.service.sorts.stream().distinct().toList());
+        assertEquals(3, controller.service.sorts.size());
+    }
+
+    /**
+     * Controller of a service that only implements offset pagination over an in-memory list of users.
+     */
+    @RequestMapping("/api/offset-users")
+    private static class OffsetUserController extends RAController<UserResponseDTO, UserCreateDTO, Long> {
+        private final OffsetUserService service = new OffsetUserService();
+
+        @Override
+        protected IRAService<UserResponseDTO, UserCreateDTO, Long> getService() {
+            return service;
+        }
+    }
+
+    private static class OffsetUserService implements IRAService<UserResponseDTO, UserCreateDTO, Long> {
+        private final List<UserResponseDTO> users = new ArrayList<>();
+        private final List<Sort> sorts = new ArrayList<>();
+
+        OffsetUserService() {
+            for (long id = 1; id <= RECORD_COUNT; id++) {
+                UserResponseDTO user = new UserResponseDTO();
+                user.setId(id);
+                user.setName("User " + id);
+                users.add(user);
+            }
+        }
+
+        @Override
+        public Page<UserResponseDTO> findWithFilters(Map<String, String> filters, Pageable pageable) {
+            sorts.add(pageable.getSort());
+            int from = (int) Math.min(pageable.getOffset(), users.size());
+            int to = Math.min(from + pageable.getPageSize(), users.size());
+            return new PageImpl<>(users.subList(from, to), pageable, users.size());
+        }
+
+        @Override
+        public Page<UserResponseDTO> findWithTargetAndFilters(String target,
+                                                             String targetId,
+                                                             Map<String, String> filters,
+                                                             Pageable pageable) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<UserResponseDTO> findAllById(List<Long> ids) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public UserResponseDTO findById(Long id) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public UserResponseDTO create(UserCreateDTO data) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public UserResponseDTO update(Long id, Map<String, Object> fields) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<Long> updateMany(List<Long> ids, Map<String, Object> fields) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void deleteById(Long id) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<Long> deleteMany(List<Long> ids) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
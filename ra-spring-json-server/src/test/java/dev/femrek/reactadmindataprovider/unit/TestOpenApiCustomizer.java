@@ -0,0 +1,82 @@
+package dev.femrek.reactadmindataprovider.unit;
+
+import dev.femrek.reactadmindataprovider.config.RAOpenApiConfig;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.tags.Tag;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the <code>RAOpenApiConfig</code> customizer, which removes the generic tag and names the operations
+ * of <code>IRAController</code> after their resource tag.
+ */
+class TestOpenApiCustomizer {
+    private static final String GENERIC_TAG = "Objects";
+
+    private static Operation operation(String operationId, String tag) {
+        return new Operation().operationId(operationId).tags(new ArrayList<>(List.of(GENERIC_TAG, tag)));
+    }
+
+    private static OpenAPI document(String path, String tag) {
+        return new OpenAPI()
+                .addTagsItem(new Tag().name(GENERIC_TAG))
+                .addTagsItem(new Tag().name(tag))
+                .path(path, new PathItem()
+                        .get(operation("list", tag))
+                        .post(operation("create", tag)))
+                .path(path + "/{id}", new PathItem()
+                        .get(operation("get", tag))
+                        .put(operation("update", tag))
+                        .delete(operation("delete", tag)))
+                .path(path + "/many", new PathItem()
+                        .get(operation("getMany", tag))
+                        .post(operation("getManyByBody", tag)))
+                .path(path + "/of/{target}/{targetId}", new PathItem()
+                        .get(operation("getManyReferenceBy", tag)))
+                .path(path + "/export", new PathItem()
+                        .get(operation("export", tag)));
+    }
+
+    @Test
+    @DisplayName("Single-record operations use the singular tag, the others the plural tag, including export")
+    void testOperationIds() {
+        OpenAPI openApi = document("/api/categories", "Categories");
+        new RAOpenApiConfig().removeDuplicateGenericTag().customise(openApi);
+
+        List<String> operationIds = openApi.getPaths().values().stream()
+                .flatMap(pathItem -> pathItem.readOperations().stream())
+                .map(Operation::getOperationId)
+                .sorted()
+                .toList();
+        assertEquals(List.of(
+                "createCategory",
+                "deleteCategory",
+                "exportCategories",
+                "getCategory",
+                "getManyByBodyCategories",
+                "getManyCategories",
+                "getManyReferenceByCategories",
+                "listCategories",
+                "updateCategory"
+        ), operationIds);
+    }
+
+    @Test
+    @DisplayName("The generic tag is removed from operations and, if no operation uses it alone, from the document")
+    void testGenericTagRemoved() {
+        OpenAPI openApi = document("/api/posts", "Posts");
+        new RAOpenApiConfig().removeDuplicateGenericTag().customise(openApi);
+
+        openApi.getPaths().values().stream()
+                .flatMap(pathItem -> pathItem.readOperations().stream())
+                .forEach(operation -> assertEquals(List.of("Posts"), operation.getTags()));
+        assertEquals(List.of("Posts"), openApi.getTags().stream().map(Tag::getName).toList());
+    }
+}
@@ -12,6 +12,7 @@ import org.springframework.test.context.TestPropertySource;
 import tools.jackson.databind.ObjectMapper;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -56,7 +57,9 @@ class TestPostControllerManyReference {
     }
 
     @BeforeAll
-    static void setupTestData(@Autowired UserRepository userRepository, @Autowired PostRepository postRepository) {
+    static void setupTestData(@Autowired UserRepository userRepository,
+                              @Autowired PostRepository postRepository,
+                              @Autowired PostService postService) {
         // Clean up existing data
         postRepository.deleteAll();
         userRepository.deleteAll();
@@ -105,6 +108,9 @@ class TestPostControllerManyReference {
         // Create post for user3 (1 post)
         Post post1User3 = new Post("JavaScript Fundamentals", "Learn JavaScript basics...", userId3, "draft");
         post1User3 = postRepository.save(post1User3);
+
+        // The posts were saved with the repository, past the search index of the service
+        postService.rebuildSearchIndex();
     }
 
     // ==================== GET MANY REFERENCE Tests ====================
@@ -442,6 +448,11 @@ class TestPostControllerManyReference {
                     objectMapper.getTypeFactory().constructCollectionType(List.class, Map.class)
             );
             assertEquals(3, posts.size()); // _start=1 to _end=4 means 3 items
+
+            // The window is not aligned to a page boundary, so it must start at the second post
+            assertEquals(postId2User1, ((Number) posts.get(0).get("id")).longValue());
+            assertEquals(postId3User1, ((Number) posts.get(1).get("id")).longValue());
+            assertEquals(postId4User1, ((Number) posts.get(2).get("id")).longValue());
         }
     }
 
@@ -624,5 +635,465 @@ class TestPostControllerManyReference {
             assertEquals(initialCount - 1, newCount);
         }
     }
-}
 
+    @Test
+    @Order(14)
+    @DisplayName("GET /api/posts?_start=2&_end=5 - Unaligned window returns exactly the requested rows")
+    void testGetListWithUnalignedWindow() throws IOException {
+        HttpUrl allUrl = baseHttpUrl().newBuilder()
+                .addPathSegment("posts")
+                .addQueryParameter("_start", "0")
+                .addQueryParameter("_end", "100")
+                .addQueryParameter("_sort", "id")
+                .addQueryParameter("_order", "ASC")
+                .build();
+
+        List<Map<String, Object>> allPosts;
+        try (Response response = client.newCall(new Request.Builder().url(allUrl).get().build()).execute()) {
+            assertEquals(200, response.code());
+            assertNotNull(response.body());
+            allPosts = objectMapper.readValue(
+                    response.body().string(),
+                    objectMapper.getTypeFactory().constructCollectionType(List.class, Map.class)
+            );
+        }
+        assertTrue(allPosts.size() >= 5);
+
+        HttpUrl windowUrl = baseHttpUrl().newBuilder()
+                .addPathSegment("posts")
+                .addQueryParameter("_start", "2")
+                .addQueryParameter("_end", "5")
+                .addQueryParameter("_sort", "id")
+                .addQueryParameter("_order", "ASC")
+                .build();
+
+        try (Response response = client.newCall(new Request.Builder().url(windowUrl).get().build()).execute()) {
+            assertEquals(200, response.code());
+            assertEquals(String.valueOf(allPosts.size()), response.header("X-Total-Count"));
+            assertNotNull(response.body());
+
+            List<Map<String, Object>> posts = objectMapper.readValue(
+                    response.body().string(),
+                    objectMapper.getTypeFactory().constructCollectionType(List.class, Map.class)
+            );
+            assertEquals(allPosts.subList(2, 5), posts);
+        }
+    }
+
+    @Test
+    @Order(15)
+    @DisplayName("GET /api/posts?q=python&userId={userId} - Search and typed filters are combined")
+    void testGetListWithSearchAndFilter() throws IOException {
+        HttpUrl url = baseHttpUrl().newBuilder()
+                .addPathSegment("posts")
+                .addQueryParameter("_start", "0")
+                .addQueryParameter("_end", "10")
+                .addQueryParameter("q", "PYTHON")
+                .addQueryParameter("userId", userId2.toString())
+                .build();
+
+        try (Response response = client.newCall(new Request.Builder().url(url).get().build()).execute()) {
+            assertEquals(200, response.code());
+            assertEquals("2", response.header("X-Total-Count"));
+            assertNotNull(response.body());
+
+            List<Map<String, Object>> posts = objectMapper.readValue(
+                    response.body().string(),
+                    objectMapper.getTypeFactory().constructCollectionType(List.class, Map.class)
+            );
+            assertEquals(2, posts.size());
+            posts.forEach(post -> assertEquals(userId2.intValue(), post.get("userId")));
+        }
+    }
+
+    @Test
+    @Order(16)
+    @DisplayName("GET /api/posts - Unknown filters and invalid filter values return 400")
+    void testGetListWithInvalidFilters() throws IOException {
+        HttpUrl unknownFilterUrl = baseHttpUrl().newBuilder()
+                .addPathSegment("posts")
+                .addQueryParameter("_start", "0")
+                .addQueryParameter("_end", "10")
+                .addQueryParameter("author", "Alice")
+                .build();
+        try (Response response = client.newCall(new Request.Builder().url(unknownFilterUrl).get().build()).execute()) {
+            assertEquals(400, response.code());
+        }
+
+        HttpUrl invalidValueUrl = baseHttpUrl().newBuilder()
+                .addPathSegment("posts")
+                .addQueryParameter("_start", "0")
+                .addQueryParameter("_end", "10")
+                .addQueryParameter("userId", "not-a-number")
+                .build();
+        try (Response response = client.newCall(new Request.Builder().url(invalidValueUrl).get().build()).execute()) {
+            assertEquals(400, response.code());
+        }
+    }
+
+    @Test
+    @Order(17)
+    @DisplayName("GET /api/posts - Cached counts are invalidated by writes through the controller")
+    void testGetListCountCacheInvalidation() throws IOException {
+        HttpUrl url = baseHttpUrl().newBuilder()
+                .addPathSegment("posts")
+                .addQueryParameter("_start", "1")
+                .addQueryParameter("_end", "2")
+                .addQueryParameter("status", "published")
+                .build();
+
+        int initialCount;
+        try (Response response = client.newCall(new Request.Builder().url(url).get().build()).execute()) {
+            assertEquals(200, response.code());
+            String countHeader = response.header("X-Total-Count");
+            assertNotNull(countHeader);
+            initialCount = Integer.parseInt(countHeader);
+        }
+
+        Map<String, Object> newPost = new HashMap<>();
+        newPost.put("title", "Cached Count Post");
+        newPost.put("content", "Created to invalidate the count cache");
+        newPost.put("userId", userId3);
+        newPost.put("status", "published");
+        RequestBody body = RequestBody.create(objectMapper.writeValueAsString(newPost), JSON);
+        try (Response response = client.newCall(new Request.Builder()
+                .url(baseHttpUrl().newBuilder().addPathSegment("posts").build())
+                .post(body)
+                .build()).execute()) {
+            assertEquals(201, response.code());
+        }
+
+        try (Response response = client.newCall(new Request.Builder().url(url).get().build()).execute()) {
+            assertEquals(200, response.code());
+            assertEquals(String.valueOf(initialCount + 1), response.header("X-Total-Count"));
+        }
+    }
+
+    @Test
+    @Order(18)
+    @DisplayName("GET /api/posts/{id} - Matching If-None-Match returns 304 until the post changes")
+    void testGetOneConditionalRequest() throws IOException {
+        HttpUrl url = baseHttpUrl().newBuilder()
+                .addPathSegment("posts")
+                .addPathSegment(postId5User1.toString())
+                .build();
+
+        String etag;
+        try (Response response = client.newCall(new Request.Builder().url(url).get().build()).execute()) {
+            assertEquals(200, response.code());
+            etag = response.header("ETag");
+            assertNotNull(etag);
+        }
+
+        try (Response response = client.newCall(new Request.Builder()
+                .url(url)
+                .header("If-None-Match", etag)
+                .get()
+                .build()).execute()) {
+            assertEquals(304, response.code());
+            assertNotNull(response.body());
+            assertEquals("", response.body().string());
+        }
+
+        Map<String, Object> updates = new HashMap<>();
+        updates.put("status", "archived");
+        RequestBody body = RequestBody.create(objectMapper.writeValueAsString(updates), JSON);
+        try (Response response = client.newCall(new Request.Builder().url(url).put(body).build()).execute()) {
+            assertEquals(200, response.code());
+        }
+
+        try (Response response = client.newCall(new Request.Builder()
+                .url(url)
+                .header("If-None-Match", etag)
+                .get()
+                .build()).execute()) {
+            assertEquals(200, response.code());
+            assertNotEquals(etag, response.header("ETag"));
+        }
+    }
+
+    @Test
+    @Order(19)
+    @DisplayName("GET /api/posts and /api/posts/many - List responses support conditional requests")
+    void testListConditionalRequests() throws IOException {
+        HttpUrl listUrl = baseHttpUrl().newBuilder()
+                .addPathSegment("posts")
+                .addQueryParameter("_start", "0")
+                .addQueryParameter("_end", "3")
+                .addQueryParameter("_sort", "id")
+                .addQueryParameter("_order", "ASC")
+                .build();
+        HttpUrl manyUrl = baseHttpUrl().newBuilder()
+                .addPathSegment("posts")
+                .addPathSegment("many")
+                .addQueryParameter("id", postId1User1.toString())
+                .addQueryParameter("id", postId2User1.toString())
+                .build();
+
+        for (HttpUrl url : List.of(listUrl, manyUrl)) {
+            String etag;
+            try (Response response = client.newCall(new Request.Builder().url(url).get().build()).execute()) {
+                assertEquals(200, response.code());
+                etag = response.header("ETag");
+                assertNotNull(etag);
+            }
+
+            try (Response response = client.newCall(new Request.Builder()
+                    .url(url)
+                    .header("If-None-Match", etag)
+                    .get()
+                    .build()).execute()) {
+                assertEquals(304, response.code());
+            }
+        }
+    }
+
+    @Test
+    @Order(20)
+    @DisplayName("GET /api/posts/export?_format=csv - Streams the same rows as getList as CSV")
+    void testExportCsv() throws IOException {
+        HttpUrl listUrl = baseHttpUrl().newBuilder()
+                .addPathSegment("posts")
+                .addQueryParameter("_start", "0")
+                .addQueryParameter("_end", "100")
+                .addQueryParameter("_sort", "id")
+                .addQueryParameter("_order", "ASC")
+                .addQueryParameter("userId", userId1.toString())
+                .build();
+
+        List<Map<String, Object>> posts;
+        try (Response response = client.newCall(new Request.Builder().url(listUrl).get().build()).execute()) {
+            assertEquals(200, response.code());
+            assertNotNull(response.body());
+            posts = objectMapper.readValue(
+                    response.body().string(),
+                    objectMapper.getTypeFactory().constructCollectionType(List.class, Map.class)
+            );
+        }
+
+        HttpUrl exportUrl = baseHttpUrl().newBuilder()
+                .addPathSegment("posts")
+                .addPathSegment("export")
+                .addQueryParameter("_format", "csv")
+                .addQueryParameter("_sort", "id")
+                .addQueryParameter("_order", "ASC")
+                .addQueryParameter("userId", userId1.toString())
+                .build();
+
+        try (Response response = client.newCall(new Request.Builder().url(exportUrl).get().build()).execute()) {
+            assertEquals(200, response.code());
+            assertNotNull(response.header("Content-Type"));
+            assertTrue(response.header("Content-Type").startsWith("text/csv"));
+            assertNotNull(response.body());
+
+            String csv = response.body().string();
+            // Properties hidden from the JSON are not exported
+            assertFalse(csv.contains("edit-token-"));
+            List<String> lines = csv.lines().toList();
+            assertEquals("content,id,status,title,userId", lines.get(0));
+            assertEquals(posts.size() + 1, lines.size());
+            for (int i = 0; i < posts.size(); i++) {
+                Map<String, Object> post = posts.get(i);
+                assertTrue(lines.get(i + 1).contains("," + post.get("id") + "," + post.get("status") + ","));
+            }
+        }
+    }
+
+    @Test
+    @Order(21)
+    @DisplayName("GET /api/posts?_embed=user - Embeds the user of each post in getList and getManyReference")
+    void testEmbedUser() throws IOException {
+        HttpUrl listUrl = baseHttpUrl().newBuilder()
+                .addPathSegment("posts")
+                .addQueryParameter("_start", "0")
+                .addQueryParameter("_end", "10")
+                .addQueryParameter("_sort", "id")
+                .addQueryParameter("_order", "ASC")
+                .addQueryParameter("_embed", "user")
+                .addQueryParameter("userId", userId1.toString())
+                .build();
+
+        try (Response response = client.newCall(new Request.Builder().url(listUrl).get().build()).execute()) {
+            assertEquals(200, response.code());
+            assertNotNull(response.body());
+            List<Map<String, Object>> posts = objectMapper.readValue(
+                    response.body().string(),
+                    objectMapper.getTypeFactory().constructCollectionType(List.class, Map.class)
+            );
+            assertFalse(posts.isEmpty());
+            for (Map<String, Object> post : posts) {
+                assertInstanceOf(Map.class, post.get("user"));
+                Map<?, ?> user = (Map<?, ?>) post.get("user");
+                assertEquals(userId1.intValue(), ((Number) user.get("id")).intValue());
+                assertEquals("Alice Johnson", user.get("name"));
+            }
+        }
+
+        HttpUrl referenceUrl = baseHttpUrl().newBuilder()
+                .addPathSegment("posts")
+                .addPathSegment("of")
+                .addPathSegment("userId")
+                .addPathSegment(userId2.toString())
+                .addQueryParameter("_start", "0")
+                .addQueryParameter("_end", "10")
+                .addQueryParameter("_embed", "user")
+                .build();
+
+        try (Response response = client.newCall(new Request.Builder().url(referenceUrl).get().build()).execute()) {
+            assertEquals(200, response.code());
+            assertNotNull(response.body());
+            List<Map<String, Object>> posts = objectMapper.readValue(
+                    response.body().string(),
+                    objectMapper.getTypeFactory().constructCollectionType(List.class, Map.class)
+            );
+            assertFalse(posts.isEmpty());
+            for (Map<String, Object> post : posts) {
+                assertInstanceOf(Map.class, post.get("user"));
+                assertEquals("Bob Smith", ((Map<?, ?>) post.get("user")).get("name"));
+            }
+        }
+
+        // Without _embed, the user is not part of the response
+        HttpUrl plainUrl = listUrl.newBuilder().removeAllQueryParameters("_embed").build();
+        try (Response response = client.newCall(new Request.Builder().url(plainUrl).get().build()).execute()) {
+            assertEquals(200, response.code());
+            assertNotNull(response.body());
+            List<Map<String, Object>> posts = objectMapper.readValue(
+                    response.body().string(),
+                    objectMapper.getTypeFactory().constructCollectionType(List.class, Map.class)
+            );
+            assertFalse(posts.isEmpty());
+            posts.forEach(post -> assertFalse(post.containsKey("user")));
+        }
+
+        // Relations that are not associations of the entity are rejected
+        HttpUrl unknownUrl = listUrl.newBuilder().setQueryParameter("_embed", "comments").build();
+        try (Response response = client.newCall(new Request.Builder().url(unknownUrl).get().build()).execute()) {
+            assertEquals(400, response.code());
+        }
+    }
+
+    @Test
+    @Order(22)
+    @DisplayName("GET /api/posts?_fields=title,status - Returns only the selected fields and the ID")
+    void testSparseFieldsets() throws IOException {
+        HttpUrl listUrl = baseHttpUrl().newBuilder()
+                .addPathSegment("posts")
+                .addQueryParameter("_start", "0")
+                .addQueryParameter("_end", "10")
+                .addQueryParameter("_sort", "id")
+                .addQueryParameter("_order", "ASC")
+                .addQueryParameter("_fields", "title,status")
+                .addQueryParameter("userId", userId1.toString())
+                .build();
+
+        List<Map<String, Object>> posts;
+        try (Response response = client.newCall(new Request.Builder().url(listUrl).get().build()).execute()) {
+            assertEquals(200, response.code());
+            assertNotNull(response.body());
+            posts = objectMapper.readValue(
+                    response.body().string(),
+                    objectMapper.getTypeFactory().constructCollectionType(List.class, Map.class)
+            );
+            assertFalse(posts.isEmpty());
+            for (Map<String, Object> post : posts) {
+                assertEquals(List.of("id", "title", "status"), List.copyOf(post.keySet()));
+                assertNotNull(post.get("title"));
+                assertNotNull(post.get("status"));
+            }
+        }
+
+        HttpUrl manyUrl = baseHttpUrl().newBuilder()
+                .addPathSegment("posts")
+                .addPathSegment("many")
+                .addQueryParameter("id", String.valueOf(posts.get(0).get("id")))
+                .addQueryParameter("_fields", "title")
+                .build();
+        try (Response response = client.newCall(new Request.Builder().url(manyUrl).get().build()).execute()) {
+            assertEquals(200, response.code());
+            assertNotNull(response.body());
+            List<Map<String, Object>> many = objectMapper.readValue(
+                    response.body().string(),
+                    objectMapper.getTypeFactory().constructCollectionType(List.class, Map.class)
+            );
+            assertEquals(1, many.size());
+            assertEquals(Map.of("id", posts.get(0).get("id"), "title", posts.get(0).get("title")), many.get(0));
+        }
+
+        // Services that do not project still return only the selected fields
+        HttpUrl usersUrl = baseHttpUrl().newBuilder()
+                .addPathSegment("users")
+                .addPathSegment("many")
+                .addQueryParameter("id", userId1.toString())
+                .addQueryParameter("_fields", "name")
+                .build();
+        try (Response response = client.newCall(new Request.Builder().url(usersUrl).get().build()).execute()) {
+            assertEquals(200, response.code());
+            assertNotNull(response.body());
+            List<Map<String, Object>> users = objectMapper.readValue(
+                    response.body().string(),
+                    objectMapper.getTypeFactory().constructCollectionType(List.class, Map.class)
+            );
+            assertEquals(1, users.size());
+            assertEquals(List.of("id", "name"), List.copyOf(users.get(0).keySet()));
+            assertEquals("Alice Johnson", users.get(0).get("name"));
+        }
+
+        HttpUrl unknownUrl = listUrl.newBuilder().setQueryParameter("_fields", "title,unknownField").build();
+        try (Response response = client.newCall(new Request.Builder().url(unknownUrl).get().build()).execute()) {
+            assertEquals(400, response.code());
+        }
+
+        // Readable properties hidden from the JSON cannot be selected
+        HttpUrl ignoredUrl = listUrl.newBuilder().setQueryParameter("_fields", "title,editToken").build();
+        try (Response response = client.newCall(new Request.Builder().url(ignoredUrl).get().build()).execute()) {
+            assertEquals(400, response.code());
+        }
+    }
+
+    @Test
+    @Order(23)
+    @DisplayName("DELETE /api/posts?id=... - Delete many reports exactly the posts that existed")
+    void testDeleteManyReportsExistingIds() throws IOException {
+        List<Number> createdIds = new ArrayList<>();
+        for (String title : List.of("Bulk Delete A", "Bulk Delete B")) {
+            Map<String, Object> newPost = new HashMap<>();
+            newPost.put("title", title);
+            newPost.put("content", "Cleanup");
+            newPost.put("userId", userId3);
+            newPost.put("status", "draft");
+
+            RequestBody body = RequestBody.create(objectMapper.writeValueAsString(newPost), JSON);
+            Request createRequest = new Request.Builder().url(baseUrl() + "/posts").post(body).build();
+            try (Response response = client.newCall(createRequest).execute()) {
+                assertEquals(201, response.code());
+                assertNotNull(response.body());
+                createdIds.add((Number) objectMapper.readValue(response.body().string(), Map.class).get("id"));
+            }
+        }
+
+        HttpUrl url = baseHttpUrl().newBuilder()
+                .addPathSegment("posts")
+                .addQueryParameter("id", createdIds.get(0).toString())
+                .addQueryParameter("id", "99999")
+                .addQueryParameter("id", createdIds.get(1).toString())
+                .addQueryParameter("id", createdIds.get(0).toString())
+                .build();
+        try (Response response = client.newCall(new Request.Builder().url(url).delete().build()).execute()) {
+            assertEquals(200, response.code());
+            assertNotNull(response.body());
+            List<Number> deletedIds = objectMapper.readValue(
+                    response.body().string(),
+                    objectMapper.getTypeFactory().constructCollectionType(List.class, Number.class)
+            );
+            assertEquals(createdIds, deletedIds);
+        }
+
+        // Deleting the same posts again reports nothing
+        try (Response response = client.newCall(new Request.Builder().url(url).delete().build()).execute()) {
+            assertEquals(200, response.code());
+            assertNotNull(response.body());
+            assertEquals("[]", response.body().string());
+        }
+    }
+}
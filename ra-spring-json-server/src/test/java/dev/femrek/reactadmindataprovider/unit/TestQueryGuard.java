@@ -0,0 +1,140 @@
+package dev.femrek.reactadmindataprovider.unit;
+
+import dev.femrek.reactadmindataprovider.controller.RAController;
+import dev.femrek.reactadmindataprovider.guard.QueryTimeouts;
+import dev.femrek.reactadmindataprovider.guard.SlowQueryLog;
+import dev.femrek.reactadmindataprovider.service.IRAService;
+import jakarta.persistence.QueryTimeoutException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the query timeouts and the slow query log of {@link RAController}.
+ */
+class TestQueryGuard {
+    @Test
+    @DisplayName("Resource timeouts take precedence over operation timeouts, which take precedence over the default")
+    void testTimeoutResolution() {
+        QueryTimeouts timeouts = new QueryTimeouts(
+                Duration.ofSeconds(30),
+                Map.of("getList", Duration.ofSeconds(10)),
+                Map.of("/api/posts", Duration.ofSeconds(5), "/api/exports", Duration.ZERO),
+                QueryTimeouts.DEFAULT_RETRY_AFTER);
+
+        assertEquals(Duration.ofSeconds(5), timeouts.getTimeout("/api/posts", "getList"));
+        assertEquals(Duration.ofSeconds(10), timeouts.getTimeout("/api/users", "getList"));
+        assertEquals(Duration.ofSeconds(30), timeouts.getTimeout("/api/users", "getOne"));
+        assertNull(timeouts.getTimeout("/api/exports", "getList"));
+        assertNull(QueryTimeouts.NONE.getTimeout("/api/posts", "getList"));
+        assertThrows(IllegalArgumentException.class, () -> new QueryTimeouts(
+                Duration.ofSeconds(-1), Map.of(), Map.of(), QueryTimeouts.DEFAULT_RETRY_AFTER));
+    }
+
+    @Test
+    @DisplayName("The filter shape lists the fields and operators in field order, without the values")
+    void testFilterShape() {
+        Map<String, String> filters = new LinkedHashMap<>();
+        filters.put("views_gte", "10");
+        filters.put("title_like", "spring");
+        filters.put("q", "boot");
+        filters.put("id_in", "1,2,3");
+        filters.put("status", "published");
+        filters.put("userId_ne", "");
+
+        assertEquals("id IN (?), q (search), status = ?, title LIKE ?, views >= ?",
+                SlowQueryLog.filterShape(filters));
+        assertEquals("none", SlowQueryLog.filterShape(Map.of()));
+        assertEquals("none", SlowQueryLog.filterShape(null));
+    }
+
+    @Test
+    @DisplayName("A query timeout is answered with status 503 and a Retry-After header")
+    void testTimeoutStatus() {
+        TimingOutController controller = new TimingOutController();
+        controller.setQueryTimeouts(new QueryTimeouts(null, Map.of(), Map.of(), Duration.ofSeconds(7)));
+
+        ResponseStatusException getOne = assertThrows(ResponseStatusException.class, () -> controller.getOne(1L));
+        assertEquals(503, getOne.getStatusCode().value());
+        assertEquals("7", getOne.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+
+        ResponseStatusException getList = assertThrows(ResponseStatusException.class,
+                () -> controller.getList(0, 10, "id", "ASC", null, null, null, new HashMap<>()));
+        assertEquals(503, getList.getStatusCode().value());
+        assertEquals("7", getList.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+
+        // Other failures are not mistaken for timeouts
+        assertThrows(IllegalStateException.class, () -> controller.getMany(List.of(1L), null));
+    }
+
+    /**
+     * Controller of a service whose queries time out, or fail otherwise for <code>getMany</code>.
+     */
+    private static class TimingOutController extends RAController<Object, Object, Long> {
+        private final IRAService<Object, Object, Long> service = new IRAService<>() {
+            @Override
+            public Page<Object> findWithFilters(Map<String, String> filters, Pageable pageable) {
+                throw new org.springframework.dao.QueryTimeoutException("Query timed out");
+            }
+
+            @Override
+            public Page<Object> findWithTargetAndFilters(String target,
+                                                         String targetId,
+                                                         Map<String, String> filters,
+                                                         Pageable pageable) {
+                throw new org.springframework.dao.QueryTimeoutException("Query timed out");
+            }
+
+            @Override
+            public List<Object> findAllById(List<Long> ids) {
+                throw new IllegalStateException("Connection lost");
+            }
+
+            @Override
+            public Object findById(Long id) {
+                throw new QueryTimeoutException("Query timed out");
+            }
+
+            @Override
+            public Object create(Object data) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public Object update(Long id, Map<String, Object> fields) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public List<Long> updateMany(List<Long> ids, Map<String, Object> fields) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public void deleteById(Long id) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public List<Long> deleteMany(List<Long> ids) {
+                throw new UnsupportedOperationException();
+            }
+        };
+
+        @Override
+        protected IRAService<Object, Object, Long> getService() {
+            return service;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package dev.femrek.reactadmindataprovider.unit;
+
+import dev.femrek.reactadmindataprovider.guard.QueryTimeouts;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the query timeouts of {@link SlowPostController}, whose {@link SlowPostService} runs its
+ * queries with JPA on H2 in the transactions of the application's transaction manager. The slow queries are cancelled
+ * by the JDBC driver when the transaction timeout expires, and the requests are answered with status 503.
+ */
+@SpringBootTest(classes = TestApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(locations = "classpath:application-test.properties")
+class TestQueryTimeout {
+    /**
+     * The time within which a timed-out request must be answered; the slow query would run for hours.
+     */
+    private static final Duration MAX_RESPONSE_TIME = SlowPostController.QUERY_TIMEOUT.plusSeconds(8);
+
+    @LocalServerPort
+    private int port;
+
+    private final OkHttpClient client = new OkHttpClient.Builder()
+            .readTimeout(MAX_RESPONSE_TIME.multipliedBy(2))
+            .build();
+
+    private static Long postId;
+
+    @BeforeAll
+    static void setupTestData(@Autowired UserRepository userRepository,
+                              @Autowired PostRepository postRepository) {
+        postRepository.deleteAll();
+        userRepository.deleteAll();
+
+        Long userId = userRepository.save(new User("Alice Johnson", "alice.johnson@example.com", "author")).getId();
+        postId = postRepository.save(new Post("Spring Boot Basics", "Getting started", userId, "published")).getId();
+        postRepository.save(new Post("Advanced Spring", "Transactions and proxies", userId, "draft"));
+    }
+
+    private void assertTimedOut(String path) throws IOException {
+        long start = System.nanoTime();
+        try (Response response = client.newCall(new Request.Builder()
+                .url("http://localhost:" + port + path)
+                .get()
+                .build()).execute()) {
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+            assertEquals(503, response.code());
+            assertEquals(String.valueOf(QueryTimeouts.DEFAULT_RETRY_AFTER.toSeconds()),
+                    response.header(HttpHeaders.RETRY_AFTER));
+            assertTrue(elapsed.compareTo(MAX_RESPONSE_TIME) < 0, "The query was not cancelled: " + elapsed);
+        }
+    }
+
+    @Test
+    @DisplayName("GET /api/slow-posts/{id} - A slow query is cancelled and answered with 503 and Retry-After")
+    void testSlowQueryCancelled() throws IOException {
+        assertTimedOut("/api/slow-posts/" + postId);
+    }
+
+    @Test
+    @DisplayName("GET /api/slow-posts - A slow parallel count is cancelled and answered with 503 and Retry-After")
+    void testSlowParallelCountCancelled() throws IOException {
+        // The first page has a next one, so the total needs the count, which runs on the count executor
+        assertTimedOut("/api/slow-posts?_start=0&_end=1&_sort=id&_order=ASC");
+    }
+
+    @Test
+    @DisplayName("GET /api/slow-posts - A page that determines its total does not wait for the slow count")
+    void testParallelCountSkipped() throws IOException {
+        try (Response response = client.newCall(new Request.Builder()
+                .url("http://localhost:" + port + "/api/slow-posts?_start=0&_end=10&_sort=id&_order=ASC")
+                .get()
+                .build()).execute()) {
+            assertEquals(200, response.code());
+            assertEquals("2", response.header("X-Total-Count"));
+        }
+    }
+}
@@ -9,6 +9,7 @@ import org.springframework.test.context.TestPropertySource;
 import tools.jackson.databind.ObjectMapper;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -266,10 +267,39 @@ class TestRAController {
         }
     }
 
+    @Test
+    @Order(8)
+    @DisplayName("POST /api/users/many - Get multiple users by IDs in the request body")
+    void testGetManyByBody() throws IOException {
+        List<Long> ids = new ArrayList<>(List.of(createdUserId1, createdUserId2, createdUserId3));
+        // A selection too large for a URL, including IDs that do not exist and a duplicate
+        for (long id = 1_000_000; id < 1_002_500; id++) {
+            ids.add(id);
+        }
+        ids.add(createdUserId1);
+
+        RequestBody body = RequestBody.create(objectMapper.writeValueAsString(ids), JSON);
+        Request request = new Request.Builder()
+                .url(baseUrl() + "/many")
+                .post(body)
+                .build();
+
+        try (Response response = client.newCall(request).execute()) {
+            assertEquals(200, response.code());
+            assertNotNull(response.body());
+
+            List<Map<String, Object>> responseBody = objectMapper.readValue(
+                    response.body().string(),
+                    objectMapper.getTypeFactory().constructCollectionType(List.class, Map.class)
+            );
+            assertEquals(3, responseBody.size());
+        }
+    }
+
     // ==================== UPDATE (PUT /{id}) Tests ====================
 
     @Test
-    @Order(8)
+    @Order(9)
     @DisplayName("PUT /api/users/{id} - Update a single user")
     void testUpdate() throws IOException {
         Map<String, String> updates = new HashMap<>();
@@ -295,7 +325,7 @@ class TestRAController {
     }
 
     @Test
-    @Order(9)
+    @Order(10)
     @DisplayName("PUT /api/users/{id} - Partial update (only one field)")
     void testPartialUpdate() throws IOException {
         Map<String, String> updates = new HashMap<>();
@@ -321,7 +351,7 @@ class TestRAController {
     // ==================== UPDATE MANY (PUT /?id=1&id=2) Tests ====================
 
     @Test
-    @Order(10)
+    @Order(11)
     @DisplayName("PUT /api/users?id=2&id=3 - Update multiple users with same values")
     void testUpdateMany() throws IOException {
         Map<String, String> updates = new HashMap<>();
@@ -378,7 +408,7 @@ class TestRAController {
     }
 
     @Test
-    @Order(11)
+    @Order(12)
     @DisplayName("PUT /api/users?id=4&id=5 - Update multiple users with same role")
     void testUpdateManyMultipleFields() throws IOException {
         Map<String, String> updates = new HashMap<>();
@@ -433,7 +463,7 @@ class TestRAController {
     }
 
     @Test
-    @Order(12)
+    @Order(13)
     @DisplayName("PUT /api/users - Update many with empty ID list returns empty list")
     void testUpdateManyEmptyList() throws IOException {
         Map<String, String> updates = new HashMap<>();
@@ -460,7 +490,7 @@ class TestRAController {
     // ==================== DELETE (DELETE /{id}) Tests ====================
 
     @Test
-    @Order(13)
+    @Order(14)
     @DisplayName("DELETE /api/users/{id} - Delete a single user")
     void testDelete() throws IOException {
         // Create a user specifically for deletion
@@ -501,7 +531,7 @@ class TestRAController {
     // ==================== DELETE MANY (DELETE /?id=1&id=2) Tests ====================
 
     @Test
-    @Order(14)
+    @Order(15)
     @DisplayName("DELETE /api/users?id=4&id=5 - Delete multiple users")
     void testDeleteMany() throws IOException {
         HttpUrl url = baseHttpUrl().newBuilder()
@@ -540,7 +570,7 @@ class TestRAController {
     }
 
     @Test
-    @Order(15)
+    @Order(16)
     @DisplayName("DELETE /api/users - Delete many with empty ID list returns empty list")
     void testDeleteManyEmptyList() throws IOException {
         Request request = new Request.Builder()
@@ -561,7 +591,7 @@ class TestRAController {
     }
 
     @Test
-    @Order(16)
+    @Order(17)
     @DisplayName("DELETE /api/users?id=1&id=2&id=3 - Delete multiple users at once")
     void testDeleteManyBulk() throws IOException {
         // Create 3 users specifically for bulk deletion
@@ -618,7 +648,7 @@ class TestRAController {
     // ==================== Edge Cases and Error Handling Tests ====================
 
     @Test
-    @Order(17)
+    @Order(18)
     @DisplayName("GET /api/users/{id} - Get non-existent user returns error")
     void testGetOneNotFound() throws IOException {
         Request request = new Request.Builder()
@@ -632,7 +662,7 @@ class TestRAController {
     }
 
     @Test
-    @Order(18)
+    @Order(19)
     @DisplayName("PUT /api/users/{id} - Update non-existent user returns error")
     void testUpdateNonExistentUser() throws IOException {
         Map<String, String> updates = new HashMap<>();
@@ -650,7 +680,7 @@ class TestRAController {
     }
 
     @Test
-    @Order(19)
+    @Order(20)
     @DisplayName("GET /api/users - Verify X-Total-Count header is present")
     void testGetListWithTotalCountHeader() throws IOException {
         HttpUrl url = baseHttpUrl().newBuilder()
@@ -671,7 +701,7 @@ class TestRAController {
     }
 
     @Test
-    @Order(20)
+    @Order(21)
     @DisplayName("GET /api/users?_start=1&_end=3&_sort=id&_order=ASC - Test pagination with offset")
     void testGetListWithOffset() throws IOException {
         HttpUrl url = baseHttpUrl().newBuilder()
@@ -696,7 +726,7 @@ class TestRAController {
     }
 
     @Test
-    @Order(21)
+    @Order(22)
     @DisplayName("GET /api/users - Empty pagination parameters for getList returns bad request")
     void testGetListWithDefaultParameters() throws IOException {
         Request request = new Request.Builder().url(baseUrl()).get().build();
@@ -705,5 +735,171 @@ class TestRAController {
             assertEquals(400, response.code());
         }
     }
-}
 
+    // ==================== Keyset Pagination Tests ====================
+
+    @Test
+    @Order(23)
+    @DisplayName("GET /api/users?_cursor=... - Keyset pagination continues after the previous page")
+    void testGetListWithKeysetPagination() throws IOException {
+        String[] names = {"Keyset A", "Keyset B", "Keyset C"};
+        for (int i = 0; i < names.length; i++) {
+            Map<String, String> user = new HashMap<>();
+            user.put("name", names[i]);
+            user.put("email", "keyset" + i + "@example.com");
+            user.put("role", "keyset");
+
+            RequestBody body = RequestBody.create(objectMapper.writeValueAsString(user), JSON);
+            try (Response response = client.newCall(new Request.Builder().url(baseUrl()).post(body).build()).execute()) {
+                assertEquals(201, response.code());
+            }
+        }
+
+        HttpUrl firstPageUrl = baseHttpUrl().newBuilder()
+                .addQueryParameter("_start", "0")
+                .addQueryParameter("_end", "2")
+                .addQueryParameter("_sort", "name")
+                .addQueryParameter("_order", "DESC")
+                .addQueryParameter("role", "keyset")
+                .build();
+
+        String cursor;
+        try (Response response = client.newCall(new Request.Builder().url(firstPageUrl).get().build()).execute()) {
+            assertEquals(200, response.code());
+            assertEquals("3", response.header("X-Total-Count"));
+            cursor = response.header("X-Next-Cursor");
+            assertNotNull(cursor);
+            assertNotNull(response.body());
+
+            List<Map<String, Object>> users = objectMapper.readValue(
+                    response.body().string(),
+                    objectMapper.getTypeFactory().constructCollectionType(List.class, Map.class)
+            );
+            assertEquals(List.of("Keyset C", "Keyset B"), users.stream().map(user -> user.get("name")).toList());
+        }
+
+        HttpUrl secondPageUrl = firstPageUrl.newBuilder()
+                .setQueryParameter("_start", "2")
+                .setQueryParameter("_end", "4")
+                .addQueryParameter("_cursor", cursor)
+                .build();
+
+        try (Response response = client.newCall(new Request.Builder().url(secondPageUrl).get().build()).execute()) {
+            assertEquals(200, response.code());
+            assertEquals("3", response.header("X-Total-Count"));
+            assertNull(response.header("X-Next-Cursor"));
+            assertNotNull(response.body());
+
+            List<Map<String, Object>> users = objectMapper.readValue(
+                    response.body().string(),
+                    objectMapper.getTypeFactory().constructCollectionType(List.class, Map.class)
+            );
+            assertEquals(List.of("Keyset A"), users.stream().map(user -> user.get("name")).toList());
+        }
+    }
+
+    @Test
+    @Order(24)
+    @DisplayName("GET /api/users?_cursor=... - Malformed or mismatching cursor returns bad request")
+    void testGetListWithInvalidCursor() throws IOException {
+        HttpUrl malformedUrl = baseHttpUrl().newBuilder()
+                .addQueryParameter("_start", "2")
+                .addQueryParameter("_end", "4")
+                .addQueryParameter("_cursor", "not a cursor")
+                .build();
+
+        try (Response response = client.newCall(new Request.Builder().url(malformedUrl).get().build()).execute()) {
+            assertEquals(400, response.code());
+        }
+
+        // A cursor created for "_sort=name" cannot continue a list sorted by "email"
+        String nameCursor;
+        HttpUrl nameUrl = baseHttpUrl().newBuilder()
+                .addQueryParameter("_start", "0")
+                .addQueryParameter("_end", "1")
+                .addQueryParameter("_sort", "name")
+                .addQueryParameter("role", "keyset")
+                .build();
+        try (Response response = client.newCall(new Request.Builder().url(nameUrl).get().build()).execute()) {
+            assertEquals(200, response.code());
+            nameCursor = response.header("X-Next-Cursor");
+            assertNotNull(nameCursor);
+        }
+
+        HttpUrl emailUrl = nameUrl.newBuilder()
+                .setQueryParameter("_sort", "email")
+                .addQueryParameter("_cursor", nameCursor)
+                .build();
+        try (Response response = client.newCall(new Request.Builder().url(emailUrl).get().build()).execute()) {
+            assertEquals(400, response.code());
+        }
+    }
+
+    @Test
+    @Order(25)
+    @DisplayName("GET /api/users/export?_format=ndjson - Streams all matching users as NDJSON")
+    void testExportNdjson() throws IOException {
+        HttpUrl url = baseHttpUrl().newBuilder()
+                .addPathSegment("export")
+                .addQueryParameter("_format", "ndjson")
+                .addQueryParameter("_sort", "name")
+                .addQueryParameter("_order", "DESC")
+                .addQueryParameter("role", "keyset")
+                .build();
+
+        try (Response response = client.newCall(new Request.Builder().url(url).get().build()).execute()) {
+            assertEquals(200, response.code());
+            assertNotNull(response.header("Content-Type"));
+            assertTrue(response.header("Content-Type").startsWith("application/x-ndjson"));
+            assertNotNull(response.header("Content-Disposition"));
+            assertTrue(response.header("Content-Disposition").contains("users.ndjson"));
+            assertNotNull(response.body());
+
+            List<String> lines = response.body().string().lines().toList();
+            List<Object> names = new ArrayList<>();
+            for (String line : lines) {
+                names.add(objectMapper.readValue(line, Map.class).get("name"));
+            }
+            assertEquals(List.of("Keyset C", "Keyset B", "Keyset A"), names);
+        }
+
+        HttpUrl invalidUrl = url.newBuilder().setQueryParameter("_format", "xml").build();
+        try (Response response = client.newCall(new Request.Builder().url(invalidUrl).get().build()).execute()) {
+            assertEquals(400, response.code());
+        }
+    }
+
+    @Test
+    @Order(26)
+    @DisplayName("PUT /api/users?id=2&id=999999 - Update many reports only existing users")
+    void testUpdateManySkipsMissingIds() throws IOException {
+        Map<String, String> updates = new HashMap<>();
+        updates.put("role", "bulk_user");
+
+        HttpUrl url = baseHttpUrl().newBuilder()
+                .addQueryParameter("id", createdUserId2.toString())
+                .addQueryParameter("id", "999999")
+                .addQueryParameter("id", createdUserId2.toString())
+                .build();
+
+        RequestBody body = RequestBody.create(objectMapper.writeValueAsString(updates), JSON);
+        try (Response response = client.newCall(new Request.Builder().url(url).put(body).build()).execute()) {
+            assertEquals(200, response.code());
+            assertNotNull(response.body());
+
+            List<Number> responseBody = objectMapper.readValue(
+                    response.body().string(),
+                    objectMapper.getTypeFactory().constructCollectionType(List.class, Number.class)
+            );
+            assertEquals(List.of(createdUserId2.intValue()), responseBody);
+        }
+
+        Request getRequest = new Request.Builder().url(baseUrl() + "/" + createdUserId2).get().build();
+        try (Response response = client.newCall(getRequest).execute()) {
+            assertNotNull(response.body());
+            @SuppressWarnings("unchecked")
+            Map<String, Object> user = objectMapper.readValue(response.body().string(), Map.class);
+            assertEquals("bulk_user", user.get("role"));
+        }
+    }
+}
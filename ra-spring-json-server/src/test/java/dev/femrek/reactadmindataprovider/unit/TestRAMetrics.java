@@ -0,0 +1,142 @@
+package dev.femrek.reactadmindataprovider.unit;
+
+import dev.femrek.reactadmindataprovider.metrics.MicrometerRAMetrics;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.*;
+import okhttp3.MediaType;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the Micrometer metrics of controller operations.
+ */
+@SpringBootTest(classes = TestApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(locations = "classpath:application-test.properties")
+@Import(TestRAMetrics.MeterRegistryConfig.class)
+class TestRAMetrics {
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final OkHttpClient client = new OkHttpClient();
+    private static final MediaType JSON = MediaType.get("application/json; charset=utf-8");
+
+    private static Long userId1;
+    private static Long userId2;
+
+    @TestConfiguration
+    static class MeterRegistryConfig {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @BeforeAll
+    static void setupTestData(@Autowired UserRepository userRepository, @Autowired PostRepository postRepository) {
+        postRepository.deleteAll();
+        userRepository.deleteAll();
+
+        userId1 = userRepository.save(new User("Alice Johnson", "alice.johnson@example.com", "author")).getId();
+        userId2 = userRepository.save(new User("Bob Smith", "bob.smith@example.com", "admin")).getId();
+    }
+
+    private int execute(Request request) throws IOException {
+        try (Response response = client.newCall(request).execute()) {
+            return response.code();
+        }
+    }
+
+    private String url(String path) {
+        return "http://localhost:" + port + path;
+    }
+
+    @Test
+    @DisplayName("getList records the request, its queries, the page size and the result count")
+    void testGetListMetrics() throws IOException {
+        assertEquals(200, execute(new Request.Builder().url(url("/api/posts?_start=0&_end=5")).get().build()));
+
+        Timer requests = meterRegistry.find(MicrometerRAMetrics.REQUESTS)
+                .tags("resource", "/api/posts", "operation", "getList", "outcome", "SUCCESS")
+                .timer();
+        assertNotNull(requests);
+        assertTrue(requests.count() >= 1);
+
+        Timer contentQueries = meterRegistry.find(MicrometerRAMetrics.QUERIES)
+                .tags("resource", "/api/posts", "operation", "getList", "query", "content")
+                .timer();
+        assertNotNull(contentQueries);
+        assertTrue(contentQueries.count() >= 1);
+
+        DistributionSummary pageSize = meterRegistry.find(MicrometerRAMetrics.PAGE_SIZE)
+                .tags("resource", "/api/posts", "operation", "getList")
+                .summary();
+        assertNotNull(pageSize);
+        assertEquals(5, pageSize.max());
+    }
+
+    @Test
+    @DisplayName("getManyReference records its page query")
+    void testGetManyReferenceMetrics() throws IOException {
+        assertEquals(200, execute(new Request.Builder()
+                .url(url("/api/posts/of/userId/" + userId1 + "?_start=0&_end=5"))
+                .get()
+                .build()));
+
+        Timer pageQueries = meterRegistry.find(MicrometerRAMetrics.QUERIES)
+                .tags("resource", "/api/posts", "operation", "getManyReference", "query", "page")
+                .timer();
+        assertNotNull(pageQueries);
+        assertTrue(pageQueries.count() >= 1);
+    }
+
+    @Test
+    @DisplayName("Count and content queries are timed separately when the count runs on its own")
+    void testCountQueryMetrics() throws IOException {
+        // The users controller fetches the first page by keyset and counts in parallel
+        assertEquals(200, execute(new Request.Builder().url(url("/api/users?_start=0&_end=1")).get().build()));
+
+        assertNotNull(meterRegistry.find(MicrometerRAMetrics.QUERIES)
+                .tags("resource", "/api/users", "operation", "getList", "query", "content")
+                .timer());
+        assertNotNull(meterRegistry.find(MicrometerRAMetrics.QUERIES)
+                .tags("resource", "/api/users", "operation", "getList", "query", "count")
+                .timer());
+    }
+
+    @Test
+    @DisplayName("Bulk operations record their batch size, and failed requests their outcome")
+    void testBatchSizeAndOutcome() throws IOException {
+        RequestBody body = RequestBody.create("{\"role\":\"editor\"}", JSON);
+        assertEquals(200, execute(new Request.Builder()
+                .url(url("/api/users?id=" + userId1 + "&id=" + userId2))
+                .put(body)
+                .build()));
+
+        DistributionSummary batchSize = meterRegistry.find(MicrometerRAMetrics.BATCH_SIZE)
+                .tags("resource", "/api/users", "operation", "updateMany")
+                .summary();
+        assertNotNull(batchSize);
+        assertEquals(2, batchSize.max());
+
+        assertEquals(400, execute(new Request.Builder().url(url("/api/users?_start=5&_end=1")).get().build()));
+        assertNotNull(meterRegistry.find(MicrometerRAMetrics.REQUESTS)
+                .tags("resource", "/api/users", "operation", "getList", "outcome", "CLIENT_ERROR")
+                .timer());
+    }
+}
@@ -0,0 +1,261 @@
+package dev.femrek.reactadmindataprovider.unit;
+
+import dev.femrek.reactadmindataprovider.cache.RecordCache;
+import dev.femrek.reactadmindataprovider.metrics.RecordCacheMetrics;
+import dev.femrek.reactadmindataprovider.service.CachingRAService;
+import dev.femrek.reactadmindataprovider.service.IRAService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the record cache and the caching service decorator. Every ID loaded by the delegate is recorded.
+ */
+class TestRecordCache {
+    private final MutableClock clock = new MutableClock();
+    private final ItemService itemService = new ItemService();
+
+    private CachingRAService<Item, String, Long> cachingService(int maximumSize) {
+        return new CachingRAService<>(itemService, new RecordCache<>(Duration.ofSeconds(30), maximumSize, clock),
+                Item::id);
+    }
+
+    @Test
+    @DisplayName("findAllById serves partial hits and only loads the missing IDs")
+    void testPartialHits() {
+        CachingRAService<Item, String, Long> service = cachingService(100);
+
+        assertEquals(List.of(1L, 2L), ids(service.findAllById(List.of(1L, 2L))));
+        assertEquals(List.of(1L, 2L), itemService.loadedIds);
+
+        itemService.loadedIds.clear();
+        assertEquals(List.of(2L, 3L, 1L), ids(service.findAllById(List.of(2L, 3L, 1L))));
+        assertEquals(List.of(3L), itemService.loadedIds);
+
+        assertEquals(2, service.getCache().getHitCount());
+        assertEquals(3, service.getCache().getMissCount());
+    }
+
+    @Test
+    @DisplayName("Missing records are not returned and not cached")
+    void testMissingRecords() {
+        CachingRAService<Item, String, Long> service = cachingService(100);
+
+        assertEquals(List.of(1L), ids(service.findAllById(List.of(1L, 99L))));
+        assertNull(service.findById(99L));
+        assertEquals(1, service.getCache().size());
+    }
+
+    @Test
+    @DisplayName("Records expire after the TTL")
+    void testTtl() {
+        CachingRAService<Item, String, Long> service = cachingService(100);
+
+        service.findById(1L);
+        clock.advance(Duration.ofSeconds(29));
+        service.findById(1L);
+        assertEquals(List.of(1L), itemService.loadedIds);
+
+        clock.advance(Duration.ofSeconds(1));
+        service.findById(1L);
+        assertEquals(List.of(1L, 1L), itemService.loadedIds);
+    }
+
+    @Test
+    @DisplayName("Writes drop the records they touch")
+    void testWritesInvalidate() {
+        CachingRAService<Item, String, Long> service = cachingService(100);
+        service.findAllById(List.of(1L, 2L, 3L, 4L));
+
+        service.update(1L, Map.of("name", "changed"));
+        assertEquals("changed", service.findById(1L).name());
+
+        service.updateMany(List.of(2L), Map.of("name", "bulk"));
+        service.deleteById(3L);
+        service.deleteMany(List.of(4L));
+        assertEquals(1, service.getCache().size());
+
+        itemService.loadedIds.clear();
+        assertEquals(List.of(1L, 2L), ids(service.findAllById(List.of(1L, 2L, 3L, 4L))));
+        assertEquals(List.of(2L, 3L, 4L), itemService.loadedIds);
+        assertEquals("bulk", service.findById(2L).name());
+    }
+
+    @Test
+    @DisplayName("A record loaded while records were written is not cached")
+    void testConcurrentWrite() {
+        RecordCache<Long, Item> cache = new RecordCache<>(Duration.ofSeconds(30), 100, clock);
+
+        cache.getAll(List.of(1L), missing -> {
+            cache.invalidate(List.of(1L));
+            return Map.of(1L, new Item(1L, "stale"));
+        });
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("Records read more than once survive a scan over records read once")
+    void testScanResistance() {
+        CachingRAService<Item, String, Long> service = cachingService(10);
+
+        // Read the hot record twice, so it is promoted out of probation
+        service.findById(1L);
+        service.findById(1L);
+
+        List<Long> scan = new ArrayList<>();
+        for (long id = 100; id < 150; id++) {
+            scan.add(id);
+        }
+        service.findAllById(scan);
+        assertTrue(service.getCache().size() <= 10);
+        assertTrue(service.getCache().getEvictionCount() > 0);
+
+        itemService.loadedIds.clear();
+        service.findById(1L);
+        assertTrue(itemService.loadedIds.isEmpty());
+    }
+
+    @Test
+    @DisplayName("RecordCacheMetrics publishes hits, misses, puts, evictions and size as Micrometer cache meters")
+    void testMetrics() {
+        CachingRAService<Item, String, Long> service = cachingService(10);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        RecordCacheMetrics.monitor(registry, service.getCache(), "items", "resource", "items");
+
+        service.findAllById(List.of(1L, 2L));
+        service.findAllById(List.of(1L, 2L, 3L, 99L));
+
+        assertEquals(2, registry.get("cache.gets").tags("cache", "items", "result", "hit").functionCounter().count());
+        assertEquals(4, registry.get("cache.gets").tags("cache", "items", "result", "miss").functionCounter().count());
+        assertEquals(3, registry.get("cache.puts").tags("cache", "items", "resource", "items")
+                .functionCounter().count());
+        assertEquals(3, registry.get("cache.size").tag("cache", "items").gauge().value());
+        assertEquals(0, registry.get("cache.evictions").tag("cache", "items").functionCounter().count());
+
+        List<Long> scan = new ArrayList<>();
+        for (long id = 100; id < 150; id++) {
+            scan.add(id);
+        }
+        service.findAllById(scan);
+        assertEquals(service.getCache().getEvictionCount(),
+                registry.get("cache.evictions").tag("cache", "items").functionCounter().count());
+        assertTrue(service.getCache().getEvictionCount() > 0);
+    }
+
+    private static List<Long> ids(List<Item> items) {
+        return items.stream().map(Item::id).toList();
+    }
+
+    record Item(Long id, String name) {
+    }
+
+    /**
+     * An in-memory service where every ID except 99 exists until it is deleted, recording the IDs it loads.
+     */
+    private static final class ItemService implements IRAService<Item, String, Long> {
+        private final Map<Long, String> names = new TreeMap<>();
+        private final Set<Long> deletedIds = new HashSet<>();
+        private final List<Long> loadedIds = new ArrayList<>();
+
+        private Item load(Long id) {
+            loadedIds.add(id);
+            return id != 99 && !deletedIds.contains(id) ? new Item(id, names.getOrDefault(id, "item " + id)) : null;
+        }
+
+        @Override
+        public Page<Item> findWithFilters(Map<String, String> filters, Pageable pageable) {
+            return new PageImpl<>(List.of(), pageable, 0);
+        }
+
+        @Override
+        public Page<Item> findWithTargetAndFilters(String target, String targetId, Map<String, String> filters,
+                                                   Pageable pageable) {
+            return new PageImpl<>(List.of(), pageable, 0);
+        }
+
+        @Override
+        public List<Item> findAllById(List<Long> ids) {
+            List<Item> items = new ArrayList<>();
+            for (Long id : ids) {
+                Item item = load(id);
+                if (item != null) {
+                    items.add(item);
+                }
+            }
+            return items;
+        }
+
+        @Override
+        public Item findById(Long id) {
+            return load(id);
+        }
+
+        @Override
+        public Item create(String data) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Item update(Long id, Map<String, Object> fields) {
+            names.put(id, (String) fields.get("name"));
+            return new Item(id, names.get(id));
+        }
+
+        @Override
+        public List<Long> updateMany(List<Long> ids, Map<String, Object> fields) {
+            ids.forEach(id -> names.put(id, (String) fields.get("name")));
+            return ids;
+        }
+
+        @Override
+        public void deleteById(Long id) {
+            deletedIds.add(id);
+        }
+
+        @Override
+        public List<Long> deleteMany(List<Long> ids) {
+            deletedIds.addAll(ids);
+            return ids;
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant = Instant.parse("2026-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package dev.femrek.reactadmindataprovider.unit;
+
+import okhttp3.HttpUrl;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.TestPropertySource;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the global search of the posts resource, which is answered by the Lucene index of
+ * {@link PostService}, and for keeping the index up to date through the controller.
+ */
+@SpringBootTest(classes = TestApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(locations = "classpath:application-test.properties")
+class TestSearchIndex {
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private PostService postService;
+
+    private final OkHttpClient client = new OkHttpClient();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private static final MediaType JSON = MediaType.get("application/json; charset=utf-8");
+
+    private static Long userId;
+    private static Long otherUserId;
+
+    @BeforeAll
+    static void setupTestData(@Autowired UserRepository userRepository,
+                              @Autowired PostRepository postRepository,
+                              @Autowired PostService postService) {
+        postRepository.deleteAll();
+        userRepository.deleteAll();
+
+        userId = userRepository.save(new User("Alice Johnson", "alice.johnson@example.com", "author")).getId();
+        otherUserId = userRepository.save(new User("Bob Smith", "bob.smith@example.com", "author")).getId();
+
+        postRepository.save(new Post("Spring Boot Basics", "Getting started with Spring", userId, "published"));
+        postRepository.save(new Post("Advanced Spring", "Transactions and proxies", userId, "draft"));
+        postRepository.save(new Post("Kotlin Coroutines", "Structured concurrency on the JVM", otherUserId, "published"));
+        postRepository.save(new Post("Testing Tips", "Write more tests with Spring Boot", otherUserId, "draft"));
+
+        // The posts were saved with the repository, past the search index of the service
+        postService.rebuildSearchIndex();
+    }
+
+    private List<Object> searchTitles(String q, Map<String, String> filters) throws IOException {
+        HttpUrl.Builder url = HttpUrl.get("http://localhost:" + port + "/api/posts").newBuilder()
+                .addQueryParameter("_start", "0")
+                .addQueryParameter("_end", "10")
+                .addQueryParameter("_sort", "id")
+                .addQueryParameter("_order", "ASC")
+                .addQueryParameter("q", q);
+        filters.forEach(url::addQueryParameter);
+
+        try (Response response = client.newCall(new Request.Builder().url(url.build()).get().build()).execute()) {
+            assertEquals(200, response.code());
+            assertNotNull(response.body());
+            List<Map<String, Object>> posts = objectMapper.readValue(
+                    response.body().string(),
+                    objectMapper.getTypeFactory().constructCollectionType(List.class, Map.class)
+            );
+            return posts.stream().map(post -> post.get("title")).toList();
+        }
+    }
+
+    private List<Object> searchTitles(String q) throws IOException {
+        return searchTitles(q, Map.of());
+    }
+
+    @Test
+    @DisplayName("GET /api/posts?q=... - Matches words by prefix in any search attribute, ignoring case")
+    void testSearchByWordPrefix() throws IOException {
+        assertEquals(List.of("Spring Boot Basics", "Advanced Spring", "Testing Tips"), searchTitles("SPRING"));
+        assertEquals(List.of("Kotlin Coroutines"), searchTitles("corout"));
+        assertEquals(List.of("Spring Boot Basics", "Testing Tips"), searchTitles("spring boot"));
+        assertEquals(List.of(), searchTitles("haskell"));
+    }
+
+    @Test
+    @DisplayName("GET /api/posts?q=spring&status=draft - Search and filters are combined")
+    void testSearchWithFilters() throws IOException {
+        assertEquals(List.of("Advanced Spring", "Testing Tips"), searchTitles("spring", Map.of("status", "draft")));
+        assertEquals(List.of("Testing Tips"),
+                searchTitles("spring", Map.of("userId", otherUserId.toString(), "status", "draft")));
+    }
+
+    @Test
+    @DisplayName("POST, PUT and DELETE /api/posts - Writes through the controller update the index")
+    void testWritesUpdateIndex() throws IOException {
+        String createBody = objectMapper.writeValueAsString(Map.of(
+                "title", "Quarkus Native Images", "content", "GraalVM builds", "userId", userId, "status", "draft"));
+        long id;
+        try (Response response = client.newCall(new Request.Builder()
+                .url("http://localhost:" + port + "/api/posts")
+                .post(RequestBody.create(createBody, JSON))
+                .build()).execute()) {
+            assertEquals(201, response.code());
+            assertNotNull(response.body());
+            id = objectMapper.readTree(response.body().string()).get("id").asLong();
+        }
+        assertEquals(List.of("Quarkus Native Images"), searchTitles("quarkus"));
+
+        String updateBody = objectMapper.writeValueAsString(Map.of("title", "Micronaut Native Images"));
+        try (Response response = client.newCall(new Request.Builder()
+                .url("http://localhost:" + port + "/api/posts/" + id)
+                .put(RequestBody.create(updateBody, JSON))
+                .build()).execute()) {
+            assertEquals(200, response.code());
+        }
+        assertEquals(List.of(), searchTitles("quarkus"));
+        assertEquals(List.of("Micronaut Native Images"), searchTitles("micronaut"));
+
+        try (Response response = client.newCall(new Request.Builder()
+                .url("http://localhost:" + port + "/api/posts/" + id)
+                .delete()
+                .build()).execute()) {
+            assertEquals(204, response.code());
+        }
+        assertEquals(List.of(), searchTitles("micronaut"));
+    }
+
+    private Response search(String q) throws IOException {
+        HttpUrl url = HttpUrl.get("http://localhost:" + port + "/api/posts").newBuilder()
+                .addQueryParameter("_start", "0")
+                .addQueryParameter("_end", "10")
+                .addQueryParameter("q", q)
+                .build();
+        return client.newCall(new Request.Builder().url(url).get().build()).execute();
+    }
+
+    @Test
+    @DisplayName("GET /api/posts?q=spring - Searches matching more IDs than the search limit report a capped total")
+    void testSearchLimitCapsTotal() throws IOException {
+        postService.setSearchLimit(2);
+        try (Response response = search("spring")) {
+            assertEquals(200, response.code());
+            assertEquals("capped/2", response.header("X-Total-Count"));
+        } finally {
+            postService.setSearchLimit(1000);
+        }
+
+        // Counts are cached per filters, so the full result is checked with another search
+        try (Response response = search("boot")) {
+            assertEquals(200, response.code());
+            assertEquals("2", response.header("X-Total-Count"));
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package dev.femrek.reactadmindataprovider.unit;
+
+import dev.femrek.reactadmindataprovider.count.TotalCount;
+import dev.femrek.reactadmindataprovider.count.TotalCountContext;
+import dev.femrek.reactadmindataprovider.count.TotalCountStrategies;
+import dev.femrek.reactadmindataprovider.count.TotalCountStrategy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the built-in X-Total-Count strategies.
+ * The simulated list has {@value #TOTAL} matching rows, and every query is counted.
+ */
+class TestTotalCountStrategies {
+    private static final long TOTAL = 2500;
+
+    private final AtomicInteger countQueries = new AtomicInteger();
+    private final AtomicInteger rowQueries = new AtomicInteger();
+
+    private TotalCountContext page(long offset, int limit) {
+        int contentSize = (int) Math.max(0, Math.min(limit, TOTAL - offset));
+        boolean hasNext = offset + contentSize < TOTAL;
+        return new TotalCountContext(offset, contentSize, hasNext, Map.of("status", "published"),
+                () -> {
+                    countQueries.incrementAndGet();
+                    return TOTAL;
+                },
+                index -> {
+                    rowQueries.incrementAndGet();
+                    return index < TOTAL;
+                });
+    }
+
+    @Test
+    @DisplayName("exact - Always runs the count query")
+    void testExact() {
+        TotalCountStrategy strategy = TotalCountStrategies.exact();
+
+        assertTrue(strategy.isExact());
+        assertEquals(TotalCount.exact(TOTAL), strategy.resolve(page(0, 10)));
+        assertEquals("2500", strategy.resolve(page(0, 10)).toHeaderValue());
+        assertEquals(2, countQueries.get());
+    }
+
+    @Test
+    @DisplayName("none - Reports a lower bound without counting")
+    void testNone() {
+        TotalCountStrategy strategy = TotalCountStrategies.none();
+
+        TotalCount totalCount = strategy.resolve(page(10, 10));
+        assertEquals(TotalCount.partial(21), totalCount);
+        assertEquals("partial/21", totalCount.toHeaderValue());
+
+        // The last page determines the total by itself
+        assertEquals(TotalCount.exact(TOTAL), strategy.resolve(page(2490, 20)));
+        assertEquals(0, countQueries.get());
+    }
+
+    @Test
+    @DisplayName("capped - Stops counting at the cap")
+    void testCapped() {
+        TotalCountStrategy strategy = TotalCountStrategies.capped(1000);
+
+        assertEquals(TotalCount.capped(1000), strategy.resolve(page(0, 10)));
+        assertEquals("capped/1000", TotalCount.capped(1000).toHeaderValue());
+        assertEquals(1, rowQueries.get());
+
+        // A page beyond the cap proves the cap is exceeded without any query
+        assertEquals(TotalCount.capped(1510), strategy.resolve(page(1500, 10)));
+        assertEquals(1, rowQueries.get());
+
+        // Below the cap the exact count is used
+        assertEquals(TotalCount.exact(TOTAL), TotalCountStrategies.capped(5000).resolve(page(0, 10)));
+        assertEquals(1, countQueries.get());
+    }
+
+    @Test
+    @DisplayName("estimated - Uses the estimate and falls back to the exact count")
+    void testEstimated() {
+        TotalCountStrategy strategy = TotalCountStrategies.estimated(filters -> OptionalLong.of(2400));
+        assertEquals(TotalCount.estimate(2400), strategy.resolve(page(0, 10)));
+
+        // The estimate is never lower than what the page proves to exist
+        assertEquals(TotalCount.estimate(2451), strategy.resolve(page(2440, 10)));
+        assertEquals(0, countQueries.get());
+
+        TotalCountStrategy withoutEstimate = TotalCountStrategies.estimated(filters -> OptionalLong.empty());
+        assertEquals(TotalCount.exact(TOTAL), withoutEstimate.resolve(page(0, 10)));
+        assertEquals(1, countQueries.get());
+    }
+}
@@ -1,16 +1,22 @@
 package dev.femrek.reactadmindataprovider.unit;
 
+import dev.femrek.reactadmindataprovider.filter.FieldFilter;
 import dev.femrek.reactadmindataprovider.service.IRAService;
-import jakarta.persistence.criteria.Predicate;
+import dev.femrek.reactadmindataprovider.service.jpa.JpaBulkOperations;
+import dev.femrek.reactadmindataprovider.service.jpa.JpaFieldFilters;
+import jakarta.persistence.EntityManager;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.StreamSupport;
 
 /**
  * Extended service implementation for User entity with bulk operations support.
@@ -20,49 +26,66 @@ import java.util.stream.StreamSupport;
 @Service
 class UserService implements IRAService<UserResponseDTO, UserCreateDTO, Long> {
     private final UserRepository userRepository;
+    private final JpaBulkOperations<User, Long> bulkOperations;
+    private final JpaFieldFilters<User> fieldFilters;
 
-    public UserService(UserRepository userRepository) {
+    public UserService(UserRepository userRepository, EntityManager entityManager) {
         this.userRepository = userRepository;
+        this.bulkOperations = new JpaBulkOperations<>(User.class, entityManager);
+        this.fieldFilters = new JpaFieldFilters<>(User.class, entityManager);
     }
 
     @Override
     public Page<UserResponseDTO> findWithFilters(Map<String, String> filters, Pageable pageable) {
-        Specification<User> spec = (root, query, criteriaBuilder) -> {
-            List<Predicate> predicates = new ArrayList<>();
-
-            // Apply field-specific filters
-            if (filters != null) {
-                // Apply global search query (q parameter)
-                String q = filters.remove("q");
-                if (q != null && !q.isEmpty()) {
-                    String searchPattern = "%" + q.toLowerCase() + "%";
-                    Predicate namePredicate = criteriaBuilder.like(criteriaBuilder.lower(root.get("name")), searchPattern);
-                    Predicate emailPredicate = criteriaBuilder.like(criteriaBuilder.lower(root.get("email")), searchPattern);
-                    Predicate rolePredicate = criteriaBuilder.like(criteriaBuilder.lower(root.get("role")), searchPattern);
-
-                    predicates.add(criteriaBuilder.or(namePredicate, emailPredicate, rolePredicate));
-                }
-
-                // Apply field filters
-                filters.forEach((field, value) -> {
-                    if (value != null && !value.isEmpty()) {
-                        predicates.add(criteriaBuilder.equal(root.get(field), value));
-                    }
-                });
-            }
+        Page<User> entities = userRepository.findAll(buildSpecification(filters), pageable);
+        return entities.map(this::toResponseDTO);
+    }
 
-            return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
-        };
+    @Override
+    public boolean supportsKeysetPagination() {
+        return true;
+    }
 
-        Page<User> entities = userRepository.findAll(spec, pageable);
-        return entities.map(entity -> {
-            UserResponseDTO dto = new UserResponseDTO();
-            dto.setId(entity.getId());
-            dto.setName(entity.getName());
-            dto.setEmail(entity.getEmail());
-            dto.setRole(entity.getRole());
-            return dto;
-        });
+    @Override
+    public Window<UserResponseDTO> scrollWithFilters(
+            Map<String, String> filters,
+            KeysetScrollPosition position,
+            int limit,
+            Sort sort
+    ) {
+        Window<User> entities = userRepository.findBy(buildSpecification(filters),
+                query -> query.sortBy(sort).limit(limit).scroll(position));
+        return entities.map(this::toResponseDTO);
+    }
+
+    @Override
+    public long countWithFilters(Map<String, String> filters) {
+        return userRepository.count(buildSpecification(filters));
+    }
+
+    Specification<User> buildSpecification(Map<String, String> filters) {
+        Specification<User> fieldSpecification = fieldFilters.toSpecification(filters);
+        String q = filters != null ? filters.get(FieldFilter.SEARCH_PARAM) : null;
+        if (q == null || q.isEmpty()) {
+            return fieldSpecification != null ? fieldSpecification : Specification.unrestricted();
+        }
+
+        // Apply global search query (q parameter)
+        String searchPattern = "%" + q.toLowerCase() + "%";
+        Specification<User> searchSpecification = (root, query, criteriaBuilder) -> criteriaBuilder.or(
+                criteriaBuilder.like(criteriaBuilder.lower(root.get("name")), searchPattern),
+                criteriaBuilder.like(criteriaBuilder.lower(root.get("email")), searchPattern),
+                criteriaBuilder.like(criteriaBuilder.lower(root.get("role")), searchPattern));
+        return fieldSpecification != null ? searchSpecification.and(fieldSpecification) : searchSpecification;
+    }
+
+    private UserResponseDTO toResponseDTO(User entity) {
+        UserResponseDTO dto = new UserResponseDTO();
+        dto.setId(entity.getId());
+        dto.setName(entity.getName());
+        dto.setEmail(entity.getEmail());
+        dto.setRole(entity.getRole());
+        return dto;
     }
 
     @Override
@@ -153,51 +176,27 @@ class UserService implements IRAService<UserResponseDTO, UserCreateDTO, Long> {
     }
 
     /**
-     * Updates multiple users with the same field values.
+     * Updates multiple users with the same field values, with a single UPDATE statement.
      *
      * @param ids    The collection of user IDs to update.
      * @param fields A map of field names to their new values to apply to all users.
      * @return A list of IDs of the updated users.
      */
     @Override
+    @Transactional
     public List<Long> updateMany(List<Long> ids, Map<String, Object> fields) {
-        List<Long> updatedIds = new ArrayList<>();
-
-        // Find all users by their IDs
-        List<User> users = userRepository.findAllById(ids);
-
-        // Update each user with the provided fields
-        for (User user : users) {
-            fields.forEach((key, value) -> {
-                switch (key) {
-                    case "name":
-                        user.setName((String) value);
-                        break;
-                    case "email":
-                        user.setEmail((String) value);
-                        break;
-                    case "role":
-                        user.setRole((String) value);
-                        break;
-                }
-            });
-            User savedUser = userRepository.save(user);
-            updatedIds.add(savedUser.getId());
-        }
-
-        return updatedIds;
+        return bulkOperations.updateAll(ids, fields);
     }
 
     /**
-     * Deletes multiple users by their IDs.
+     * Deletes multiple users by their IDs, with a single select and a single DELETE statement.
      *
      * @param ids The collection of user IDs to delete.
      * @return A list of IDs of the deleted users.
      */
     @Override
+    @Transactional
     public List<Long> deleteMany(List<Long> ids) {
-        // Delete all users by their IDs
-        userRepository.deleteAllById(ids);
-        return ids;
+        return bulkOperations.deleteAll(ids);
     }
 }
@@ -17,7 +17,7 @@ class WebConfig {
                         .allowedOrigins("*")
                         .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
                         .allowedHeaders("*")
-                        .exposedHeaders("Content-Range", "X-Total-Count", "Access-Control-Expose-Headers");
+                        .exposedHeaders("Content-Range", "X-Total-Count", "X-Next-Cursor", "ETag", "Access-Control-Expose-Headers");
             }
         };
     }